@@ -0,0 +1,102 @@
+package com.xavier.multiservicemarketplaceapi.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fails the {@code benchmark} build when a tracked JMH result regresses past its baseline.
+ * <p>
+ * The baseline lists, per benchmark and parameter set, a minimum primary score and optionally the maximum
+ * {@code gc.alloc.rate.norm} (bytes per operation). A result fails when its score drops below
+ * {@code minScore * (1 - tolerance)} or its allocation exceeds {@code maxAllocBytesPerOp * (1 + tolerance)}.
+ * Baseline entries without a matching result (e.g. filtered out by {@code jmh.includes}) are reported and skipped.
+ * <p>
+ * Usage: {@code BenchmarkRegressionGate <jmh-result.json> <baseline.json> <tolerance>}
+ */
+public final class BenchmarkRegressionGate {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkRegressionGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BenchmarkRegressionGate <jmh-result.json> <baseline.json> <tolerance>");
+        }
+        Path resultFile = Path.of(args[0]);
+        if (!Files.exists(resultFile)) {
+            System.out.println("[benchmark-gate] No JMH result at " + resultFile + ", nothing to check.");
+            return;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> results = indexResults(mapper.readTree(resultFile.toFile()));
+        JsonNode baseline = mapper.readTree(Path.of(args[1]).toFile());
+        double tolerance = Double.parseDouble(args[2]);
+
+        List<String> failures = new ArrayList<>();
+        for (JsonNode expected : baseline.path("benchmarks")) {
+            String key = key(expected.path("benchmark").asText(), expected.path("params"));
+            int failuresBefore = failures.size();
+            JsonNode actual = results.get(key);
+            if (actual == null) {
+                System.out.println("[benchmark-gate] SKIP " + key + " (not run)");
+                continue;
+            }
+            double score = actual.path("primaryMetric").path("score").asDouble();
+            double minScore = expected.path("minScore").asDouble();
+            if (score < minScore * (1 - tolerance)) {
+                failures.add("%s: score %.3f below baseline %.3f".formatted(key, score, minScore));
+            }
+            if (expected.has("maxAllocBytesPerOp")) {
+                double allocation = allocation(actual);
+                double maxAllocation = expected.path("maxAllocBytesPerOp").asDouble();
+                if (allocation > maxAllocation * (1 + tolerance) + 1.0) {
+                    failures.add("%s: allocates %.1f B/op, baseline %.1f B/op".formatted(key, allocation, maxAllocation));
+                }
+            }
+            if (failures.size() == failuresBefore) {
+                System.out.printf("[benchmark-gate] OK   %s score=%.3f%n", key, score);
+            }
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("[benchmark-gate] FAIL " + failure));
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> indexResults(JsonNode results) {
+        Map<String, JsonNode> index = new HashMap<>();
+        for (JsonNode result : results) {
+            index.put(key(result.path("benchmark").asText(), result.path("params")), result);
+        }
+        return index;
+    }
+
+    private static double allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private static String key(String benchmark, JsonNode params) {
+        Map<String, String> sorted = new TreeMap<>();
+        params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+        return sorted.isEmpty() ? benchmark : benchmark + sorted;
+    }
+}
@@ -0,0 +1,112 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation;
+
+/**
+ * Four checkout threads reserving and releasing stock, either all on one flash-sale product or spread over a
+ * catalogue. Nothing touches the database on this path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class StockLedgerBenchmark {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Param({"1", "1000"})
+    int products;
+
+    private InMemoryStockLedger ledger;
+    private List<StockLine>[] orders;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Map<UUID, Integer> stock = new HashMap<>();
+        orders = new List[1024];
+        for (int i = 0; i < products; i++) {
+            stock.put(new UUID(0L, i), 1_000_000);
+        }
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = List.of(new StockLine(new UUID(0L, i % products), 1 + i % 3));
+        }
+        ledger = new InMemoryStockLedger(new StaticStockStore(stock), Duration.ofMinutes(10), Duration.ofHours(24),
+            Duration.ofMillis(50), 500, Clock.systemUTC());
+    }
+
+    @State(Scope.Thread)
+    public static class Checkout {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final String[] keys = new String[64];
+        private int next;
+
+        public Checkout() {
+            int thread = THREADS.incrementAndGet();
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = "pedido-" + thread + "-" + i;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease(Checkout checkout) {
+        int i = checkout.next++;
+        String key = checkout.keys[i & 63];
+        StockReservation reservation = ledger.reserve(TENANT, key, orders[i & 1023]);
+        return reservation.granted() && ledger.release(TENANT, key);
+    }
+
+    private record StaticStockStore(Map<UUID, Integer> stock) implements StockStore {
+
+        @Override
+        public Map<UUID, Integer> loadStock(UUID tenantId) {
+            return stock;
+        }
+
+        @Override
+        public OptionalInt loadStock(UUID tenantId, UUID produtoId) {
+            Integer value = stock.get(produtoId);
+            return value != null ? OptionalInt.of(value) : OptionalInt.empty();
+        }
+
+        @Override
+        public Map<String, List<StockLine>> loadConfirmed(UUID tenantId, Instant since) {
+            return Map.of();
+        }
+
+        @Override
+        public void writeBack(List<Movement> movements) {
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.CheckoutConfig;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+/**
+ * Cart pricing with a percentage coupon, tax and a five-seller split: the fixed-point engine against the same
+ * computation in {@link java.math.BigDecimal}, and batch re-pricing of 1000 open carts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartPricingBenchmark {
+
+    private static final int CARTS = 1024;
+    private static final int SELLERS = 5;
+
+    @Param({"5", "50"})
+    int lines;
+
+    private CartPricingEngine engine;
+    private TenantContext tenant;
+    private PricingRules rules;
+    private List<Cart> carts;
+    private List<Cart> batch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        engine = new CartPricingEngine();
+        tenant = new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"), "bench", true, "UTC", "EUR",
+            new CheckoutConfig(Map.of(
+                PricingRules.TAX_RATE, "0.23",
+                PricingRules.PLATFORM_FEE_RATE, "0.12",
+                PricingRules.COUPONS, Map.of("BEMVINDO10", Map.of("percent", 10)))));
+        rules = engine.rulesFor(tenant);
+        SplittableRandom random = new SplittableRandom(42);
+        Currency eur = Currency.getInstance("EUR");
+        carts = new ArrayList<>(CARTS);
+        for (int c = 0; c < CARTS; c++) {
+            List<CartLine> cartLines = new ArrayList<>(lines);
+            for (int l = 0; l < lines; l++) {
+                cartLines.add(new CartLine(new UUID(0L, l), new UUID(1L, random.nextInt(SELLERS)),
+                    1 + random.nextInt(5), Money.ofMinor(100 + random.nextInt(20_000), eur)));
+            }
+            carts.add(new Cart(new UUID(2L, c), cartLines, random.nextBoolean() ? "BEMVINDO10" : null));
+        }
+        batch = carts.subList(0, 1000);
+    }
+
+    @Benchmark
+    public CartPricing fixedPoint() {
+        return engine.price(tenant, carts.get(next++ & (CARTS - 1)));
+    }
+
+    @Benchmark
+    public CartPricing bigDecimal() {
+        return BigDecimalCartPricing.price(rules, carts.get(next++ & (CARTS - 1)));
+    }
+
+    @Benchmark
+    public List<CartPricing> priceAll() {
+        return engine.priceAll(tenant, batch);
+    }
+}
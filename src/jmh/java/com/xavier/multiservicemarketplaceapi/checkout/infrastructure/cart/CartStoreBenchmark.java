@@ -0,0 +1,272 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartStore;
+
+/**
+ * Four threads editing the carts of 4096 clientes over {@code cart_items} in H2: three adds for each removal, items
+ * picked from eight. {@code write-through} writes the cart on every edit, as a repository save per request would;
+ * {@code write-behind} is the {@link WriteBehindCartStore} with its flusher running. {@code cartEdit} is the tracked
+ * throughput; {@code cartEditLatency} samples each edit for the percentiles. {@code writesPerKiloEdit} counts JDBC
+ * write transactions and {@code rowsPerEdit} the rows deleted or inserted, against the edits of the same iteration.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CartStoreBenchmark {
+
+    private static final int CLIENTES = 4096;
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final BigDecimal PRECO = new BigDecimal("9.90");
+
+    @Param({"write-through", "write-behind"})
+    String store;
+
+    private final UUID[] clientes = new UUID[CLIENTES];
+    private final UUID[] items = new UUID[8];
+    private final LongAdder edits = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private HikariDataSource dataSource;
+    private CartStore carts;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:cart-bench-" + store + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(8);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS cart_items (
+                id UUID PRIMARY KEY, tenant_id UUID NOT NULL, cliente_id UUID NOT NULL, tipo VARCHAR(20) NOT NULL,
+                ref_id UUID NOT NULL, quantidade INTEGER NOT NULL, preco_unitario NUMERIC(14, 2) NOT NULL,
+                CONSTRAINT uk_cart_items_linha UNIQUE (tenant_id, cliente_id, tipo, ref_id))""");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_cart_items_cliente ON cart_items (tenant_id, cliente_id)");
+        for (int i = 0; i < clientes.length; i++) {
+            clientes[i] = UUID.randomUUID();
+        }
+        for (int i = 0; i < items.length; i++) {
+            items[i] = UUID.randomUUID();
+        }
+        CartItemStore counting = new CountingCartItemStore(
+            new JdbcCartItemStore(jdbcTemplate, new DataSourceTransactionManager(dataSource)));
+        if ("write-behind".equals(store)) {
+            WriteBehindCartStore writeBehind = new WriteBehindCartStore(counting, 100_000, Duration.ofMinutes(30),
+                Duration.ofMillis(200), 500, 20_000, Duration.ofSeconds(1), null);
+            writeBehind.start();
+            carts = writeBehind;
+        } else {
+            carts = new WriteThroughCartStore(counting);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (carts instanceof WriteBehindCartStore writeBehind) {
+            writeBehind.close();
+        }
+        dataSource.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Shopper {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final int offset = THREADS.getAndIncrement() * 7919;
+        private int next;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Writes {
+
+        public double writesPerKiloEdit;
+        public double rowsPerEdit;
+        private long editsBefore;
+        private long writesBefore;
+        private long rowsBefore;
+
+        @Setup(Level.Iteration)
+        public void mark(CartStoreBenchmark benchmark) {
+            editsBefore = benchmark.edits.sum();
+            writesBefore = benchmark.writes.sum();
+            rowsBefore = benchmark.rows.sum();
+        }
+
+        /**
+         * JMH sums event counters over threads and iterations, so each thread reports its share of the ratio.
+         */
+        @TearDown(Level.Iteration)
+        public void count(CartStoreBenchmark benchmark, BenchmarkParams params) {
+            double edits = Math.max(1, benchmark.edits.sum() - editsBefore) * params.getThreads()
+                * params.getMeasurement().getCount();
+            writesPerKiloEdit = 1000.0 * (benchmark.writes.sum() - writesBefore) / edits;
+            rowsPerEdit = (double) (benchmark.rows.sum() - rowsBefore) / edits;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public CartSnapshot cartEdit(Shopper shopper, Writes counters) {
+        return edit(shopper);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public CartSnapshot cartEditLatency(Shopper shopper) {
+        return edit(shopper);
+    }
+
+    private CartSnapshot edit(Shopper shopper) {
+        int step = shopper.next++;
+        UUID cliente = clientes[(shopper.offset + step / 4) & (CLIENTES - 1)];
+        UUID item = items[(step * 3) & (items.length - 1)];
+        edits.increment();
+        return (step & 3) == 3
+            ? carts.remove(TENANT, cliente, "PRODUTO", item)
+            : carts.add(TENANT, cliente, "PRODUTO", item, 1, PRECO);
+    }
+
+    private final class CountingCartItemStore implements CartItemStore {
+
+        private final CartItemStore delegate;
+
+        private CountingCartItemStore(CartItemStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<CartItemLine> load(UUID tenantId, UUID clienteId) {
+            return delegate.load(tenantId, clienteId);
+        }
+
+        @Override
+        public void replace(List<CartSnapshot> batch) {
+            delegate.replace(batch);
+            writes.increment();
+            rows.add(batch.size() + batch.stream().mapToInt(cart -> cart.items().size()).sum());
+        }
+    }
+
+    /**
+     * The synchronous store this benchmark compares against: the same in-memory carts, each edit written before it
+     * returns.
+     */
+    private static final class WriteThroughCartStore implements CartStore {
+
+        private final CartItemStore store;
+        private final Map<UUID, Map<UUID, CartItemLine>> carts = new ConcurrentHashMap<>();
+
+        private WriteThroughCartStore(CartItemStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public CartSnapshot get(UUID tenantId, UUID clienteId) {
+            return snapshot(tenantId, clienteId, cart(tenantId, clienteId));
+        }
+
+        @Override
+        public CartSnapshot add(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade,
+                                BigDecimal precoUnitario) {
+            Map<UUID, CartItemLine> cart = cart(tenantId, clienteId);
+            synchronized (cart) {
+                cart.merge(refId, new CartItemLine(tipo, refId, quantidade, precoUnitario), (line, added) ->
+                    new CartItemLine(tipo, refId, line.quantidade() + quantidade, precoUnitario));
+                return write(tenantId, clienteId, cart);
+            }
+        }
+
+        @Override
+        public CartSnapshot updateQuantity(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade) {
+            Map<UUID, CartItemLine> cart = cart(tenantId, clienteId);
+            synchronized (cart) {
+                cart.computeIfPresent(refId, (id, line) -> quantidade <= 0 ? null
+                    : new CartItemLine(tipo, refId, quantidade, line.precoUnitario()));
+                return write(tenantId, clienteId, cart);
+            }
+        }
+
+        @Override
+        public CartSnapshot remove(UUID tenantId, UUID clienteId, String tipo, UUID refId) {
+            Map<UUID, CartItemLine> cart = cart(tenantId, clienteId);
+            synchronized (cart) {
+                cart.remove(refId);
+                return write(tenantId, clienteId, cart);
+            }
+        }
+
+        @Override
+        public CartSnapshot clear(UUID tenantId, UUID clienteId) {
+            Map<UUID, CartItemLine> cart = cart(tenantId, clienteId);
+            synchronized (cart) {
+                cart.clear();
+                return write(tenantId, clienteId, cart);
+            }
+        }
+
+        @Override
+        public CartSnapshot checkout(UUID tenantId, UUID clienteId) {
+            return get(tenantId, clienteId);
+        }
+
+        private Map<UUID, CartItemLine> cart(UUID tenantId, UUID clienteId) {
+            return carts.computeIfAbsent(clienteId, id -> {
+                Map<UUID, CartItemLine> cart = new LinkedHashMap<>();
+                store.load(tenantId, clienteId).forEach(line -> cart.put(line.refId(), line));
+                return cart;
+            });
+        }
+
+        private CartSnapshot write(UUID tenantId, UUID clienteId, Map<UUID, CartItemLine> cart) {
+            CartSnapshot snapshot = snapshot(tenantId, clienteId, cart);
+            store.replace(List.of(snapshot));
+            return snapshot;
+        }
+
+        private static CartSnapshot snapshot(UUID tenantId, UUID clienteId, Map<UUID, CartItemLine> cart) {
+            synchronized (cart) {
+                return new CartSnapshot(tenantId, clienteId, new ArrayList<>(cart.values()), 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.ClosedBuckets;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistory;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiMetric;
+
+/**
+ * "Daily GMV for the last two years" of one tenant: read from the columnar archive versus aggregated by SQL over an
+ * indexed {@code pedidos} table (H2 in memory, so the SQL side pays no network or disk either).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KpiHistoryBenchmark {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final LocalDateTime FROM = LocalDateTime.parse("2023-01-01T00:00");
+    private static final int DAYS = 730;
+
+    @Param({"20", "200"})
+    int ordersPerDay;
+
+    private Path directory;
+    private ColumnarKpiHistoryStore store;
+    private Connection connection;
+    private PreparedStatement dailyGmv;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("kpi-history-bench");
+        store = new ColumnarKpiHistoryStore(directory, 64, 4096);
+        connection = DriverManager.getConnection("jdbc:h2:mem:kpi-history-bench-" + ordersPerDay
+            // otherwise H2 hands back the previous result of an identical query over unchanged tables
+            + ";OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY, tenant_id UUID NOT NULL, "
+                + "criado_em TIMESTAMP NOT NULL, total BIGINT NOT NULL)");
+            ddl.execute("CREATE INDEX idx_pedidos_tenant_criado ON pedidos (tenant_id, criado_em)");
+        }
+
+        Random random = new Random(42);
+        long[][] counters = new long[DAYS][KpiMetric.values().length];
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO pedidos VALUES (?, ?, ?, ?)")) {
+            long id = 0;
+            for (int day = 0; day < DAYS; day++) {
+                for (int i = 0; i < ordersPerDay; i++) {
+                    long total = 1_000 + random.nextInt(50_000);
+                    insert.setLong(1, id++);
+                    insert.setObject(2, TENANT);
+                    insert.setTimestamp(3, Timestamp.valueOf(FROM.plusDays(day).plusSeconds(random.nextInt(86_400))));
+                    insert.setLong(4, total);
+                    insert.addBatch();
+                    counters[day][KpiMetric.GMV.ordinal()] += total;
+                    counters[day][KpiMetric.ORDERS_PENDENTE.ordinal()]++;
+                }
+                insert.executeBatch();
+            }
+        }
+        store.append(TENANT, new ClosedBuckets(Granularity.DAY, FROM, counters));
+        store.compact();
+        dailyGmv = connection.prepareStatement("SELECT CAST(criado_em AS DATE) AS dia, SUM(total) FROM pedidos "
+            + "WHERE tenant_id = ? AND criado_em >= ? AND criado_em < ? GROUP BY dia ORDER BY dia");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public KpiHistory columnar() {
+        return store.query(TENANT, KpiMetric.GMV, Granularity.DAY, FROM, FROM.plusDays(DAYS), 1, KpiAggregation.SUM);
+    }
+
+    @Benchmark
+    public KpiHistory columnarWeekly() {
+        return store.query(TENANT, KpiMetric.GMV, Granularity.DAY, FROM, FROM.plusDays(DAYS), 7, KpiAggregation.SUM);
+    }
+
+    @Benchmark
+    public void sql(Blackhole blackhole) throws SQLException {
+        dailyGmv.setObject(1, TENANT);
+        dailyGmv.setTimestamp(2, Timestamp.valueOf(FROM));
+        dailyGmv.setTimestamp(3, Timestamp.valueOf(FROM.plusDays(DAYS)));
+        try (ResultSet rows = dailyGmv.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getDate(1));
+                blackhole.consume(rows.getLong(2));
+            }
+        }
+    }
+}
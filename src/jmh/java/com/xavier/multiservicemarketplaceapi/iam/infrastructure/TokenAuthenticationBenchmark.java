@@ -0,0 +1,93 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserMembership;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserRole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Eight request threads authenticating bearer tokens of 4096 signed-in users and checking their tenant membership,
+ * the work every authenticated request does before reaching a controller. {@code cached} goes through
+ * {@link TokenAuthenticator} warm; {@code every-request} verifies the signature, parses the claims and looks the
+ * membership up on each call. The membership source is an in-memory stand-in, so the database round trip the cache
+ * also saves is not part of the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class TokenAuthenticationBenchmark {
+
+    private static final int USERS = 4096;
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Param({"cached", "every-request"})
+    String verification;
+
+    private final Map<UUID, UserMembership> memberships = new ConcurrentHashMap<>();
+    private final String[] tokens = new String[USERS];
+    private JwtCodec codec;
+    private TokenAuthenticator authenticator;
+
+    @Setup
+    public void setUp() {
+        codec = new JwtCodec("benchmark-secret-of-at-least-32-bytes".getBytes(StandardCharsets.UTF_8),
+            "multiservicemarketplace-api", new ObjectMapper());
+        authenticator = new TokenAuthenticator(codec, userId -> Optional.ofNullable(memberships.get(userId)),
+            100_000, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry());
+        Instant now = Instant.now();
+        for (int i = 0; i < USERS; i++) {
+            UUID userId = UUID.randomUUID();
+            memberships.put(userId, new Membership(TENANT, UserRole.CLIENTE.name(), true));
+            tokens[i] = codec.issue(new TokenClaims(userId, TENANT, UserRole.CLIENTE, now, now.plusSeconds(3600)));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private int next;
+    }
+
+    @Benchmark
+    public boolean authenticatedRequest(Client client) {
+        String token = tokens[client.next++ & (USERS - 1)];
+        if ("cached".equals(verification)) {
+            return authenticator.isMember(authenticator.authenticate(token), TENANT);
+        }
+        TokenClaims claims = codec.verify(token, Instant.now());
+        return Optional.ofNullable(memberships.get(claims.userId()))
+            .filter(membership -> membership.allows(TENANT))
+            .isPresent();
+    }
+
+    private record Membership(UUID getTenantId, String getRole, boolean isAtivo) implements UserMembership {
+    }
+}
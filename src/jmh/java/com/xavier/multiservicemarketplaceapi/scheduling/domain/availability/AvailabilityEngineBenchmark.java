@@ -0,0 +1,99 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Free-slot search over a tenant with thousands of prestadores and a 30-day window. Calendars are about 60% booked
+ * with 15-minute slots; {@code allProviders} scans every prestador over the whole window, {@code firstTwenty} is the
+ * "who can do it soonest" query that stops once enough prestadores are found.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityEngineBenchmark {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+    private static final int WINDOW_DAYS = 30;
+
+    @Param({"1000", "5000"})
+    int providers;
+
+    private AvailabilityEngine engine;
+    private final List<UUID> prestadores = new ArrayList<>();
+    private final LocalDateTime probe = MONDAY.plusDays(9).atTime(15, 0);
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.fixed(MONDAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        engine = new AvailabilityEngine(15, 60, tenantId -> null, clock);
+        List<BusinessHours> hours = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day != DayOfWeek.SUNDAY) {
+                hours.add(new BusinessHours(day, LocalTime.of(8, 0), LocalTime.of(20, 0)));
+            }
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < providers; i++) {
+            UUID prestadorId = new UUID(0L, i + 1L);
+            prestadores.add(prestadorId);
+            engine.registerProvider(TENANT, prestadorId, hours);
+            for (int day = 0; day < WINDOW_DAYS; day++) {
+                for (int booking = 0; booking < 7; booking++) {
+                    LocalDateTime start = MONDAY.plusDays(day).atTime(8 + random.nextInt(12), 15 * random.nextInt(4));
+                    engine.tryReserve(TENANT, prestadorId, start, 60 + 15 * random.nextInt(4));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public List<FreeSlot> firstTwenty() {
+        return engine.earliestFreeSlots(TENANT, null, MONDAY, WINDOW_DAYS, 90, 20);
+    }
+
+    @Benchmark
+    public List<FreeSlot> allProviders() {
+        return engine.earliestFreeSlots(TENANT, prestadores, MONDAY, WINDOW_DAYS, 240, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<UUID> availableAt() {
+        return engine.availableAt(TENANT, null, probe, 60);
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease() {
+        UUID prestadorId = prestadores.get(next++ % prestadores.size());
+        LocalDateTime start = MONDAY.plusDays(40).atTime(10, 0);
+        boolean reserved = engine.tryReserve(TENANT, prestadorId, start, 60);
+        engine.release(TENANT, prestadorId, start, 60);
+        return reserved;
+    }
+}
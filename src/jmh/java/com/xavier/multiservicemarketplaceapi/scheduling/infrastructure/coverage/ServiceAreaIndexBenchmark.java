@@ -0,0 +1,87 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.infrastructure.coverage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.config.SchedulingProperties;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.GeoPoint;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ProviderCoverage;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ServiceArea;
+
+/**
+ * "Which prestadores cover this address" over a metropolitan area with thousands of prestadores, mostly 2-25 km
+ * radiuses plus some polygons, with and without a categoria filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceAreaIndexBenchmark {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final int CATEGORIAS = 20;
+
+    @Param({"1000", "10000"})
+    int providers;
+
+    private GeohashServiceAreaIndex index;
+    private final List<UUID> categorias = new ArrayList<>();
+    private GeoPoint[] addresses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new GeohashServiceAreaIndex(new SchedulingProperties());
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < CATEGORIAS; i++) {
+            categorias.add(new UUID(1L, i));
+        }
+        for (int i = 0; i < providers; i++) {
+            GeoPoint center = point(random);
+            ServiceArea area = random.nextInt(10) < 8
+                ? new ServiceArea.Radius(center, 2 + random.nextDouble() * 23)
+                : new ServiceArea.Polygon(List.of(center, new GeoPoint(center.latitude() + 0.1, center.longitude()),
+                    new GeoPoint(center.latitude() + 0.1, center.longitude() + 0.12),
+                    new GeoPoint(center.latitude(), center.longitude() + 0.12)));
+            index.upsert(new ProviderCoverage(TENANT, new UUID(0L, i), List.of(area),
+                Set.of(categorias.get(random.nextInt(CATEGORIAS))), Set.of()));
+        }
+        addresses = new GeoPoint[1024];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = point(random);
+        }
+    }
+
+    @Benchmark
+    public List<UUID> covering() {
+        return index.providersCovering(TENANT, addresses[next++ & 1023], null, null);
+    }
+
+    @Benchmark
+    public List<UUID> coveringCategoria() {
+        int i = next++;
+        return index.providersCovering(TENANT, addresses[i & 1023], categorias.get(i % CATEGORIAS), null);
+    }
+
+    private static GeoPoint point(SplittableRandom random) {
+        return new GeoPoint(38.55 + random.nextDouble() * 0.4, -9.35 + random.nextDouble() * 0.5);
+    }
+}
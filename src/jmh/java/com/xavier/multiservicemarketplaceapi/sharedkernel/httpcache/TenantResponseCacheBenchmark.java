@@ -0,0 +1,94 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * A repeated read of a 20-item catalog page: revalidated with {@code If-None-Match} ({@code not-modified}), served
+ * from the cached bytes ({@code cached}), or built and serialised on every request, as before the cache
+ * ({@code uncached}). The page is built in memory, so the numbers leave out the query a real miss also pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantResponseCacheBenchmark {
+
+    private static final String AGGREGATE = "catalog";
+    private static final TenantContext TENANT =
+        new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"), "tenant-dev", true);
+
+    @Param({"not-modified", "cached", "uncached"})
+    String request;
+
+    private final ResourceVersions versions = new InMemoryResourceVersions();
+    private TenantResponseCache cache;
+    private MockHttpServletRequest httpRequest;
+    private Supplier<Object> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = new TenantResponseCache(versions, new ObjectMapper(), 32L << 20, 512 << 10, Duration.ofMinutes(10),
+            null);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(new Item(UUID.randomUUID(), UUID.randomUUID(), "Produto " + i, new BigDecimal("19.90"), true,
+                i * 3));
+        }
+        page = () -> new Page(List.copyOf(items), "AZ3xQ0p1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9");
+        TenantContextHolder.set(TENANT);
+        httpRequest = new MockHttpServletRequest("GET", "/api/catalog/produtos");
+        httpRequest.addParameter("limit", "20");
+        if ("not-modified".equals(request)) {
+            httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, cache.get(httpRequest, AGGREGATE, page)
+                .getHeaders().getETag());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> get() {
+        if ("uncached".equals(request)) {
+            versions.bump(TENANT.tenantId(), AGGREGATE);
+        }
+        return cache.get(httpRequest, AGGREGATE, page);
+    }
+
+    record Item(UUID id, UUID merchantId, String nome, BigDecimal preco, boolean disponivel, int stockAtual) {
+    }
+
+    record Page(List<Item> items, String nextCursor) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.type.SqlTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+
+/**
+ * Produtos loaded per second when a transaction reads 10k of them, each with {@code imagens} and
+ * {@code atributos_extras}. {@code lazy} is the {@link JsonValue} mapping; {@code eager} is the usual
+ * {@code AttributeConverter<Map, String>}, which decodes every document on load and, being mutable, is copied
+ * through Jackson for the dirty-check snapshot and compared on flush. {@code listPage} reads scalar columns only;
+ * {@code detailPage} also reads the documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonColumnLoadBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String IMAGENS = """
+        ["https://cdn.example.com/p/%1$d-1.jpg", "https://cdn.example.com/p/%1$d-2.jpg"]""";
+
+    @Param({"lazy", "eager"})
+    String decoding;
+
+    private SessionFactory sessionFactory;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        Class<?> entity = "lazy".equals(decoding) ? Produto.class : EagerProduto.class;
+        query = "from " + entity.getSimpleName();
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(entity)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:json-load-bench-" + decoding + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .buildSessionFactory();
+        UUID tenantId = UUID.randomUUID();
+        UUID merchantId = UUID.randomUUID();
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO produtos (id, tenant_id, merchant_id, nome, preco, disponivel, stock_atual, imagens,
+                                      atributos_extras)
+                VALUES (?, ?, ?, ?, ?, TRUE, 10, ? FORMAT JSON, ? FORMAT JSON)""")) {
+                for (int i = 0; i < ROWS; i++) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setObject(2, tenantId);
+                    insert.setObject(3, merchantId);
+                    insert.setString(4, "Produto " + i);
+                    insert.setBigDecimal(5, BigDecimal.valueOf(i, 2));
+                    insert.setString(6, IMAGENS.formatted(i));
+                    insert.setString(7, """
+                        {"origem": "Brasil", "peso": %d, "cor": "castanho", "organico": true, "validadeDias": 365,
+                         "certificacoes": ["UTZ", "Fairtrade"], "dimensoes": {"altura": 20, "largura": 10}}"""
+                        .formatted(i % 1000));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long listPage() {
+        return sessionFactory.fromTransaction(session -> {
+            long stock = 0;
+            for (Object row : session.createSelectionQuery(query, Object.class).getResultList()) {
+                stock += row instanceof Produto produto ? produto.getStockAtual() : ((EagerProduto) row).stockAtual;
+            }
+            return stock;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long detailPage() {
+        return sessionFactory.fromTransaction(session -> {
+            long size = 0;
+            for (Object row : session.createSelectionQuery(query, Object.class).getResultList()) {
+                if (row instanceof Produto produto) {
+                    size += produto.getImagens().get().size() + produto.getAtributosExtras().get().size();
+                } else {
+                    EagerProduto eager = (EagerProduto) row;
+                    size += eager.imagens.size() + eager.atributosExtras.size();
+                }
+            }
+            return size;
+        });
+    }
+
+    @Entity(name = "EagerProduto")
+    @Table(name = "produtos")
+    public static class EagerProduto {
+
+        @Id
+        UUID id;
+
+        @Column(name = "tenant_id", nullable = false)
+        UUID tenantId;
+
+        @Column(name = "merchant_id", nullable = false)
+        UUID merchantId;
+
+        @Column(name = "categoria_id")
+        UUID categoriaId;
+
+        @Column(nullable = false)
+        String nome;
+
+        @Column(nullable = false, precision = 14, scale = 2)
+        BigDecimal preco;
+
+        @Column(nullable = false)
+        boolean disponivel;
+
+        @Column(name = "stock_atual", nullable = false)
+        int stockAtual;
+
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Convert(converter = StringListConverter.class)
+        List<String> imagens;
+
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Convert(converter = ObjectMapConverter.class)
+        @Column(name = "atributos_extras")
+        Map<String, Object> atributosExtras;
+    }
+
+    public static class StringListConverter extends EagerConverter<List<String>> {
+        public StringListConverter() {
+            super(new TypeReference<>() {
+            });
+        }
+    }
+
+    public static class ObjectMapConverter extends EagerConverter<Map<String, Object>> {
+        public ObjectMapConverter() {
+            super(new TypeReference<>() {
+            });
+        }
+    }
+
+    /**
+     * The common hand-written JSON converter: one {@link ObjectMapper} per converter, decoding on every load.
+     */
+    abstract static class EagerConverter<T> implements AttributeConverter<T, String> {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final TypeReference<T> type;
+
+        EagerConverter(TypeReference<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public String convertToDatabaseColumn(T attribute) {
+            try {
+                return attribute != null ? objectMapper.writeValueAsString(attribute) : null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public T convertToEntityAttribute(String dbData) {
+            try {
+                return dbData != null ? objectMapper.readValue(dbData, type) : null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
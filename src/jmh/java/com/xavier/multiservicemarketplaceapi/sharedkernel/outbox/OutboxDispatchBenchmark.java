@@ -0,0 +1,146 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Events per second through a listener that spends {@code listenerMicros} waiting on I/O, each event published by
+ * its own business transaction (H2 in memory): the listener running inline after commit, as
+ * {@code @TransactionalEventListener}s do, versus recorded in the outbox and drained by the dispatcher.
+ * {@code outboxPublish} is what the publishing thread pays, {@code outbox} the whole way to the last delivery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxDispatchBenchmark {
+
+    private static final int EVENTS = 1000;
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Param({"200"})
+    long listenerMicros;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transaction;
+    private JdbcOutboxStore store;
+    private OutboxDispatcher dispatcher;
+    private OutboxRecorder recorder;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:outbox-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(16);
+        this.dataSource = dataSource;
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE pedidos (id BIGINT PRIMARY KEY, tenant_id UUID NOT NULL)");
+        jdbc.execute("""
+            CREATE TABLE event_publications (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, event_id UUID NOT NULL,
+                listener_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, payload TEXT NOT NULL,
+                tenant_context TEXT, tenant_id UUID, ordering_key VARCHAR(255) NOT NULL,
+                published_at TIMESTAMP WITH TIME ZONE NOT NULL, attempts INTEGER NOT NULL DEFAULT 0,
+                next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL, lease_until TIMESTAMP WITH TIME ZONE,
+                completed_at TIMESTAMP WITH TIME ZONE, failed_at TIMESTAMP WITH TIME ZONE,
+                last_error VARCHAR(1000))""");
+        jdbc.execute("CREATE INDEX idx_event_publications_ordering ON event_publications (listener_id, ordering_key, id)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transaction = new TransactionTemplate(transactionManager);
+        store = new JdbcOutboxStore(jdbc, transactionManager);
+        OutboxListenerRegistry registry = new OutboxListenerRegistry();
+        registry.register("kpi", Placed.class, this::listener);
+        JsonMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        dispatcher = new OutboxDispatcher(store, registry, objectMapper, 200, 8, Duration.ofMillis(10),
+            Duration.ofMinutes(1), new OutboxRetryPolicy(Duration.ofSeconds(1), Duration.ofMinutes(1), 10),
+            Duration.ofDays(1), Clock.systemUTC(), null);
+        recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, Clock.systemUTC());
+        dispatcher.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() {
+        jdbc.update("DELETE FROM event_publications WHERE completed_at IS NOT NULL");
+        jdbc.update("DELETE FROM pedidos");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.close();
+        jdbc.execute("SHUTDOWN");
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void synchronousListeners() {
+        for (int i = 0; i < EVENTS; i++) {
+            Placed event = transaction.execute(status -> place());
+            listener(event);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void outboxPublish() {
+        for (int i = 0; i < EVENTS; i++) {
+            transaction.executeWithoutResult(status -> recorder.record(place()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void outbox() {
+        outboxPublish();
+        dispatcher.wakeUp();
+        while (store.countPending() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private Placed place() {
+        long id = sequence++;
+        jdbc.update("INSERT INTO pedidos VALUES (?, ?)", id, TENANT);
+        return new Placed(TENANT, id);
+    }
+
+    private void listener(Placed event) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(listenerMicros));
+    }
+
+    record Placed(UUID tenantId, long pedidoId) implements OutboxEvent {
+
+        @Override
+        public String orderingKey() {
+            return Long.toString(pedidoId);
+        }
+    }
+}
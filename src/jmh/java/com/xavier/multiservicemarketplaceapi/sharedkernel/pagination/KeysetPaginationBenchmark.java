@@ -0,0 +1,126 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.Pedido;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRow;
+
+/**
+ * Pages of 20 {@link PedidoRow}s per second from a tenant with 200k pedidos (plus 50k of another tenant), newest first,
+ * in H2 with the entity's indexes. {@code offset} is {@code OFFSET (page - 1) * 20}; {@code keyset} is the
+ * {@code PedidoRepository.findNewestAfter} seek from the cursor of the previous page, and the first page of both is
+ * the same query. H2 is told not to reuse the previous result of an identical query, which it otherwise does for
+ * unchanged tables. Single-threaded, so the latency of a page is the inverse of the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeysetPaginationBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String SELECT = """
+        select new com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRow(
+            p.id, p.clienteId, p.status, p.total, p.criadoEm)
+        from Pedido p
+        """;
+    private static final String ORDER = " order by p.tenantId desc, p.criadoEm desc, p.id desc";
+
+    @Param({"offset", "keyset"})
+    String scheme;
+
+    @Param({"1", "10000"})
+    int page;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private SessionFactory sessionFactory;
+    private PedidoRow previous;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Pedido.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:pagination-bench-%s-%d;DB_CLOSE_DELAY=-1;"
+                .formatted(scheme, page) + "OPTIMIZE_REUSE_RESULTS=FALSE")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .buildSessionFactory();
+        UUID otherTenant = UUID.randomUUID();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        sessionFactory.inTransaction(session -> session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO pedidos (id, tenant_id, cliente_id, subtotal, total, status, origem, criado_em)
+                VALUES (?, ?, ?, 10.00, 10.00, 'PAGO', 'WEB', ?)""")) {
+                for (int i = 0; i < ROWS + ROWS / 4; i++) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setObject(2, i < ROWS ? tenantId : otherTenant);
+                    insert.setObject(3, UUID.randomUUID());
+                    // a few pedidos per second, so the id breaks ties
+                    insert.setTimestamp(4, Timestamp.from(start.plusSeconds(i / 3)));
+                    insert.addBatch();
+                    if (i % 10_000 == 9_999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }));
+        if (page > 1) {
+            previous = sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(SELECT + "where p.tenantId = :tenantId" + ORDER, PedidoRow.class)
+                .setParameter("tenantId", tenantId)
+                .setFirstResult((page - 1) * PAGE_SIZE - 1)
+                .setMaxResults(1)
+                .getSingleResult());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<PedidoRow> fetchPage() {
+        return sessionFactory.fromTransaction(session -> {
+            if ("keyset".equals(scheme) && previous != null) {
+                return session.createSelectionQuery(SELECT + """
+                        where p.tenantId = :tenantId and p.criadoEm <= :criadoEm
+                          and (p.criadoEm, p.id) < (:criadoEm, :id)""" + ORDER, PedidoRow.class)
+                    .setParameter("tenantId", tenantId)
+                    .setParameter("criadoEm", previous.criadoEm())
+                    .setParameter("id", previous.id())
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList();
+            }
+            return session.createSelectionQuery(SELECT + "where p.tenantId = :tenantId" + ORDER, PedidoRow.class)
+                .setParameter("tenantId", tenantId)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList();
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Rows per second when inserting 100k {@link Produto}s of one tenant through Hibernate, one statement per row
+ * ({@code batchSize=1}) versus JDBC batches with ordered inserts. H2 runs as a TCP server on loopback so every
+ * round trip the batching saves is a real one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantScopedInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int FLUSH_EVERY = 1_000;
+    private static final TenantContext TENANT = new TenantContext(
+        UUID.fromString("00000000-0000-0000-0000-000000000001"), "bench", true);
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    private Server server;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:insert-bench-" + batchSize
+            + ";DB_CLOSE_DELAY=-1";
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Produto.class)
+            .setProperty("hibernate.connection.url", url)
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.jdbc.batch_size", Integer.toString(batchSize))
+            .setProperty("hibernate.order_inserts", "true")
+            .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery("TRUNCATE TABLE produtos")
+            .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        TenantContextHolder.runWithTenant(TENANT, () -> sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new Produto(null, null, TENANT.tenantId(), null, "Produto " + i,
+                    BigDecimal.valueOf(i % 10_000, 2), true, i % 100, null));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    flushAndClear(session);
+                }
+            }
+        }));
+    }
+
+    private static void flushAndClear(Session session) {
+        session.flush();
+        session.clear();
+    }
+}
@@ -0,0 +1,114 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request tenant context access: the {@link TenantContextHolder} thread-local against a {@link ScopedValue}
+ * binding, both on the calling thread and for batches of simulated requests dispatched to platform or virtual threads.
+ * <p>
+ * {@code ScopedValue} is a preview API on Java 21, hence the {@code --enable-preview} fork argument.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class TenantContextAccessBenchmark {
+
+    private static final int REQUESTS_PER_BATCH = 1_000;
+    private static final int READS_PER_REQUEST = 3;
+    private static final ScopedValue<TenantContext> SCOPED_CONTEXT = ScopedValue.newInstance();
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    @Param({"thread-local", "scoped-value"})
+    String carrier;
+
+    private final TenantContext context =
+        new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"), "tenant-dev", true);
+    private ExecutorService executor;
+    private Runnable request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        request = "scoped-value".equals(carrier) ? this::scopedValueRequest : this::threadLocalRequest;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long callingThread() {
+        return "scoped-value".equals(carrier) ? scopedValueRequest() : threadLocalRequest();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_BATCH)
+    public long dispatchedRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS_PER_BATCH);
+        AtomicLong checksum = new AtomicLong();
+        for (int i = 0; i < REQUESTS_PER_BATCH; i++) {
+            executor.execute(() -> {
+                request.run();
+                checksum.incrementAndGet();
+                done.countDown();
+            });
+        }
+        done.await();
+        return checksum.get();
+    }
+
+    private long threadLocalRequest() {
+        TenantContextHolder.set(context);
+        try {
+            long hash = 0;
+            for (int i = 0; i < READS_PER_REQUEST; i++) {
+                hash += TenantContextHolder.requireTenantId().getLeastSignificantBits();
+            }
+            return hash;
+        } finally {
+            TenantContextHolder.clear();
+        }
+    }
+
+    private long scopedValueRequest() {
+        try {
+            return ScopedValue.where(SCOPED_CONTEXT, context).call(() -> {
+                long hash = 0;
+                for (int i = 0; i < READS_PER_REQUEST; i++) {
+                    hash += SCOPED_CONTEXT.get().tenantId().getLeastSignificantBits();
+                }
+                return hash;
+            });
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
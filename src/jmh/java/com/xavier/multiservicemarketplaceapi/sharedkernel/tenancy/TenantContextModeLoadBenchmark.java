@@ -0,0 +1,118 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Load test comparing the two serving modes end to end: a Tomcat-sized platform pool (200 threads) with the
+ * inheritable thread-local against virtual-thread-per-request with the scoped strategy.
+ * <p>
+ * Each simulated request binds its tenant, blocks for 1 ms (a database call), optionally fans out to one helper thread
+ * of the same kind that reads the tenant (inherited in one mode, explicitly captured in the other) and then unbinds.
+ * Throughput is reported in requests per second; run with {@code -prof gc} (the profile default) to compare bytes
+ * allocated per request. Virtual threads keep their stacks on the heap, so heap allocation per request rises while the
+ * fixed native stacks of the platform pool disappear.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantContextModeLoadBenchmark {
+
+    private static final int REQUESTS_PER_INVOCATION = 5_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long BLOCKING_IO_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"platform-inheritable", "virtual-scoped"})
+    String mode;
+
+    @Param({"false", "true"})
+    boolean fanOut;
+
+    private final TenantContext context =
+        new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"), "tenant-dev", true);
+    private ExecutorService requestExecutor;
+    private boolean scoped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoped = "virtual-scoped".equals(mode);
+        TenantContextHolder.setStrategy(scoped
+            ? new ScopedTenantContextHolderStrategy()
+            : new InheritableThreadLocalTenantContextHolderStrategy());
+        requestExecutor = scoped
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        TenantContextHolder.setStrategy(new InheritableThreadLocalTenantContextHolderStrategy());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_INVOCATION)
+    public void requests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS_PER_INVOCATION);
+        for (int i = 0; i < REQUESTS_PER_INVOCATION; i++) {
+            requestExecutor.execute(() -> {
+                try {
+                    handleRequest();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handleRequest() {
+        TenantContextHolder.set(context);
+        try {
+            LockSupport.parkNanos(BLOCKING_IO_NANOS);
+            if (!fanOut) {
+                return;
+            }
+            Thread helper = scoped
+                ? Thread.ofVirtual().start(capture(TenantContextHolder.require(), this::readTenant))
+                : Thread.ofPlatform().start(this::readTenant);
+            helper.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            TenantContextHolder.clear();
+        }
+    }
+
+    private void readTenant() {
+        if (!TenantContextHolder.requireTenantId().equals(context.tenantId())) {
+            throw new IllegalStateException("Wrong tenant on helper thread");
+        }
+    }
+
+    private static Runnable capture(TenantContext tenant, Runnable action) {
+        return () -> TenantContextHolder.runWithTenant(tenant, action);
+    }
+}
@@ -0,0 +1,127 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.Tenant;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRepository;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantResolutionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link TenantProvider#loadTenant(String)} cost for every outcome the resolver sees: slug and UUID hits, unknown
+ * identifiers and inactive tenants. The database provider is measured with its cache warm, which is the steady state
+ * in production; the repository is an in-memory stand-in so only the provider's own overhead is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantProviderBenchmark {
+
+    private static final UUID ACTIVE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID INACTIVE_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Param({"in-memory", "database"})
+    String provider;
+
+    private TenantProvider tenantProvider;
+    private final String activeSlug = "tenant-active";
+    private final String activeUuid = ACTIVE_ID.toString();
+    private final String inactiveSlug = "tenant-inactive";
+    private final String unknownSlug = "tenant-unknown";
+
+    @Setup
+    public void setUp() {
+        TenancyProperties properties = new TenancyProperties();
+        properties.setBootstrapTenants(List.of(seed(ACTIVE_ID, activeSlug, true), seed(INACTIVE_ID, inactiveSlug, false)));
+        tenantProvider = switch (provider) {
+            case "in-memory" -> new InMemoryTenantProvider(properties);
+            case "database" -> new CachingTenantProvider(new StaticTenantRepository(List.of(
+                new Tenant(ACTIVE_ID, "Active", activeSlug, true, "UTC", "EUR", "{\"taxRate\": 0.16}"),
+                new Tenant(INACTIVE_ID, "Inactive", inactiveSlug, false, "UTC", "EUR", null))),
+                properties, new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException(provider);
+        };
+    }
+
+    @Benchmark
+    public TenantContext slugLookup() {
+        return tenantProvider.loadTenant(activeSlug);
+    }
+
+    @Benchmark
+    public TenantContext uuidLookup() {
+        return tenantProvider.loadTenant(activeUuid);
+    }
+
+    @Benchmark
+    public Object missLookup() {
+        return rejected(unknownSlug);
+    }
+
+    @Benchmark
+    public Object inactiveLookup() {
+        return rejected(inactiveSlug);
+    }
+
+    private Object rejected(String identifier) {
+        try {
+            return tenantProvider.loadTenant(identifier);
+        } catch (TenantResolutionException ex) {
+            return ex;
+        }
+    }
+
+    private static TenancyProperties.TenantSeed seed(UUID id, String slug, boolean active) {
+        TenancyProperties.TenantSeed seed = new TenancyProperties.TenantSeed();
+        seed.setId(id);
+        seed.setSlug(slug);
+        seed.setActive(active);
+        return seed;
+    }
+
+    private static final class StaticTenantRepository implements TenantRepository {
+
+        private final Map<UUID, Tenant> byId;
+        private final Map<String, Tenant> bySlug;
+
+        private StaticTenantRepository(List<Tenant> tenants) {
+            this.byId = tenants.stream().collect(Collectors.toMap(Tenant::getId, Function.identity()));
+            this.bySlug = tenants.stream().collect(Collectors.toMap(Tenant::getSlug, Function.identity()));
+        }
+
+        @Override
+        public Optional<Tenant> findById(UUID id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        @Override
+        public Optional<Tenant> findBySlug(String slug) {
+            return Optional.ofNullable(bySlug.get(slug));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuota;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRateLimiter;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * End-to-end cost of {@link TenantResolverInterceptor#preHandle} plus {@code afterCompletion} for a tenant route and
+ * an ignored route, with 10 to 500 ignored-path patterns configured. The tenant route includes taking and releasing
+ * a concurrency permit and recording the per-tenant request metrics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantResolverInterceptorBenchmark {
+
+    @Param({"10", "100", "500"})
+    int ignoredPatterns;
+
+    private TenantResolverInterceptor interceptor;
+    private MockHttpServletRequest tenantRequest;
+    private MockHttpServletRequest ignoredRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final Object handler = new Object();
+
+    @Setup
+    public void setUp() {
+        List<String> patterns = new ArrayList<>();
+        patterns.add("/actuator/**");
+        for (int i = 1; i < ignoredPatterns; i++) {
+            patterns.add(i % 2 == 0 ? "/public/module" + i + "/**" : "/public/module" + i + "/*/view");
+        }
+        TenancyProperties properties = new TenancyProperties();
+        properties.setIgnoredPaths(patterns);
+        TenantContext tenant = new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"), "tenant-dev", true);
+        // Concurrency cap only: a rate quota would start rejecting within the first microseconds of a run.
+        TenantRateLimiter rateLimiter = new TenantRateLimiter(context -> new TenantQuota(0, 0, 64), null);
+        TenantTrafficMetrics trafficMetrics = new TenantTrafficMetrics(new SimpleMeterRegistry(), 20, Duration.ofMinutes(1));
+        interceptor = new TenantResolverInterceptor(identifier -> tenant, rateLimiter, trafficMetrics, properties);
+
+        tenantRequest = new MockHttpServletRequest("GET", "/api/catalog/produtos");
+        tenantRequest.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev");
+        ignoredRequest = new MockHttpServletRequest("GET", "/actuator/health");
+    }
+
+    @Benchmark
+    public boolean tenantRoute() {
+        boolean proceed = interceptor.preHandle(tenantRequest, response, handler);
+        interceptor.afterCompletion(tenantRequest, response, handler, null);
+        return proceed;
+    }
+
+    @Benchmark
+    public boolean ignoredRoute() {
+        boolean proceed = interceptor.preHandle(ignoredRequest, response, handler);
+        interceptor.afterCompletion(ignoredRequest, response, handler, null);
+        return proceed;
+    }
+}
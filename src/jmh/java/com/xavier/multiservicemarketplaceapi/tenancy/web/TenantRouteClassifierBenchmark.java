@@ -0,0 +1,109 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantIdentifiers;
+
+/**
+ * Compares the per-request overhead of the previous {@code TenantResolverInterceptor} logic (stream over ignored
+ * paths with {@link AntPathMatcher}, {@code toLowerCase} + exception-driven {@link UUID#fromString}) against
+ * {@link TenantRouteClassifier} and {@link TenantIdentifiers}.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark -DskipTests verify -Djmh.includes=TenantRouteClassifierBenchmark}
+ * and add {@code -prof gc} through {@code jmh.includes} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantRouteClassifierBenchmark {
+
+    @Param({"10", "100", "500"})
+    int patternCount;
+
+    @Param({"/api/catalog/produtos/42", "/actuator/health"})
+    String path;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private List<String> ignoredPaths;
+    private TenantRouteClassifier classifier;
+    private String slugIdentifier;
+    private String uuidIdentifier;
+
+    @Setup
+    public void setUp() {
+        ignoredPaths = new ArrayList<>();
+        ignoredPaths.add("/actuator/**");
+        for (int i = 1; i < patternCount; i++) {
+            ignoredPaths.add(i % 2 == 0 ? "/public/module" + i + "/**" : "/public/module" + i + "/*/view");
+        }
+        classifier = TenantRouteClassifier.compile(Map.of(RouteAccess.PUBLIC, ignoredPaths));
+        slugIdentifier = "tenant-dev";
+        uuidIdentifier = "00000000-0000-0000-0000-000000000001";
+    }
+
+    @Benchmark
+    public boolean legacyShouldSkip() {
+        return ignoredPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Benchmark
+    public RouteAccess compiledClassify() {
+        return classifier.classify(path);
+    }
+
+    @Benchmark
+    public Object legacySlugKey() {
+        return legacyKey(slugIdentifier);
+    }
+
+    @Benchmark
+    public Object fastSlugKey() {
+        return fastKey(slugIdentifier);
+    }
+
+    @Benchmark
+    public Object legacyUuidKey() {
+        return legacyKey(uuidIdentifier);
+    }
+
+    @Benchmark
+    public Object fastUuidKey() {
+        return fastKey(uuidIdentifier);
+    }
+
+    private static Object legacyKey(String identifier) {
+        String slug = identifier.toLowerCase(Locale.ROOT);
+        try {
+            return UUID.fromString(identifier);
+        } catch (IllegalArgumentException ignored) {
+            return slug;
+        }
+    }
+
+    private static Object fastKey(String identifier) {
+        UUID id = TenantIdentifiers.parseUuid(identifier);
+        return id != null ? id : TenantIdentifiers.normalizeSlug(identifier);
+    }
+}
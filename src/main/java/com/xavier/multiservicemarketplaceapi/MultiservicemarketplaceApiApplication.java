@@ -2,14 +2,22 @@ package com.xavier.multiservicemarketplaceapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
 public class MultiservicemarketplaceApiApplication {
 
+    /**
+     * Startup steps kept for the per-module startup report.
+     */
+    static final int STARTUP_STEPS = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(MultiservicemarketplaceApiApplication.class, args);
+        SpringApplication application = new SpringApplication(MultiservicemarketplaceApiApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 
 }
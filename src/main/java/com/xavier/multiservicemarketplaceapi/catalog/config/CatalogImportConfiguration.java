@@ -0,0 +1,52 @@
+package com.xavier.multiservicemarketplaceapi.catalog.config;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing.CatalogImporter;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing.JdbcCatalogImportStore;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires bulk catalog imports; imports interrupted by a restart resume with their tenant's context from the
+ * {@link TenantProvider}.
+ */
+@Configuration
+public class CatalogImportConfiguration {
+
+    @Bean
+    JdbcCatalogImportStore catalogImportStore(JdbcTemplate jdbcTemplate,
+                                              PlatformTransactionManager transactionManager) {
+        return new JdbcCatalogImportStore(jdbcTemplate, transactionManager);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    CatalogImporter catalogImporter(JdbcCatalogImportStore store, ObjectMapper objectMapper,
+                                    TenantProvider tenantProvider, ApplicationEventPublisher events,
+                                    CatalogProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        CatalogProperties.Import settings = properties.getImport();
+        return new CatalogImporter(store, objectMapper, tenantId -> tenantProvider.loadTenant(tenantId.toString()),
+            events, settings.getDirectory(), settings.getChunkSize(), settings.getParallelism(),
+            settings.getMaxConcurrent(), settings.getMaxUploadSize().toBytes(), settings.getMaxRejectedRows(),
+            Clock.systemUTC(), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Once the schema is in place and the application is up.
+     */
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> catalogImportResumer(CatalogImporter catalogImporter) {
+        return event -> catalogImporter.resumeInterrupted();
+    }
+}
@@ -0,0 +1,179 @@
+package com.xavier.multiservicemarketplaceapi.catalog.config;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogProperties {
+
+    private Search search = new Search();
+    private Stock stock = new Stock();
+    private Import importing = new Import();
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public void setSearch(Search search) {
+        this.search = search;
+    }
+
+    public Stock getStock() {
+        return stock;
+    }
+
+    public void setStock(Stock stock) {
+        this.stock = stock;
+    }
+
+    public Import getImport() {
+        return importing;
+    }
+
+    public void setImport(Import importing) {
+        this.importing = importing;
+    }
+
+    /**
+     * In-memory catalog search index.
+     */
+    public static class Search {
+        private boolean rebuildOnStartup = true;
+        private int facetLimit = 20;
+        private List<BigDecimal> priceBuckets = new ArrayList<>(List.of(
+            BigDecimal.valueOf(10), BigDecimal.valueOf(25), BigDecimal.valueOf(50), BigDecimal.valueOf(100),
+            BigDecimal.valueOf(250), BigDecimal.valueOf(500), BigDecimal.valueOf(1000)));
+
+        public boolean isRebuildOnStartup() {
+            return rebuildOnStartup;
+        }
+
+        public void setRebuildOnStartup(boolean rebuildOnStartup) {
+            this.rebuildOnStartup = rebuildOnStartup;
+        }
+
+        public int getFacetLimit() {
+            return facetLimit;
+        }
+
+        public void setFacetLimit(int facetLimit) {
+            this.facetLimit = facetLimit;
+        }
+
+        public List<BigDecimal> getPriceBuckets() {
+            return priceBuckets;
+        }
+
+        public void setPriceBuckets(List<BigDecimal> priceBuckets) {
+            this.priceBuckets = priceBuckets != null ? List.copyOf(priceBuckets) : List.of();
+        }
+    }
+
+    /**
+     * In-memory stock reservation ledger.
+     */
+    public static class Stock {
+        private Duration reservationTtl = Duration.ofMinutes(10);
+        private Duration idempotencyRetention = Duration.ofHours(24);
+        private Duration flushInterval = Duration.ofMillis(50);
+        private int flushBatchSize = 500;
+
+        public Duration getReservationTtl() {
+            return reservationTtl;
+        }
+
+        public void setReservationTtl(Duration reservationTtl) {
+            this.reservationTtl = reservationTtl;
+        }
+
+        public Duration getIdempotencyRetention() {
+            return idempotencyRetention;
+        }
+
+        public void setIdempotencyRetention(Duration idempotencyRetention) {
+            this.idempotencyRetention = idempotencyRetention;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getFlushBatchSize() {
+            return flushBatchSize;
+        }
+
+        public void setFlushBatchSize(int flushBatchSize) {
+            this.flushBatchSize = flushBatchSize;
+        }
+    }
+
+    /**
+     * Bulk catalog imports.
+     */
+    public static class Import {
+        private Path directory = Path.of("data/catalog-imports");
+        private int chunkSize = 5000;
+        private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private int maxConcurrent = 2;
+        private DataSize maxUploadSize = DataSize.ofMegabytes(512);
+        private long maxRejectedRows = 10_000;
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public DataSize getMaxUploadSize() {
+            return maxUploadSize;
+        }
+
+        public void setMaxUploadSize(DataSize maxUploadSize) {
+            this.maxUploadSize = maxUploadSize;
+        }
+
+        public long getMaxRejectedRows() {
+            return maxRejectedRows;
+        }
+
+        public void setMaxRejectedRows(long maxRejectedRows) {
+            this.maxRejectedRows = maxRejectedRows;
+        }
+    }
+}
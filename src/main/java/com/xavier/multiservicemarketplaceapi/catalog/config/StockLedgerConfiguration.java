@@ -0,0 +1,33 @@
+package com.xavier.multiservicemarketplaceapi.catalog.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock.InMemoryStockLedger;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock.JdbcStockStore;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock.StockStore;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.ResourceVersions;
+
+/**
+ * Exposes the stock reservation ledger used by checkout, backed by {@code produtos} and {@code stock_movimentos}.
+ */
+@Configuration
+public class StockLedgerConfiguration {
+
+    @Bean
+    StockStore stockStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          ResourceVersions resourceVersions) {
+        return new JdbcStockStore(jdbcTemplate, transactionManager, resourceVersions);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    InMemoryStockLedger stockLedger(StockStore stockStore, CatalogProperties properties) {
+        CatalogProperties.Stock stock = properties.getStock();
+        return new InMemoryStockLedger(stockStore, stock.getReservationTtl(), stock.getIdempotencyRetention(),
+            stock.getFlushInterval(), stock.getFlushBatchSize(), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,9 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+/**
+ * Kinds of sellable catalog items.
+ */
+public enum CatalogItemType {
+    PRODUTO,
+    SERVICO
+}
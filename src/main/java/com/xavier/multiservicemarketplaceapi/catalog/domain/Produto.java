@@ -0,0 +1,119 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValueConverter;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * Physical product sold by a merchant. {@code atributosExtras} holds free-form key/value attributes (JSON object).
+ */
+@Entity
+@Table(name = "produtos",
+    indexes = {
+        @Index(name = "idx_produtos_tenant_merchant", columnList = "tenant_id, merchant_id"),
+        @Index(name = "idx_produtos_tenant_categoria", columnList = "tenant_id, categoria_id"),
+        @Index(name = "idx_produtos_tenant_nome", columnList = "tenant_id, nome, id")
+    })
+public class Produto extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "merchant_id", nullable = false)
+    private UUID merchantId;
+
+    @Column(name = "categoria_id")
+    private UUID categoriaId;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal preco;
+
+    @Column(nullable = false)
+    private boolean disponivel;
+
+    @Column(name = "stock_atual", nullable = false)
+    private int stockAtual;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.StringList.class)
+    private JsonValue<List<String>> imagens;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.ObjectMap.class)
+    @Column(name = "atributos_extras")
+    private JsonValue<Map<String, Object>> atributosExtras;
+
+    protected Produto() {
+    }
+
+    public Produto(UUID id, UUID tenantId, UUID merchantId, UUID categoriaId, String nome, BigDecimal preco,
+                   boolean disponivel, int stockAtual, String atributosExtras) {
+        super(tenantId);
+        this.id = id;
+        this.merchantId = merchantId;
+        this.categoriaId = categoriaId;
+        this.nome = nome;
+        this.preco = preco;
+        this.disponivel = disponivel;
+        this.stockAtual = stockAtual;
+        this.atributosExtras = JsonValue.ofJson(atributosExtras, JsonCodec.OBJECT_MAP);
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getMerchantId() {
+        return merchantId;
+    }
+
+    public UUID getCategoriaId() {
+        return categoriaId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public BigDecimal getPreco() {
+        return preco;
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    public int getStockAtual() {
+        return stockAtual;
+    }
+
+    public JsonValue<List<String>> getImagens() {
+        return imagens;
+    }
+
+    public JsonValue<Map<String, Object>> getAtributosExtras() {
+        return atributosExtras;
+    }
+}
@@ -0,0 +1,76 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary;
+
+public interface ProdutoRepository extends Repository<Produto, UUID> {
+
+    Optional<Produto> findById(UUID id);
+
+    Produto save(Produto produto);
+
+    /**
+     * Streams every product; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Produto> streamAllBy();
+
+    /**
+     * Streams every product of one tenant; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Produto> streamAllByTenantId(UUID tenantId);
+
+    /**
+     * Summaries of the tenant's products among {@code ids}, in one query.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary(
+            p.id, com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType.PRODUTO, p.nome,
+            p.merchantId, p.disponivel)
+        from Produto p
+        where p.tenantId = :tenantId and p.id in :ids""")
+    List<CatalogItemSummary> findSummaries(UUID tenantId, Collection<UUID> ids);
+
+    /**
+     * The tenant's products by name, in {@code idx_produtos_tenant_nome} order.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRow(
+            p.id, p.merchantId, p.categoriaId, p.nome, p.preco, p.disponivel, p.stockAtual)
+        from Produto p
+        where p.tenantId = :tenantId
+        order by p.tenantId, p.nome, p.id""")
+    List<ProdutoRow> findByName(UUID tenantId, Limit limit);
+
+    /**
+     * The products that follow {@code (nome, id)} in {@link #findByName} order, as an index range on
+     * {@code idx_produtos_tenant_nome}.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRow(
+            p.id, p.merchantId, p.categoriaId, p.nome, p.preco, p.disponivel, p.stockAtual)
+        from Produto p
+        where p.tenantId = :tenantId and p.nome >= :nome and (p.nome, p.id) > (:nome, :id)
+        order by p.tenantId, p.nome, p.id""")
+    List<ProdutoRow> findByNameAfter(UUID tenantId, String nome, UUID id, Limit limit);
+}
@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The columns of a {@link Produto} a list shows, read without loading the entity and its JSON columns.
+ */
+public record ProdutoRow(UUID id, UUID merchantId, UUID categoriaId, String nome, BigDecimal preco,
+                         boolean disponivel, int stockAtual) {
+}
@@ -0,0 +1,127 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValueConverter;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * Service offered by a provider ({@code prestador}). {@code tags} is a JSON array of strings.
+ */
+@Entity
+@Table(name = "servicos",
+    indexes = {
+        @Index(name = "idx_servicos_tenant_prestador", columnList = "tenant_id, prestador_id"),
+        @Index(name = "idx_servicos_tenant_categoria", columnList = "tenant_id, categoria_id")
+    })
+public class Servico extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "prestador_id", nullable = false)
+    private UUID prestadorId;
+
+    @Column(name = "categoria_id")
+    private UUID categoriaId;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal preco;
+
+    @Column(name = "duracao_minutos", nullable = false)
+    private int duracaoMinutos;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_atendimento", nullable = false, length = 20)
+    private TipoAtendimento tipoAtendimento;
+
+    @Column(nullable = false)
+    private boolean disponivel;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.StringList.class)
+    private JsonValue<List<String>> imagens;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.StringList.class)
+    private JsonValue<List<String>> tags;
+
+    protected Servico() {
+    }
+
+    public Servico(UUID id, UUID tenantId, UUID prestadorId, UUID categoriaId, String nome, BigDecimal preco,
+                   int duracaoMinutos, TipoAtendimento tipoAtendimento, boolean disponivel, String tags) {
+        super(tenantId);
+        this.id = id;
+        this.prestadorId = prestadorId;
+        this.categoriaId = categoriaId;
+        this.nome = nome;
+        this.preco = preco;
+        this.duracaoMinutos = duracaoMinutos;
+        this.tipoAtendimento = tipoAtendimento;
+        this.disponivel = disponivel;
+        this.tags = JsonValue.ofJson(tags, JsonCodec.STRING_LIST);
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getPrestadorId() {
+        return prestadorId;
+    }
+
+    public UUID getCategoriaId() {
+        return categoriaId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public BigDecimal getPreco() {
+        return preco;
+    }
+
+    public int getDuracaoMinutos() {
+        return duracaoMinutos;
+    }
+
+    public TipoAtendimento getTipoAtendimento() {
+        return tipoAtendimento;
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    public JsonValue<List<String>> getImagens() {
+        return imagens;
+    }
+
+    public JsonValue<List<String>> getTags() {
+        return tags;
+    }
+}
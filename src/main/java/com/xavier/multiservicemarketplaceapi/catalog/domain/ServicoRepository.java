@@ -0,0 +1,52 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary;
+
+public interface ServicoRepository extends Repository<Servico, UUID> {
+
+    Optional<Servico> findById(UUID id);
+
+    Servico save(Servico servico);
+
+    /**
+     * Streams every service; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Servico> streamAllBy();
+
+    /**
+     * Streams every service of one tenant; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Servico> streamAllByTenantId(UUID tenantId);
+
+    /**
+     * Summaries of the tenant's services among {@code ids}, in one query.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary(
+            s.id, com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType.SERVICO, s.nome,
+            s.prestadorId, s.disponivel)
+        from Servico s
+        where s.tenantId = :tenantId and s.id in :ids""")
+    List<CatalogItemSummary> findSummaries(UUID tenantId, Collection<UUID> ids);
+}
@@ -0,0 +1,79 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * Confirmed stock decrement of one product for one order. Written together with the {@code produtos.stock_atual}
+ * update; the idempotency key makes replays of the same order detectable after a restart.
+ */
+@Entity
+@Table(name = "stock_movimentos",
+    uniqueConstraints = @UniqueConstraint(name = "uk_stock_movimentos_pedido",
+        columnNames = {"tenant_id", "idempotency_key", "produto_id"}),
+    indexes = {
+        @Index(name = "idx_stock_movimentos_confirmado", columnList = "tenant_id, confirmado_em"),
+        @Index(name = "idx_stock_movimentos_produto", columnList = "tenant_id, produto_id")
+    })
+public class StockMovimento extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "produto_id", nullable = false)
+    private UUID produtoId;
+
+    @Column(nullable = false)
+    private int quantidade;
+
+    @Column(name = "confirmado_em", nullable = false)
+    private Instant confirmadoEm;
+
+    protected StockMovimento() {
+    }
+
+    public StockMovimento(UUID id, UUID tenantId, String idempotencyKey, UUID produtoId, int quantidade,
+                          Instant confirmadoEm) {
+        super(tenantId);
+        this.id = id;
+        this.idempotencyKey = idempotencyKey;
+        this.produtoId = produtoId;
+        this.quantidade = quantidade;
+        this.confirmadoEm = confirmadoEm;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public UUID getProdutoId() {
+        return produtoId;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public Instant getConfirmadoEm() {
+        return confirmadoEm;
+    }
+}
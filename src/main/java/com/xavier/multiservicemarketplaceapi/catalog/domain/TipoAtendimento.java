@@ -0,0 +1,10 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain;
+
+/**
+ * Where a service is delivered.
+ */
+public enum TipoAtendimento {
+    PRESENCIAL,
+    DOMICILIO,
+    REMOTO
+}
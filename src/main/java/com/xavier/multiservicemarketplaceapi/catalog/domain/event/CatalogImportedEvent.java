@@ -0,0 +1,12 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.event;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * A bulk import was merged into the tenant's catalog. Published once per import instead of one
+ * {@link CatalogItemChangedEvent} per row, so caches refresh the tenant in one go.
+ */
+public record CatalogImportedEvent(UUID tenantId, UUID importId, CatalogItemType type, long rowsMerged) {
+}
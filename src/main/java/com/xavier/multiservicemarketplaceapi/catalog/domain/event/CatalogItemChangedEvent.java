@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.event;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * A product or service was created or updated.
+ */
+public record CatalogItemChangedEvent(UUID tenantId, CatalogItemType type, UUID itemId) implements CatalogItemEvent {
+}
@@ -0,0 +1,17 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.event;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * Domain events published by the Catalog module whenever a product or service is written or removed.
+ */
+public sealed interface CatalogItemEvent permits CatalogItemChangedEvent, CatalogItemRemovedEvent {
+
+    UUID tenantId();
+
+    CatalogItemType type();
+
+    UUID itemId();
+}
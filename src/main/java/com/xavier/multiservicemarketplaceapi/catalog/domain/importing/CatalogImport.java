@@ -0,0 +1,19 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.importing;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * A bulk import of products or services into one tenant's catalog.
+ *
+ * @param rowsRead     records of the upload fully processed; a resumed import skips this many
+ * @param rowsStaged   rows that passed validation and wait in the staging table
+ * @param rowsRejected rows reported in {@link ImportRowError}s
+ * @param rowsMerged   rows inserted or updated in the catalog, once completed
+ */
+public record CatalogImport(UUID id, UUID tenantId, CatalogItemType type, ImportFormat format, ImportStatus status,
+                            long rowsRead, long rowsStaged, long rowsRejected, long rowsMerged, Instant createdAt,
+                            Instant finishedAt, String error) {
+}
@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.importing;
+
+/**
+ * Formats a catalog import can be uploaded in. Both hold one item per record, so an upload is parsed as it is read.
+ */
+public enum ImportFormat {
+    /** RFC 4180 with a header line naming the columns. */
+    CSV("csv"),
+    /** One JSON object per line. */
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,9 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.importing;
+
+/**
+ * Why one record of an upload was not imported.
+ *
+ * @param rowNumber 1-based position of the record in the upload, header line not counted
+ */
+public record ImportRowError(long rowNumber, String message) {
+}
@@ -0,0 +1,18 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.importing;
+
+/**
+ * Lifecycle of a {@link CatalogImport}. {@code STAGING} and {@code MERGING} imports are picked up again after a
+ * restart; a {@code FAILED} one can be resumed on request.
+ */
+public enum ImportStatus {
+    /** Rows are being validated and copied into the staging table. */
+    STAGING,
+    /** Every row is staged; the staging table is being merged into the catalog. */
+    MERGING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
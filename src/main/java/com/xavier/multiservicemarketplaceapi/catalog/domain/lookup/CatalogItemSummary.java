@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.lookup;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * What other modules show of a catalog item next to their own rows.
+ *
+ * @param ownerId the merchant of a product, the prestador of a service
+ */
+public record CatalogItemSummary(UUID id, CatalogItemType tipo, String nome, UUID ownerId, boolean disponivel) {
+}
@@ -0,0 +1,18 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.lookup;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.lookup.BatchLoader;
+
+/**
+ * Batched reads of catalog items for other modules, to be used through {@code BatchLookups}.
+ */
+public interface CatalogLookupPort {
+
+    BatchLoader<CatalogItemSummary> produtos();
+
+    BatchLoader<CatalogItemSummary> servicos();
+
+    default BatchLoader<CatalogItemSummary> loader(CatalogItemType tipo) {
+        return tipo == CatalogItemType.PRODUTO ? produtos() : servicos();
+    }
+}
@@ -0,0 +1,25 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * Searchable projection of a product or service.
+ *
+ * @param ownerId    merchant for products, prestador for services
+ * @param tags       service tags (empty for products)
+ * @param attributes product {@code atributos_extras} flattened to text (empty for services)
+ */
+public record CatalogDocument(UUID id, UUID tenantId, CatalogItemType type, String nome, UUID categoriaId,
+                              UUID ownerId, List<String> tags, Map<String, String> attributes, BigDecimal preco,
+                              boolean disponivel) {
+
+    public CatalogDocument {
+        tags = tags != null ? List.copyOf(tags) : List.of();
+        attributes = attributes != null ? Map.copyOf(attributes) : Map.of();
+    }
+}
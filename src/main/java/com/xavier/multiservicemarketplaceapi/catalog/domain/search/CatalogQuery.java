@@ -0,0 +1,41 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.search;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * Catalog search criteria. Every non-null criterion narrows the result; {@code text} matches all of its tokens
+ * against item names, the last one as a prefix.
+ */
+public record CatalogQuery(String text, CatalogItemType type, UUID categoriaId, UUID ownerId, List<String> tags,
+                           Map<String, String> attributes, BigDecimal minPreco, BigDecimal maxPreco,
+                           boolean onlyAvailable, Sort sort, int offset, int limit) {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    public CatalogQuery {
+        tags = tags != null ? List.copyOf(tags) : List.of();
+        attributes = attributes != null ? Map.copyOf(attributes) : Map.of();
+        sort = sort != null ? sort : Sort.RELEVANCE;
+        offset = Math.max(0, offset);
+        limit = limit > 0 ? limit : DEFAULT_LIMIT;
+    }
+
+    public static CatalogQuery text(String text) {
+        return new CatalogQuery(text, null, null, null, null, null, null, null, false, null, 0, DEFAULT_LIMIT);
+    }
+
+    public enum Sort {
+        /**
+         * Index order (most recently indexed last); cheapest, no sort step.
+         */
+        RELEVANCE,
+        PRECO_ASC,
+        PRECO_DESC,
+        NOME
+    }
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of matches plus facet counts over the whole match set.
+ *
+ * @param facets facet name ({@code tipo}, {@code categoria}, {@code owner}, {@code tags}, {@code preco},
+ *               {@code disponivel}, {@code atributos.<key>}) to value to number of matches
+ */
+public record CatalogSearchResult(int total, List<CatalogDocument> items, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,31 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.search;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+
+/**
+ * Catalog search engine. Implementations keep one index per tenant; a query never sees another tenant's items.
+ */
+public interface SearchIndexPort {
+
+    /**
+     * Adds or replaces the document with the same id.
+     */
+    void upsert(CatalogDocument document);
+
+    void remove(UUID tenantId, CatalogItemType type, UUID itemId);
+
+    /**
+     * Replaces every index with the given documents.
+     */
+    void rebuild(Stream<CatalogDocument> documents);
+
+    /**
+     * Replaces the index of one tenant with the given documents, which must all belong to it.
+     */
+    void rebuild(UUID tenantId, Stream<CatalogDocument> documents);
+
+    CatalogSearchResult search(UUID tenantId, CatalogQuery query);
+}
@@ -0,0 +1,17 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.stock;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Quantity of one product in a stock reservation.
+ */
+public record StockLine(UUID produtoId, int quantity) {
+
+    public StockLine {
+        Objects.requireNonNull(produtoId, "produtoId");
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+    }
+}
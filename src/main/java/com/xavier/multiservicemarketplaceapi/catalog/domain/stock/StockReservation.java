@@ -0,0 +1,30 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.stock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a stock reservation for one order, identified by the order's idempotency key.
+ *
+ * @param expiresAt          when an unconfirmed reservation gives its stock back
+ * @param insufficientProduto first product that could not be reserved when {@code REJECTED}, otherwise {@code null}
+ */
+public record StockReservation(UUID tenantId, String idempotencyKey, Status status, List<StockLine> lines,
+                               Instant expiresAt, UUID insufficientProduto) {
+
+    public enum Status {
+        /** Stock is held until {@code expiresAt} or until the order is confirmed or released. */
+        RESERVED,
+        /** The order was placed; the decrement is (or is about to be) written to {@code produtos.stock_atual}. */
+        CONFIRMED,
+        /** Not enough stock (or unknown product); nothing is held. */
+        REJECTED,
+        RELEASED,
+        EXPIRED
+    }
+
+    public boolean granted() {
+        return status == Status.RESERVED || status == Status.CONFIRMED;
+    }
+}
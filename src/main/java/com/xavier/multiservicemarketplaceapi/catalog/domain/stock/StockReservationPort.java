@@ -0,0 +1,42 @@
+package com.xavier.multiservicemarketplaceapi.catalog.domain.stock;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Holds product stock for orders being placed, so checkouts never wait on row locks of {@code produtos}.
+ * <p>
+ * Every call is keyed by the order's idempotency key: repeating {@link #reserve} or {@link #confirm} with the same key
+ * returns the original outcome instead of taking stock twice.
+ */
+public interface StockReservationPort {
+
+    /**
+     * Reserves all lines or none. Returns the existing reservation when the key is already reserved or confirmed.
+     *
+     * @throws IllegalArgumentException when the key was already used for different lines
+     */
+    StockReservation reserve(UUID tenantId, String idempotencyKey, List<StockLine> lines);
+
+    /**
+     * Turns a reservation into a stock decrement. The future completes once the decrement is durable.
+     *
+     * @throws com.xavier.multiservicemarketplaceapi.catalog.exception.StockReservationException when there is no
+     *                                                                                            live reservation
+     */
+    CompletableFuture<StockReservation> confirm(UUID tenantId, String idempotencyKey);
+
+    /**
+     * Gives a reserved (not confirmed) order's stock back.
+     *
+     * @return {@code false} when the key has no live reservation
+     */
+    boolean release(UUID tenantId, String idempotencyKey);
+
+    /**
+     * Units of a product that can still be reserved, or empty for an unknown product.
+     */
+    OptionalLong available(UUID tenantId, UUID produtoId);
+}
@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.catalog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when a catalog import cannot be accepted or resumed: unknown import, upload too large, or an import that is
+ * not in a resumable state.
+ */
+public class CatalogImportException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public CatalogImportException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,20 @@
+package com.xavier.multiservicemarketplaceapi.catalog.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when an order is confirmed without a live stock reservation (never reserved, released or expired).
+ */
+public class StockReservationException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public StockReservationException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,39 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.httpcache;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogImportedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemEvent;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.ResourceVersions;
+
+/**
+ * Bumps the tenant's {@value #AGGREGATE} version after every catalog change, which retires the ETags and cached
+ * responses of the catalog read endpoints. Runs after the search index listeners, so a request that sees the new
+ * version also sees the updated index.
+ */
+@Component
+public class CatalogVersionUpdater {
+
+    public static final String AGGREGATE = "catalog";
+
+    private final ResourceVersions versions;
+
+    public CatalogVersionUpdater(ResourceVersions versions) {
+        this.versions = versions;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogItemEvent(CatalogItemEvent event) {
+        versions.bump(event.tenantId(), AGGREGATE);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        versions.bump(event.tenantId(), AGGREGATE);
+    }
+}
@@ -0,0 +1,27 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * One rejected line of a catalog import; the mapping only describes the table.
+ */
+@Entity
+@Table(name = "catalog_import_errors")
+public class CatalogImportErrorRow {
+
+    @EmbeddedId
+    private ImportLineKey key;
+
+    @Column(nullable = false, length = 500)
+    private String mensagem;
+
+    protected CatalogImportErrorRow() {
+    }
+
+    public ImportLineKey getKey() {
+        return key;
+    }
+}
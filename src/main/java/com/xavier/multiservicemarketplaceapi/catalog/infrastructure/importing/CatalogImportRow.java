@@ -0,0 +1,75 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportStatus;
+
+/**
+ * One catalog import and its progress. Rows are written and read through {@link JdbcCatalogImportStore}; the mapping
+ * only describes the table.
+ */
+@Entity
+@Table(name = "catalog_imports",
+    indexes = {
+        @Index(name = "idx_catalog_imports_tenant", columnList = "tenant_id, criado_em"),
+        @Index(name = "idx_catalog_imports_status", columnList = "status")
+    })
+public class CatalogImportRow {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CatalogItemType tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ImportFormat formato;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportStatus status;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(name = "rows_staged", nullable = false)
+    private long rowsStaged;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(name = "rows_merged", nullable = false)
+    private long rowsMerged;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    @Column(name = "concluido_em")
+    private Instant concluidoEm;
+
+    @Column(length = 1000)
+    private String erro;
+
+    protected CatalogImportRow() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,425 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogImportedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.CatalogImport;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportRowError;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportStatus;
+import com.xavier.multiservicemarketplaceapi.catalog.exception.CatalogImportException;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuids;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+/**
+ * Bulk imports of products or services into a tenant's catalog.
+ * <p>
+ * The upload is first copied to {@code directory}, so the request ends as soon as the bytes are in and an interrupted
+ * import can read it again. A worker then parses it record by record, validates chunks of {@code chunkSize} records
+ * on {@code parallelism} threads while the next chunk is parsed, and stages each chunk with one JDBC batch through the
+ * {@link JdbcCatalogImportStore}, which also moves the import's checkpoint. Once the upload is read, the staging table
+ * is merged into the catalog in one transaction and a single {@link CatalogImportedEvent} tells the search index and
+ * the stock ledger to refresh the tenant. Everything runs with the importing tenant's context bound.
+ * <p>
+ * Each tenant runs one import at a time. Imports a shutdown interrupted are picked up again by
+ * {@link #resumeInterrupted()}; a failed one can be {@linkplain #resume resumed} from its checkpoint. Until
+ * {@link #start()} is called, imports run on the calling thread.
+ * <p>
+ * With a {@link MeterRegistry}, publishes the {@code catalog.import.rows} counter (tagged {@code outcome} staged or
+ * rejected) and the {@code catalog.import.merge} timer.
+ */
+public class CatalogImporter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImporter.class);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+    private static final int MIN_SLICE = 256;
+
+    private final JdbcCatalogImportStore store;
+    private final CatalogRowValidator validator;
+    private final ObjectMapper objectMapper;
+    private final Function<UUID, TenantContext> tenants;
+    private final ApplicationEventPublisher events;
+    private final Path directory;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxConcurrent;
+    private final long maxUploadBytes;
+    private final long maxRejectedRows;
+    private final Clock clock;
+    private final ConcurrentHashMap<UUID, UUID> running = new ConcurrentHashMap<>();
+    private final Counter staged;
+    private final Counter rejected;
+    private final Timer merge;
+    private ExecutorService workers;
+    private ExecutorService validators;
+    private volatile boolean closing;
+
+    /**
+     * @param tenants         tenant contexts by id, for imports picked up again after a restart
+     * @param maxRejectedRows rejected rows after which an import is given up
+     */
+    public CatalogImporter(JdbcCatalogImportStore store, ObjectMapper objectMapper,
+                           Function<UUID, TenantContext> tenants, ApplicationEventPublisher events, Path directory,
+                           int chunkSize, int parallelism, int maxConcurrent, long maxUploadBytes,
+                           long maxRejectedRows, Clock clock, MeterRegistry meterRegistry) {
+        if (chunkSize < 1 || parallelism < 1 || maxConcurrent < 1 || maxUploadBytes < 1) {
+            throw new IllegalArgumentException("chunkSize, parallelism, maxConcurrent and maxUploadBytes must be "
+                + "positive");
+        }
+        this.store = store;
+        this.validator = new CatalogRowValidator(objectMapper);
+        this.objectMapper = objectMapper;
+        this.tenants = tenants;
+        this.events = events;
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxConcurrent = maxConcurrent;
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxRejectedRows = maxRejectedRows;
+        this.clock = clock;
+        if (meterRegistry != null) {
+            staged = Counter.builder("catalog.import.rows").tag("outcome", "staged")
+                .description("Imported rows that passed validation").register(meterRegistry);
+            rejected = Counter.builder("catalog.import.rows").tag("outcome", "rejected")
+                .description("Imported rows reported as errors").register(meterRegistry);
+            merge = Timer.builder("catalog.import.merge").description("Merge of a staged import into the catalog")
+                .register(meterRegistry);
+        } else {
+            staged = null;
+            rejected = null;
+            merge = null;
+        }
+    }
+
+    public synchronized void start() {
+        if (workers != null) {
+            return;
+        }
+        workers = Executors.newFixedThreadPool(maxConcurrent,
+            Thread.ofPlatform().name("catalog-import-", 0).daemon(true).factory());
+        validators = Executors.newFixedThreadPool(parallelism,
+            Thread.ofPlatform().name("catalog-import-validator-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Queues the imports a shutdown or crash left in {@code STAGING} or {@code MERGING}; they continue from their
+     * checkpoint with their tenant's context.
+     */
+    public void resumeInterrupted() {
+        for (CatalogImport interrupted : store.findUnfinished()) {
+            TenantContext tenant;
+            try {
+                tenant = tenants.apply(interrupted.tenantId());
+            } catch (RuntimeException e) {
+                tenant = null;
+            }
+            if (tenant == null) {
+                store.fail(interrupted.id(), "Tenant %s is not available.".formatted(interrupted.tenantId()),
+                    clock.instant());
+                continue;
+            }
+            if (running.putIfAbsent(tenant.tenantId(), interrupted.id()) == null) {
+                log.info("Resuming catalog import {} at line {}.", interrupted.id(), interrupted.rowsRead());
+                execute(interrupted, tenant);
+            }
+        }
+    }
+
+    /**
+     * Stores the upload and queues its import.
+     *
+     * @throws TenantRateLimitExceededException when the tenant already runs an import
+     * @throws CatalogImportException           when the upload exceeds the size limit
+     */
+    public CatalogImport submit(TenantContext tenant, CatalogItemType type, ImportFormat format, InputStream upload)
+        throws IOException {
+        UUID id = TimeOrderedUuids.next();
+        admit(tenant, id);
+        Path file = upload(id, format);
+        try {
+            spool(upload, file);
+            CatalogImport created = new CatalogImport(id, tenant.tenantId(), type, format, ImportStatus.STAGING, 0, 0,
+                0, 0, clock.instant(), null, null);
+            store.create(created);
+            execute(created, tenant);
+            return store.find(tenant.tenantId(), id).orElse(created);
+        } catch (IOException | RuntimeException e) {
+            running.remove(tenant.tenantId(), id);
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a failed import again from its checkpoint; lines staged before the failure are not read again.
+     *
+     * @throws CatalogImportException when the import is unknown, not failed, or its upload is gone
+     */
+    public CatalogImport resume(TenantContext tenant, UUID importId) {
+        CatalogImport failed = require(tenant.tenantId(), importId);
+        if (failed.status() != ImportStatus.FAILED) {
+            throw new CatalogImportException("Only a failed import can be resumed; this one is %s."
+                .formatted(failed.status()), HttpStatus.CONFLICT);
+        }
+        if (!Files.exists(upload(importId, failed.format()))) {
+            throw new CatalogImportException("The upload of this import is no longer available.",
+                HttpStatus.CONFLICT);
+        }
+        admit(tenant, importId);
+        if (!store.restart(importId)) {
+            running.remove(tenant.tenantId(), importId);
+            throw new CatalogImportException("The import was resumed concurrently.", HttpStatus.CONFLICT);
+        }
+        CatalogImport restarted = require(tenant.tenantId(), importId);
+        execute(restarted, tenant);
+        return require(tenant.tenantId(), importId);
+    }
+
+    public Optional<CatalogImport> find(UUID tenantId, UUID importId) {
+        return store.find(tenantId, importId);
+    }
+
+    /**
+     * Rejected lines after {@code afterLinha}, in line order.
+     *
+     * @throws CatalogImportException when the import is unknown
+     */
+    public List<ImportRowError> errors(UUID tenantId, UUID importId, long afterLinha, int limit) {
+        require(tenantId, importId);
+        return store.errors(importId, afterLinha, limit);
+    }
+
+    /**
+     * Lets running imports reach their next checkpoint and leaves them to be {@linkplain #resumeInterrupted() resumed}
+     * after the next start.
+     */
+    @Override
+    public synchronized void close() {
+        if (workers == null) {
+            return;
+        }
+        closing = true;
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        validators.shutdownNow();
+        workers = null;
+        validators = null;
+    }
+
+    private void admit(TenantContext tenant, UUID importId) {
+        if (running.putIfAbsent(tenant.tenantId(), importId) != null) {
+            throw new TenantRateLimitExceededException(tenant.slug(), "concurrent catalog import", RETRY_AFTER);
+        }
+    }
+
+    private void execute(CatalogImport catalogImport, TenantContext tenant) {
+        Runnable run = () -> {
+            try {
+                TenantContextHolder.runWithTenant(tenant, () -> run(catalogImport));
+            } finally {
+                running.remove(tenant.tenantId(), catalogImport.id());
+            }
+        };
+        ExecutorService executor = workers;
+        if (executor != null) {
+            executor.execute(run);
+        } else {
+            run.run();
+        }
+    }
+
+    private void run(CatalogImport catalogImport) {
+        long rowsMerged;
+        try {
+            if (catalogImport.status() == ImportStatus.STAGING) {
+                if (!stage(catalogImport)) {
+                    return;
+                }
+                store.markMerging(catalogImport.id());
+            }
+            long start = System.nanoTime();
+            rowsMerged = store.merge(catalogImport, clock.instant());
+            if (merge != null) {
+                merge.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } catch (JdbcCatalogImportStore.ImportTakenOverException e) {
+            log.info("Catalog import {} is run elsewhere: {}", catalogImport.id(), e.getMessage());
+            return;
+        } catch (IOException | RuntimeException e) {
+            if (closing) {
+                log.info("Catalog import {} stopped by shutdown; it resumes on the next start.", catalogImport.id());
+                return;
+            }
+            log.warn("Catalog import {} failed: {}", catalogImport.id(), e.getMessage());
+            store.fail(catalogImport.id(), e.getMessage() != null ? e.getMessage() : e.getClass().getName(),
+                clock.instant());
+            return;
+        }
+        try {
+            Files.deleteIfExists(upload(catalogImport.id(), catalogImport.format()));
+        } catch (IOException e) {
+            log.warn("Could not delete the upload of catalog import {}: {}", catalogImport.id(), e.getMessage());
+        }
+        log.info("Catalog import {} merged {} rows.", catalogImport.id(), rowsMerged);
+        events.publishEvent(new CatalogImportedEvent(catalogImport.tenantId(), catalogImport.id(),
+            catalogImport.type(), rowsMerged));
+    }
+
+    /**
+     * Stages every record after the import's checkpoint. Chunk {@code n} is validated while chunk {@code n + 1} is
+     * parsed, then written.
+     *
+     * @return whether the whole upload was read, {@code false} when stopped by a shutdown
+     */
+    private boolean stage(CatalogImport catalogImport) throws IOException {
+        long rowsRead = catalogImport.rowsRead();
+        long rowsRejected = catalogImport.rowsRejected();
+        try (UploadReader reader = UploadReader.of(catalogImport.format(),
+            Files.newBufferedReader(upload(catalogImport.id(), catalogImport.format()), StandardCharsets.UTF_8),
+            objectMapper)) {
+            UploadRecord record = reader.next();
+            while (record != null && record.linha() <= rowsRead) {
+                record = reader.next();
+            }
+            List<UploadRecord> chunk = new ArrayList<>(chunkSize);
+            CompletableFuture<List<ValidatedRow>> validating = null;
+            long validatingUpTo = rowsRead;
+            while (record != null) {
+                chunk.add(record);
+                record = reader.next();
+                if (chunk.size() < chunkSize && record != null) {
+                    continue;
+                }
+                if (validating != null) {
+                    rowsRejected += write(catalogImport, validating.join(), rowsRead, validatingUpTo, rowsRejected);
+                    rowsRead = validatingUpTo;
+                }
+                if (closing) {
+                    return false;
+                }
+                validatingUpTo = chunk.get(chunk.size() - 1).linha();
+                validating = validate(catalogImport.type(), chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+            if (validating != null) {
+                write(catalogImport, validating.join(), rowsRead, validatingUpTo, rowsRejected);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return rows of the chunk rejected
+     */
+    private long write(CatalogImport catalogImport, List<ValidatedRow> rows, long previousRowsRead, long rowsRead,
+                       long rowsRejected) {
+        store.stage(catalogImport, rows, previousRowsRead, rowsRead);
+        long chunkRejected = rows.stream().filter(ValidatedRow.Rejected.class::isInstance).count();
+        increment(staged, rows.size() - chunkRejected);
+        increment(rejected, chunkRejected);
+        if (rowsRejected + chunkRejected > maxRejectedRows) {
+            throw new IllegalStateException("More than %d rows were rejected; see the error report."
+                .formatted(maxRejectedRows));
+        }
+        return chunkRejected;
+    }
+
+    private CompletableFuture<List<ValidatedRow>> validate(CatalogItemType type, List<UploadRecord> chunk) {
+        ExecutorService executor = validators;
+        int slice = Math.max(MIN_SLICE, (chunk.size() + parallelism - 1) / parallelism);
+        if (executor == null || chunk.size() <= slice) {
+            return executor == null
+                ? CompletableFuture.completedFuture(validate(type, chunk, 0, chunk.size()))
+                : CompletableFuture.supplyAsync(() -> validate(type, chunk, 0, chunk.size()), executor);
+        }
+        List<CompletableFuture<List<ValidatedRow>>> slices = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += slice) {
+            int sliceFrom = from;
+            int sliceTo = Math.min(chunk.size(), from + slice);
+            slices.add(CompletableFuture.supplyAsync(() -> validate(type, chunk, sliceFrom, sliceTo), executor));
+        }
+        return CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            List<ValidatedRow> rows = new ArrayList<>(chunk.size());
+            slices.forEach(part -> rows.addAll(part.join()));
+            return rows;
+        });
+    }
+
+    private List<ValidatedRow> validate(CatalogItemType type, List<UploadRecord> chunk, int from, int to) {
+        List<ValidatedRow> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            rows.add(validator.validate(type, chunk.get(i)));
+        }
+        return rows;
+    }
+
+    private void spool(InputStream upload, Path file) throws IOException {
+        Files.createDirectories(directory);
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)) {
+            byte[] buffer = new byte[64 * 1024];
+            long total = 0;
+            int read;
+            while ((read = upload.read(buffer)) != -1) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    throw new CatalogImportException("The upload is larger than %d bytes.".formatted(maxUploadBytes),
+                        HttpStatus.PAYLOAD_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private CatalogImport require(UUID tenantId, UUID importId) {
+        return store.find(tenantId, importId).orElseThrow(() -> new CatalogImportException(
+            "Catalog import %s not found.".formatted(importId), HttpStatus.NOT_FOUND));
+    }
+
+    private Path upload(UUID importId, ImportFormat format) {
+        return directory.resolve(importId + "." + format.extension());
+    }
+
+    private static void increment(Counter counter, long amount) {
+        if (counter != null && amount > 0) {
+            counter.increment(amount);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.TipoAtendimento;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuids;
+
+/**
+ * Checks one upload record against the columns of {@code produtos} or {@code servicos} and converts it. Stateless, so
+ * one instance validates many records in parallel. Every problem of a record is reported, not only the first.
+ * <p>
+ * A record without {@code id} becomes a new item; one with an {@code id} inserts or replaces that item. JSON columns
+ * are checked for their shape and stored compacted.
+ */
+class CatalogRowValidator {
+
+    static final int MAX_MESSAGE_LENGTH = 500;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int PRICE_PRECISION = 14;
+    private static final int PRICE_SCALE = 2;
+
+    private static final Column ID = new Column("id");
+    private static final Column CATEGORIA_ID = new Column("categoria_id");
+    private static final Column NOME = new Column("nome");
+    private static final Column PRECO = new Column("preco");
+    private static final Column DISPONIVEL = new Column("disponivel");
+    private static final Column IMAGENS = new Column("imagens");
+    private static final Column MERCHANT_ID = new Column("merchant_id");
+    private static final Column STOCK_ATUAL = new Column("stock_atual");
+    private static final Column ATRIBUTOS_EXTRAS = new Column("atributos_extras");
+    private static final Column PRESTADOR_ID = new Column("prestador_id");
+    private static final Column DURACAO_MINUTOS = new Column("duracao_minutos");
+    private static final Column TIPO_ATENDIMENTO = new Column("tipo_atendimento");
+    private static final Column TAGS = new Column("tags");
+
+    private final ObjectMapper objectMapper;
+
+    CatalogRowValidator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    ValidatedRow validate(CatalogItemType type, UploadRecord record) {
+        if (record.malformed() != null) {
+            return new ValidatedRow.Rejected(record.linha(), truncate(record.malformed()));
+        }
+        Problems problems = new Problems();
+        UUID id = optionalUuid(record, ID, problems);
+        UUID categoriaId = optionalUuid(record, CATEGORIA_ID, problems);
+        String nome = nome(record, problems);
+        BigDecimal preco = preco(record, problems);
+        boolean disponivel = disponivel(record, problems);
+        String imagens = json(record, IMAGENS, true, problems);
+        ValidatedRow row = switch (type) {
+            case PRODUTO -> {
+                UUID merchantId = requiredUuid(record, MERCHANT_ID, problems);
+                Integer stock = integer(record, STOCK_ATUAL, 0, 0, problems);
+                String atributos = json(record, ATRIBUTOS_EXTRAS, false, problems);
+                yield problems.isEmpty()
+                    ? new ValidatedRow.StagedProduto(record.linha(), id(id), merchantId, categoriaId, nome, preco,
+                        disponivel, stock, imagens, atributos)
+                    : null;
+            }
+            case SERVICO -> {
+                UUID prestadorId = requiredUuid(record, PRESTADOR_ID, problems);
+                Integer duracao = integer(record, DURACAO_MINUTOS, null, 1, problems);
+                TipoAtendimento tipo = tipoAtendimento(record, problems);
+                String tags = json(record, TAGS, true, problems);
+                yield problems.isEmpty()
+                    ? new ValidatedRow.StagedServico(record.linha(), id(id), prestadorId, categoriaId, nome, preco,
+                        duracao, tipo, disponivel, imagens, tags)
+                    : null;
+            }
+        };
+        return row != null ? row : new ValidatedRow.Rejected(record.linha(), truncate(problems.message()));
+    }
+
+    private static UUID id(UUID id) {
+        return id != null ? id : TimeOrderedUuids.next();
+    }
+
+    private static UUID optionalUuid(UploadRecord record, Column column, Problems problems) {
+        String value = record.get(column.key());
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            problems.add(column, "is not a UUID");
+            return null;
+        }
+    }
+
+    private static UUID requiredUuid(UploadRecord record, Column column, Problems problems) {
+        if (record.get(column.key()) == null) {
+            problems.add(column, "is required");
+            return null;
+        }
+        return optionalUuid(record, column, problems);
+    }
+
+    private static String nome(UploadRecord record, Problems problems) {
+        String nome = record.get(NOME.key());
+        if (nome == null) {
+            problems.add(NOME, "is required");
+        } else if (nome.length() > MAX_NAME_LENGTH) {
+            problems.add(NOME, "is longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        return nome;
+    }
+
+    private static BigDecimal preco(UploadRecord record, Problems problems) {
+        String value = record.get(PRECO.key());
+        if (value == null) {
+            problems.add(PRECO, "is required");
+            return null;
+        }
+        BigDecimal preco;
+        try {
+            preco = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            problems.add(PRECO, "is not a number");
+            return null;
+        }
+        if (preco.signum() < 0) {
+            problems.add(PRECO, "must not be negative");
+        } else if (preco.stripTrailingZeros().scale() > PRICE_SCALE) {
+            problems.add(PRECO, "has more than " + PRICE_SCALE + " decimal places");
+        } else if (preco.precision() - preco.scale() > PRICE_PRECISION - PRICE_SCALE) {
+            problems.add(PRECO, "is too large");
+        }
+        return preco;
+    }
+
+    private static boolean disponivel(UploadRecord record, Problems problems) {
+        String value = record.get(DISPONIVEL.key());
+        if (value == null) {
+            return true;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "1", "sim" -> true;
+            case "false", "0", "nao", "não" -> false;
+            default -> {
+                problems.add(DISPONIVEL, "is not a boolean");
+                yield true;
+            }
+        };
+    }
+
+    private static Integer integer(UploadRecord record, Column column, Integer defaultValue, int min,
+                                   Problems problems) {
+        String value = record.get(column.key());
+        if (value == null) {
+            if (defaultValue == null) {
+                problems.add(column, "is required");
+            }
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            problems.add(column, "is not an integer");
+            return null;
+        }
+        if (parsed < min) {
+            problems.add(column, "must be at least " + min);
+        }
+        return parsed;
+    }
+
+    private static TipoAtendimento tipoAtendimento(UploadRecord record, Problems problems) {
+        String value = record.get(TIPO_ATENDIMENTO.key());
+        if (value == null) {
+            problems.add(TIPO_ATENDIMENTO, "is required");
+            return null;
+        }
+        try {
+            return TipoAtendimento.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            problems.add(TIPO_ATENDIMENTO, "is not one of " + List.of(TipoAtendimento.values()));
+            return null;
+        }
+    }
+
+    private String json(UploadRecord record, Column column, boolean array, Problems problems) {
+        String value = record.get(column.key());
+        if (value == null) {
+            return null;
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            problems.add(column, "is not valid JSON");
+            return null;
+        }
+        if (array ? !node.isArray() : !node.isObject()) {
+            problems.add(column, array ? "must be a JSON array" : "must be a JSON object");
+            return null;
+        }
+        return node.toString();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    /**
+     * @param name as reported in messages
+     * @param key  as looked up in an {@link UploadRecord}
+     */
+    private record Column(String name, String key) {
+
+        Column(String name) {
+            this(name, UploadRecord.normalize(name));
+        }
+    }
+
+    private static final class Problems {
+
+        private final List<String> problems = new ArrayList<>(2);
+
+        void add(Column column, String problem) {
+            problems.add(column.name() + " " + problem);
+        }
+
+        boolean isEmpty() {
+            return problems.isEmpty();
+        }
+
+        String message() {
+            return String.join("; ", problems) + ".";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Primary key of the per-line import tables: the import and the line of its upload.
+ */
+@Embeddable
+public class ImportLineKey implements Serializable {
+
+    @Column(name = "import_id", nullable = false)
+    private UUID importId;
+
+    @Column(nullable = false)
+    private long linha;
+
+    protected ImportLineKey() {
+    }
+
+    public ImportLineKey(UUID importId, long linha) {
+        this.importId = importId;
+        this.linha = linha;
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public long getLinha() {
+        return linha;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ImportLineKey key && linha == key.linha && Objects.equals(importId, key.importId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(importId, linha);
+    }
+}
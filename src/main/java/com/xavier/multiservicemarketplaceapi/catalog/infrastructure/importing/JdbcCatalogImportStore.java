@@ -0,0 +1,328 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.CatalogImport;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportRowError;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportStatus;
+
+/**
+ * {@code catalog_imports}, its error report and the two staging tables, in plain JDBC.
+ * <p>
+ * A chunk of rows is staged in one transaction together with its errors and the new {@code rows_read}, so a resumed
+ * import continues exactly after the last chunk that made it. The merge is one transaction too: rows whose id belongs
+ * to another tenant or repeats on a later line are moved to the error report, the rest go into {@code produtos} or
+ * {@code servicos} with a single {@code MERGE}, and the staging rows are dropped.
+ */
+public class JdbcCatalogImportStore {
+
+    static final String FOREIGN_ID = "id is already in use.";
+    static final String REPEATED_ID = "id repeats on a later line, which replaces this one.";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String COLUMNS = """
+        id, tenant_id, tipo, formato, status, rows_read, rows_staged, rows_rejected, rows_merged, criado_em,
+        concluido_em, erro""";
+    private static final RowMapper<CatalogImport> IMPORT = JdbcCatalogImportStore::mapImport;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean postgres;
+
+    public JdbcCatalogImportStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void create(CatalogImport catalogImport) {
+        jdbcTemplate.update("INSERT INTO catalog_imports (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            catalogImport.id(), catalogImport.tenantId(), catalogImport.type().name(), catalogImport.format().name(),
+            catalogImport.status().name(), catalogImport.rowsRead(), catalogImport.rowsStaged(),
+            catalogImport.rowsRejected(), catalogImport.rowsMerged(), timestamp(catalogImport.createdAt()),
+            timestamp(catalogImport.finishedAt()), catalogImport.error());
+    }
+
+    public Optional<CatalogImport> find(UUID tenantId, UUID importId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM catalog_imports WHERE id = ? AND tenant_id = ?",
+            IMPORT, importId, tenantId).stream().findFirst();
+    }
+
+    /**
+     * Imports a restart interrupted, oldest first.
+     */
+    public List<CatalogImport> findUnfinished() {
+        return jdbcTemplate.query(
+            "SELECT " + COLUMNS + " FROM catalog_imports WHERE status IN (?, ?) ORDER BY criado_em", IMPORT,
+            ImportStatus.STAGING.name(), ImportStatus.MERGING.name());
+    }
+
+    /**
+     * Rejected lines after {@code afterLinha}, in line order.
+     */
+    public List<ImportRowError> errors(UUID importId, long afterLinha, int limit) {
+        return jdbcTemplate.query("""
+                SELECT linha, mensagem FROM catalog_import_errors
+                WHERE import_id = ? AND linha > ? ORDER BY linha LIMIT ?""",
+            (rs, i) -> new ImportRowError(rs.getLong("linha"), rs.getString("mensagem")), importId, afterLinha, limit);
+    }
+
+    /**
+     * Stages one chunk and moves the checkpoint to {@code rowsRead}, all in one transaction.
+     *
+     * @throws ImportTakenOverException when the checkpoint is no longer {@code previousRowsRead}, i.e. someone else
+     *                                  runs the import; nothing is written then
+     */
+    public void stage(CatalogImport catalogImport, List<ValidatedRow> rows, long previousRowsRead, long rowsRead) {
+        List<ValidatedRow> staged = new ArrayList<>(rows.size());
+        List<ValidatedRow.Rejected> rejected = new ArrayList<>();
+        for (ValidatedRow row : rows) {
+            if (row instanceof ValidatedRow.Rejected rejection) {
+                rejected.add(rejection);
+            } else {
+                staged.add(row);
+            }
+        }
+        UUID importId = catalogImport.id();
+        transactionTemplate.executeWithoutResult(status -> {
+            int moved = jdbcTemplate.update("""
+                    UPDATE catalog_imports SET rows_read = ?, rows_staged = rows_staged + ?,
+                    rows_rejected = rows_rejected + ? WHERE id = ? AND rows_read = ? AND status = ?""",
+                rowsRead, staged.size(), rejected.size(), importId, previousRowsRead, ImportStatus.STAGING.name());
+            if (moved == 0) {
+                throw new ImportTakenOverException("Import %s is no longer at line %d.".formatted(importId,
+                    previousRowsRead));
+            }
+            if (!staged.isEmpty()) {
+                switch (catalogImport.type()) {
+                    case PRODUTO -> stageProdutos(catalogImport, staged);
+                    case SERVICO -> stageServicos(catalogImport, staged);
+                }
+            }
+            if (!rejected.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO catalog_import_errors (import_id, linha, mensagem) VALUES (?, ?, ?)",
+                    rejected, rejected.size(), (ps, error) -> {
+                        ps.setObject(1, importId);
+                        ps.setLong(2, error.linha());
+                        ps.setString(3, error.message());
+                    });
+            }
+        });
+    }
+
+    public void markMerging(UUID importId) {
+        jdbcTemplate.update("UPDATE catalog_imports SET status = ? WHERE id = ? AND status = ?",
+            ImportStatus.MERGING.name(), importId, ImportStatus.STAGING.name());
+    }
+
+    /**
+     * Moves the staged rows into the catalog and completes the import.
+     *
+     * @return number of catalog rows inserted or updated
+     * @throws ImportTakenOverException when the import is no longer {@code MERGING}, i.e. someone else merged it
+     */
+    public long merge(CatalogImport catalogImport, Instant now) {
+        UUID importId = catalogImport.id();
+        String staging = stagingTable(catalogImport.type());
+        String live = switch (catalogImport.type()) {
+            case PRODUTO -> "produtos";
+            case SERVICO -> "servicos";
+        };
+        Long merged = transactionTemplate.execute(status -> {
+            // locks the import row: a second runner of the same import waits here, then finds it completed
+            if (jdbcTemplate.update("UPDATE catalog_imports SET status = ? WHERE id = ? AND status = ?",
+                ImportStatus.MERGING.name(), importId, ImportStatus.MERGING.name()) == 0) {
+                throw new ImportTakenOverException("Import %s is not ready to merge.".formatted(importId));
+            }
+            int rejected = reject(importId, staging, FOREIGN_ID, """
+                EXISTS (SELECT 1 FROM %s l WHERE l.id = s.id AND l.tenant_id <> s.tenant_id)""".formatted(live));
+            rejected += reject(importId, staging, REPEATED_ID, """
+                EXISTS (SELECT 1 FROM %s d WHERE d.import_id = s.import_id AND d.id = s.id AND d.linha > s.linha)"""
+                .formatted(staging));
+            long rows = jdbcTemplate.update(switch (catalogImport.type()) {
+                case PRODUTO -> mergeProdutos();
+                case SERVICO -> mergeServicos();
+            }, importId);
+            jdbcTemplate.update("DELETE FROM " + staging + " WHERE import_id = ?", importId);
+            jdbcTemplate.update("""
+                    UPDATE catalog_imports SET status = ?, rows_staged = rows_staged - ?,
+                    rows_rejected = rows_rejected + ?, rows_merged = ?, concluido_em = ?, erro = NULL WHERE id = ?""",
+                ImportStatus.COMPLETED.name(), rejected, rejected, rows, timestamp(now), importId);
+            return rows;
+        });
+        return merged != null ? merged : 0;
+    }
+
+    /**
+     * Marks the import failed. Its staged rows and checkpoint stay, so it can be resumed.
+     */
+    public void fail(UUID importId, String error, Instant now) {
+        jdbcTemplate.update("UPDATE catalog_imports SET status = ?, concluido_em = ?, erro = ? WHERE id = ?",
+            ImportStatus.FAILED.name(), timestamp(now), truncate(error), importId);
+    }
+
+    /**
+     * Puts a failed import back to staging from its checkpoint.
+     *
+     * @return whether the import was failed
+     */
+    public boolean restart(UUID importId) {
+        return jdbcTemplate.update("""
+                UPDATE catalog_imports SET status = ?, concluido_em = NULL, erro = NULL
+                WHERE id = ? AND status = ?""",
+            ImportStatus.STAGING.name(), importId, ImportStatus.FAILED.name()) > 0;
+    }
+
+    private void stageProdutos(CatalogImport catalogImport, List<ValidatedRow> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO produtos_staging (import_id, linha, id, tenant_id, merchant_id, categoria_id, nome, preco,
+                disponivel, stock_atual, imagens, atributos_extras) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+            rows, rows.size(), (ps, row) -> {
+                ValidatedRow.StagedProduto produto = (ValidatedRow.StagedProduto) row;
+                ps.setObject(1, catalogImport.id());
+                ps.setLong(2, produto.linha());
+                ps.setObject(3, produto.id());
+                ps.setObject(4, catalogImport.tenantId());
+                ps.setObject(5, produto.merchantId());
+                ps.setObject(6, produto.categoriaId());
+                ps.setString(7, produto.nome());
+                ps.setBigDecimal(8, produto.preco());
+                ps.setBoolean(9, produto.disponivel());
+                ps.setInt(10, produto.stockAtual());
+                ps.setString(11, produto.imagens());
+                ps.setString(12, produto.atributosExtras());
+            });
+    }
+
+    private void stageServicos(CatalogImport catalogImport, List<ValidatedRow> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO servicos_staging (import_id, linha, id, tenant_id, prestador_id, categoria_id, nome, preco,
+                duracao_minutos, tipo_atendimento, disponivel, imagens, tags)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""",
+            rows, rows.size(), (ps, row) -> {
+                ValidatedRow.StagedServico servico = (ValidatedRow.StagedServico) row;
+                ps.setObject(1, catalogImport.id());
+                ps.setLong(2, servico.linha());
+                ps.setObject(3, servico.id());
+                ps.setObject(4, catalogImport.tenantId());
+                ps.setObject(5, servico.prestadorId());
+                ps.setObject(6, servico.categoriaId());
+                ps.setString(7, servico.nome());
+                ps.setBigDecimal(8, servico.preco());
+                ps.setInt(9, servico.duracaoMinutos());
+                ps.setString(10, servico.tipoAtendimento().name());
+                ps.setBoolean(11, servico.disponivel());
+                ps.setString(12, servico.imagens());
+                ps.setString(13, servico.tags());
+            });
+    }
+
+    /**
+     * Moves the staged rows matching {@code condition} (on alias {@code s}) to the error report.
+     */
+    private int reject(UUID importId, String staging, String message, String condition) {
+        jdbcTemplate.update("""
+                INSERT INTO catalog_import_errors (import_id, linha, mensagem)
+                SELECT s.import_id, s.linha, ? FROM %s s WHERE s.import_id = ? AND %s""".formatted(staging, condition),
+            message, importId);
+        return jdbcTemplate.update("DELETE FROM %s s WHERE s.import_id = ? AND %s".formatted(staging, condition),
+            importId);
+    }
+
+    private String mergeProdutos() {
+        return """
+            MERGE INTO produtos p
+            USING (SELECT * FROM produtos_staging WHERE import_id = ?) s ON p.id = s.id
+            WHEN MATCHED THEN UPDATE SET merchant_id = s.merchant_id, categoria_id = s.categoria_id, nome = s.nome,
+                preco = s.preco, disponivel = s.disponivel, stock_atual = s.stock_atual, imagens = %1$s,
+                atributos_extras = %2$s
+            WHEN NOT MATCHED THEN INSERT (id, tenant_id, merchant_id, categoria_id, nome, preco, disponivel,
+                stock_atual, imagens, atributos_extras)
+                VALUES (s.id, s.tenant_id, s.merchant_id, s.categoria_id, s.nome, s.preco, s.disponivel,
+                s.stock_atual, %1$s, %2$s)""".formatted(json("s.imagens"), json("s.atributos_extras"));
+    }
+
+    private String mergeServicos() {
+        return """
+            MERGE INTO servicos v
+            USING (SELECT * FROM servicos_staging WHERE import_id = ?) s ON v.id = s.id
+            WHEN MATCHED THEN UPDATE SET prestador_id = s.prestador_id, categoria_id = s.categoria_id, nome = s.nome,
+                preco = s.preco, duracao_minutos = s.duracao_minutos, tipo_atendimento = s.tipo_atendimento,
+                disponivel = s.disponivel, imagens = %1$s, tags = %2$s
+            WHEN NOT MATCHED THEN INSERT (id, tenant_id, prestador_id, categoria_id, nome, preco, duracao_minutos,
+                tipo_atendimento, disponivel, imagens, tags)
+                VALUES (s.id, s.tenant_id, s.prestador_id, s.categoria_id, s.nome, s.preco, s.duracao_minutos,
+                s.tipo_atendimento, s.disponivel, %1$s, %2$s)""".formatted(json("s.imagens"), json("s.tags"));
+    }
+
+    /**
+     * Staged JSON is text; PostgreSQL casts it to {@code jsonb}, H2 (tests) needs {@code FORMAT JSON} to parse it
+     * rather than wrap it in a JSON string.
+     */
+    private String json(String column) {
+        return isPostgres() ? "CAST(%s AS JSONB)".formatted(column) : column + " FORMAT JSON";
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static String stagingTable(CatalogItemType type) {
+        return switch (type) {
+            case PRODUTO -> "produtos_staging";
+            case SERVICO -> "servicos_staging";
+        };
+    }
+
+    private static CatalogImport mapImport(ResultSet rs, int rowNum) throws SQLException {
+        return new CatalogImport(rs.getObject("id", UUID.class), rs.getObject("tenant_id", UUID.class),
+            CatalogItemType.valueOf(rs.getString("tipo")), ImportFormat.valueOf(rs.getString("formato")),
+            ImportStatus.valueOf(rs.getString("status")), rs.getLong("rows_read"), rs.getLong("rows_staged"),
+            rs.getLong("rows_rejected"), rs.getLong("rows_merged"), instant(rs, "criado_em"),
+            instant(rs, "concluido_em"), rs.getString("erro"));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant != null ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * The import moved on under this runner, because another instance or a concurrent resume runs it.
+     */
+    public static class ImportTakenOverException extends IllegalStateException {
+
+        ImportTakenOverException(String message) {
+            super(message);
+        }
+    }
+}
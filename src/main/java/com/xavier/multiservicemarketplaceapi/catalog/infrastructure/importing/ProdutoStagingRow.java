@@ -0,0 +1,57 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * A validated product waiting to be merged into {@code produtos}; the mapping only describes the table.
+ */
+@Entity
+@Table(name = "produtos_staging")
+public class ProdutoStagingRow {
+
+    @EmbeddedId
+    private ImportLineKey key;
+
+    @Column(nullable = false)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "merchant_id", nullable = false)
+    private UUID merchantId;
+
+    @Column(name = "categoria_id")
+    private UUID categoriaId;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal preco;
+
+    @Column(nullable = false)
+    private boolean disponivel;
+
+    @Column(name = "stock_atual", nullable = false)
+    private int stockAtual;
+
+    @Column(columnDefinition = "text")
+    private String imagens;
+
+    @Column(name = "atributos_extras", columnDefinition = "text")
+    private String atributosExtras;
+
+    protected ProdutoStagingRow() {
+    }
+
+    public ImportLineKey getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,60 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * A validated service waiting to be merged into {@code servicos}; the mapping only describes the table.
+ */
+@Entity
+@Table(name = "servicos_staging")
+public class ServicoStagingRow {
+
+    @EmbeddedId
+    private ImportLineKey key;
+
+    @Column(nullable = false)
+    private UUID id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @Column(name = "prestador_id", nullable = false)
+    private UUID prestadorId;
+
+    @Column(name = "categoria_id")
+    private UUID categoriaId;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal preco;
+
+    @Column(name = "duracao_minutos", nullable = false)
+    private int duracaoMinutos;
+
+    @Column(name = "tipo_atendimento", nullable = false, length = 20)
+    private String tipoAtendimento;
+
+    @Column(nullable = false)
+    private boolean disponivel;
+
+    @Column(columnDefinition = "text")
+    private String imagens;
+
+    @Column(columnDefinition = "text")
+    private String tags;
+
+    protected ServicoStagingRow() {
+    }
+
+    public ImportLineKey getKey() {
+        return key;
+    }
+}
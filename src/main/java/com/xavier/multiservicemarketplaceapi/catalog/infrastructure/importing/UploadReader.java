@@ -0,0 +1,218 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+
+/**
+ * Reads an upload one {@link UploadRecord} at a time, so memory does not grow with the upload. A record that cannot be
+ * parsed comes back {@linkplain UploadRecord#malformed() malformed} and reading goes on with the next one; only a
+ * missing CSV header ends the upload.
+ */
+abstract class UploadReader implements AutoCloseable {
+
+    final Reader in;
+    long linha;
+
+    private UploadReader(Reader in) {
+        this.in = in;
+    }
+
+    static UploadReader of(ImportFormat format, Reader in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(in);
+            case NDJSON -> new Ndjson(in, objectMapper);
+        };
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the upload
+     */
+    abstract UploadRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * RFC 4180: comma separated, double-quoted fields may hold commas, quotes ({@code ""}) and line breaks. Blank lines
+     * are skipped.
+     */
+    static final class Csv extends UploadReader {
+
+        private static final int EOF = -1;
+
+        private final char[] buffer = new char[64 * 1024];
+        private final StringBuilder field = new StringBuilder();
+        private final String[] header;
+        private int position;
+        private int limit;
+
+        private Csv(Reader in) throws IOException {
+            super(in);
+            List<String> names = readRow();
+            if (names == null) {
+                throw new IllegalArgumentException("The CSV upload has no header line.");
+            }
+            header = new String[names.size()];
+            for (int i = 0; i < header.length; i++) {
+                header[i] = UploadRecord.normalize(names.get(i));
+            }
+        }
+
+        @Override
+        UploadRecord next() throws IOException {
+            List<String> values;
+            try {
+                values = readRow();
+            } catch (IllegalArgumentException e) {
+                return UploadRecord.malformed(++linha, e.getMessage());
+            }
+            if (values == null) {
+                return null;
+            }
+            linha++;
+            if (values.size() != header.length) {
+                return UploadRecord.malformed(linha, "Expected %d columns but found %d."
+                    .formatted(header.length, values.size()));
+            }
+            Map<String, String> fields = HashMap.newHashMap(header.length);
+            for (int i = 0; i < header.length; i++) {
+                fields.put(header[i], values.get(i));
+            }
+            return UploadRecord.of(linha, fields);
+        }
+
+        /**
+         * @return the fields of the next non-blank line, or {@code null} at the end of the input
+         */
+        private List<String> readRow() throws IOException {
+            int c = read();
+            while (c == '\r' || c == '\n') {
+                c = read();
+            }
+            if (c == EOF) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            field.setLength(0);
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == EOF) {
+                        throw new IllegalArgumentException("Unterminated quoted field.");
+                    }
+                    if (c == '"') {
+                        int after = read();
+                        if (after == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = after;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == EOF) {
+                    values.add(field.toString());
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    return values;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (position == limit && !fill()) {
+                return EOF;
+            }
+            return buffer[position++];
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return EOF;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            int read = in.read(buffer);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+
+    /**
+     * One JSON object per line. Nested arrays and objects are handed on as JSON text; blank lines are skipped.
+     */
+    static final class Ndjson extends UploadReader {
+
+        private final BufferedReader lines;
+        private final ObjectReader json;
+
+        private Ndjson(Reader in, ObjectMapper objectMapper) {
+            super(in);
+            this.lines = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in, 64 * 1024);
+            // keeps "19.90" as written instead of going through a double
+            this.json = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        }
+
+        @Override
+        UploadRecord next() throws IOException {
+            String line = lines.readLine();
+            while (line != null && line.isBlank()) {
+                line = lines.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+            linha++;
+            JsonNode node;
+            try {
+                node = json.readTree(line);
+            } catch (JsonProcessingException e) {
+                return UploadRecord.malformed(linha, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                return UploadRecord.malformed(linha, "Expected a JSON object.");
+            }
+            Map<String, String> fields = HashMap.newHashMap(node.size());
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode value = entry.getValue();
+                fields.put(UploadRecord.normalize(entry.getKey()), value.isNull() ? null
+                    : value.isContainerNode() ? value.toString() : value.asText());
+            }
+            return UploadRecord.of(linha, fields);
+        }
+    }
+}
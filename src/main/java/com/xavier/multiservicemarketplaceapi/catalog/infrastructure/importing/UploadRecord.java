@@ -0,0 +1,38 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.util.Map;
+
+/**
+ * One record of an upload, as text. Field names are {@linkplain #normalize(String) normalized}, so {@code stock_atual},
+ * {@code stockAtual} and {@code Stock Atual} all read as {@code stockatual}.
+ *
+ * @param linha     1-based position of the record, header line not counted
+ * @param fields    values by normalized name; JSON arrays and objects are kept as JSON text
+ * @param malformed why the record could not be parsed, or {@code null}
+ */
+record UploadRecord(long linha, Map<String, String> fields, String malformed) {
+
+    static UploadRecord of(long linha, Map<String, String> fields) {
+        return new UploadRecord(linha, fields, null);
+    }
+
+    static UploadRecord malformed(long linha, String reason) {
+        return new UploadRecord(linha, Map.of(), reason);
+    }
+
+    String get(String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.TipoAtendimento;
+
+/**
+ * Outcome of validating one {@link UploadRecord}: a row ready for the staging table, or the reason it was rejected.
+ */
+sealed interface ValidatedRow {
+
+    long linha();
+
+    record StagedProduto(long linha, UUID id, UUID merchantId, UUID categoriaId, String nome, BigDecimal preco,
+                         boolean disponivel, int stockAtual, String imagens, String atributosExtras)
+        implements ValidatedRow {
+    }
+
+    record StagedServico(long linha, UUID id, UUID prestadorId, UUID categoriaId, String nome, BigDecimal preco,
+                         int duracaoMinutos, TipoAtendimento tipoAtendimento, boolean disponivel, String imagens,
+                         String tags) implements ValidatedRow {
+    }
+
+    record Rejected(long linha, String message) implements ValidatedRow {
+    }
+}
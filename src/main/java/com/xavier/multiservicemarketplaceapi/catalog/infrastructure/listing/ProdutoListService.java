@@ -0,0 +1,52 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.listing;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRow;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.Cursor;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorPage;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.InvalidCursorException;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * The current tenant's products by name, in keyset pages read as {@link ProdutoRow}s: any page is one index seek on
+ * {@code (tenant_id, nome, id)}, however deep.
+ */
+@Component
+public class ProdutoListService {
+
+    public static final int MAX_LIMIT = 100;
+    static final String CURSOR_SCOPE = "produtos:nome-asc";
+
+    private final ProdutoRepository produtoRepository;
+    private final CursorCodec cursorCodec;
+
+    public ProdutoListService(ProdutoRepository produtoRepository, CursorCodec cursorCodec) {
+        this.produtoRepository = produtoRepository;
+        this.cursorCodec = cursorCodec;
+    }
+
+    /**
+     * @param cursor {@code null} for the first page, else the {@code nextCursor} of the previous one
+     * @throws InvalidCursorException when {@code cursor} was not issued for this tenant's product list
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProdutoRow> page(String cursor, int limit) {
+        UUID tenantId = TenantContextHolder.requireTenantId();
+        Cursor after = cursorCodec.decode(CURSOR_SCOPE, tenantId, cursor);
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        List<ProdutoRow> rows = after == null
+            ? produtoRepository.findByName(tenantId, Limit.of(size + 1))
+            : produtoRepository.findByNameAfter(tenantId, after.sortKey(), after.id(), Limit.of(size + 1));
+        return CursorPage.of(rows, size,
+            produto -> cursorCodec.encode(CURSOR_SCOPE, tenantId, new Cursor(produto.nome(), produto.id())),
+            produto -> produto);
+    }
+}
@@ -0,0 +1,47 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.lookup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ServicoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogLookupPort;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.lookup.BatchLoader;
+
+/**
+ * Answers each batch with one projection query on {@code produtos} or {@code servicos}, by tenant and id.
+ */
+@Component
+public class JpaCatalogLookup implements CatalogLookupPort {
+
+    private final BatchLoader<CatalogItemSummary> produtos;
+    private final BatchLoader<CatalogItemSummary> servicos;
+
+    public JpaCatalogLookup(ProdutoRepository produtoRepository, ServicoRepository servicoRepository) {
+        this.produtos = BatchLoader.of("catalog.produtos",
+            (tenantId, ids) -> byId(produtoRepository.findSummaries(tenantId, ids)));
+        this.servicos = BatchLoader.of("catalog.servicos",
+            (tenantId, ids) -> byId(servicoRepository.findSummaries(tenantId, ids)));
+    }
+
+    @Override
+    public BatchLoader<CatalogItemSummary> produtos() {
+        return produtos;
+    }
+
+    @Override
+    public BatchLoader<CatalogItemSummary> servicos() {
+        return servicos;
+    }
+
+    private static Map<UUID, CatalogItemSummary> byId(List<CatalogItemSummary> summaries) {
+        Map<UUID, CatalogItemSummary> byId = HashMap.newHashMap(summaries.size());
+        summaries.forEach(summary -> byId.put(summary.id(), summary));
+        return byId;
+    }
+}
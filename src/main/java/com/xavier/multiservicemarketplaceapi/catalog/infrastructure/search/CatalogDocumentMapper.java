@@ -0,0 +1,72 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Servico;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogDocument;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+
+/**
+ * Projects catalog entities onto {@link CatalogDocument}s. Only scalar {@code atributos_extras} values are indexed;
+ * malformed JSON is logged and indexed as empty rather than failing the whole rebuild.
+ */
+@Component
+public class CatalogDocumentMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogDocumentMapper.class);
+
+    public CatalogDocument toDocument(Produto produto) {
+        return new CatalogDocument(produto.getId(), produto.getTenantId(), CatalogItemType.PRODUTO, produto.getNome(),
+            produto.getCategoriaId(), produto.getMerchantId(), List.of(), attributes(produto), produto.getPreco(),
+            produto.isDisponivel());
+    }
+
+    public CatalogDocument toDocument(Servico servico) {
+        return new CatalogDocument(servico.getId(), servico.getTenantId(), CatalogItemType.SERVICO, servico.getNome(),
+            servico.getCategoriaId(), servico.getPrestadorId(), tags(servico), Map.of(), servico.getPreco(),
+            servico.isDisponivel());
+    }
+
+    private Map<String, String> attributes(Produto produto) {
+        JsonValue<Map<String, Object>> atributosExtras = produto.getAtributosExtras();
+        if (atributosExtras == null || !StringUtils.hasText(atributosExtras.json())) {
+            return Map.of();
+        }
+        try {
+            Map<String, String> scalars = new LinkedHashMap<>();
+            atributosExtras.get().forEach((key, value) -> {
+                if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+                    scalars.put(key, value.toString());
+                }
+            });
+            return scalars;
+        } catch (UncheckedIOException ex) {
+            log.warn("Ignoring unreadable atributos_extras of produto {}: {}", produto.getId(),
+                ex.getCause().getMessage());
+            return Map.of();
+        }
+    }
+
+    private List<String> tags(Servico servico) {
+        JsonValue<List<String>> tags = servico.getTags();
+        if (tags == null || !StringUtils.hasText(tags.json())) {
+            return List.of();
+        }
+        try {
+            return tags.get().stream().filter(StringUtils::hasText).toList();
+        } catch (UncheckedIOException ex) {
+            log.warn("Ignoring unreadable tags of servico {}: {}", servico.getId(), ex.getCause().getMessage());
+            return List.of();
+        }
+    }
+}
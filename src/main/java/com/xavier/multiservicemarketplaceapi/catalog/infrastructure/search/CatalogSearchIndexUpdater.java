@@ -0,0 +1,149 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.catalog.config.CatalogProperties;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ServicoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogImportedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemChangedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemRemovedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogDocument;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.SearchIndexPort;
+
+/**
+ * Keeps the {@link SearchIndexPort} in step with the database: a full rebuild at startup, then one document per
+ * catalog change event and one tenant rebuild per bulk import. The event listeners run ahead of the other catalog
+ * listeners, which may rely on the index being current.
+ * <p>
+ * The startup rebuild runs as a lifecycle phase ahead of the web server's, so no request is answered from an empty
+ * index. Rebuild queries are opened only once the index consumes them, after it has started recording the writes
+ * made meanwhile.
+ */
+@Component
+public class CatalogSearchIndexUpdater implements SmartLifecycle {
+
+    static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchIndexUpdater.class);
+
+    private final SearchIndexPort searchIndex;
+    private final ProdutoRepository produtoRepository;
+    private final ServicoRepository servicoRepository;
+    private final CatalogDocumentMapper mapper;
+    private final CatalogProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile boolean running;
+
+    public CatalogSearchIndexUpdater(SearchIndexPort searchIndex, ProdutoRepository produtoRepository,
+                                     ServicoRepository servicoRepository, CatalogDocumentMapper mapper,
+                                     CatalogProperties properties, PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.produtoRepository = produtoRepository;
+        this.servicoRepository = servicoRepository;
+        this.mapper = mapper;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void start() {
+        if (properties.getSearch().isRebuildOnStartup()) {
+            rebuild();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Streams every product and service into a fresh index.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        AtomicLong indexed = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CatalogDocument> produtos = deferred(produtoRepository::streamAllBy).map(mapper::toDocument);
+                 Stream<CatalogDocument> servicos = deferred(servicoRepository::streamAllBy).map(mapper::toDocument)) {
+                searchIndex.rebuild(Stream.concat(produtos, servicos).peek(document -> indexed.incrementAndGet()));
+            }
+        });
+        log.info("Catalog search index rebuilt with {} items in {} ms.", indexed.get(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Streams one tenant's products and services into a fresh index for that tenant.
+     */
+    public void rebuild(UUID tenantId) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CatalogDocument> produtos = deferred(() -> produtoRepository.streamAllByTenantId(tenantId))
+                     .map(mapper::toDocument);
+                 Stream<CatalogDocument> servicos = deferred(() -> servicoRepository.streamAllByTenantId(tenantId))
+                     .map(mapper::toDocument)) {
+                searchIndex.rebuild(tenantId, Stream.concat(produtos, servicos));
+            }
+        });
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        rebuild(event.tenantId());
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogItemEvent(CatalogItemEvent event) {
+        switch (event) {
+            case CatalogItemChangedEvent changed -> load(changed).ifPresentOrElse(searchIndex::upsert,
+                () -> searchIndex.remove(changed.tenantId(), changed.type(), changed.itemId()));
+            case CatalogItemRemovedEvent removed -> searchIndex.remove(removed.tenantId(), removed.type(),
+                removed.itemId());
+        }
+    }
+
+    /**
+     * Runs {@code query} when the first element is pulled rather than now; the query stream is closed once consumed.
+     */
+    private static <T> Stream<T> deferred(Supplier<Stream<T>> query) {
+        return Stream.of(query).flatMap(Supplier::get);
+    }
+
+    private Optional<CatalogDocument> load(CatalogItemChangedEvent event) {
+        return switch (event.type()) {
+            case PRODUTO -> produtoRepository.findById(event.itemId()).map(mapper::toDocument);
+            case SERVICO -> servicoRepository.findById(event.itemId()).map(mapper::toDocument);
+        };
+    }
+}
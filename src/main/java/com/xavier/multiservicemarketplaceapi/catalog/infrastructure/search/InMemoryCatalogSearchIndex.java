@@ -0,0 +1,157 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.multiservicemarketplaceapi.catalog.config.CatalogProperties;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogDocument;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogQuery;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogSearchResult;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.SearchIndexPort;
+
+/**
+ * Local {@link SearchIndexPort}: one {@link TenantCatalogIndex} per tenant, held in memory.
+ * <p>
+ * Rebuilds run off to the side while the live indexes keep taking writes. Every write that lands during a rebuild is
+ * also recorded and replayed onto the rebuilt index right before the swap, so it survives the rebuild whether or not
+ * the rebuild's documents already contained it. Writes hold the read side of a lock and swaps the write side: a write
+ * either reaches the rebuild's record before the swap or the swapped-in index after it.
+ */
+@Component
+public class InMemoryCatalogSearchIndex implements SearchIndexPort {
+
+    private final PriceBuckets priceBuckets;
+    private final int facetLimit;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final List<Rebuild> rebuilds = new CopyOnWriteArrayList<>();
+    private volatile Map<UUID, TenantCatalogIndex> indexes = new ConcurrentHashMap<>();
+
+    public InMemoryCatalogSearchIndex(CatalogProperties properties) {
+        CatalogProperties.Search search = properties.getSearch();
+        this.priceBuckets = new PriceBuckets(search.getPriceBuckets());
+        this.facetLimit = search.getFacetLimit();
+    }
+
+    @Override
+    public void upsert(CatalogDocument document) {
+        write(document.tenantId(), index -> index.upsert(document));
+    }
+
+    @Override
+    public void remove(UUID tenantId, CatalogItemType type, UUID itemId) {
+        write(tenantId, index -> index.remove(itemId));
+    }
+
+    /**
+     * Builds the new indexes off to the side, replays the writes made meanwhile and swaps them in at once.
+     */
+    @Override
+    public void rebuild(Stream<CatalogDocument> documents) {
+        Rebuild rebuild = start(null);
+        try {
+            Map<UUID, TenantCatalogIndex> rebuilt = new ConcurrentHashMap<>();
+            documents.forEach(document -> rebuilt.computeIfAbsent(document.tenantId(), tenantId -> newIndex())
+                .upsert(document));
+            swapLock.writeLock().lock();
+            try {
+                rebuild.writes().forEach(write -> write.applyTo(rebuilt.computeIfAbsent(write.tenantId(),
+                    tenantId -> newIndex())));
+                indexes = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuilds.remove(rebuild);
+        }
+    }
+
+    /**
+     * Same as {@link #rebuild(Stream)} for one tenant; other tenants keep their index.
+     */
+    @Override
+    public void rebuild(UUID tenantId, Stream<CatalogDocument> documents) {
+        Rebuild rebuild = start(tenantId);
+        try {
+            TenantCatalogIndex rebuilt = newIndex();
+            documents.forEach(document -> {
+                if (!tenantId.equals(document.tenantId())) {
+                    throw new IllegalArgumentException("Document %s belongs to tenant %s, not %s."
+                        .formatted(document.id(), document.tenantId(), tenantId));
+                }
+                rebuilt.upsert(document);
+            });
+            swapLock.writeLock().lock();
+            try {
+                rebuild.writes().forEach(write -> write.applyTo(rebuilt));
+                indexes.put(tenantId, rebuilt);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuilds.remove(rebuild);
+        }
+    }
+
+    @Override
+    public CatalogSearchResult search(UUID tenantId, CatalogQuery query) {
+        TenantCatalogIndex index = indexes.get(tenantId);
+        return index != null ? index.search(query) : new CatalogSearchResult(0, List.of(), Map.of());
+    }
+
+    /**
+     * Number of documents indexed for {@code tenantId}.
+     */
+    public int size(UUID tenantId) {
+        TenantCatalogIndex index = indexes.get(tenantId);
+        return index != null ? index.size() : 0;
+    }
+
+    private TenantCatalogIndex newIndex() {
+        return new TenantCatalogIndex(priceBuckets, facetLimit);
+    }
+
+    private Rebuild start(UUID tenantId) {
+        Rebuild rebuild = new Rebuild(tenantId, new ConcurrentLinkedQueue<>());
+        rebuilds.add(rebuild);
+        return rebuild;
+    }
+
+    private void write(UUID tenantId, Consumer<TenantCatalogIndex> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(indexes.computeIfAbsent(tenantId, id -> newIndex()));
+            for (Rebuild rebuild : rebuilds) {
+                if (rebuild.tenantId() == null || rebuild.tenantId().equals(tenantId)) {
+                    rebuild.writes().add(new PendingWrite(tenantId, change));
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A running rebuild of one tenant, or of all of them when {@code tenantId} is {@code null}.
+     */
+    private record Rebuild(UUID tenantId, Queue<PendingWrite> writes) {
+    }
+
+    private record PendingWrite(UUID tenantId, Consumer<TenantCatalogIndex> change) {
+
+        void applyTo(TenantCatalogIndex index) {
+            change.accept(index);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable bitmap of document ordinals. Unlike {@link java.util.BitSet} it can count an intersection without
+ * materialising it, which is what facet counting needs.
+ */
+final class PostingBitmap {
+
+    private long[] words;
+
+    PostingBitmap() {
+        this.words = new long[1];
+    }
+
+    private PostingBitmap(long[] words) {
+        this.words = words;
+    }
+
+    void set(int ordinal) {
+        int word = ordinal >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << ordinal;
+    }
+
+    void clear(int ordinal) {
+        int word = ordinal >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << ordinal);
+        }
+    }
+
+    boolean get(int ordinal) {
+        int word = ordinal >>> 6;
+        return word < words.length && (words[word] & (1L << ordinal)) != 0;
+    }
+
+    boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    PostingBitmap copy() {
+        return new PostingBitmap(words.clone());
+    }
+
+    /**
+     * Keeps only the ordinals also present in {@code other}; a {@code null} posting list is empty.
+     */
+    void and(PostingBitmap other) {
+        if (other == null) {
+            Arrays.fill(words, 0L);
+            return;
+        }
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        Arrays.fill(words, common, words.length, 0L);
+    }
+
+    void or(PostingBitmap other) {
+        if (other.words.length > words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    int andCardinality(PostingBitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < common; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * @return the first set ordinal at or after {@code from}, or -1
+     */
+    int nextSetBit(int from) {
+        int word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Price ranges used for the {@code preco} facet, e.g. boundaries {@code 10, 50} give {@code 0-10}, {@code 10-50} and
+ * {@code 50+}. A price equal to a boundary falls into the upper range.
+ */
+final class PriceBuckets {
+
+    private final long[] boundaries;
+    private final String[] labels;
+
+    PriceBuckets(List<BigDecimal> boundaries) {
+        BigDecimal[] sorted = boundaries.stream().distinct().sorted().toArray(BigDecimal[]::new);
+        this.boundaries = Arrays.stream(sorted).mapToLong(TenantCatalogIndex::toMinorUnits).toArray();
+        this.labels = new String[sorted.length + 1];
+        String lower = "0";
+        for (int i = 0; i < sorted.length; i++) {
+            String upper = sorted[i].stripTrailingZeros().toPlainString();
+            labels[i] = lower + "-" + upper;
+            lower = upper;
+        }
+        labels[sorted.length] = lower + "+";
+    }
+
+    int size() {
+        return labels.length;
+    }
+
+    int bucketOf(long minorUnits) {
+        int position = Arrays.binarySearch(boundaries, minorUnits);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    String label(int bucket) {
+        return labels[bucket];
+    }
+}
@@ -0,0 +1,378 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogDocument;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogQuery;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogSearchResult;
+
+/**
+ * Inverted index over one tenant's catalog.
+ * <p>
+ * Documents get dense ordinals (reused after removal). Every indexed field value maps to a {@link PostingBitmap} of
+ * ordinals, and prices are kept in a primitive array of minor units. A query intersects posting lists and then counts
+ * facets over the match set. Reads share a read lock; catalog writes are rare and take the write lock.
+ */
+final class TenantCatalogIndex {
+
+    static final String FACET_TIPO = "tipo";
+    static final String FACET_CATEGORIA = "categoria";
+    static final String FACET_OWNER = "owner";
+    static final String FACET_TAGS = "tags";
+    static final String FACET_PRECO = "preco";
+    static final String FACET_DISPONIVEL = "disponivel";
+    static final String FACET_ATRIBUTO_PREFIX = "atributos.";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PriceBuckets priceBuckets;
+    private final int facetLimit;
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<CatalogDocument> documents = new ArrayList<>();
+    private final List<String> sortNames = new ArrayList<>();
+    private long[] prices = new long[64];
+    private int[] freeOrdinals = new int[16];
+    private int freeCount;
+
+    private final PostingBitmap live = new PostingBitmap();
+    private final PostingBitmap available = new PostingBitmap();
+    private final Map<CatalogItemType, PostingBitmap> byType = new EnumMap<>(CatalogItemType.class);
+    private final TreeMap<String, PostingBitmap> byNameToken = new TreeMap<>();
+    private final Map<UUID, PostingBitmap> byCategoria = new HashMap<>();
+    private final Map<UUID, PostingBitmap> byOwner = new HashMap<>();
+    private final Map<String, PostingBitmap> byTag = new HashMap<>();
+    private final Map<String, Map<String, PostingBitmap>> byAttribute = new HashMap<>();
+    private final PostingBitmap[] byPriceBucket;
+
+    TenantCatalogIndex(PriceBuckets priceBuckets, int facetLimit) {
+        this.priceBuckets = priceBuckets;
+        this.facetLimit = facetLimit;
+        this.byPriceBucket = new PostingBitmap[priceBuckets.size()];
+        for (int i = 0; i < byPriceBucket.length; i++) {
+            byPriceBucket[i] = new PostingBitmap();
+        }
+    }
+
+    void upsert(CatalogDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(document.id());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                unindex(ordinal, documents.get(ordinal));
+            } else {
+                ordinal = allocateOrdinal();
+                ordinals.put(document.id(), ordinal);
+            }
+            index(ordinal, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID itemId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(itemId);
+            if (ordinal != null) {
+                unindex(ordinal, documents.get(ordinal));
+                documents.set(ordinal, null);
+                sortNames.set(ordinal, null);
+                releaseOrdinal(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    CatalogSearchResult search(CatalogQuery query) {
+        lock.readLock().lock();
+        try {
+            PostingBitmap matches = match(query);
+            int total = matches.cardinality();
+            return new CatalogSearchResult(total, page(matches, total, query), facets(matches, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PostingBitmap match(CatalogQuery query) {
+        PostingBitmap matches = live.copy();
+        if (query.type() != null) {
+            matches.and(byType.get(query.type()));
+        }
+        if (query.onlyAvailable()) {
+            matches.and(available);
+        }
+        if (query.categoriaId() != null) {
+            matches.and(byCategoria.get(query.categoriaId()));
+        }
+        if (query.ownerId() != null) {
+            matches.and(byOwner.get(query.ownerId()));
+        }
+        for (String tag : query.tags()) {
+            matches.and(byTag.get(CatalogTokenizer.normalize(tag)));
+        }
+        query.attributes().forEach((key, value) -> {
+            Map<String, PostingBitmap> values = byAttribute.get(CatalogTokenizer.normalize(key));
+            matches.and(values != null ? values.get(CatalogTokenizer.normalize(value)) : null);
+        });
+        List<String> tokens = CatalogTokenizer.tokenize(query.text());
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            matches.and(i == tokens.size() - 1 ? prefixPostings(token) : byNameToken.get(token));
+        }
+        if (query.minPreco() != null || query.maxPreco() != null) {
+            long min = query.minPreco() != null ? toMinorUnits(query.minPreco()) : Long.MIN_VALUE;
+            long max = query.maxPreco() != null ? toMinorUnits(query.maxPreco()) : Long.MAX_VALUE;
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                if (prices[ordinal] < min || prices[ordinal] > max) {
+                    matches.clear(ordinal);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private PostingBitmap prefixPostings(String prefix) {
+        Map<String, PostingBitmap> candidates = byNameToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (candidates.size() == 1) {
+            return candidates.values().iterator().next();
+        }
+        PostingBitmap union = new PostingBitmap();
+        candidates.values().forEach(union::or);
+        return union;
+    }
+
+    private List<CatalogDocument> page(PostingBitmap matches, int total, CatalogQuery query) {
+        if (query.offset() >= total) {
+            return List.of();
+        }
+        int size = Math.min(query.limit(), total - query.offset());
+        List<CatalogDocument> page = new ArrayList<>(size);
+        if (query.sort() == CatalogQuery.Sort.RELEVANCE) {
+            int skipped = 0;
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0 && page.size() < size;
+                 ordinal = matches.nextSetBit(ordinal + 1)) {
+                if (skipped++ >= query.offset()) {
+                    page.add(documents.get(ordinal));
+                }
+            }
+            return page;
+        }
+        Integer[] ordered = new Integer[total];
+        int n = 0;
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            ordered[n++] = ordinal;
+        }
+        Comparator<Integer> comparator = switch (query.sort()) {
+            case PRECO_ASC -> Comparator.comparingLong(ordinal -> prices[ordinal]);
+            case PRECO_DESC -> Comparator.comparingLong((Integer ordinal) -> prices[ordinal]).reversed();
+            case NOME -> Comparator.comparing(sortNames::get);
+            case RELEVANCE -> throw new IllegalStateException();
+        };
+        Arrays.sort(ordered, comparator);
+        for (int i = query.offset(); i < query.offset() + size; i++) {
+            page.add(documents.get(ordered[i]));
+        }
+        return page;
+    }
+
+    private Map<String, Map<String, Integer>> facets(PostingBitmap matches, int total) {
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        if (total == 0) {
+            return facets;
+        }
+        Map<String, Integer> types = new LinkedHashMap<>();
+        byType.forEach((type, postings) -> putCount(types, type.name(), matches.andCardinality(postings)));
+        facets.put(FACET_TIPO, types);
+
+        Map<String, Integer> priceCounts = new LinkedHashMap<>();
+        for (int i = 0; i < byPriceBucket.length; i++) {
+            putCount(priceCounts, priceBuckets.label(i), matches.andCardinality(byPriceBucket[i]));
+        }
+        facets.put(FACET_PRECO, priceCounts);
+
+        int availableCount = matches.andCardinality(available);
+        Map<String, Integer> availability = new LinkedHashMap<>();
+        putCount(availability, "true", availableCount);
+        putCount(availability, "false", total - availableCount);
+        facets.put(FACET_DISPONIVEL, availability);
+
+        // High-cardinality fields: intersect posting lists when the match set is large, otherwise walk the matches.
+        int valueCount = byCategoria.size() + byOwner.size() + byTag.size() + byAttribute.size();
+        if ((long) total * 4 < (long) valueCount * matches.wordCount()) {
+            countByDocuments(matches, facets);
+        } else {
+            facets.put(FACET_CATEGORIA, top(countPostings(matches, byCategoria, UUID::toString)));
+            facets.put(FACET_OWNER, top(countPostings(matches, byOwner, UUID::toString)));
+            facets.put(FACET_TAGS, top(countPostings(matches, byTag, Function.identity())));
+            byAttribute.forEach((key, values) -> facets.put(FACET_ATRIBUTO_PREFIX + key,
+                top(countPostings(matches, values, Function.identity()))));
+        }
+        return facets;
+    }
+
+    private void countByDocuments(PostingBitmap matches, Map<String, Map<String, Integer>> facets) {
+        Map<String, Integer> categorias = new HashMap<>();
+        Map<String, Integer> owners = new HashMap<>();
+        Map<String, Integer> tags = new HashMap<>();
+        Map<String, Map<String, Integer>> attributes = new TreeMap<>();
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            CatalogDocument document = documents.get(ordinal);
+            if (document.categoriaId() != null) {
+                categorias.merge(document.categoriaId().toString(), 1, Integer::sum);
+            }
+            if (document.ownerId() != null) {
+                owners.merge(document.ownerId().toString(), 1, Integer::sum);
+            }
+            document.tags().forEach(tag -> tags.merge(CatalogTokenizer.normalize(tag), 1, Integer::sum));
+            document.attributes().forEach((key, value) -> attributes
+                .computeIfAbsent(CatalogTokenizer.normalize(key), ignored -> new HashMap<>())
+                .merge(CatalogTokenizer.normalize(value), 1, Integer::sum));
+        }
+        facets.put(FACET_CATEGORIA, top(categorias));
+        facets.put(FACET_OWNER, top(owners));
+        facets.put(FACET_TAGS, top(tags));
+        attributes.forEach((key, values) -> facets.put(FACET_ATRIBUTO_PREFIX + key, top(values)));
+    }
+
+    private static <K> Map<String, Integer> countPostings(PostingBitmap matches, Map<K, PostingBitmap> postings,
+                                                          Function<K, String> label) {
+        Map<String, Integer> counts = new HashMap<>();
+        postings.forEach((value, bitmap) -> putCount(counts, label.apply(value), matches.andCardinality(bitmap)));
+        return counts;
+    }
+
+    private Map<String, Integer> top(Map<String, Integer> counts) {
+        Map<String, Integer> top = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+            .limit(facetLimit)
+            .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private static void putCount(Map<String, Integer> counts, String value, int count) {
+        if (count > 0) {
+            counts.put(value, count);
+        }
+    }
+
+    private void index(int ordinal, CatalogDocument document) {
+        while (documents.size() <= ordinal) {
+            documents.add(null);
+            sortNames.add(null);
+        }
+        documents.set(ordinal, document);
+        sortNames.set(ordinal, CatalogTokenizer.normalize(document.nome()));
+        if (ordinal >= prices.length) {
+            prices = Arrays.copyOf(prices, Math.max(ordinal + 1, prices.length * 2));
+        }
+        long price = toMinorUnits(document.preco());
+        prices[ordinal] = price;
+
+        live.set(ordinal);
+        if (document.disponivel()) {
+            available.set(ordinal);
+        }
+        byType.computeIfAbsent(document.type(), type -> new PostingBitmap()).set(ordinal);
+        byPriceBucket[priceBuckets.bucketOf(price)].set(ordinal);
+        for (String token : CatalogTokenizer.tokenize(document.nome())) {
+            byNameToken.computeIfAbsent(token, key -> new PostingBitmap()).set(ordinal);
+        }
+        if (document.categoriaId() != null) {
+            byCategoria.computeIfAbsent(document.categoriaId(), key -> new PostingBitmap()).set(ordinal);
+        }
+        if (document.ownerId() != null) {
+            byOwner.computeIfAbsent(document.ownerId(), key -> new PostingBitmap()).set(ordinal);
+        }
+        for (String tag : document.tags()) {
+            byTag.computeIfAbsent(CatalogTokenizer.normalize(tag), key -> new PostingBitmap()).set(ordinal);
+        }
+        document.attributes().forEach((key, value) -> byAttribute
+            .computeIfAbsent(CatalogTokenizer.normalize(key), ignored -> new HashMap<>())
+            .computeIfAbsent(CatalogTokenizer.normalize(value), ignored -> new PostingBitmap())
+            .set(ordinal));
+    }
+
+    private void unindex(int ordinal, CatalogDocument document) {
+        live.clear(ordinal);
+        available.clear(ordinal);
+        clear(byType, document.type(), ordinal);
+        byPriceBucket[priceBuckets.bucketOf(prices[ordinal])].clear(ordinal);
+        for (String token : CatalogTokenizer.tokenize(document.nome())) {
+            clear(byNameToken, token, ordinal);
+        }
+        clear(byCategoria, document.categoriaId(), ordinal);
+        clear(byOwner, document.ownerId(), ordinal);
+        for (String tag : document.tags()) {
+            clear(byTag, CatalogTokenizer.normalize(tag), ordinal);
+        }
+        document.attributes().forEach((key, value) -> {
+            String normalizedKey = CatalogTokenizer.normalize(key);
+            Map<String, PostingBitmap> values = byAttribute.get(normalizedKey);
+            if (values != null) {
+                clear(values, CatalogTokenizer.normalize(value), ordinal);
+                if (values.isEmpty()) {
+                    byAttribute.remove(normalizedKey);
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears the ordinal and drops posting lists that become empty, so stale values never show up as facets.
+     */
+    private static <K> void clear(Map<K, PostingBitmap> postings, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        PostingBitmap bitmap = postings.get(key);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private int allocateOrdinal() {
+        return freeCount > 0 ? freeOrdinals[--freeCount] : documents.size();
+    }
+
+    private void releaseOrdinal(int ordinal) {
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
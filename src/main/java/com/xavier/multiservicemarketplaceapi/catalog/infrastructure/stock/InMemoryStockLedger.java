@@ -0,0 +1,569 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation.Status;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservationPort;
+import com.xavier.multiservicemarketplaceapi.catalog.exception.StockReservationException;
+
+/**
+ * Stock reservations held in memory, per tenant and product, and written back to the database in batches.
+ * <p>
+ * Each product keeps three counters whose sum is the last known {@code stock_atual}: units still {@code available},
+ * units {@code reserved} by open orders and confirmed units not yet written back ({@code unflushed}). Reserving is a
+ * compare-and-set on {@code available} that never goes below zero, so concurrent checkouts cannot oversell and never
+ * wait on each other or on the database. Confirmed orders are queued and written by a single flusher in one
+ * transaction per batch; {@link #confirm} completes once its order is durable.
+ * <p>
+ * A tenant is loaded from the database on first use: {@code stock_atual} of its products plus the orders confirmed
+ * within the idempotency retention, so a replayed order is still recognised after a restart. Unconfirmed reservations
+ * do not survive a restart; they would have expired anyway. The ledger assumes it is the only writer of decrements,
+ * i.e. one instance owns a tenant's stock.
+ */
+public class InMemoryStockLedger implements StockReservationPort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStockLedger.class);
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final StockStore store;
+    private final Duration reservationTtl;
+    private final Duration idempotencyRetention;
+    private final Duration flushInterval;
+    private final int flushBatchSize;
+    private final Clock clock;
+    private final ConcurrentHashMap<UUID, TenantStock> tenants = new ConcurrentHashMap<>();
+    private final Queue<Confirmation> confirmations = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private List<Confirmation> failedBatch = List.of();
+    private ScheduledExecutorService scheduler;
+
+    public InMemoryStockLedger(StockStore store, Duration reservationTtl, Duration idempotencyRetention,
+                               Duration flushInterval, int flushBatchSize, Clock clock) {
+        if (reservationTtl.isNegative() || reservationTtl.isZero() || flushBatchSize < 1) {
+            throw new IllegalArgumentException("reservationTtl and flushBatchSize must be positive");
+        }
+        this.store = store;
+        this.reservationTtl = reservationTtl;
+        this.idempotencyRetention = idempotencyRetention;
+        this.flushInterval = flushInterval;
+        this.flushBatchSize = flushBatchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the background flusher and reservation expiry.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("stock-ledger").daemon(true).factory());
+        long flushMillis = Math.max(1, flushInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::expireQuietly, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public StockReservation reserve(UUID tenantId, String idempotencyKey, List<StockLine> lines) {
+        checkKey(idempotencyKey);
+        List<StockLine> merged = merge(lines);
+        TenantStock tenant = tenant(tenantId);
+        Reservation reservation = new Reservation(idempotencyKey, merged, clock.instant().plus(reservationTtl));
+        while (true) {
+            Reservation existing = tenant.reservations.putIfAbsent(idempotencyKey, reservation);
+            if (existing == null) {
+                break;
+            }
+            Status status = existing.awaitDecision();
+            if (status == Status.RESERVED && !clock.instant().isBefore(existing.expiresAt)) {
+                expire(tenant, existing);
+                status = existing.status.get();
+            }
+            if (status == Status.RESERVED || status == Status.CONFIRMED) {
+                if (!existing.lines.equals(merged)) {
+                    throw new IllegalArgumentException(
+                        "Idempotency key '%s' was already used for a different order.".formatted(idempotencyKey));
+                }
+                return existing.view(tenantId);
+            }
+            // Rejected, released or expired: the key is free for a new attempt.
+            tenant.reservations.remove(idempotencyKey, existing);
+        }
+
+        int taken = 0;
+        try {
+            for (; taken < merged.size(); taken++) {
+                StockLine line = merged.get(taken);
+                ProductStock product = product(tenant, line.produtoId());
+                if (product == null || !product.tryReserve(line.quantity())) {
+                    reservation.insufficientProduto = line.produtoId();
+                    break;
+                }
+                reservation.products[taken] = product;
+            }
+        } finally {
+            if (taken < merged.size()) {
+                for (int i = 0; i < taken; i++) {
+                    reservation.products[i].cancel(merged.get(i).quantity());
+                }
+                reservation.decide(Status.REJECTED);
+                tenant.reservations.remove(idempotencyKey, reservation);
+            }
+        }
+        if (taken == merged.size()) {
+            reservation.decide(Status.RESERVED);
+        }
+        return reservation.view(tenantId);
+    }
+
+    @Override
+    public CompletableFuture<StockReservation> confirm(UUID tenantId, String idempotencyKey) {
+        TenantStock tenant = tenant(tenantId);
+        Reservation reservation = tenant.reservations.get(idempotencyKey);
+        Status status = reservation != null ? reservation.awaitDecision() : null;
+        if (status == Status.RESERVED && !clock.instant().isBefore(reservation.expiresAt)) {
+            expire(tenant, reservation);
+            status = reservation.status.get();
+        }
+        if (status == Status.RESERVED && reservation.status.compareAndSet(Status.RESERVED, Status.CONFIRMED)) {
+            Instant now = clock.instant();
+            reservation.confirmedAt = now;
+            for (int i = 0; i < reservation.lines.size(); i++) {
+                reservation.products[i].confirm(reservation.lines.get(i).quantity());
+            }
+            confirmations.add(new Confirmation(tenantId, reservation, now));
+            return reservation.durable;
+        }
+        status = reservation != null ? reservation.status.get() : null;
+        if (status == Status.CONFIRMED) {
+            return reservation.durable;
+        }
+        throw new StockReservationException("No live stock reservation for order '%s' (%s)."
+            .formatted(idempotencyKey, status != null ? status.name().toLowerCase() : "unknown"), HttpStatus.CONFLICT);
+    }
+
+    @Override
+    public boolean release(UUID tenantId, String idempotencyKey) {
+        TenantStock tenant = tenant(tenantId);
+        Reservation reservation = tenant.reservations.get(idempotencyKey);
+        if (reservation == null || reservation.awaitDecision() != Status.RESERVED
+            || !reservation.status.compareAndSet(Status.RESERVED, Status.RELEASED)) {
+            return false;
+        }
+        giveBack(tenant, reservation);
+        return true;
+    }
+
+    @Override
+    public OptionalLong available(UUID tenantId, UUID produtoId) {
+        ProductStock product = product(tenant(tenantId), produtoId);
+        return product != null ? OptionalLong.of(product.available.get()) : OptionalLong.empty();
+    }
+
+    /**
+     * Re-reads a product's {@code stock_atual}, e.g. after a merchant restocked it. A no-op for tenants not loaded yet.
+     */
+    public void reconcile(UUID tenantId, UUID produtoId) {
+        TenantStock tenant = tenants.get(tenantId);
+        if (tenant != null && tenant.loaded) {
+            reload(tenant, produtoId);
+        }
+    }
+
+    /**
+     * Re-reads the {@code stock_atual} of all the tenant's products in one query, e.g. after a bulk import. Products no
+     * longer in the database are dropped. A no-op for tenants not loaded yet.
+     */
+    public void reconcile(UUID tenantId) {
+        TenantStock tenant = tenants.get(tenantId);
+        if (tenant == null || !tenant.loaded) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<UUID, Integer> stock = store.loadStock(tenantId);
+            stock.forEach((produtoId, stockAtual) ->
+                tenant.products.computeIfAbsent(produtoId, id -> new ProductStock(stockAtual)).rebase(stockAtual));
+            tenant.products.keySet().retainAll(stock.keySet());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes queued confirmations back, one batch per call.
+     * <p>
+     * A batch that fails for a transient reason is retried first by the next call. One the database rejects for good
+     * (a {@link DataIntegrityViolationException}: the product was deleted meanwhile, the order key is already
+     * recorded) is written again order by order, so only the rejected orders are dropped: their units go back to
+     * {@code available} and their {@link #confirm} future fails.
+     *
+     * @return number of orders written
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<Confirmation> batch = new ArrayList<>(failedBatch);
+            failedBatch = List.of();
+            Confirmation next;
+            while (batch.size() < flushBatchSize && (next = confirmations.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                store.writeBack(movements(batch));
+            } catch (DataIntegrityViolationException e) {
+                return batch.size() == 1 ? reject(batch.get(0), e) : writeOneByOne(batch);
+            } catch (RuntimeException e) {
+                failedBatch = batch;
+                throw e;
+            }
+            batch.forEach(InMemoryStockLedger::written);
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int writeOneByOne(List<Confirmation> batch) {
+        int written = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Confirmation confirmation = batch.get(i);
+            try {
+                store.writeBack(movements(List.of(confirmation)));
+            } catch (DataIntegrityViolationException e) {
+                reject(confirmation, e);
+                continue;
+            } catch (RuntimeException e) {
+                failedBatch = List.copyOf(batch.subList(i, batch.size()));
+                throw e;
+            }
+            written(confirmation);
+            written++;
+        }
+        return written;
+    }
+
+    private static List<StockStore.Movement> movements(List<Confirmation> batch) {
+        List<StockStore.Movement> movements = new ArrayList<>(batch.size());
+        for (Confirmation confirmation : batch) {
+            for (StockLine line : confirmation.reservation.lines) {
+                movements.add(new StockStore.Movement(confirmation.tenantId, confirmation.reservation.key,
+                    line.produtoId(), line.quantity(), confirmation.confirmedAt));
+            }
+        }
+        return movements;
+    }
+
+    private static void written(Confirmation confirmation) {
+        Reservation reservation = confirmation.reservation;
+        for (int i = 0; i < reservation.lines.size(); i++) {
+            reservation.products[i].flushed(reservation.lines.get(i).quantity());
+        }
+        reservation.durable.complete(reservation.view(confirmation.tenantId));
+    }
+
+    /**
+     * Drops a confirmation the database will never accept. Nothing of it was written, so its units are available
+     * again and its key is free.
+     *
+     * @return {@code 0}, no order written
+     */
+    private int reject(Confirmation confirmation, DataIntegrityViolationException cause) {
+        Reservation reservation = confirmation.reservation;
+        log.error("Stock write-back rejected order '{}' of tenant {}, dropping it: {}", reservation.key,
+            confirmation.tenantId, cause.getMostSpecificCause().getMessage());
+        for (int i = 0; i < reservation.lines.size(); i++) {
+            reservation.products[i].unconfirm(reservation.lines.get(i).quantity());
+        }
+        reservation.status.set(Status.REJECTED);
+        TenantStock tenant = tenants.get(confirmation.tenantId);
+        if (tenant != null) {
+            tenant.reservations.remove(reservation.key, reservation);
+        }
+        reservation.durable.completeExceptionally(new StockReservationException(
+            "Stock decrement of order '%s' was rejected by the database.".formatted(reservation.key),
+            HttpStatus.CONFLICT));
+        return 0;
+    }
+
+    /**
+     * Gives back the stock of reservations past their TTL and forgets confirmed orders older than the idempotency
+     * retention.
+     */
+    public void expireReservations() {
+        Instant now = clock.instant();
+        Instant forgetBefore = now.minus(idempotencyRetention);
+        for (TenantStock tenant : tenants.values()) {
+            for (Reservation reservation : tenant.reservations.values()) {
+                Status status = reservation.status.get();
+                if (status == Status.RESERVED && !now.isBefore(reservation.expiresAt)) {
+                    expire(tenant, reservation);
+                } else if (status == Status.CONFIRMED && reservation.durable.isDone()
+                    && reservation.confirmedAt.isBefore(forgetBefore)) {
+                    tenant.reservations.remove(reservation.key, reservation);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        // every call takes orders off the queue, written or rejected, or throws
+        while (!confirmations.isEmpty() || !failedBatch.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            while (flush() == flushBatchSize) {
+                // keep draining while batches come back full
+            }
+        } catch (RuntimeException e) {
+            log.warn("Stock write-back failed, retrying in {} ms: {}", flushInterval.toMillis(), e.getMessage());
+        }
+    }
+
+    private void expireQuietly() {
+        try {
+            expireReservations();
+        } catch (RuntimeException e) {
+            log.warn("Stock reservation expiry failed.", e);
+        }
+    }
+
+    private void expire(TenantStock tenant, Reservation reservation) {
+        if (reservation.status.compareAndSet(Status.RESERVED, Status.EXPIRED)) {
+            giveBack(tenant, reservation);
+        }
+    }
+
+    private static void giveBack(TenantStock tenant, Reservation reservation) {
+        for (int i = 0; i < reservation.lines.size(); i++) {
+            reservation.products[i].cancel(reservation.lines.get(i).quantity());
+        }
+        tenant.reservations.remove(reservation.key, reservation);
+    }
+
+    private TenantStock tenant(UUID tenantId) {
+        TenantStock tenant = tenants.computeIfAbsent(tenantId, TenantStock::new);
+        if (!tenant.loaded) {
+            load(tenant);
+        }
+        return tenant;
+    }
+
+    private void load(TenantStock tenant) {
+        synchronized (tenant) {
+            if (tenant.loaded) {
+                return;
+            }
+            store.loadStock(tenant.tenantId).forEach((produtoId, stock) ->
+                tenant.products.put(produtoId, new ProductStock(stock)));
+            store.loadConfirmed(tenant.tenantId, clock.instant().minus(idempotencyRetention)).forEach((key, lines) -> {
+                Reservation confirmed = new Reservation(key, merge(lines), clock.instant());
+                confirmed.confirmedAt = clock.instant();
+                confirmed.decide(Status.CONFIRMED);
+                confirmed.durable.complete(confirmed.view(tenant.tenantId));
+                tenant.reservations.put(key, confirmed);
+            });
+            tenant.loaded = true;
+        }
+    }
+
+    private ProductStock product(TenantStock tenant, UUID produtoId) {
+        ProductStock product = tenant.products.get(produtoId);
+        return product != null ? product : reload(tenant, produtoId);
+    }
+
+    /**
+     * Applies the database stock of one product. Runs under the flush lock so no write-back lands between the read and
+     * the adjustment.
+     */
+    private ProductStock reload(TenantStock tenant, UUID produtoId) {
+        flushLock.lock();
+        try {
+            OptionalInt stock = store.loadStock(tenant.tenantId, produtoId);
+            if (stock.isEmpty()) {
+                tenant.products.remove(produtoId);
+                return null;
+            }
+            ProductStock product = tenant.products.computeIfAbsent(produtoId, id -> new ProductStock(stock.getAsInt()));
+            product.rebase(stock.getAsInt());
+            return product;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static List<StockLine> merge(List<StockLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("A stock reservation needs at least one line.");
+        }
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (StockLine line : lines) {
+            quantities.merge(line.produtoId(), line.quantity(), Math::addExact);
+        }
+        List<StockLine> merged = new ArrayList<>(quantities.size());
+        quantities.forEach((produtoId, quantity) -> merged.add(new StockLine(produtoId, quantity)));
+        return List.copyOf(merged);
+    }
+
+    private static void checkKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                "Idempotency key must be 1-" + MAX_IDEMPOTENCY_KEY_LENGTH + " characters.");
+        }
+    }
+
+    private static final class TenantStock {
+
+        private final UUID tenantId;
+        private final ConcurrentHashMap<UUID, ProductStock> products = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+
+        private TenantStock(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    /**
+     * {@code available + reserved + unflushed == stockAtual}, the last known database value.
+     */
+    static final class ProductStock {
+
+        private final AtomicLong available;
+        private final AtomicLong reserved = new AtomicLong();
+        private final AtomicLong unflushed = new AtomicLong();
+        private long stockAtual;
+
+        ProductStock(int stockAtual) {
+            this.stockAtual = stockAtual;
+            this.available = new AtomicLong(stockAtual);
+        }
+
+        boolean tryReserve(int quantity) {
+            while (true) {
+                long current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    reserved.addAndGet(quantity);
+                    return true;
+                }
+            }
+        }
+
+        void cancel(int quantity) {
+            reserved.addAndGet(-quantity);
+            available.addAndGet(quantity);
+        }
+
+        void confirm(int quantity) {
+            reserved.addAndGet(-quantity);
+            unflushed.addAndGet(quantity);
+        }
+
+        /**
+         * Undoes {@link #confirm} for units the database refused to decrement.
+         */
+        void unconfirm(int quantity) {
+            unflushed.addAndGet(-quantity);
+            available.addAndGet(quantity);
+        }
+
+        /**
+         * Called by the flusher once {@code quantity} confirmed units were subtracted from {@code stock_atual}.
+         */
+        void flushed(int quantity) {
+            unflushed.addAndGet(-quantity);
+            stockAtual -= quantity;
+        }
+
+        /**
+         * Moves {@code available} by however much {@code stock_atual} changed outside the ledger.
+         */
+        void rebase(int databaseStock) {
+            available.addAndGet(databaseStock - stockAtual);
+            stockAtual = databaseStock;
+        }
+    }
+
+    private static final class Reservation {
+
+        private final String key;
+        private final List<StockLine> lines;
+        private final Instant expiresAt;
+        private final ProductStock[] products;
+        private final AtomicReference<Status> status = new AtomicReference<>();
+        private final CompletableFuture<Status> decision = new CompletableFuture<>();
+        private final CompletableFuture<StockReservation> durable = new CompletableFuture<>();
+        private volatile UUID insufficientProduto;
+        private volatile Instant confirmedAt;
+
+        private Reservation(String key, List<StockLine> lines, Instant expiresAt) {
+            this.key = key;
+            this.lines = lines;
+            this.expiresAt = expiresAt;
+            this.products = new ProductStock[lines.size()];
+        }
+
+        private void decide(Status outcome) {
+            status.set(outcome);
+            decision.complete(outcome);
+        }
+
+        /**
+         * Waits for a concurrent {@code reserve} of the same key to finish taking stock, then returns the live status.
+         */
+        private Status awaitDecision() {
+            decision.join();
+            return status.get();
+        }
+
+        private StockReservation view(UUID tenantId) {
+            return new StockReservation(tenantId, key, status.get(), lines, expiresAt, insufficientProduto);
+        }
+    }
+
+    private record Confirmation(UUID tenantId, Reservation reservation, Instant confirmedAt) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.httpcache.CatalogVersionUpdater;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.ResourceVersions;
+
+/**
+ * {@link StockStore} on {@code produtos} and {@code stock_movimentos}. A write-back is two JDBC batches in one
+ * transaction: the movement rows, then one relative {@code stock_atual} update per product. Once it commits, the
+ * catalog version of every tenant written is bumped, since product lists show the stock.
+ */
+public class JdbcStockStore implements StockStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceVersions versions;
+
+    public JdbcStockStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          ResourceVersions versions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.versions = versions;
+    }
+
+    @Override
+    public Map<UUID, Integer> loadStock(UUID tenantId) {
+        Map<UUID, Integer> stock = new HashMap<>();
+        jdbcTemplate.query("SELECT id, stock_atual FROM produtos WHERE tenant_id = ?",
+            rs -> {
+                stock.put(rs.getObject("id", UUID.class), rs.getInt("stock_atual"));
+            }, tenantId);
+        return stock;
+    }
+
+    @Override
+    public OptionalInt loadStock(UUID tenantId, UUID produtoId) {
+        List<Integer> stock = jdbcTemplate.queryForList(
+            "SELECT stock_atual FROM produtos WHERE id = ? AND tenant_id = ?", Integer.class, produtoId, tenantId);
+        return stock.isEmpty() ? OptionalInt.empty() : OptionalInt.of(stock.get(0));
+    }
+
+    @Override
+    public Map<String, List<StockLine>> loadConfirmed(UUID tenantId, Instant since) {
+        Map<String, List<StockLine>> confirmed = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT idempotency_key, produto_id, quantidade FROM stock_movimentos
+                WHERE tenant_id = ? AND confirmado_em >= ?""",
+            rs -> {
+                confirmed.computeIfAbsent(rs.getString("idempotency_key"), key -> new ArrayList<>())
+                    .add(new StockLine(rs.getObject("produto_id", UUID.class), rs.getInt("quantidade")));
+            }, tenantId, OffsetDateTime.ofInstant(since, ZoneOffset.UTC));
+        return confirmed;
+    }
+
+    @Override
+    public void writeBack(List<Movement> movements) {
+        Map<ProductKey, Integer> decrements = new LinkedHashMap<>();
+        Set<UUID> tenants = new LinkedHashSet<>();
+        for (Movement movement : movements) {
+            tenants.add(movement.tenantId());
+            decrements.merge(new ProductKey(movement.tenantId(), movement.produtoId()), movement.quantity(),
+                Integer::sum);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO stock_movimentos (id, tenant_id, idempotency_key, produto_id, quantidade, confirmado_em)
+                    VALUES (?, ?, ?, ?, ?, ?)""",
+                movements, movements.size(), (ps, movement) -> {
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setObject(2, movement.tenantId());
+                    ps.setString(3, movement.idempotencyKey());
+                    ps.setObject(4, movement.produtoId());
+                    ps.setInt(5, movement.quantity());
+                    ps.setObject(6, OffsetDateTime.ofInstant(movement.confirmedAt(), ZoneOffset.UTC));
+                });
+            List<Map.Entry<ProductKey, Integer>> updates = new ArrayList<>(decrements.entrySet());
+            jdbcTemplate.batchUpdate("UPDATE produtos SET stock_atual = stock_atual - ? WHERE id = ? AND tenant_id = ?",
+                updates, updates.size(), (ps, update) -> {
+                    ps.setInt(1, update.getValue());
+                    ps.setObject(2, update.getKey().produtoId());
+                    ps.setObject(3, update.getKey().tenantId());
+                });
+        });
+        tenants.forEach(tenantId -> versions.bump(tenantId, CatalogVersionUpdater.AGGREGATE));
+    }
+
+    private record ProductKey(UUID tenantId, UUID produtoId) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogImportedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemChangedEvent;
+
+/**
+ * Re-reads a product's stock into the ledger after it was edited, or the whole tenant's after a bulk import of
+ * products, so restocks become reservable right away.
+ */
+@Component
+public class StockLedgerReconciler {
+
+    private final InMemoryStockLedger ledger;
+
+    public StockLedgerReconciler(InMemoryStockLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogItemChanged(CatalogItemChangedEvent event) {
+        if (event.type() == CatalogItemType.PRODUTO) {
+            ledger.reconcile(event.tenantId(), event.itemId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogImported(CatalogImportedEvent event) {
+        if (event.type() == CatalogItemType.PRODUTO) {
+            ledger.reconcile(event.tenantId());
+        }
+    }
+}
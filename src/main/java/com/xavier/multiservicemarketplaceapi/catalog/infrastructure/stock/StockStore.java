@@ -0,0 +1,35 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+
+/**
+ * Durable side of the {@link InMemoryStockLedger}: where stock is reconciled from and confirmed decrements go.
+ */
+public interface StockStore {
+
+    /**
+     * {@code stock_atual} of every product of the tenant.
+     */
+    Map<UUID, Integer> loadStock(UUID tenantId);
+
+    OptionalInt loadStock(UUID tenantId, UUID produtoId);
+
+    /**
+     * Orders confirmed since {@code since}, by idempotency key.
+     */
+    Map<String, List<StockLine>> loadConfirmed(UUID tenantId, Instant since);
+
+    /**
+     * Records the movements and decrements {@code stock_atual} accordingly, all in one transaction.
+     */
+    void writeBack(List<Movement> movements);
+
+    record Movement(UUID tenantId, String idempotencyKey, UUID produtoId, int quantity, Instant confirmedAt) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.CatalogImport;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportRowError;
+import com.xavier.multiservicemarketplaceapi.catalog.exception.CatalogImportException;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing.CatalogImporter;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Bulk imports into the current tenant's catalog. The upload is the raw request body (optionally
+ * {@code Content-Encoding: gzip}); the import runs in the background and is followed through its status and error
+ * report.
+ */
+@RestController
+@RequestMapping("/api/catalog/imports")
+public class CatalogImportController {
+
+    private static final int MAX_ERRORS_PAGE = 1000;
+
+    private final CatalogImporter importer;
+
+    public CatalogImportController(CatalogImporter importer) {
+        this.importer = importer;
+    }
+
+    @PostMapping
+    public ResponseEntity<CatalogImport> submit(@RequestParam CatalogItemType tipo,
+                                                @RequestParam(defaultValue = "CSV") ImportFormat format,
+                                                HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body, 64 * 1024);
+        }
+        CatalogImport submitted = importer.submit(TenantContextHolder.require(), tipo, format, body);
+        return ResponseEntity.accepted().location(location(submitted)).body(submitted);
+    }
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<CatalogImport> get(@PathVariable UUID importId) {
+        return ResponseEntity.of(importer.find(TenantContextHolder.requireTenantId(), importId));
+    }
+
+    /**
+     * Rejected lines in line order, {@code limit} at a time after line {@code after}.
+     */
+    @GetMapping("/{importId}/errors")
+    public List<ImportRowError> errors(@PathVariable UUID importId,
+                                       @RequestParam(defaultValue = "0") long after,
+                                       @RequestParam(defaultValue = "100") int limit) {
+        return importer.errors(TenantContextHolder.requireTenantId(), importId, after,
+            Math.clamp(limit, 1, MAX_ERRORS_PAGE));
+    }
+
+    @PostMapping("/{importId}/resume")
+    public ResponseEntity<CatalogImport> resume(@PathVariable UUID importId) {
+        CatalogImport resumed = importer.resume(TenantContextHolder.require(), importId);
+        return ResponseEntity.accepted().location(location(resumed)).body(resumed);
+    }
+
+    @ExceptionHandler(CatalogImportException.class)
+    public ResponseEntity<ImportErrorResponse> handleImportErrors(CatalogImportException ex) {
+        return ResponseEntity.status(ex.getStatus()).body(new ImportErrorResponse(ex.getMessage()));
+    }
+
+    private static URI location(CatalogImport catalogImport) {
+        return URI.create("/api/catalog/imports/" + catalogImport.id());
+    }
+
+    public record ImportErrorResponse(String message) {
+    }
+}
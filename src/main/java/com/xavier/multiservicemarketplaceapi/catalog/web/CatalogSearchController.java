@@ -0,0 +1,82 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogQuery;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogSearchResult;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.SearchIndexPort;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.httpcache.CatalogVersionUpdater;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.TenantResponseCache;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Faceted catalog search for the current tenant, served from the in-memory index. Results are tagged with the
+ * tenant's catalog version and revalidated with {@code If-None-Match}.
+ */
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogSearchController {
+
+    private final SearchIndexPort searchIndex;
+    private final TenantResponseCache responseCache;
+
+    public CatalogSearchController(SearchIndexPort searchIndex, TenantResponseCache responseCache) {
+        this.searchIndex = searchIndex;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @param atributo repeated {@code key:value} filters on product attributes
+     * @return a {@link CatalogSearchResult}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> search(@RequestParam(name = "q", required = false) String text,
+                                         @RequestParam(required = false) CatalogItemType tipo,
+                                         @RequestParam(required = false) UUID categoria,
+                                         @RequestParam(required = false) UUID owner,
+                                         @RequestParam(name = "tag", required = false) List<String> tags,
+                                         @RequestParam(required = false) List<String> atributo,
+                                         @RequestParam(required = false) BigDecimal precoMin,
+                                         @RequestParam(required = false) BigDecimal precoMax,
+                                         @RequestParam(defaultValue = "false") boolean disponivel,
+                                         @RequestParam(defaultValue = "RELEVANCE") CatalogQuery.Sort sort,
+                                         @RequestParam(defaultValue = "0") int offset,
+                                         @RequestParam(defaultValue = "20") int limit,
+                                         HttpServletRequest request) {
+        CatalogQuery query = new CatalogQuery(text, tipo, categoria, owner, tags, attributes(atributo), precoMin,
+            precoMax, disponivel, sort, offset, Math.min(limit, 100));
+        return responseCache.get(request, CatalogVersionUpdater.AGGREGATE,
+            () -> searchIndex.search(TenantContextHolder.requireTenantId(), query));
+    }
+
+    private static Map<String, String> attributes(List<String> filters) {
+        if (filters == null) {
+            return Map.of();
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String filter : filters) {
+            int separator = filter.indexOf(':');
+            if (separator <= 0 || separator == filter.length() - 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Attribute filter '%s' must be key:value.".formatted(filter));
+            }
+            attributes.put(filter.substring(0, separator), filter.substring(separator + 1));
+        }
+        return attributes;
+    }
+}
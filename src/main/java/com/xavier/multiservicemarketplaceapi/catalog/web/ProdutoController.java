@@ -0,0 +1,45 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRow;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.httpcache.CatalogVersionUpdater;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.listing.ProdutoListService;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.TenantResponseCache;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorPage;
+
+/**
+ * Product list of the current tenant, straight from the database; {@code /api/catalog/search} is the one to use for
+ * text and facets. Pages are tagged with the tenant's catalog version and revalidated with {@code If-None-Match}.
+ */
+@RestController
+@RequestMapping("/api/catalog/produtos")
+public class ProdutoController {
+
+    private final ProdutoListService produtoListService;
+    private final TenantResponseCache responseCache;
+
+    public ProdutoController(ProdutoListService produtoListService, TenantResponseCache responseCache) {
+        this.produtoListService = produtoListService;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @param cursor the {@code nextCursor} of the previous page; omitted for the first one
+     * @param limit  capped at {@value ProdutoListService#MAX_LIMIT}
+     * @return a {@link CursorPage} of {@link ProdutoRow}s
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> list(@RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "20") int limit,
+                                       HttpServletRequest request) {
+        return responseCache.get(request, CatalogVersionUpdater.AGGREGATE,
+            () -> produtoListService.page(cursor, limit));
+    }
+}
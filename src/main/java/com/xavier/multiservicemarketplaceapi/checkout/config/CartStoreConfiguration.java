@@ -0,0 +1,35 @@
+package com.xavier.multiservicemarketplaceapi.checkout.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart.CartItemStore;
+import com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart.JdbcCartItemStore;
+import com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart.WriteBehindCartStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exposes the {@link com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartStore}, backed by
+ * {@code cart_items}. Pending cart changes are written on shutdown.
+ */
+@Configuration
+public class CartStoreConfiguration {
+
+    @Bean
+    CartItemStore cartItemStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        return new JdbcCartItemStore(jdbcTemplate, transactionManager);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    WriteBehindCartStore cartStore(CartItemStore cartItemStore, CheckoutProperties properties,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        CheckoutProperties.Cart cart = properties.getCart();
+        return new WriteBehindCartStore(cartItemStore, cart.getMaximumSize(), cart.getIdleTimeout(),
+            cart.getFlushInterval(), cart.getFlushBatchSize(), cart.getMaxDirty(), cart.getBacklogWait(),
+            meterRegistry.getIfAvailable());
+    }
+}
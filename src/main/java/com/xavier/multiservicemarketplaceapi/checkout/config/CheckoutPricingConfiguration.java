@@ -0,0 +1,19 @@
+package com.xavier.multiservicemarketplaceapi.checkout.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.pricing.CartPricingEngine;
+
+/**
+ * Exposes the {@link CartPricingEngine}; it caches each tenant's compiled pricing rules, so there must be one per
+ * application.
+ */
+@Configuration
+public class CheckoutPricingConfiguration {
+
+    @Bean
+    CartPricingEngine cartPricingEngine() {
+        return new CartPricingEngine();
+    }
+}
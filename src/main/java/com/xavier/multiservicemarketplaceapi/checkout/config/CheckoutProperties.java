@@ -0,0 +1,79 @@
+package com.xavier.multiservicemarketplaceapi.checkout.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "checkout")
+public class CheckoutProperties {
+
+    private Cart cart = new Cart();
+
+    public Cart getCart() {
+        return cart;
+    }
+
+    public void setCart(Cart cart) {
+        this.cart = cart;
+    }
+
+    /**
+     * The write-behind cart store: how many carts stay in memory and how their changes reach {@code cart_items}.
+     */
+    public static class Cart {
+        private long maximumSize = 100_000;
+        private Duration idleTimeout = Duration.ofMinutes(30);
+        private Duration flushInterval = Duration.ofMillis(200);
+        private int flushBatchSize = 500;
+        private int maxDirty = 20_000;
+        private Duration backlogWait = Duration.ofSeconds(1);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public int getFlushBatchSize() {
+            return flushBatchSize;
+        }
+
+        public void setFlushBatchSize(int flushBatchSize) {
+            this.flushBatchSize = flushBatchSize;
+        }
+
+        public int getMaxDirty() {
+            return maxDirty;
+        }
+
+        public void setMaxDirty(int maxDirty) {
+            this.maxDirty = maxDirty;
+        }
+
+        public Duration getBacklogWait() {
+            return backlogWait;
+        }
+
+        public void setBacklogWait(Duration backlogWait) {
+            this.backlogWait = backlogWait;
+        }
+    }
+}
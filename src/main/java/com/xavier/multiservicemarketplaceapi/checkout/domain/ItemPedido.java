@@ -0,0 +1,114 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * One line of a {@link Pedido}: a product ({@code merchantId} set) or a service ({@code prestadorId} set), with the
+ * name and unit price copied from the catalog at checkout.
+ */
+@Entity
+@Table(name = "itens_pedido",
+    indexes = @Index(name = "idx_itens_pedido_pedido", columnList = "tenant_id, pedido_id"))
+public class ItemPedido extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "pedido_id", nullable = false)
+    private UUID pedidoId;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(name = "ref_id", nullable = false)
+    private UUID refId;
+
+    @Column(nullable = false)
+    private int quantidade;
+
+    @Column(name = "preco_unitario", nullable = false, precision = 14, scale = 2)
+    private BigDecimal precoUnitario;
+
+    @Column(name = "nome_snapshot", nullable = false)
+    private String nomeSnapshot;
+
+    @Column(name = "merchant_id")
+    private UUID merchantId;
+
+    @Column(name = "prestador_id")
+    private UUID prestadorId;
+
+    @Column(name = "total_linha", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalLinha;
+
+    protected ItemPedido() {
+    }
+
+    public ItemPedido(UUID id, UUID tenantId, UUID pedidoId, String tipo, UUID refId, int quantidade,
+                      BigDecimal precoUnitario, String nomeSnapshot, UUID merchantId, UUID prestadorId,
+                      BigDecimal totalLinha) {
+        super(tenantId);
+        this.id = id;
+        this.pedidoId = pedidoId;
+        this.tipo = tipo;
+        this.refId = refId;
+        this.quantidade = quantidade;
+        this.precoUnitario = precoUnitario;
+        this.nomeSnapshot = nomeSnapshot;
+        this.merchantId = merchantId;
+        this.prestadorId = prestadorId;
+        this.totalLinha = totalLinha;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getPedidoId() {
+        return pedidoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public UUID getRefId() {
+        return refId;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getPrecoUnitario() {
+        return precoUnitario;
+    }
+
+    public String getNomeSnapshot() {
+        return nomeSnapshot;
+    }
+
+    public UUID getMerchantId() {
+        return merchantId;
+    }
+
+    public UUID getPrestadorId() {
+        return prestadorId;
+    }
+
+    public BigDecimal getTotalLinha() {
+        return totalLinha;
+    }
+}
@@ -0,0 +1,17 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.repository.Repository;
+
+public interface ItemPedidoRepository extends Repository<ItemPedido, UUID> {
+
+    ItemPedido save(ItemPedido item);
+
+    /**
+     * The lines of several pedidos of one tenant, in one query.
+     */
+    List<ItemPedido> findByTenantIdAndPedidoIdInOrderById(UUID tenantId, Collection<UUID> pedidoIds);
+}
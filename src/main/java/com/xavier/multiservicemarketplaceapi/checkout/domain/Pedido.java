@@ -0,0 +1,132 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValueConverter;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * Order placed by a cliente. Amounts are in the tenant's currency; {@code enderecoEntregaSnapshot} is the delivery
+ * address as it was at checkout (JSON object).
+ */
+@Entity
+@Table(name = "pedidos",
+    indexes = {
+        @Index(name = "idx_pedidos_tenant_criado", columnList = "tenant_id, criado_em, id"),
+        @Index(name = "idx_pedidos_tenant_cliente", columnList = "tenant_id, cliente_id, criado_em"),
+        @Index(name = "idx_pedidos_tenant_status", columnList = "tenant_id, status, criado_em")
+    })
+public class Pedido extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "cliente_id", nullable = false)
+    private UUID clienteId;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal total;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusPedido status;
+
+    @Column(nullable = false, length = 20)
+    private String origem;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.ObjectMap.class)
+    @Column(name = "endereco_entrega_snapshot")
+    private JsonValue<Map<String, Object>> enderecoEntregaSnapshot;
+
+    @Column(name = "metodo_pagamento", length = 50)
+    private String metodoPagamento;
+
+    @Column(name = "estado_pagamento", length = 30)
+    private String estadoPagamento;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    protected Pedido() {
+    }
+
+    public Pedido(UUID id, UUID tenantId, UUID clienteId, BigDecimal subtotal, BigDecimal total, StatusPedido status,
+                  String origem, String enderecoEntregaSnapshot, String metodoPagamento, String estadoPagamento,
+                  Instant criadoEm) {
+        super(tenantId);
+        this.id = id;
+        this.clienteId = clienteId;
+        this.subtotal = subtotal;
+        this.total = total;
+        this.status = status;
+        this.origem = origem;
+        this.enderecoEntregaSnapshot = JsonValue.ofJson(enderecoEntregaSnapshot, JsonCodec.OBJECT_MAP);
+        this.metodoPagamento = metodoPagamento;
+        this.estadoPagamento = estadoPagamento;
+        this.criadoEm = criadoEm;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getClienteId() {
+        return clienteId;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public String getOrigem() {
+        return origem;
+    }
+
+    public JsonValue<Map<String, Object>> getEnderecoEntregaSnapshot() {
+        return enderecoEntregaSnapshot;
+    }
+
+    public String getMetodoPagamento() {
+        return metodoPagamento;
+    }
+
+    public String getEstadoPagamento() {
+        return estadoPagamento;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
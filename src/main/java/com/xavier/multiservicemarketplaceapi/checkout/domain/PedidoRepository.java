@@ -0,0 +1,39 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+public interface PedidoRepository extends Repository<Pedido, UUID> {
+
+    Pedido save(Pedido pedido);
+
+    /**
+     * The tenant's most recent pedidos, newest first. Ordering on {@code tenantId} too changes nothing on PostgreSQL
+     * but lets H2 read the page in index order instead of sorting the tenant's rows.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRow(
+            p.id, p.clienteId, p.status, p.total, p.criadoEm)
+        from Pedido p
+        where p.tenantId = :tenantId
+        order by p.tenantId desc, p.criadoEm desc, p.id desc""")
+    List<PedidoRow> findNewest(UUID tenantId, Limit limit);
+
+    /**
+     * The pedidos that follow {@code (criadoEm, id)} in {@link #findNewest} order. The row-value comparison is an index
+     * range on {@code idx_pedidos_tenant_criado}; the separate bound on {@code criadoEm} lets planners without
+     * row-value range scans seek too.
+     */
+    @Query("""
+        select new com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRow(
+            p.id, p.clienteId, p.status, p.total, p.criadoEm)
+        from Pedido p
+        where p.tenantId = :tenantId and p.criadoEm <= :criadoEm and (p.criadoEm, p.id) < (:criadoEm, :id)
+        order by p.tenantId desc, p.criadoEm desc, p.id desc""")
+    List<PedidoRow> findNewestAfter(UUID tenantId, Instant criadoEm, UUID id, Limit limit);
+}
@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The columns of a {@link Pedido} a list shows, read without loading the entity and its JSON snapshot.
+ */
+public record PedidoRow(UUID id, UUID clienteId, StatusPedido status, BigDecimal total, Instant criadoEm) {
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain;
+
+/**
+ * Lifecycle of a pedido ({@code pedidos.status}).
+ */
+public enum StatusPedido {
+    PENDENTE,
+    PAGO,
+    ENVIADO,
+    CONCLUIDO,
+    CANCELADO,
+    REEMBOLSADO
+}
@@ -0,0 +1,82 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.cart;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * One line of a cliente's cart: a produto or servico ({@code tipo} + {@code refId}) and the unit price shown when it
+ * was added. Rows are written by the {@link CartStore}, which replaces a cart's rows as a whole.
+ */
+@Entity
+@Table(name = "cart_items",
+    uniqueConstraints = @UniqueConstraint(name = "uk_cart_items_linha",
+        columnNames = {"tenant_id", "cliente_id", "tipo", "ref_id"}))
+public class CartItem extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "cliente_id", nullable = false)
+    private UUID clienteId;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(name = "ref_id", nullable = false)
+    private UUID refId;
+
+    @Column(nullable = false)
+    private int quantidade;
+
+    @Column(name = "preco_unitario", nullable = false, precision = 14, scale = 2)
+    private BigDecimal precoUnitario;
+
+    protected CartItem() {
+    }
+
+    public CartItem(UUID id, UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade,
+                    BigDecimal precoUnitario) {
+        super(tenantId);
+        this.id = id;
+        this.clienteId = clienteId;
+        this.tipo = tipo;
+        this.refId = refId;
+        this.quantidade = quantidade;
+        this.precoUnitario = precoUnitario;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getClienteId() {
+        return clienteId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public UUID getRefId() {
+        return refId;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getPrecoUnitario() {
+        return precoUnitario;
+    }
+}
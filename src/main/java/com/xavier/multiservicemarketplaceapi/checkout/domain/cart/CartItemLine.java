@@ -0,0 +1,20 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.cart;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One line of a {@link CartSnapshot}.
+ */
+public record CartItemLine(String tipo, UUID refId, int quantidade, BigDecimal precoUnitario) {
+
+    public CartItemLine {
+        Objects.requireNonNull(tipo, "tipo");
+        Objects.requireNonNull(refId, "refId");
+        Objects.requireNonNull(precoUnitario, "precoUnitario");
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive, got " + quantidade);
+        }
+    }
+}
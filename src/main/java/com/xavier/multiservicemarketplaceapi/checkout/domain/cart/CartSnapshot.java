@@ -0,0 +1,19 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.cart;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A cliente's cart at one point in time, lines in the order they were first added. {@code version} counts the changes
+ * since the cart was loaded, so two snapshots taken from the same store can be told apart without comparing lines.
+ */
+public record CartSnapshot(UUID tenantId, UUID clienteId, List<CartItemLine> items, long version) {
+
+    public CartSnapshot {
+        items = List.copyOf(items);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
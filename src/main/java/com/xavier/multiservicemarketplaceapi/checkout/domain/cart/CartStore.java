@@ -0,0 +1,33 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.cart;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The carts of a tenant's clientes. Cart edits are far more frequent than checkouts, so implementations may persist
+ * them asynchronously; {@link #checkout} is the point where a cart must be durable.
+ */
+public interface CartStore {
+
+    CartSnapshot get(UUID tenantId, UUID clienteId);
+
+    /**
+     * Adds {@code quantidade} units of an item, or more units to a line already in the cart; the line takes the new
+     * unit price.
+     */
+    CartSnapshot add(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade, BigDecimal precoUnitario);
+
+    /**
+     * Sets a line's quantity; zero or less removes it. A no-op for an item not in the cart.
+     */
+    CartSnapshot updateQuantity(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade);
+
+    CartSnapshot remove(UUID tenantId, UUID clienteId, String tipo, UUID refId);
+
+    CartSnapshot clear(UUID tenantId, UUID clienteId);
+
+    /**
+     * The cart as checkout must see it: every change made so far is written to {@code cart_items} before this returns.
+     */
+    CartSnapshot checkout(UUID tenantId, UUID clienteId);
+}
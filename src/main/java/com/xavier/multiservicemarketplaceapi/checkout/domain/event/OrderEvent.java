@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxEvent;
+
+/**
+ * Domain events published by the Checkout module over the lifecycle of a pedido.
+ */
+public sealed interface OrderEvent extends OutboxEvent permits OrderPlacedEvent, OrderStatusChangedEvent {
+
+    UUID tenantId();
+
+    UUID pedidoId();
+
+    Instant occurredAt();
+
+    @Override
+    default String orderingKey() {
+        return pedidoId().toString();
+    }
+}
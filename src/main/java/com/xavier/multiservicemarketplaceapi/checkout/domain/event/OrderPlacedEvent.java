@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * A pedido was created in {@link com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido#PENDENTE}.
+ */
+public record OrderPlacedEvent(UUID tenantId, UUID pedidoId, UUID clienteId, Money total, Instant occurredAt)
+    implements OrderEvent {
+}
@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+public record OrderStatusChangedEvent(UUID tenantId, UUID pedidoId, StatusPedido previousStatus, StatusPedido status,
+                                      Money total, Instant occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,14 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A cliente's cart as submitted for pricing, with the coupon code typed at checkout if any.
+ */
+public record Cart(UUID clienteId, List<CartLine> lines, String couponCode) {
+
+    public Cart {
+        lines = List.copyOf(lines);
+    }
+}
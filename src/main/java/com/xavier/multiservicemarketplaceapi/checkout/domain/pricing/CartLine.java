@@ -0,0 +1,20 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * One {@code cart_items} row: the produto or servico ({@code refId}), who sells it (merchant or prestador) and the
+ * unit price to charge.
+ */
+public record CartLine(UUID refId, UUID sellerId, int quantity, Money unitPrice) {
+
+    public CartLine {
+        Objects.requireNonNull(unitPrice, "unitPrice");
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive, got " + quantity);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * Result of pricing a cart, ready to become a {@code pedidos} row with its {@code itens_pedido}.
+ * {@code appliedCoupon} is {@code null} when no coupon was given or it did not apply.
+ */
+public record CartPricing(UUID clienteId, Money subtotal, Money discount, Money tax, Money total,
+                          String appliedCoupon, List<LinePricing> lines, List<SellerShare> split) {
+}
@@ -0,0 +1,186 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.FixedPoint;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.CheckoutConfig;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+/**
+ * Prices carts for a tenant: subtotal, coupon, tax and the payment split between sellers and the platform.
+ * <p>
+ * All arithmetic runs on {@code long} minor units with the tenant's {@link PricingRules}, compiled once per
+ * {@code config_checkout} and cached by tenant. Results match the same computation done with {@link java.math.BigDecimal}
+ * exactly:
+ * <ol>
+ * <li>line total = unit price &times; quantity; subtotal = sum of line totals</li>
+ * <li>discount = coupon percentage of the subtotal (rounded) or its fixed amount, never above the subtotal; it is
+ * spread over the lines pro rata, leftover minor units going to the largest remainders</li>
+ * <li>tax = tax rate &times; (subtotal - discount), rounded; with {@code taxIncluded} the tax is the part of the net
+ * amount that is tax and the total does not change</li>
+ * <li>per seller, platform fee = fee rate &times; its net line amounts (rounded); payout = net - fee</li>
+ * </ol>
+ * Every rounding uses the tenant's rounding mode.
+ */
+public class CartPricingEngine {
+
+    private final ConcurrentHashMap<UUID, CompiledRules> compiledRules = new ConcurrentHashMap<>();
+
+    public CartPricing price(TenantContext tenant, Cart cart) {
+        return price(rulesFor(tenant), cart, new Scratch());
+    }
+
+    /**
+     * Prices many carts of one tenant in a single pass, e.g. to re-price every open cart after a price change. The
+     * rules are resolved once and working buffers are shared across carts.
+     */
+    public List<CartPricing> priceAll(TenantContext tenant, List<Cart> carts) {
+        PricingRules rules = rulesFor(tenant);
+        Scratch scratch = new Scratch();
+        List<CartPricing> priced = new ArrayList<>(carts.size());
+        for (Cart cart : carts) {
+            priced.add(price(rules, cart, scratch));
+        }
+        return priced;
+    }
+
+    /**
+     * Compiled rules of {@code tenant}, recompiled only when its checkout configuration or currency changes.
+     */
+    public PricingRules rulesFor(TenantContext tenant) {
+        CompiledRules compiled = compiledRules.get(tenant.tenantId());
+        if (compiled != null && compiled.config == tenant.checkoutConfig()
+            && compiled.currency.equals(tenant.currency())) {
+            return compiled.rules;
+        }
+        PricingRules rules = PricingRules.compile(tenant.checkoutConfig(), Currency.getInstance(tenant.currency()));
+        compiledRules.put(tenant.tenantId(), new CompiledRules(tenant.checkoutConfig(), tenant.currency(), rules));
+        return rules;
+    }
+
+    static CartPricing price(PricingRules rules, Cart cart, Scratch scratch) {
+        Currency currency = rules.currency();
+        List<CartLine> lines = cart.lines();
+        int count = lines.size();
+        scratch.ensureCapacity(count);
+        long[] totals = scratch.totals;
+
+        long subtotal = 0;
+        for (int i = 0; i < count; i++) {
+            CartLine line = lines.get(i);
+            if (!line.unitPrice().currency().equals(currency)) {
+                throw new IllegalArgumentException("Cart line priced in " + line.unitPrice().currency()
+                    + " but the tenant sells in " + currency);
+            }
+            totals[i] = Math.multiplyExact(line.unitPrice().amount(), line.quantity());
+            subtotal = Math.addExact(subtotal, totals[i]);
+        }
+
+        CouponRule coupon = rules.coupon(cart.couponCode());
+        long discount = coupon != null ? coupon.discountFor(subtotal, rules) : 0;
+        long[] discounts = scratch.discounts;
+        allocate(discount, totals, count, subtotal, discounts, scratch.remainders);
+
+        long net = subtotal - discount;
+        long tax = rules.taxIncluded()
+            ? rules.taxRate().includedIn(net, rules.roundingMode())
+            : rules.taxRate().applyTo(net, rules.roundingMode());
+        long total = rules.taxIncluded() ? net : Math.addExact(net, tax);
+
+        List<LinePricing> linePricings = new ArrayList<>(count);
+        List<UUID> sellers = new ArrayList<>(4);
+        long[] sellerGross = scratch.sellerGross;
+        for (int i = 0; i < count; i++) {
+            CartLine line = lines.get(i);
+            long lineNet = totals[i] - discounts[i];
+            linePricings.add(new LinePricing(line, Money.ofMinor(totals[i], currency),
+                Money.ofMinor(discounts[i], currency), Money.ofMinor(lineNet, currency)));
+            int seller = sellers.indexOf(line.sellerId());
+            if (seller < 0) {
+                seller = sellers.size();
+                sellers.add(line.sellerId());
+                sellerGross[seller] = 0;
+            }
+            sellerGross[seller] += lineNet;
+        }
+
+        List<SellerShare> split = new ArrayList<>(sellers.size());
+        for (int s = 0; s < sellers.size(); s++) {
+            long fee = rules.platformFeeRate().applyTo(sellerGross[s], rules.roundingMode());
+            split.add(new SellerShare(sellers.get(s), Money.ofMinor(sellerGross[s], currency),
+                Money.ofMinor(fee, currency), Money.ofMinor(sellerGross[s] - fee, currency)));
+        }
+
+        return new CartPricing(cart.clienteId(), Money.ofMinor(subtotal, currency), Money.ofMinor(discount, currency),
+            Money.ofMinor(tax, currency), Money.ofMinor(total, currency), discount > 0 ? coupon.code() : null,
+            linePricings, split);
+    }
+
+    /**
+     * Largest-remainder apportionment of {@code discount} over the line totals: the shares add up to the discount
+     * exactly and each is within one minor unit of its pro-rata value.
+     */
+    static void allocate(long discount, long[] totals, int count, long subtotal, long[] shares, long[] remainders) {
+        if (discount == 0) {
+            Arrays.fill(shares, 0, count, 0);
+            return;
+        }
+        long allocated = 0;
+        for (int i = 0; i < count; i++) {
+            shares[i] = FixedPoint.mulDiv(discount, totals[i], subtotal, RoundingMode.FLOOR);
+            remainders[i] = mulMod(discount, totals[i], subtotal);
+            allocated += shares[i];
+        }
+        for (long leftover = discount - allocated; leftover > 0; leftover--) {
+            int largest = 0;
+            for (int i = 1; i < count; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            shares[largest]++;
+            remainders[largest] = -1;
+        }
+    }
+
+    private static long mulMod(long a, long b, long modulus) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if (high == 0 && low >= 0) {
+            return low % modulus;
+        }
+        return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(modulus)).longValue();
+    }
+
+    /**
+     * Per-call working arrays, grown on demand and reused across the carts of a batch.
+     */
+    static final class Scratch {
+
+        private long[] totals = new long[16];
+        private long[] discounts = new long[16];
+        private long[] remainders = new long[16];
+        private long[] sellerGross = new long[16];
+
+        void ensureCapacity(int lines) {
+            if (totals.length < lines) {
+                int size = Math.max(lines, totals.length * 2);
+                totals = new long[size];
+                discounts = new long[size];
+                remainders = new long[size];
+                sellerGross = new long[size];
+            }
+        }
+    }
+
+    private record CompiledRules(CheckoutConfig config, String currency, PricingRules rules) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Rate;
+
+/**
+ * A coupon from {@code config_checkout.coupons}: a percentage of the subtotal or a fixed amount (in minor units,
+ * capped at the subtotal), valid from {@code minSubtotal}.
+ */
+public record CouponRule(String code, Rate percentage, long fixedAmount, long minSubtotal) {
+
+    long discountFor(long subtotal, PricingRules rules) {
+        if (subtotal < minSubtotal) {
+            return 0;
+        }
+        long discount = percentage != null ? percentage.applyTo(subtotal, rules.roundingMode()) : fixedAmount;
+        return Math.min(discount, subtotal);
+    }
+}
@@ -0,0 +1,10 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * Priced cart line ({@code itens_pedido}): {@code total} before the coupon, the share of the coupon discount
+ * allocated to the line and the resulting {@code net}.
+ */
+public record LinePricing(CartLine line, Money total, Money discount, Money net) {
+}
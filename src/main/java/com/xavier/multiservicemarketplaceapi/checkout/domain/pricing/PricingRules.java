@@ -0,0 +1,126 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Rate;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.CheckoutConfig;
+
+/**
+ * A tenant's {@code config_checkout} compiled into fixed-point form once, so pricing a cart never parses JSON values
+ * or builds {@link BigDecimal}s.
+ * <p>
+ * Recognised keys: {@code taxRate} (e.g. {@code 0.16}), {@code taxIncluded}, {@code platformFeeRate},
+ * {@code roundingMode} (a {@link RoundingMode} name, {@code HALF_UP} by default) and {@code coupons}, a map from code
+ * to {@code {"percent": 10}} or {@code {"amount": 5.00}}, optionally with {@code "minSubtotal"}.
+ */
+public final class PricingRules {
+
+    public static final String TAX_RATE = "taxRate";
+    public static final String TAX_INCLUDED = "taxIncluded";
+    public static final String PLATFORM_FEE_RATE = "platformFeeRate";
+    public static final String ROUNDING_MODE = "roundingMode";
+    public static final String COUPONS = "coupons";
+
+    private final Currency currency;
+    private final RoundingMode roundingMode;
+    private final Rate taxRate;
+    private final boolean taxIncluded;
+    private final Rate platformFeeRate;
+    private final Map<String, CouponRule> coupons;
+
+    private PricingRules(Currency currency, RoundingMode roundingMode, Rate taxRate, boolean taxIncluded,
+                         Rate platformFeeRate, Map<String, CouponRule> coupons) {
+        this.currency = currency;
+        this.roundingMode = roundingMode;
+        this.taxRate = taxRate;
+        this.taxIncluded = taxIncluded;
+        this.platformFeeRate = platformFeeRate;
+        this.coupons = coupons;
+    }
+
+    /**
+     * @throws IllegalArgumentException when a recognised key holds a value that cannot be used for pricing
+     */
+    public static PricingRules compile(CheckoutConfig config, Currency currency) {
+        try {
+            RoundingMode roundingMode = config.text(ROUNDING_MODE)
+                .map(mode -> RoundingMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                .orElse(RoundingMode.HALF_UP);
+            if (roundingMode == RoundingMode.UNNECESSARY) {
+                throw new IllegalArgumentException("UNNECESSARY is not a usable rounding mode");
+            }
+            Rate taxRate = config.decimal(TAX_RATE).map(Rate::of).orElse(Rate.ZERO);
+            Rate platformFeeRate = config.decimal(PLATFORM_FEE_RATE).map(Rate::of).orElse(Rate.ZERO);
+            return new PricingRules(currency, roundingMode, taxRate, config.flag(TAX_INCLUDED), platformFeeRate,
+                coupons(config, currency));
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid config_checkout: " + ex.getMessage(), ex);
+        }
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    public RoundingMode roundingMode() {
+        return roundingMode;
+    }
+
+    public Rate taxRate() {
+        return taxRate;
+    }
+
+    public boolean taxIncluded() {
+        return taxIncluded;
+    }
+
+    public Rate platformFeeRate() {
+        return platformFeeRate;
+    }
+
+    public CouponRule coupon(String code) {
+        return code != null ? coupons.get(normalize(code)) : null;
+    }
+
+    private static Map<String, CouponRule> coupons(CheckoutConfig config, Currency currency) {
+        Object value = config.value(COUPONS).orElse(null);
+        if (value == null) {
+            return Map.of();
+        }
+        if (!(value instanceof Map<?, ?> entries)) {
+            throw new IllegalArgumentException(COUPONS + " must be an object");
+        }
+        Map<String, CouponRule> coupons = new HashMap<>();
+        entries.forEach((code, definition) -> {
+            if (!(definition instanceof Map<?, ?> rule)) {
+                throw new IllegalArgumentException("coupon " + code + " must be an object");
+            }
+            Object percent = rule.get("percent");
+            Object amount = rule.get("amount");
+            if ((percent == null) == (amount == null)) {
+                throw new IllegalArgumentException("coupon " + code + " needs exactly one of percent or amount");
+            }
+            Object minSubtotal = rule.get("minSubtotal");
+            String normalized = normalize(code.toString());
+            coupons.put(normalized, new CouponRule(normalized,
+                percent != null ? Rate.percent(decimal(percent)) : null,
+                amount != null ? Money.of(decimal(amount), currency).amount() : 0,
+                minSubtotal != null ? Money.of(decimal(minSubtotal), currency).amount() : 0));
+        });
+        return Map.copyOf(coupons);
+    }
+
+    private static BigDecimal decimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
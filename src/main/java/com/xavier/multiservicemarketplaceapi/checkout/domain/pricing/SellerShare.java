@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * Payment split for one merchant or prestador: its net sales in the cart, the platform fee withheld and the payout.
+ */
+public record SellerShare(UUID sellerId, Money gross, Money platformFee, Money payout) {
+}
@@ -0,0 +1,16 @@
+package com.xavier.multiservicemarketplaceapi.checkout.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Raised when too many carts wait to be written and the backlog did not drain in time; the client should retry
+ * shortly.
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "Too many cart changes pending; retry shortly.")
+public class CartBacklogFullException extends RuntimeException {
+
+    public CartBacklogFullException(int pending) {
+        super("Cart write-back backlog is full (%d carts pending).".formatted(pending));
+    }
+}
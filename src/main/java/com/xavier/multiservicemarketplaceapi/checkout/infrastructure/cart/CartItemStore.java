@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+
+/**
+ * Durable side of the {@link WriteBehindCartStore}: where carts are loaded from and written back to.
+ */
+public interface CartItemStore {
+
+    /**
+     * The cart's lines, in the order they were first added.
+     */
+    List<CartItemLine> load(UUID tenantId, UUID clienteId);
+
+    /**
+     * Replaces the rows of each cart with its lines, all in one transaction.
+     */
+    void replace(List<CartSnapshot> carts);
+}
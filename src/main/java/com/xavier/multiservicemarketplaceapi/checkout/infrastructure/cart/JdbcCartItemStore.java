@@ -0,0 +1,72 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuids;
+
+/**
+ * {@link CartItemStore} on {@code cart_items}. A write is two JDBC batches in one transaction whatever the number of
+ * carts: one delete per cart, then one insert per line. Row ids are time-ordered, so reading a cart back by id
+ * returns its lines in the order they were written.
+ */
+public class JdbcCartItemStore implements CartItemStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcCartItemStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<CartItemLine> load(UUID tenantId, UUID clienteId) {
+        return jdbcTemplate.query("""
+                SELECT tipo, ref_id, quantidade, preco_unitario FROM cart_items
+                WHERE tenant_id = ? AND cliente_id = ?
+                ORDER BY id""",
+            (rs, rowNum) -> new CartItemLine(rs.getString("tipo"), rs.getObject("ref_id", UUID.class),
+                rs.getInt("quantidade"), rs.getBigDecimal("preco_unitario")),
+            tenantId, clienteId);
+    }
+
+    @Override
+    public void replace(List<CartSnapshot> carts) {
+        List<Row> rows = new ArrayList<>();
+        for (CartSnapshot cart : carts) {
+            for (CartItemLine item : cart.items()) {
+                rows.add(new Row(TimeOrderedUuids.next(), cart, item));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("DELETE FROM cart_items WHERE tenant_id = ? AND cliente_id = ?",
+                carts, carts.size(), (ps, cart) -> {
+                    ps.setObject(1, cart.tenantId());
+                    ps.setObject(2, cart.clienteId());
+                });
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO cart_items (id, tenant_id, cliente_id, tipo, ref_id, quantidade, preco_unitario)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)""",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setObject(1, row.id());
+                    ps.setObject(2, row.cart().tenantId());
+                    ps.setObject(3, row.cart().clienteId());
+                    ps.setString(4, row.item().tipo());
+                    ps.setObject(5, row.item().refId());
+                    ps.setInt(6, row.item().quantidade());
+                    ps.setBigDecimal(7, row.item().precoUnitario());
+                });
+        });
+    }
+
+    private record Row(UUID id, CartSnapshot cart, CartItemLine item) {
+    }
+}
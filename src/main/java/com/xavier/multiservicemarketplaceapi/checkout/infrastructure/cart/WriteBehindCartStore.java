@@ -0,0 +1,423 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartStore;
+import com.xavier.multiservicemarketplaceapi.checkout.exception.CartBacklogFullException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+/**
+ * Carts held in memory, per tenant and cliente, and written back to {@code cart_items} in batches.
+ * <p>
+ * A cart is loaded on first use and kept in a bounded cache that drops carts idle for {@code idleTimeout}. Edits
+ * change the in-memory cart only and mark it dirty; a single flusher writes the latest state of up to
+ * {@code flushBatchSize} dirty carts per transaction every {@code flushInterval}, so ten edits of a cart between two
+ * flushes cost one write. {@link #checkout} writes its cart right away. A dirty cart is never lost to eviction: it
+ * stays reachable from the dirty set, and is served from there, until its last change is written.
+ * <p>
+ * When {@code maxDirty} carts wait, an edit that would add another wakes the flusher and waits up to
+ * {@code backlogWait} for room, then fails with {@link CartBacklogFullException} (503); write failures never reach
+ * the editing caller. A batch the database rejects ({@link DataIntegrityViolationException}) is written again one
+ * cart at a time; each cart still rejected stays dirty and in memory, but is skipped for an exponentially growing
+ * delay so it cannot hold back the others.
+ * <p>
+ * {@link #close()} writes every pending change, so a restart reloads carts as they were left. A crash loses at most
+ * the edits of the last flush interval. The store assumes it is the only writer of {@code cart_items}, i.e. one
+ * instance owns a cliente's cart at a time.
+ */
+public class WriteBehindCartStore implements CartStore, AutoCloseable {
+
+    static final String CACHE_NAME = "carts";
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCartStore.class);
+    private static final long MAX_RETRY_DELAY_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final CartItemStore store;
+    private final Duration flushInterval;
+    private final int flushBatchSize;
+    private final int maxDirty;
+    private final long backlogWaitNanos;
+    private final Cache<CartKey, CartState> carts;
+    private final Map<CartKey, CartState> dirty = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Object backlogDrained = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Timer flushTimer;
+    private ScheduledExecutorService scheduler;
+
+    public WriteBehindCartStore(CartItemStore store, long maximumSize, Duration idleTimeout, Duration flushInterval,
+                                int flushBatchSize, int maxDirty, Duration backlogWait, MeterRegistry meterRegistry) {
+        if (flushBatchSize < 1 || maxDirty < 1) {
+            throw new IllegalArgumentException("flushBatchSize and maxDirty must be positive");
+        }
+        this.store = store;
+        this.flushInterval = flushInterval;
+        this.flushBatchSize = flushBatchSize;
+        this.maxDirty = maxDirty;
+        this.backlogWaitNanos = backlogWait.toNanos();
+        Caffeine<CartKey, CartState> builder = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(idleTimeout)
+            .evictionListener((CartKey key, CartState cart, RemovalCause cause) -> cart.retire());
+        if (meterRegistry != null) {
+            CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+            this.carts = builder.recordStats(() -> statsCounter).build();
+            statsCounter.registerSizeMetric(carts);
+            Gauge.builder("checkout.cart.dirty", dirty, Map::size).register(meterRegistry);
+            this.flushTimer = Timer.builder("checkout.cart.flush").register(meterRegistry);
+        } else {
+            this.carts = builder.build();
+            this.flushTimer = null;
+        }
+    }
+
+    /**
+     * Starts the background flusher.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cart-flusher").daemon(true).factory());
+        long flushMillis = Math.max(1, flushInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CartSnapshot get(UUID tenantId, UUID clienteId) {
+        return edit(tenantId, clienteId, null);
+    }
+
+    @Override
+    public CartSnapshot add(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade,
+                            BigDecimal precoUnitario) {
+        CartItemLine added = new CartItemLine(tipo, refId, quantidade, precoUnitario);
+        return edit(tenantId, clienteId, line -> line == null ? added : new CartItemLine(tipo, refId,
+            Math.addExact(line.quantidade(), quantidade), precoUnitario), new ItemKey(tipo, refId));
+    }
+
+    @Override
+    public CartSnapshot updateQuantity(UUID tenantId, UUID clienteId, String tipo, UUID refId, int quantidade) {
+        return edit(tenantId, clienteId, line -> line == null || quantidade <= 0 ? null
+            : new CartItemLine(tipo, refId, quantidade, line.precoUnitario()), new ItemKey(tipo, refId));
+    }
+
+    @Override
+    public CartSnapshot remove(UUID tenantId, UUID clienteId, String tipo, UUID refId) {
+        return edit(tenantId, clienteId, line -> null, new ItemKey(tipo, refId));
+    }
+
+    @Override
+    public CartSnapshot clear(UUID tenantId, UUID clienteId) {
+        return edit(tenantId, clienteId, Map::clear);
+    }
+
+    /**
+     * Returns the state written, even when the cliente keeps editing meanwhile; those edits wait for the next flush.
+     */
+    @Override
+    public CartSnapshot checkout(UUID tenantId, UUID clienteId) {
+        CartKey key = new CartKey(tenantId, clienteId);
+        flushLock.lock();
+        try {
+            while (true) {
+                CartState cart = carts.get(key, this::load);
+                synchronized (cart) {
+                    if (cart.retired) {
+                        continue;
+                    }
+                    if (dirty.get(key) != cart) {
+                        return cart.snapshot();
+                    }
+                }
+                return write(List.of(cart)).get(0);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the latest state of up to {@code flushBatchSize} dirty carts not waiting out a rejection, in one
+     * transaction.
+     *
+     * @return number of carts written or rejected
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            long now = System.nanoTime();
+            List<CartState> batch = new ArrayList<>(Math.min(flushBatchSize, dirty.size()));
+            Iterator<CartState> pending = dirty.values().iterator();
+            while (batch.size() < flushBatchSize && pending.hasNext()) {
+                CartState cart = pending.next();
+                if (cart.failures == 0 || now - cart.retryAt >= 0) {
+                    batch.add(cart);
+                }
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    write(batch);
+                } catch (DataIntegrityViolationException ex) {
+                    writeOneByOne(batch, ex);
+                }
+            }
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Carts with changes not written yet.
+     */
+    public int dirtyCount() {
+        return dirty.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        while (!dirty.isEmpty()) {
+            if (flush() == 0) {
+                break;
+            }
+        }
+        if (!dirty.isEmpty()) {
+            log.warn("Closing with {} carts not written; their last changes are lost.", dirty.size());
+        }
+    }
+
+    private CartSnapshot edit(UUID tenantId, UUID clienteId, UnaryOperator<CartItemLine> change, ItemKey item) {
+        return edit(tenantId, clienteId, items -> {
+            CartItemLine line = change.apply(items.get(item));
+            if (line != null) {
+                items.put(item, line);
+            } else {
+                items.remove(item);
+            }
+        });
+    }
+
+    /**
+     * Applies {@code change} (none for a read) to the cart. A cart retired by eviction while the caller raced it is
+     * looked up again, so the change lands on the instance the cache or the dirty set holds.
+     */
+    private CartSnapshot edit(UUID tenantId, UUID clienteId, Consumer<Map<ItemKey, CartItemLine>> change) {
+        CartKey key = new CartKey(tenantId, clienteId);
+        if (change != null && dirty.size() >= maxDirty && !dirty.containsKey(key)) {
+            awaitBacklog();
+        }
+        while (true) {
+            CartState cart = carts.get(key, this::load);
+            synchronized (cart) {
+                if (cart.retired) {
+                    continue;
+                }
+                if (change == null) {
+                    return cart.snapshot();
+                }
+                change.accept(cart.items);
+                cart.version++;
+                dirty.put(key, cart);
+                return cart.snapshot();
+            }
+        }
+    }
+
+    /**
+     * Wakes the flusher and waits up to {@code backlogWait} for the backlog to drop under {@code maxDirty}.
+     */
+    private void awaitBacklog() {
+        long deadline = System.nanoTime() + backlogWaitNanos;
+        requestFlush();
+        synchronized (backlogDrained) {
+            while (dirty.size() >= maxDirty) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new CartBacklogFullException(dirty.size());
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(backlogDrained, remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new CartBacklogFullException(dirty.size());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a flush on the flusher thread, or on the caller's when the flusher is not running.
+     */
+    private void requestFlush() {
+        ScheduledExecutorService flusher;
+        synchronized (this) {
+            flusher = scheduler;
+        }
+        if (flusher == null) {
+            flushQuietly();
+            return;
+        }
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    flushQuietly();
+                });
+            } catch (RejectedExecutionException ex) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private CartState load(CartKey key) {
+        CartState pending = dirty.get(key);
+        if (pending != null) {
+            synchronized (pending) {
+                pending.retired = false;
+            }
+            return pending;
+        }
+        CartState cart = new CartState(key);
+        for (CartItemLine line : store.load(key.tenantId(), key.clienteId())) {
+            cart.items.put(new ItemKey(line.tipo(), line.refId()), line);
+        }
+        return cart;
+    }
+
+    /**
+     * Runs under the flush lock, so carts are written in the order their snapshots were taken.
+     */
+    private List<CartSnapshot> write(List<CartState> batch) {
+        long start = System.nanoTime();
+        List<CartSnapshot> snapshots = new ArrayList<>(batch.size());
+        for (CartState cart : batch) {
+            synchronized (cart) {
+                snapshots.add(cart.snapshot());
+            }
+        }
+        store.replace(snapshots);
+        for (int i = 0; i < batch.size(); i++) {
+            CartState cart = batch.get(i);
+            cart.failures = 0;
+            synchronized (cart) {
+                if (cart.version == snapshots.get(i).version()) {
+                    dirty.remove(cart.key, cart);
+                }
+            }
+        }
+        if (flushTimer != null) {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        synchronized (backlogDrained) {
+            backlogDrained.notifyAll();
+        }
+        return snapshots;
+    }
+
+    /**
+     * Isolates the carts the database rejects, so the rest of the batch is written. Runs under the flush lock.
+     */
+    private void writeOneByOne(List<CartState> batch, DataIntegrityViolationException batchFailure) {
+        if (batch.size() == 1) {
+            reject(batch.get(0), batchFailure);
+            return;
+        }
+        for (CartState cart : batch) {
+            try {
+                write(List.of(cart));
+            } catch (DataIntegrityViolationException ex) {
+                reject(cart, ex);
+            }
+        }
+    }
+
+    private void reject(CartState cart, DataIntegrityViolationException ex) {
+        cart.failures++;
+        long delay = Math.min(MAX_RETRY_DELAY_NANOS, flushInterval.toNanos() << Math.min(cart.failures, 20));
+        cart.retryAt = System.nanoTime() + delay;
+        log.error("Cart of cliente {} (tenant {}) rejected by the database {} time(s), retrying in {} ms: {}",
+            cart.key.clienteId(), cart.key.tenantId(), cart.failures, TimeUnit.NANOSECONDS.toMillis(delay),
+            ex.getMessage());
+    }
+
+    private void flushQuietly() {
+        try {
+            while (flush() == flushBatchSize) {
+                // keep draining while batches come back full
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cart write-back failed, retrying in {} ms: {}", flushInterval.toMillis(), e.getMessage());
+        }
+    }
+
+    private record CartKey(UUID tenantId, UUID clienteId) {
+    }
+
+    private record ItemKey(String tipo, UUID refId) {
+    }
+
+    private static final class CartState {
+
+        private final CartKey key;
+        private final Map<ItemKey, CartItemLine> items = new LinkedHashMap<>();
+        private long version;
+        /**
+         * Set when the cache drops the cart; a retired cart still dirty is picked up again from the dirty set.
+         */
+        private boolean retired;
+        /**
+         * Consecutive rejected writes and when the next may be tried; only touched under the flush lock.
+         */
+        private int failures;
+        private long retryAt;
+
+        private CartState(CartKey key) {
+            this.key = key;
+        }
+
+        private synchronized void retire() {
+            retired = true;
+        }
+
+        private CartSnapshot snapshot() {
+            return new CartSnapshot(key.tenantId(), key.clienteId(), new ArrayList<>(items.values()), version);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.orders;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogItemSummary;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.lookup.CatalogLookupPort;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.ItemPedido;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.ItemPedidoRepository;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRepository;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRow;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.lookup.BatchLoader;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.lookup.BatchLookups;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.Cursor;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorPage;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.InvalidCursorException;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * The order list of the current tenant, newest first, in keyset pages. A page costs a fixed number of queries whatever
+ * its size or depth: a seek on {@code (criado_em, id)} for the pedidos, read as {@link PedidoRow}s, then their lines
+ * and one catalog query per item type, the last two fetched through {@link BatchLookups}.
+ */
+@Component
+public class OrderListService {
+
+    public static final int MAX_LIMIT = 100;
+    static final String CURSOR_SCOPE = "pedidos:criado_em-desc";
+
+    private final PedidoRepository pedidoRepository;
+    private final CatalogLookupPort catalog;
+    private final BatchLookups lookups;
+    private final CursorCodec cursorCodec;
+    private final BatchLoader<List<ItemPedido>> itens;
+
+    /**
+     * @param lookups the request's instance
+     */
+    public OrderListService(PedidoRepository pedidoRepository, ItemPedidoRepository itemPedidoRepository,
+                            CatalogLookupPort catalog, BatchLookups lookups, CursorCodec cursorCodec) {
+        this.pedidoRepository = pedidoRepository;
+        this.catalog = catalog;
+        this.lookups = lookups;
+        this.cursorCodec = cursorCodec;
+        this.itens = BatchLoader.of("checkout.itens-pedido", (tenantId, pedidoIds) -> {
+            Map<UUID, List<ItemPedido>> byPedido = HashMap.newHashMap(pedidoIds.size());
+            for (ItemPedido item : itemPedidoRepository.findByTenantIdAndPedidoIdInOrderById(tenantId, pedidoIds)) {
+                byPedido.computeIfAbsent(item.getPedidoId(), id -> new ArrayList<>()).add(item);
+            }
+            return byPedido;
+        });
+    }
+
+    /**
+     * @param cursor {@code null} for the first page, else the {@code nextCursor} of the previous one
+     * @throws InvalidCursorException when {@code cursor} was not issued for this tenant's order list
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummary> page(String cursor, int limit) {
+        UUID tenantId = TenantContextHolder.requireTenantId();
+        Cursor after = cursorCodec.decode(CURSOR_SCOPE, tenantId, cursor);
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        List<PedidoRow> rows = after == null
+            ? pedidoRepository.findNewest(tenantId, Limit.of(size + 1))
+            : pedidoRepository.findNewestAfter(tenantId, after.instantKey(), after.id(), Limit.of(size + 1));
+        List<PedidoRow> pedidos = rows.subList(0, Math.min(size, rows.size()));
+
+        Map<UUID, List<ItemPedido>> itensByPedido = lookups.loadAll(itens, pedidos.stream().map(PedidoRow::id)
+            .toList());
+        Map<ItemPedido, BatchLookups.Deferred<CatalogItemSummary>> catalogItems = new HashMap<>();
+        itensByPedido.values().forEach(lines -> lines.forEach(item -> catalogType(item).ifPresent(tipo ->
+            catalogItems.put(item, lookups.defer(catalog.loader(tipo), item.getRefId())))));
+        lookups.dispatch();
+
+        return CursorPage.of(rows, size,
+            pedido -> cursorCodec.encode(CURSOR_SCOPE, tenantId, Cursor.of(pedido.criadoEm(), pedido.id())),
+            pedido -> summary(pedido, itensByPedido.getOrDefault(pedido.id(), List.of()), catalogItems));
+    }
+
+    private static OrderSummary summary(PedidoRow pedido, List<ItemPedido> itens,
+                                        Map<ItemPedido, BatchLookups.Deferred<CatalogItemSummary>> catalogItems) {
+        List<OrderLineSummary> lines = new ArrayList<>(itens.size());
+        for (ItemPedido item : itens) {
+            BatchLookups.Deferred<CatalogItemSummary> current = catalogItems.get(item);
+            Boolean disponivel = current != null
+                ? current.get().map(CatalogItemSummary::disponivel).orElse(false)
+                : null;
+            lines.add(new OrderLineSummary(item.getTipo(), item.getRefId(), item.getNomeSnapshot(),
+                item.getMerchantId() != null ? item.getMerchantId() : item.getPrestadorId(),
+                item.getQuantidade(), item.getPrecoUnitario(), item.getTotalLinha(), disponivel));
+        }
+        return new OrderSummary(pedido.id(), pedido.clienteId(), pedido.status(), pedido.total(),
+            pedido.criadoEm(), lines);
+    }
+
+    private static Optional<CatalogItemType> catalogType(ItemPedido item) {
+        for (CatalogItemType tipo : CatalogItemType.values()) {
+            if (tipo.name().equals(item.getTipo())) {
+                return Optional.of(tipo);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public record OrderSummary(UUID id, UUID clienteId, StatusPedido status, BigDecimal total, Instant criadoEm,
+                               List<OrderLineSummary> itens) {
+    }
+
+    /**
+     * @param nome       the name at checkout
+     * @param vendedorId the merchant or prestador
+     * @param disponivel whether the item can still be bought; {@code false} once it left the catalog, {@code null}
+     *                   for lines that are not catalog items
+     */
+    public record OrderLineSummary(String tipo, UUID refId, String nome, UUID vendedorId, int quantidade,
+                                   BigDecimal precoUnitario, BigDecimal totalLinha, Boolean disponivel) {
+    }
+}
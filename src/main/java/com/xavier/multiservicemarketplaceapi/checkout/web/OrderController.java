@@ -0,0 +1,34 @@
+package com.xavier.multiservicemarketplaceapi.checkout.web;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.xavier.multiservicemarketplaceapi.checkout.infrastructure.orders.OrderListService;
+import com.xavier.multiservicemarketplaceapi.checkout.infrastructure.orders.OrderListService.OrderSummary;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorPage;
+
+/**
+ * Order list of the current tenant.
+ */
+@RestController
+@RequestMapping("/api/checkout/orders")
+public class OrderController {
+
+    private final OrderListService orderListService;
+
+    public OrderController(OrderListService orderListService) {
+        this.orderListService = orderListService;
+    }
+
+    /**
+     * @param cursor the {@code nextCursor} of the previous page; omitted for the first one
+     * @param limit  capped at {@value OrderListService#MAX_LIMIT}
+     */
+    @GetMapping
+    public CursorPage<OrderSummary> list(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return orderListService.page(cursor, limit);
+    }
+}
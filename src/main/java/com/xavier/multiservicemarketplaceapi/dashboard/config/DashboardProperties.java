@@ -0,0 +1,186 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+
+@ConfigurationProperties(prefix = "dashboard")
+public class DashboardProperties {
+
+    private Kpi kpi = new Kpi();
+    private History history = new History();
+    private Export export = new Export();
+
+    public Kpi getKpi() {
+        return kpi;
+    }
+
+    public void setKpi(Kpi kpi) {
+        this.kpi = kpi;
+    }
+
+    public History getHistory() {
+        return history;
+    }
+
+    public void setHistory(History history) {
+        this.history = history;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public void setExport(Export export) {
+        this.export = export;
+    }
+
+    /**
+     * Incremental KPI rollups: how far back each granularity is kept.
+     */
+    public static class Kpi {
+        private Duration minuteRetention = Duration.ofHours(24);
+        private Duration hourRetention = Duration.ofDays(90);
+        private Duration dayRetention = Duration.ofDays(730);
+        private boolean rebuildOnStartup = true;
+        private Duration commitLag = Duration.ofMinutes(10);
+
+        public Duration getMinuteRetention() {
+            return minuteRetention;
+        }
+
+        public void setMinuteRetention(Duration minuteRetention) {
+            this.minuteRetention = minuteRetention;
+        }
+
+        public Duration getHourRetention() {
+            return hourRetention;
+        }
+
+        public void setHourRetention(Duration hourRetention) {
+            this.hourRetention = hourRetention;
+        }
+
+        public Duration getDayRetention() {
+            return dayRetention;
+        }
+
+        public void setDayRetention(Duration dayRetention) {
+            this.dayRetention = dayRetention;
+        }
+
+        public boolean isRebuildOnStartup() {
+            return rebuildOnStartup;
+        }
+
+        public void setRebuildOnStartup(boolean rebuildOnStartup) {
+            this.rebuildOnStartup = rebuildOnStartup;
+        }
+
+        public Duration getCommitLag() {
+            return commitLag;
+        }
+
+        public void setCommitLag(Duration commitLag) {
+            this.commitLag = commitLag;
+        }
+    }
+
+    /**
+     * Columnar archive of finished KPI buckets for long-range dashboards.
+     */
+    public static class History {
+        private Path directory = Path.of("data", "kpi-history");
+        private List<Granularity> granularities = new ArrayList<>(List.of(Granularity.DAY));
+        private Duration archiveInterval = Duration.ofHours(1);
+        private int logCompactionRecords = 64;
+        private int segmentBuckets = 4096;
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public List<Granularity> getGranularities() {
+            return granularities;
+        }
+
+        public void setGranularities(List<Granularity> granularities) {
+            this.granularities = granularities;
+        }
+
+        public Duration getArchiveInterval() {
+            return archiveInterval;
+        }
+
+        public void setArchiveInterval(Duration archiveInterval) {
+            this.archiveInterval = archiveInterval;
+        }
+
+        public int getLogCompactionRecords() {
+            return logCompactionRecords;
+        }
+
+        public void setLogCompactionRecords(int logCompactionRecords) {
+            this.logCompactionRecords = logCompactionRecords;
+        }
+
+        public int getSegmentBuckets() {
+            return segmentBuckets;
+        }
+
+        public void setSegmentBuckets(int segmentBuckets) {
+            this.segmentBuckets = segmentBuckets;
+        }
+    }
+
+    /**
+     * Streaming report exports. Each running export holds a database connection and an async request thread.
+     */
+    public static class Export {
+        private int fetchSize = 1000;
+        private int maxConcurrent = 4;
+        private int maxConcurrentPerTenant = 1;
+        private long rowsPerSecondPerTenant = 50_000;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getMaxConcurrentPerTenant() {
+            return maxConcurrentPerTenant;
+        }
+
+        public void setMaxConcurrentPerTenant(int maxConcurrentPerTenant) {
+            this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+        }
+
+        public long getRowsPerSecondPerTenant() {
+            return rowsPerSecondPerTenant;
+        }
+
+        public void setRowsPerSecondPerTenant(long rowsPerSecondPerTenant) {
+            this.rowsPerSecondPerTenant = rowsPerSecondPerTenant;
+        }
+    }
+}
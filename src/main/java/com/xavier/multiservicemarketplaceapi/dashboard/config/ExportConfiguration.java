@@ -0,0 +1,32 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.JdbcReportExporter;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.ReportExportLimiter;
+
+/**
+ * Wires the streaming report exporter and the limiter that admits and paces its exports.
+ */
+@Configuration
+public class ExportConfiguration {
+
+    @Bean
+    JdbcReportExporter reportExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                      DashboardProperties properties) {
+        return new JdbcReportExporter(dataSource, transactionManager, properties.getExport().getFetchSize());
+    }
+
+    @Bean
+    ReportExportLimiter reportExportLimiter(DashboardProperties properties) {
+        DashboardProperties.Export export = properties.getExport();
+        return new ReportExportLimiter(export.getMaxConcurrent(), export.getMaxConcurrentPerTenant(),
+            export.getRowsPerSecondPerTenant(), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,41 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiRollups;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history.ColumnarKpiHistoryStore;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history.KpiHistoryArchiver;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+/**
+ * Exposes the {@link KpiRollups} that dashboards read from, and the columnar history their finished buckets are
+ * archived to; tenants' timezone and currency come from the {@link TenantProvider}.
+ */
+@Configuration
+public class KpiConfiguration {
+
+    @Bean
+    KpiRollups kpiRollups(DashboardProperties properties, TenantProvider tenantProvider) {
+        DashboardProperties.Kpi kpi = properties.getKpi();
+        return new KpiRollups(tenantId -> tenantProvider.loadTenant(tenantId.toString()),
+            (int) kpi.getMinuteRetention().toMinutes(), (int) kpi.getHourRetention().toHours(),
+            (int) kpi.getDayRetention().toDays(), kpi.getCommitLag(), Clock.systemUTC());
+    }
+
+    @Bean(destroyMethod = "close")
+    ColumnarKpiHistoryStore kpiHistoryStore(DashboardProperties properties) {
+        DashboardProperties.History history = properties.getHistory();
+        return new ColumnarKpiHistoryStore(history.getDirectory(), history.getLogCompactionRecords(),
+            history.getSegmentBuckets());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    KpiHistoryArchiver kpiHistoryArchiver(KpiRollups rollups, ColumnarKpiHistoryStore store,
+                                          DashboardProperties properties) {
+        DashboardProperties.History history = properties.getHistory();
+        return new KpiHistoryArchiver(rollups, store, history.getGranularities(), history.getArchiveInterval());
+    }
+}
@@ -0,0 +1,27 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.export;
+
+/**
+ * Row formats of a report export. Both write one line per row, so a client can process the file as it arrives.
+ */
+public enum ExportFormat {
+    /** RFC 4180, header line first. */
+    CSV("text/csv", "csv"),
+    /** One JSON object per line. */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
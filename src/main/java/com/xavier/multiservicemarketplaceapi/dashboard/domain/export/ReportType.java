@@ -0,0 +1,34 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.export;
+
+import java.util.Locale;
+
+/**
+ * Reports a tenant can export, addressed by their path segment ({@code /api/dashboard/exports/itens-pedido}).
+ */
+public enum ReportType {
+    PEDIDOS("pedidos"),
+    ITENS_PEDIDO("itens-pedido");
+
+    private final String path;
+
+    ReportType(String path) {
+        this.path = path;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    /**
+     * @throws IllegalArgumentException when no report has that path
+     */
+    public static ReportType fromPath(String path) {
+        String normalized = path.toLowerCase(Locale.ROOT);
+        for (ReportType type : values()) {
+            if (type.path.equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown report '%s'.".formatted(path));
+    }
+}
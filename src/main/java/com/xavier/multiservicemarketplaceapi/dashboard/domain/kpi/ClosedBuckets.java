@@ -0,0 +1,16 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consecutive finished buckets of one tenant, as handed to the history archive.
+ *
+ * @param from     start of the first bucket, on the tenant's wall clock
+ * @param counters one row per bucket, indexed by {@link KpiMetric} ordinal
+ */
+public record ClosedBuckets(Granularity granularity, LocalDateTime from, long[][] counters) {
+
+    public int size() {
+        return counters.length;
+    }
+}
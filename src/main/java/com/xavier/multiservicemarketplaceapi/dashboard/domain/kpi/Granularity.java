@@ -0,0 +1,41 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Rollup bucket size. Buckets follow the tenant's wall clock, so a day bucket runs from local midnight to midnight.
+ */
+public enum Granularity {
+    MINUTE(60),
+    HOUR(3_600),
+    DAY(86_400);
+
+    private final long seconds;
+
+    Granularity(long seconds) {
+        this.seconds = seconds;
+    }
+
+    public long seconds() {
+        return seconds;
+    }
+
+    /**
+     * Bucket holding the given local epoch second (seconds since 1970-01-01T00:00 on the tenant's wall clock).
+     */
+    long bucketOf(long localEpochSecond) {
+        return Math.floorDiv(localEpochSecond, seconds);
+    }
+
+    /**
+     * Bucket holding the given wall-clock time; buckets are numbered from 1970-01-01T00:00.
+     */
+    public long bucketOf(LocalDateTime local) {
+        return bucketOf(local.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    public LocalDateTime startOf(long bucket) {
+        return LocalDateTime.ofEpochSecond(bucket * seconds, 0, ZoneOffset.UTC);
+    }
+}
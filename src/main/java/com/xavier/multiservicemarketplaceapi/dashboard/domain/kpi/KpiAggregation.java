@@ -0,0 +1,10 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+/**
+ * How buckets are combined when a history query downsamples, e.g. seven day buckets into one week.
+ */
+public enum KpiAggregation {
+    SUM,
+    MIN,
+    MAX
+}
@@ -0,0 +1,75 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.util.Arrays;
+
+/**
+ * Ring of KPI buckets for one granularity: {@code width} counters per bucket, at least {@code retainedBuckets}
+ * buckets back from the newest one. Storage is allocated in pages of {@value #PAGE} buckets on first write, so a quiet
+ * tenant costs a few pages rather than the whole retention. Not thread-safe; {@link TenantRollup} serialises access.
+ */
+final class KpiCounters {
+
+    static final int PAGE = 64;
+
+    private final int width;
+    private final long[][] pages;
+    private final long[] pageNumbers;
+    private long newestPage = Long.MIN_VALUE;
+
+    KpiCounters(int width, int retainedBuckets) {
+        if (retainedBuckets < 1) {
+            throw new IllegalArgumentException("retainedBuckets must be positive");
+        }
+        this.width = width;
+        // One spare page so a full retention window never shares a page slot with a bucket it still needs.
+        int pageCount = (retainedBuckets + PAGE - 1) / PAGE + 1;
+        this.pages = new long[pageCount][];
+        this.pageNumbers = new long[pageCount];
+    }
+
+    /**
+     * @return {@code false} when the bucket is older than the retained window and was dropped
+     */
+    boolean add(long bucket, int counter, long delta) {
+        long pageNumber = Math.floorDiv(bucket, PAGE);
+        if (pageNumber > newestPage) {
+            newestPage = pageNumber;
+        } else if (newestPage - pageNumber >= pages.length) {
+            return false;
+        }
+        int slot = (int) Math.floorMod(pageNumber, pages.length);
+        long[] page = pages[slot];
+        if (page == null) {
+            page = pages[slot] = new long[PAGE * width];
+            pageNumbers[slot] = pageNumber;
+        } else if (pageNumbers[slot] != pageNumber) {
+            if (pageNumbers[slot] > pageNumber) {
+                return false;
+            }
+            Arrays.fill(page, 0L);
+            pageNumbers[slot] = pageNumber;
+        }
+        page[(int) Math.floorMod(bucket, PAGE) * width + counter] += delta;
+        return true;
+    }
+
+    /**
+     * Adds the counters of {@code bucket} to {@code into}; buckets never written or no longer retained read as zero.
+     */
+    void addTo(long bucket, long[] into) {
+        long pageNumber = Math.floorDiv(bucket, PAGE);
+        int slot = (int) Math.floorMod(pageNumber, pages.length);
+        long[] page = pages[slot];
+        if (page == null || pageNumbers[slot] != pageNumber) {
+            return;
+        }
+        int offset = (int) Math.floorMod(bucket, PAGE) * width;
+        for (int i = 0; i < width; i++) {
+            into[i] += page[offset + i];
+        }
+    }
+
+    int retainedBuckets() {
+        return (pages.length - 1) * PAGE;
+    }
+}
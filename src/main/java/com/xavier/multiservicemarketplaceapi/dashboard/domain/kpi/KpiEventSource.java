@@ -0,0 +1,16 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * Replays past order and booking events so {@link KpiRollups} can be rebuilt, e.g. from {@code pedidos} and
+ * {@code agendamentos} history. Each module owning such history contributes one source.
+ */
+public interface KpiEventSource {
+
+    /**
+     * Events that occurred before {@code upTo}, in any order. The stream is closed after use.
+     */
+    Stream<?> replay(Instant upTo);
+}
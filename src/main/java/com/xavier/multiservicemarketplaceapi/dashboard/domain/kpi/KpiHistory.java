@@ -0,0 +1,14 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Archived series of one metric over {@code [from, to)}, one point per {@code step} buckets. {@link KpiMetric#GMV} is
+ * in minor units of the tenant's currency.
+ */
+public record KpiHistory(UUID tenantId, KpiMetric metric, Granularity granularity, int step,
+                         KpiAggregation aggregation, LocalDateTime from, LocalDateTime to,
+                         List<KpiHistoryPoint> points) {
+}
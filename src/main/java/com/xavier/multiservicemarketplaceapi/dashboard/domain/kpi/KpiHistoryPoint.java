@@ -0,0 +1,9 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+
+/**
+ * One (possibly downsampled) point of an archived series; {@code start} is on the tenant's wall clock.
+ */
+public record KpiHistoryPoint(LocalDateTime start, long value) {
+}
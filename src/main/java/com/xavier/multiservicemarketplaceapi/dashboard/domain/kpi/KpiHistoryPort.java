@@ -0,0 +1,31 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Long-term archive of finished KPI buckets, so multi-year dashboards do not depend on the rollup retention or on
+ * {@code pedidos}/{@code agendamentos}. Buckets that were never archived read as zero.
+ */
+public interface KpiHistoryPort {
+
+    /**
+     * Start of the first bucket not yet archived for every metric; empty when nothing was archived.
+     */
+    Optional<LocalDateTime> archivedUntil(UUID tenantId, Granularity granularity);
+
+    /**
+     * Archives {@code buckets}; buckets a metric already holds are skipped, so retrying a partial append is safe.
+     */
+    void append(UUID tenantId, ClosedBuckets buckets);
+
+    /**
+     * Points of {@code [from, to)} (truncated to the granularity), each combining {@code step} buckets.
+     *
+     * @throws IllegalArgumentException when the window is empty, {@code step} is not positive or there are too many
+     *                                  points
+     */
+    KpiHistory query(UUID tenantId, KpiMetric metric, Granularity granularity, LocalDateTime from, LocalDateTime to,
+                     int step, KpiAggregation aggregation);
+}
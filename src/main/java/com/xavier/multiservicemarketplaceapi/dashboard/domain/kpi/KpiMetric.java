@@ -0,0 +1,35 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+
+/**
+ * Counters kept per bucket. The ordinal is the counter's column in {@link TenantRollup} rows and in archived history.
+ */
+public enum KpiMetric {
+    ORDERS_PENDENTE,
+    ORDERS_PAGO,
+    ORDERS_ENVIADO,
+    ORDERS_CONCLUIDO,
+    ORDERS_CANCELADO,
+    ORDERS_REEMBOLSADO,
+    /**
+     * Total of the pedidos placed, in minor units of the tenant's currency.
+     */
+    GMV,
+    BOOKINGS_PENDENTE,
+    BOOKINGS_CONFIRMADO,
+    BOOKINGS_CONCLUIDO,
+    BOOKINGS_CANCELADO,
+    BOOKINGS_NAO_COMPARECEU;
+
+    private static final KpiMetric[] METRICS = values();
+
+    public static KpiMetric orders(StatusPedido status) {
+        return METRICS[ORDERS_PENDENTE.ordinal() + status.ordinal()];
+    }
+
+    public static KpiMetric bookings(StatusAgendamento status) {
+        return METRICS[BOOKINGS_PENDENTE.ordinal() + status.ordinal()];
+    }
+}
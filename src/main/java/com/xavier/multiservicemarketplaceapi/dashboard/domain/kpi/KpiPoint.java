@@ -0,0 +1,9 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+
+/**
+ * One bucket of a KPI series; {@code start} is on the tenant's wall clock.
+ */
+public record KpiPoint(LocalDateTime start, KpiValues values) {
+}
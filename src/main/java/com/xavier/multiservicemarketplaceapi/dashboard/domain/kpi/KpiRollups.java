@@ -0,0 +1,341 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderEvent;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderPlacedEvent;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderStatusChangedEvent;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingEvent;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingRequestedEvent;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingStatusChangedEvent;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantDeactivatedEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantLifecycleEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantProvisionedEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantUpdatedEvent;
+
+/**
+ * Incremental per-tenant KPI rollups fed by order, booking and tenant events.
+ * <p>
+ * Every order or booking event adds to one minute, one hour and one day bucket on the tenant's wall clock, so a
+ * dashboard query sums at most a few hundred precomputed buckets instead of scanning {@code pedidos} or
+ * {@code agendamentos}. Counters are additive, hence events may arrive in any order and a rebuild is just a replay.
+ * Buckets older than the configured retention of their granularity are dropped.
+ * <p>
+ * An event that occurred shortly before a rebuild may still have been uncommitted when it was replayed, so it can
+ * arrive live afterwards. The rebuild therefore remembers the events it replayed from the last {@code commitLag}
+ * before it started, and a live event from that period counts unless it is one of them. Events older than that are
+ * taken as replayed.
+ */
+public class KpiRollups {
+
+    private final Function<UUID, TenantContext> tenants;
+    private final int[] retainedBuckets;
+    private final Clock clock;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<UUID, TenantRollup> rollups = new ConcurrentHashMap<>();
+    private final Duration commitLag;
+    private volatile Queue<Object> rebuildBuffer;
+    private volatile Instant completeSince;
+    private volatile Replay lastReplay = Replay.NONE;
+
+    /**
+     * @param tenants         resolves a tenant's timezone and currency; may throw for unknown tenants, which then
+     *                        roll up in UTC and their events' currency is ignored for GMV
+     * @param minuteBuckets   minute buckets to keep, likewise {@code hourBuckets} and {@code dayBuckets}
+     * @param commitLag       longest time between an event occurring and its transaction committing
+     */
+    public KpiRollups(Function<UUID, TenantContext> tenants, int minuteBuckets, int hourBuckets, int dayBuckets,
+                      Duration commitLag, Clock clock) {
+        this.tenants = tenants;
+        this.retainedBuckets = new int[] {minuteBuckets, hourBuckets, dayBuckets};
+        this.commitLag = commitLag;
+        this.clock = clock;
+        this.completeSince = clock.instant();
+    }
+
+    /**
+     * Applies an {@link OrderEvent}, {@link BookingEvent} or {@link TenantLifecycleEvent}; anything else is ignored.
+     * Order and booking events the last rebuild replayed are skipped; that is what makes a redelivered event harmless.
+     */
+    public void record(Object event) {
+        swapLock.readLock().lock();
+        try {
+            if (!(event instanceof TenantLifecycleEvent) && lastReplay.covers(event)) {
+                return;
+            }
+            apply(rollups, event);
+            Queue<Object> buffer = rebuildBuffer;
+            if (buffer != null && !(event instanceof TenantLifecycleEvent)) {
+                buffer.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces all rollups with the events replayed from {@code sources}. Queries keep reading the current rollups,
+     * which also keep receiving live events, until the rebuilt ones are swapped in; live events recorded during the
+     * replay are applied to the rebuilt rollups as well.
+     *
+     * @return number of replayed events
+     */
+    public synchronized long rebuild(List<? extends KpiEventSource> sources) {
+        Instant upTo = clock.instant();
+        Replay replay = new Replay(upTo, upTo.minus(commitLag), new HashSet<>());
+        ConcurrentHashMap<UUID, TenantRollup> rebuilt = new ConcurrentHashMap<>();
+        Queue<Object> buffer = new ConcurrentLinkedQueue<>();
+        swapLock.writeLock().lock();
+        try {
+            rebuildBuffer = buffer;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        long replayed = 0;
+        try {
+            for (KpiEventSource source : sources) {
+                try (Stream<?> events = source.replay(upTo)) {
+                    Iterator<?> iterator = events.iterator();
+                    while (iterator.hasNext()) {
+                        Object event = iterator.next();
+                        if (replay.add(event)) {
+                            apply(rebuilt, event);
+                            replayed++;
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            rebuildBuffer = null;
+            throw e;
+        }
+        swapLock.writeLock().lock();
+        try {
+            for (Object event : buffer) {
+                if (!replay.covers(event)) {
+                    apply(rebuilt, event);
+                }
+            }
+            rebuildBuffer = null;
+            rollups = rebuilt;
+            completeSince = Instant.MIN;
+            lastReplay = replay;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return replayed;
+    }
+
+    /**
+     * KPIs of {@code [from, to)} on the tenant's wall clock, both truncated to the granularity. {@code to} defaults to
+     * the end of the current bucket and {@code from} to 24 buckets before {@code to}.
+     *
+     * @throws IllegalArgumentException when the window is empty or longer than the retention of the granularity
+     */
+    public KpiSnapshot snapshot(UUID tenantId, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        TenantRollup rollup = rollups.get(tenantId);
+        if (rollup == null) {
+            rollup = newRollup(tenantId);
+        }
+        long toBucket = to != null
+            ? granularity.bucketOf(to) + (granularity.startOf(granularity.bucketOf(to)).equals(to) ? 0 : 1)
+            : granularity.bucketOf(rollup.localEpochSecond(clock.instant())) + 1;
+        long fromBucket = from != null ? granularity.bucketOf(from) : toBucket - 24;
+        int retained = rollup.retainedBuckets(granularity);
+        if (fromBucket >= toBucket || toBucket - fromBucket > retained) {
+            throw new IllegalArgumentException("A %s window must span 1 to %d buckets."
+                .formatted(granularity.name().toLowerCase(), retained));
+        }
+        long[][] rows = rollup.read(granularity, fromBucket, toBucket);
+        Currency currency = rollup.currency();
+        List<KpiPoint> series = new ArrayList<>(rows.length - 1);
+        for (int i = 0; i < rows.length - 1; i++) {
+            series.add(new KpiPoint(granularity.startOf(fromBucket + i), TenantRollup.values(rows[i], currency)));
+        }
+        return new KpiSnapshot(tenantId, rollup.zone().getId(), granularity, granularity.startOf(fromBucket),
+            granularity.startOf(toBucket), TenantRollup.values(rows[rows.length - 1], currency), series);
+    }
+
+    /**
+     * Counters of the finished buckets from {@code from} up to the current bucket, for archiving. Only buckets the
+     * rollups know completely are returned: without a {@link #rebuild} those are the ones started after this instance
+     * was created. {@code from} defaults to, and is raised to, the oldest such bucket that is still retained.
+     */
+    public ClosedBuckets closedBuckets(UUID tenantId, Granularity granularity, LocalDateTime from) {
+        TenantRollup rollup = rollups.get(tenantId);
+        if (rollup == null) {
+            return new ClosedBuckets(granularity, from, new long[0][]);
+        }
+        long current = granularity.bucketOf(rollup.localEpochSecond(clock.instant()));
+        long first = current - rollup.retainedBuckets(granularity) + 1;
+        Instant since = completeSince;
+        if (since != Instant.MIN) {
+            long sinceSecond = rollup.localEpochSecond(since);
+            long sinceBucket = granularity.bucketOf(sinceSecond);
+            first = Math.max(first, sinceBucket * granularity.seconds() == sinceSecond ? sinceBucket : sinceBucket + 1);
+        }
+        if (from != null) {
+            first = Math.max(first, granularity.bucketOf(from));
+        }
+        if (first >= current) {
+            return new ClosedBuckets(granularity, granularity.startOf(first), new long[0][]);
+        }
+        long[][] rows = rollup.read(granularity, first, current);
+        return new ClosedBuckets(granularity, granularity.startOf(first), Arrays.copyOf(rows, rows.length - 1));
+    }
+
+    /**
+     * Tenants with rollups.
+     */
+    public Set<UUID> tenantIds() {
+        return Set.copyOf(rollups.keySet());
+    }
+
+    /**
+     * Events older than the retention of at least one granularity; they only count where still retained.
+     */
+    public long expiredEvents(UUID tenantId) {
+        TenantRollup rollup = rollups.get(tenantId);
+        return rollup != null ? rollup.expiredEvents() : 0;
+    }
+
+    private void apply(ConcurrentHashMap<UUID, TenantRollup> target, Object event) {
+        switch (event) {
+            case OrderPlacedEvent placed -> rollup(target, placed.tenantId())
+                .orderPlaced(placed.occurredAt(), placed.total());
+            case OrderStatusChangedEvent changed -> rollup(target, changed.tenantId())
+                .orderStatus(changed.occurredAt(), changed.status());
+            case BookingRequestedEvent requested -> rollup(target, requested.tenantId())
+                .bookingStatus(requested.occurredAt(), StatusAgendamento.PENDENTE);
+            case BookingStatusChangedEvent changed -> rollup(target, changed.tenantId())
+                .bookingStatus(changed.occurredAt(), changed.status());
+            case TenantProvisionedEvent provisioned -> rollup(target, provisioned.tenantId());
+            case TenantUpdatedEvent updated -> {
+                TenantRollup rollup = target.get(updated.tenantId());
+                if (rollup != null) {
+                    TenantContext tenant = resolve(updated.tenantId());
+                    rollup.retime(zoneOf(tenant), currencyOf(tenant));
+                }
+            }
+            case TenantDeactivatedEvent deactivated -> target.remove(deactivated.tenantId());
+            default -> {
+            }
+        }
+    }
+
+    private TenantRollup rollup(ConcurrentHashMap<UUID, TenantRollup> target, UUID tenantId) {
+        TenantRollup rollup = target.get(tenantId);
+        return rollup != null ? rollup : target.computeIfAbsent(tenantId, this::newRollup);
+    }
+
+    private TenantRollup newRollup(UUID tenantId) {
+        TenantContext tenant = resolve(tenantId);
+        return new TenantRollup(zoneOf(tenant), currencyOf(tenant), retainedBuckets);
+    }
+
+    private TenantContext resolve(UUID tenantId) {
+        try {
+            return tenants.apply(tenantId);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ZoneId zoneOf(TenantContext tenant) {
+        try {
+            return tenant != null ? ZoneId.of(tenant.timezone()) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private static Currency currencyOf(TenantContext tenant) {
+        try {
+            return Currency.getInstance(tenant != null ? tenant.currency() : TenantContext.DEFAULT_CURRENCY);
+        } catch (IllegalArgumentException e) {
+            return Currency.getInstance(TenantContext.DEFAULT_CURRENCY);
+        }
+    }
+
+    /**
+     * Events replayed by a rebuild up to {@code upTo}; only those from {@code since} on are remembered by identity.
+     */
+    private record Replay(Instant upTo, Instant since, Set<EventKey> recent) {
+
+        static final Replay NONE = new Replay(Instant.MIN, Instant.MIN, Set.of());
+
+        /**
+         * @return whether the event belongs to the replay and was remembered if recent
+         */
+        boolean add(Object event) {
+            EventKey key = EventKey.of(event);
+            if (key == null || !key.occurredAt().isBefore(upTo)) {
+                return false;
+            }
+            if (!key.occurredAt().isBefore(since)) {
+                recent.add(key);
+            }
+            return true;
+        }
+
+        /**
+         * Whether the event was counted by the replay: it was replayed, or it is too old to have been uncommitted.
+         */
+        boolean covers(Object event) {
+            EventKey key = EventKey.of(event);
+            if (key == null) {
+                return true;
+            }
+            Instant occurredAt = key.occurredAt();
+            return occurredAt.isBefore(upTo) && (occurredAt.isBefore(since) || recent.contains(key));
+        }
+    }
+
+    /**
+     * Identity of an order or booking event. The instant is truncated to the microseconds a database keeps, so a
+     * replayed event matches the one published live.
+     */
+    private record EventKey(Class<?> type, UUID aggregateId, Object status, Instant occurredAt) {
+
+        static EventKey of(Object event) {
+            return switch (event) {
+                case OrderPlacedEvent placed -> key(placed, placed.pedidoId(), null, placed.occurredAt());
+                case OrderStatusChangedEvent changed ->
+                    key(changed, changed.pedidoId(), changed.status(), changed.occurredAt());
+                case BookingRequestedEvent requested ->
+                    key(requested, requested.agendamentoId(), null, requested.occurredAt());
+                case BookingStatusChangedEvent changed ->
+                    key(changed, changed.agendamentoId(), changed.status(), changed.occurredAt());
+                default -> null;
+            };
+        }
+
+        private static EventKey key(Object event, UUID aggregateId, Object status, Instant occurredAt) {
+            return new EventKey(event.getClass(), aggregateId, status, occurredAt.truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * KPIs of a tenant over {@code [from, to)} on the tenant's wall clock, as a series of buckets plus the window total.
+ */
+public record KpiSnapshot(UUID tenantId, String timezone, Granularity granularity, LocalDateTime from,
+                          LocalDateTime to, KpiValues totals, List<KpiPoint> series) {
+}
@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.util.Map;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * KPIs of one bucket or window.
+ *
+ * @param gmv               total of the pedidos placed
+ * @param orders            pedidos that entered each status ({@code PENDENTE} = placed)
+ * @param bookings          agendamentos that entered each status ({@code PENDENTE} = requested)
+ * @param bookingConversion confirmed / requested agendamentos, 0 without requests
+ */
+public record KpiValues(Money gmv, Map<StatusPedido, Long> orders, Map<StatusAgendamento, Long> bookings,
+                        double bookingConversion) {
+
+    public long bookingCancellations() {
+        return bookings.getOrDefault(StatusAgendamento.CANCELADO, 0L);
+    }
+}
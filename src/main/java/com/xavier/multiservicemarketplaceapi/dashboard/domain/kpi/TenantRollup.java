@@ -0,0 +1,139 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * Minute, hour and day counters of one tenant, bucketed on the tenant's wall clock.
+ */
+final class TenantRollup {
+
+    private static final StatusPedido[] ORDER_STATUSES = StatusPedido.values();
+    private static final StatusAgendamento[] BOOKING_STATUSES = StatusAgendamento.values();
+    static final int ORDERS = KpiMetric.ORDERS_PENDENTE.ordinal();
+    static final int GMV = KpiMetric.GMV.ordinal();
+    static final int BOOKINGS = KpiMetric.BOOKINGS_PENDENTE.ordinal();
+    static final int WIDTH = KpiMetric.values().length;
+
+    private final KpiCounters[] counters = new KpiCounters[Granularity.values().length];
+    private volatile ZoneId zone;
+    private ZoneRules rules;
+    private Currency currency;
+    private long expiredEvents;
+    private long foreignCurrencyOrders;
+
+    TenantRollup(ZoneId zone, Currency currency, int[] retainedBuckets) {
+        for (Granularity granularity : Granularity.values()) {
+            counters[granularity.ordinal()] = new KpiCounters(WIDTH, retainedBuckets[granularity.ordinal()]);
+        }
+        retime(zone, currency);
+    }
+
+    /**
+     * Applies a new timezone or currency to events recorded from now on; existing buckets keep their boundaries.
+     */
+    synchronized void retime(ZoneId zone, Currency currency) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.currency = currency;
+    }
+
+    ZoneId zone() {
+        return zone;
+    }
+
+    synchronized void orderPlaced(Instant at, Money total) {
+        long local = localEpochSecond(at);
+        boolean recorded = add(local, ORDERS + StatusPedido.PENDENTE.ordinal(), 1);
+        if (total != null && total.currency().equals(currency)) {
+            add(local, GMV, total.amount());
+        } else if (total != null) {
+            foreignCurrencyOrders++;
+        }
+        countExpired(recorded);
+    }
+
+    synchronized void orderStatus(Instant at, StatusPedido status) {
+        countExpired(add(localEpochSecond(at), ORDERS + status.ordinal(), 1));
+    }
+
+    synchronized void bookingStatus(Instant at, StatusAgendamento status) {
+        countExpired(add(localEpochSecond(at), BOOKINGS + status.ordinal(), 1));
+    }
+
+    /**
+     * Sums buckets {@code [from, to)} into one row per bucket and the window total in the last row.
+     */
+    synchronized long[][] read(Granularity granularity, long from, long to) {
+        KpiCounters ring = counters[granularity.ordinal()];
+        int points = (int) (to - from);
+        long[][] rows = new long[points + 1][WIDTH];
+        for (int i = 0; i < points; i++) {
+            ring.addTo(from + i, rows[i]);
+            for (int c = 0; c < WIDTH; c++) {
+                rows[points][c] += rows[i][c];
+            }
+        }
+        return rows;
+    }
+
+    synchronized Currency currency() {
+        return currency;
+    }
+
+    synchronized long expiredEvents() {
+        return expiredEvents;
+    }
+
+    synchronized long foreignCurrencyOrders() {
+        return foreignCurrencyOrders;
+    }
+
+    int retainedBuckets(Granularity granularity) {
+        return counters[granularity.ordinal()].retainedBuckets();
+    }
+
+    long localEpochSecond(Instant at) {
+        return at.getEpochSecond() + rules.getOffset(at).getTotalSeconds();
+    }
+
+    static KpiValues values(long[] row, Currency currency) {
+        Map<StatusPedido, Long> orders = new EnumMap<>(StatusPedido.class);
+        for (StatusPedido status : ORDER_STATUSES) {
+            orders.put(status, row[ORDERS + status.ordinal()]);
+        }
+        Map<StatusAgendamento, Long> bookings = new EnumMap<>(StatusAgendamento.class);
+        for (StatusAgendamento status : BOOKING_STATUSES) {
+            bookings.put(status, row[BOOKINGS + status.ordinal()]);
+        }
+        long requested = row[BOOKINGS + StatusAgendamento.PENDENTE.ordinal()];
+        long confirmed = row[BOOKINGS + StatusAgendamento.CONFIRMADO.ordinal()];
+        return new KpiValues(Money.ofMinor(row[GMV], currency), orders, bookings,
+            requested > 0 ? (double) confirmed / requested : 0.0);
+    }
+
+    /**
+     * @return {@code false} when at least one granularity no longer retains the bucket
+     */
+    private boolean add(long localEpochSecond, int counter, long delta) {
+        boolean recorded = true;
+        for (Granularity granularity : Granularity.values()) {
+            recorded &= counters[granularity.ordinal()].add(granularity.bucketOf(localEpochSecond), counter, delta);
+        }
+        return recorded;
+    }
+
+    private void countExpired(boolean recorded) {
+        if (!recorded) {
+            expiredEvents++;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderEvent;
+import com.xavier.multiservicemarketplaceapi.dashboard.config.DashboardProperties;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiEventSource;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiRollups;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingEvent;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxListener;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantLifecycleEvent;
+
+/**
+ * Feeds committed order, booking and tenant events into the {@link KpiRollups} through the outbox, and rebuilds them
+ * from every {@link KpiEventSource} once the application is ready. A redelivered event is dropped by the rollups if
+ * the rebuild replayed it; one delivered again without a rebuild in between is counted twice.
+ */
+@Component
+public class KpiRollupUpdater {
+
+    private static final Logger log = LoggerFactory.getLogger(KpiRollupUpdater.class);
+
+    private final KpiRollups rollups;
+    private final List<KpiEventSource> sources;
+    private final DashboardProperties properties;
+
+    public KpiRollupUpdater(KpiRollups rollups, List<KpiEventSource> sources, DashboardProperties properties) {
+        this.rollups = rollups;
+        this.sources = sources;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.getKpi().isRebuildOnStartup() && !sources.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    public long rebuild() {
+        long start = System.nanoTime();
+        long replayed = rollups.rebuild(sources);
+        log.info("KPI rollups rebuilt from {} events in {} ms.", replayed,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return replayed;
+    }
+
+    @OutboxListener
+    public void onOrderEvent(OrderEvent event) {
+        rollups.record(event);
+    }
+
+    @OutboxListener
+    public void onBookingEvent(BookingEvent event) {
+        rollups.record(event);
+    }
+
+    @OutboxListener
+    public void onTenantEvent(TenantLifecycleEvent event) {
+        rollups.record(event);
+    }
+}
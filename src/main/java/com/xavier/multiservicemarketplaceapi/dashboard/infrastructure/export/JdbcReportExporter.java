@@ -0,0 +1,132 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams a {@link ReportQuery} from a forward-only JDBC cursor straight into an output stream.
+ * <p>
+ * Memory does not grow with the report: the driver holds at most {@code fetchSize} rows, each row is written to a
+ * fixed-size buffer as soon as it is read, and nothing else is kept. PostgreSQL only uses a server-side cursor for a
+ * fetch size inside a transaction, hence the read-only transaction around the query.
+ */
+public class JdbcReportExporter {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PACING_ROWS = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcReportExporter(DataSource dataSource, PlatformTransactionManager transactionManager, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Writes every row of {@code query} to {@code out}, which is flushed but left open.
+     *
+     * @return number of rows written
+     * @throws CancellationException when {@code export} was cancelled while running
+     */
+    public long export(ReportExport export, ReportQuery query, boolean gzip, OutputStream out) throws IOException {
+        try {
+            Long rows = transactionTemplate.execute(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(query.sql(), ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+                new ArgumentPreparedStatementSetter(query.parameters().toArray()).setValues(statement);
+                export.attach(statement);
+                return statement;
+            }, (ResultSetExtractor<Long>) rs -> write(export, rs, gzip, out)));
+            return rows != null ? rows : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            // a cancelled statement fails with whatever error the driver reports for it
+            export.checkCancelled();
+            throw e;
+        }
+    }
+
+    private static long write(ReportExport export, ResultSet rs, boolean gzip, OutputStream out) throws SQLException {
+        try {
+            OutputStream target = gzip ? new GZIPOutputStream(new Unclosed(out), BUFFER_SIZE) : new Unclosed(out);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            RowWriter rows = RowWriter.of(export.format(), writer, rs.getMetaData());
+            rows.header();
+            long count = 0;
+            int unpaced = 0;
+            while (rs.next()) {
+                rows.row(rs);
+                count++;
+                if (++unpaced == PACING_ROWS) {
+                    export.written(unpaced);
+                    unpaced = 0;
+                }
+            }
+            export.written(unpaced);
+            // Only a complete export is closed: a failed one must not end with a valid gzip trailer.
+            writer.close();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lets the writer chain be closed, which ends the gzip trailer and frees its deflater, without closing the
+     * response stream underneath.
+     */
+    private static final class Unclosed extends OutputStream {
+
+        private final OutputStream out;
+
+        private Unclosed(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+
+/**
+ * One running export, admitted by a {@link ReportExportLimiter}. Closing it gives the slot back; cancelling it from any
+ * thread cancels the running statement and wakes the exporting thread if it is being throttled.
+ */
+public final class ReportExport implements AutoCloseable {
+
+    private final UUID id;
+    private final UUID tenantId;
+    private final ReportType report;
+    private final ExportFormat format;
+    private final Instant startedAt;
+    private final ReportExportLimiter limiter;
+    private final ReportExportLimiter.TenantExports tenant;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long rows;
+    private volatile boolean cancelled;
+    private volatile Statement statement;
+    private volatile Thread runner;
+
+    ReportExport(UUID tenantId, ReportType report, ExportFormat format, Instant startedAt,
+                 ReportExportLimiter limiter, ReportExportLimiter.TenantExports tenant) {
+        this.id = UUID.randomUUID();
+        this.tenantId = tenantId;
+        this.report = report;
+        this.format = format;
+        this.startedAt = startedAt;
+        this.limiter = limiter;
+        this.tenant = tenant;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public UUID tenantId() {
+        return tenantId;
+    }
+
+    public ReportType report() {
+        return report;
+    }
+
+    public ExportFormat format() {
+        return format;
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Rows written so far.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Stops the export: the statement is cancelled and the exporting thread fails with a
+     * {@link CancellationException} at its next row.
+     */
+    public void cancel() {
+        cancelled = true;
+        Statement running = statement;
+        if (running != null) {
+            try {
+                running.cancel();
+            } catch (SQLException e) {
+                // the thread still notices the flag at its next row
+            }
+        }
+        Thread thread = runner;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            statement = null;
+            runner = null;
+            limiter.finished(this, tenant);
+        }
+    }
+
+    ReportExportLimiter.TenantExports tenantExports() {
+        return tenant;
+    }
+
+    void attach(Statement statement) {
+        this.runner = Thread.currentThread();
+        this.statement = statement;
+        if (cancelled) {
+            cancel();
+        }
+    }
+
+    void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Export " + id + " was cancelled.");
+        }
+    }
+
+    /**
+     * Counts {@code written} more rows, waiting first if the tenant is over its row rate.
+     */
+    void written(int written) {
+        rows += written;
+        long waitNanos = limiter.pace(tenant, written);
+        long deadline = System.nanoTime() + waitNanos;
+        while (waitNanos > 0 && !cancelled) {
+            LockSupport.parkNanos(this, waitNanos);
+            waitNanos = deadline - System.nanoTime();
+        }
+        checkCancelled();
+    }
+}
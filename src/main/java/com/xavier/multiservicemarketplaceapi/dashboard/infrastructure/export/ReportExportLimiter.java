@@ -0,0 +1,147 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+/**
+ * Admission and pacing of report exports. An export holds a database connection and an async request thread for its
+ * whole duration, so both the node and each tenant get a cap on concurrent exports; beyond that, exports are refused
+ * with a {@link TenantRateLimitExceededException}.
+ * <p>
+ * Rows are paced per tenant rather than refused: all exports of a tenant share one GCRA budget of
+ * {@code rowsPerSecondPerTenant} with a one-second burst, and an export over it simply waits, which in turn slows the
+ * database cursor it reads from.
+ */
+public class ReportExportLimiter {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final int maxConcurrent;
+    private final int maxConcurrentPerTenant;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger running = new AtomicInteger();
+    private final ConcurrentHashMap<UUID, TenantExports> tenants = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, ReportExport> exports = new ConcurrentHashMap<>();
+
+    /**
+     * @param rowsPerSecondPerTenant 0 for no row pacing
+     */
+    public ReportExportLimiter(int maxConcurrent, int maxConcurrentPerTenant, long rowsPerSecondPerTenant,
+                               Clock clock) {
+        this(maxConcurrent, maxConcurrentPerTenant, rowsPerSecondPerTenant, clock, System::nanoTime);
+    }
+
+    ReportExportLimiter(int maxConcurrent, int maxConcurrentPerTenant, long rowsPerSecondPerTenant, Clock clock,
+                        LongSupplier nanoClock) {
+        if (maxConcurrent < 1 || maxConcurrentPerTenant < 1 || rowsPerSecondPerTenant < 0) {
+            throw new IllegalArgumentException("Export limits must be positive.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+        this.emissionIntervalNanos = rowsPerSecondPerTenant > 0
+            ? Math.max(1, TimeUnit.SECONDS.toNanos(1) / rowsPerSecondPerTenant)
+            : 0;
+        this.burstToleranceNanos = TimeUnit.SECONDS.toNanos(1);
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Admits one export for {@code tenant}.
+     *
+     * @return the export, to be closed once written
+     * @throws TenantRateLimitExceededException when the tenant or the node already runs its maximum of exports
+     */
+    public ReportExport start(TenantContext tenant, ReportType report, ExportFormat format) {
+        TenantExports tenantExports = tenants.computeIfAbsent(tenant.tenantId(),
+            id -> new TenantExports(nanoClock.getAsLong()));
+        if (tenantExports.running.incrementAndGet() > maxConcurrentPerTenant) {
+            tenantExports.running.decrementAndGet();
+            throw new TenantRateLimitExceededException(tenant.slug(), "concurrent export", RETRY_AFTER);
+        }
+        if (running.incrementAndGet() > maxConcurrent) {
+            running.decrementAndGet();
+            tenantExports.running.decrementAndGet();
+            throw new TenantRateLimitExceededException(tenant.slug(), "node export", RETRY_AFTER);
+        }
+        ReportExport export = new ReportExport(tenant.tenantId(), report, format, clock.instant(), this,
+            tenantExports);
+        exports.put(export.id(), export);
+        return export;
+    }
+
+    /**
+     * Cancels a running export of {@code tenantId}.
+     *
+     * @return {@code false} when the tenant has no such export running
+     */
+    public boolean cancel(UUID tenantId, UUID exportId) {
+        ReportExport export = exports.get(exportId);
+        if (export == null || !export.tenantId().equals(tenantId)) {
+            return false;
+        }
+        export.cancel();
+        return true;
+    }
+
+    /**
+     * Running exports of {@code tenantId}, oldest first.
+     */
+    public List<ReportExport> running(UUID tenantId) {
+        return exports.values().stream()
+            .filter(export -> export.tenantId().equals(tenantId))
+            .sorted(Comparator.comparing(ReportExport::startedAt))
+            .toList();
+    }
+
+    void finished(ReportExport export, TenantExports tenantExports) {
+        exports.remove(export.id());
+        tenantExports.running.decrementAndGet();
+        running.decrementAndGet();
+    }
+
+    /**
+     * Takes {@code rows} from the tenant's budget.
+     *
+     * @return nanoseconds to wait before writing more
+     */
+    long pace(TenantExports tenantExports, int rows) {
+        if (emissionIntervalNanos == 0) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long tat = tenantExports.theoreticalArrival.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos * rows;
+            if (tenantExports.theoreticalArrival.compareAndSet(tat, next)) {
+                return Math.max(0, next - now - burstToleranceNanos);
+            }
+        }
+    }
+
+    static final class TenantExports {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicLong theoreticalArrival;
+
+        private TenantExports(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+    }
+}
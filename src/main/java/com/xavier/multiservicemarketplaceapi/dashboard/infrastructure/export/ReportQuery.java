@@ -0,0 +1,56 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+
+/**
+ * SQL of one report for one tenant. Rows come out in {@code criado_em} order, which the
+ * {@code (tenant_id, criado_em)} index of {@code pedidos} delivers without a sort.
+ */
+public record ReportQuery(String sql, List<Object> parameters) {
+
+    public ReportQuery {
+        parameters = List.copyOf(parameters);
+    }
+
+    /**
+     * @param from inclusive, optional
+     * @param to   exclusive, optional
+     * @throws IllegalArgumentException when the window is empty
+     */
+    public static ReportQuery of(ReportType report, UUID tenantId, Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'.");
+        }
+        StringBuilder sql = new StringBuilder(switch (report) {
+            case PEDIDOS -> """
+                SELECT p.id, p.cliente_id, p.status, p.origem, p.subtotal, p.total, p.metodo_pagamento,
+                       p.estado_pagamento, p.criado_em
+                FROM pedidos p
+                WHERE p.tenant_id = ?""";
+            case ITENS_PEDIDO -> """
+                SELECT i.id, i.pedido_id, p.criado_em, i.tipo, i.ref_id, i.nome_snapshot, i.quantidade,
+                       i.preco_unitario, i.total_linha, i.merchant_id, i.prestador_id
+                FROM pedidos p
+                JOIN itens_pedido i ON i.tenant_id = p.tenant_id AND i.pedido_id = p.id
+                WHERE p.tenant_id = ?""";
+        });
+        List<Object> parameters = new ArrayList<>(List.of(tenantId));
+        if (from != null) {
+            sql.append(" AND p.criado_em >= ?");
+            parameters.add(OffsetDateTime.ofInstant(from, ZoneOffset.UTC));
+        }
+        if (to != null) {
+            sql.append(" AND p.criado_em < ?");
+            parameters.add(OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+        }
+        sql.append(" ORDER BY p.criado_em");
+        return new ReportQuery(sql.toString(), parameters);
+    }
+}
@@ -0,0 +1,243 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+
+/**
+ * Writes the current row of a {@link ResultSet} in one {@link ExportFormat}. Column names and kinds are read from the
+ * metadata once; a row is written value by value, so nothing outlives it.
+ */
+abstract class RowWriter {
+
+    final Writer out;
+    final String[] names;
+    private final Kind[] kinds;
+
+    private RowWriter(Writer out, ResultSetMetaData metadata) throws SQLException {
+        this.out = out;
+        this.names = new String[metadata.getColumnCount()];
+        this.kinds = new Kind[names.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = metadata.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            kinds[i] = Kind.of(metadata.getColumnType(i + 1));
+        }
+    }
+
+    static RowWriter of(ExportFormat format, Writer out, ResultSetMetaData metadata) throws SQLException {
+        return switch (format) {
+            case CSV -> new Csv(out, metadata);
+            case NDJSON -> new Ndjson(out, metadata);
+        };
+    }
+
+    /**
+     * Called once, before the first row.
+     */
+    abstract void header() throws IOException;
+
+    abstract void row(ResultSet rs) throws SQLException, IOException;
+
+    /**
+     * @return the value of column {@code i} (0-based) as text, or {@code null}
+     */
+    final String value(ResultSet rs, int i) throws SQLException {
+        int column = i + 1;
+        return switch (kinds[i]) {
+            case INTEGER -> {
+                long value = rs.getLong(column);
+                yield rs.wasNull() ? null : Long.toString(value);
+            }
+            case DECIMAL -> {
+                BigDecimal value = rs.getBigDecimal(column);
+                yield value != null ? value.toPlainString() : null;
+            }
+            case BOOLEAN -> {
+                boolean value = rs.getBoolean(column);
+                yield rs.wasNull() ? null : Boolean.toString(value);
+            }
+            case TIMESTAMP_TZ -> {
+                OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+                yield value != null ? value.toInstant().toString() : null;
+            }
+            case TIMESTAMP -> {
+                LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+                yield value != null ? value.toString() : null;
+            }
+            case TEXT -> rs.getString(column);
+        };
+    }
+
+    final Kind kind(int i) {
+        return kinds[i];
+    }
+
+    enum Kind {
+        INTEGER, DECIMAL, BOOLEAN, TIMESTAMP_TZ, TIMESTAMP, TEXT;
+
+        static Kind of(int sqlType) {
+            return switch (sqlType) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> INTEGER;
+                case Types.NUMERIC, Types.DECIMAL, Types.REAL, Types.FLOAT, Types.DOUBLE -> DECIMAL;
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                case Types.TIMESTAMP_WITH_TIMEZONE -> TIMESTAMP_TZ;
+                case Types.TIMESTAMP -> TIMESTAMP;
+                default -> TEXT;
+            };
+        }
+
+        boolean numeric() {
+            return this == INTEGER || this == DECIMAL || this == BOOLEAN;
+        }
+    }
+
+    /**
+     * RFC 4180 with CRLF line ends. Text starting with {@code = + - @} is prefixed with {@code '} so spreadsheets do not
+     * evaluate user-supplied names as formulas.
+     */
+    private static final class Csv extends RowWriter {
+
+        private Csv(Writer out, ResultSetMetaData metadata) throws SQLException {
+            super(out, metadata);
+        }
+
+        @Override
+        void header() throws IOException {
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                text(names[i]);
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < names.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String value = value(rs, i);
+                if (value == null) {
+                    continue;
+                }
+                if (kind(i) == Kind.TEXT) {
+                    text(value);
+                } else {
+                    out.write(value);
+                }
+            }
+            out.write("\r\n");
+        }
+
+        private void text(String value) throws IOException {
+            boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            if (formula) {
+                out.write('\'');
+            }
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) == '"') {
+                    out.write(value, start, i + 1 - start);
+                    out.write('"');
+                    start = i + 1;
+                }
+            }
+            out.write(value, start, value.length() - start);
+            out.write('"');
+        }
+    }
+
+    /**
+     * One JSON object per line; numbers and booleans unquoted, timestamps as ISO-8601 strings.
+     */
+    private static final class Ndjson extends RowWriter {
+
+        private final String[] keys;
+
+        private Ndjson(Writer out, ResultSetMetaData metadata) throws SQLException {
+            super(out, metadata);
+            this.keys = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                StringBuilder key = new StringBuilder(i == 0 ? "{" : ",");
+                appendString(key, names[i]);
+                keys[i] = key.append(':').toString();
+            }
+        }
+
+        @Override
+        void header() {
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < names.length; i++) {
+                out.write(keys[i]);
+                String value = value(rs, i);
+                if (value == null) {
+                    out.write("null");
+                } else if (kind(i).numeric()) {
+                    out.write(value);
+                } else {
+                    string(value);
+                }
+            }
+            out.write(names.length == 0 ? "{}\n" : "}\n");
+        }
+
+        private void string(String value) throws IOException {
+            out.write('"');
+            int start = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    out.write(value, start, i - start);
+                    out.write(escape(c));
+                    start = i + 1;
+                }
+            }
+            out.write(value, start, value.length() - start);
+            out.write('"');
+        }
+
+        private static void appendString(StringBuilder target, String value) {
+            target.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                target.append(c == '"' || c == '\\' || c < 0x20 ? escape(c) : String.valueOf(c));
+            }
+            target.append('"');
+        }
+
+        private static String escape(char c) {
+            return switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> "\\u%04x".formatted((int) c);
+            };
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead file of {@code (bucket, value)} records appended to a series since its last compaction.
+ * <p>
+ * Each record is {@value #RECORD_BYTES} bytes: bucket, value and a CRC32C of both. A crash can only tear the tail,
+ * so {@link #read} keeps the records up to the first incomplete or corrupt one.
+ */
+final class AppendLog implements AutoCloseable {
+
+    static final String SUFFIX = ".kpl";
+    static final int RECORD_BYTES = 2 * Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+    private final long generation;
+    private final FileChannel channel;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+    private boolean dirty;
+
+    private AppendLog(Path path, long generation, FileChannel channel) {
+        this.path = path;
+        this.generation = generation;
+        this.channel = channel;
+    }
+
+    static AppendLog create(Path directory, long generation) throws IOException {
+        Path path = directory.resolve(name(generation));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ColumnSeries.syncDirectory(directory);
+        return new AppendLog(path, generation, channel);
+    }
+
+    /**
+     * Reads the intact records of a log left by a previous run.
+     *
+     * @return buckets in {@code [0]} and values in {@code [1]}
+     */
+    static long[][] read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int records = (int) (channel.size() / RECORD_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocate(records * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read fully
+            }
+            buffer.flip();
+            long[] buckets = new long[records];
+            long[] values = new long[records];
+            CRC32C crc = new CRC32C();
+            int intact = 0;
+            while (intact < records) {
+                int offset = intact * RECORD_BYTES;
+                crc.reset();
+                crc.update(buffer.slice(offset, 2 * Long.BYTES));
+                if ((int) crc.getValue() != buffer.getInt(offset + 2 * Long.BYTES)) {
+                    break;
+                }
+                buckets[intact] = buffer.getLong(offset);
+                values[intact] = buffer.getLong(offset + Long.BYTES);
+                intact++;
+            }
+            return new long[][] {Arrays.copyOf(buckets, intact), Arrays.copyOf(values, intact)};
+        }
+    }
+
+    static String name(long generation) {
+        return "log-%016d%s".formatted(generation, SUFFIX);
+    }
+
+    void append(long bucket, long value) throws IOException {
+        record.clear();
+        record.putLong(bucket).putLong(value);
+        crc.reset();
+        crc.update(record.array(), 0, 2 * Long.BYTES);
+        record.putInt((int) crc.getValue()).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Forces appended records to disk.
+     */
+    void sync() throws IOException {
+        if (dirty) {
+            channel.force(false);
+            dirty = false;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
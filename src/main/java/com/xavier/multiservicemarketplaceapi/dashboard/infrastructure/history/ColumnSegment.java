@@ -0,0 +1,224 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+
+/**
+ * Immutable, memory-mapped column of consecutive bucket values with a min/max/sum summary.
+ * <p>
+ * Layout (little endian): a {@value #HEADER_BYTES}-byte header followed by {@code count} longs, one per bucket from
+ * {@code firstBucket} on.
+ * <pre>
+ *  0 int   magic "KPIC"        24 long  covered log generation
+ *  4 short version             32 long  min value
+ *  6 short (reserved)          40 long  max value
+ *  8 long  first bucket        48 long  sum of values
+ * 16 int   count               56 long  (reserved)
+ * 20 int   CRC32C of values
+ * </pre>
+ * A segment is written to a temporary file, forced and then renamed into place, so a segment file is either complete
+ * or absent.
+ */
+final class ColumnSegment {
+
+    static final String SUFFIX = ".kpc";
+    static final int HEADER_BYTES = 64;
+    private static final int MAGIC = 0x4B504943;
+    private static final short VERSION = 1;
+
+    private final Path path;
+    private final long generation;
+    private final long coveredLog;
+    private final long firstBucket;
+    private final int count;
+    private final long min;
+    private final long max;
+    private final long sum;
+    private final LongBuffer values;
+
+    private ColumnSegment(Path path, long generation, long coveredLog, long firstBucket, int count, long min, long max,
+                          long sum, LongBuffer values) {
+        this.path = path;
+        this.generation = generation;
+        this.coveredLog = coveredLog;
+        this.firstBucket = firstBucket;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.values = values;
+    }
+
+    /**
+     * Writes {@code values} as segment {@code generation} of {@code directory} and maps it.
+     *
+     * @param coveredLog newest append log whose records are included, so recovery can discard that log
+     */
+    static ColumnSegment write(Path directory, long generation, long coveredLog, long firstBucket, long[] values)
+        throws IOException {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long sum = 0;
+        ByteBuffer body = ByteBuffer.allocate(values.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+            body.putLong(value);
+        }
+        body.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+            .putLong(firstBucket).putInt(values.length).putInt((int) crc.getValue())
+            .putLong(coveredLog).putLong(min).putLong(max).putLong(sum).putLong(0L)
+            .flip();
+
+        Path target = directory.resolve(name(generation));
+        Path temporary = directory.resolve(name(generation) + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[] {header, body});
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        ColumnSeries.syncDirectory(directory);
+        return open(target, generation);
+    }
+
+    /**
+     * Maps an existing segment.
+     *
+     * @throws IOException when the file is not a complete segment
+     */
+    static ColumnSegment open(Path path, long generation) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Truncated KPI segment " + path);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            ByteBuffer header = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC || header.getShort(4) != VERSION) {
+                throw new IOException("Not a KPI segment: " + path);
+            }
+            long firstBucket = header.getLong(8);
+            int count = header.getInt(16);
+            if (count < 1 || size != HEADER_BYTES + (long) count * Long.BYTES) {
+                throw new IOException("Truncated KPI segment " + path);
+            }
+            ByteBuffer body = mapped.slice(HEADER_BYTES, count * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = new CRC32C();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != header.getInt(20)) {
+                throw new IOException("Checksum mismatch in KPI segment " + path);
+            }
+            return new ColumnSegment(path, generation, header.getLong(24), firstBucket, count, header.getLong(32),
+                header.getLong(40), header.getLong(48), body.asLongBuffer());
+        }
+    }
+
+    static String name(long generation) {
+        return "seg-%016d%s".formatted(generation, SUFFIX);
+    }
+
+    /**
+     * Combines the values of buckets {@code [from, to)}, which must lie within this segment.
+     */
+    long aggregate(long from, long to, KpiAggregation aggregation) {
+        int start = (int) (from - firstBucket);
+        int end = (int) (to - firstBucket);
+        LongBuffer column = values;
+        switch (aggregation) {
+            case SUM -> {
+                long total = 0;
+                for (int i = start; i < end; i++) {
+                    total += column.get(i);
+                }
+                return total;
+            }
+            case MIN -> {
+                long least = Long.MAX_VALUE;
+                for (int i = start; i < end; i++) {
+                    least = Math.min(least, column.get(i));
+                }
+                return least;
+            }
+            default -> {
+                long most = Long.MIN_VALUE;
+                for (int i = start; i < end; i++) {
+                    most = Math.max(most, column.get(i));
+                }
+                return most;
+            }
+        }
+    }
+
+    /**
+     * Summary of the whole segment for {@code aggregation}.
+     */
+    long summary(KpiAggregation aggregation) {
+        return switch (aggregation) {
+            case SUM -> sum;
+            case MIN -> min;
+            case MAX -> max;
+        };
+    }
+
+    /**
+     * Copies the values into {@code into}, whose index 0 is bucket {@code intoFirstBucket}.
+     */
+    void copyTo(long[] into, long intoFirstBucket) {
+        values.get(0, into, (int) (firstBucket - intoFirstBucket), count);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    long coveredLog() {
+        return coveredLog;
+    }
+
+    long firstBucket() {
+        return firstBucket;
+    }
+
+    /**
+     * Bucket after the last one held.
+     */
+    long endBucket() {
+        return firstBucket + count;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long min() {
+        return min;
+    }
+
+    long max() {
+        return max;
+    }
+}
@@ -0,0 +1,371 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+
+/**
+ * Archived values of one tenant, granularity and metric: sealed {@link ColumnSegment}s plus the {@link AppendLog} of
+ * the buckets appended since the last compaction.
+ * <p>
+ * Buckets are appended in increasing order and never rewritten. Once the log holds {@code logCompactionRecords}
+ * buckets it is turned into a segment, and once {@value #MERGE_FACTOR} segments smaller than {@code segmentBuckets}
+ * pile up at the tail they are merged into one, so a series stays at a handful of mappings. Queries read an immutable
+ * {@link View} and never wait for appends or compactions.
+ * <p>
+ * Every file becomes visible through an atomic rename or is append-only, so {@link #open} can recover from a crash at
+ * any point: temporary files are deleted, segments contained in a newer segment are leftovers of a merge, logs already
+ * covered by a segment are leftovers of a compaction, and the intact records of the remaining logs are sealed.
+ */
+final class ColumnSeries implements AutoCloseable {
+
+    static final int MERGE_FACTOR = 4;
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnSeries.class);
+    private static final long[] NO_RECORDS = new long[0];
+
+    private final Path directory;
+    private final int logCompactionRecords;
+    private final int segmentBuckets;
+    private long nextGeneration;
+    private AppendLog appendLog;
+    private volatile View view;
+
+    private ColumnSeries(Path directory, int logCompactionRecords, int segmentBuckets) {
+        this.directory = directory;
+        this.logCompactionRecords = logCompactionRecords;
+        this.segmentBuckets = segmentBuckets;
+    }
+
+    static ColumnSeries open(Path directory, int logCompactionRecords, int segmentBuckets) throws IOException {
+        Files.createDirectories(directory);
+        ColumnSeries series = new ColumnSeries(directory, logCompactionRecords, segmentBuckets);
+        series.recover();
+        return series;
+    }
+
+    /**
+     * Bucket after the last archived one, {@link Long#MIN_VALUE} when the series is empty.
+     */
+    long endBucket() {
+        return view.endBucket();
+    }
+
+    /**
+     * Appends {@code bucket} unless the series already reaches past it. Call {@link #sync} to make appends durable.
+     *
+     * @return {@code false} when the bucket was already archived
+     */
+    synchronized boolean append(long bucket, long value) throws IOException {
+        View current = view;
+        if (bucket < current.endBucket()) {
+            return false;
+        }
+        appendLog.append(bucket, value);
+        int records = current.logBuckets.length;
+        long[] buckets = Arrays.copyOf(current.logBuckets, records + 1);
+        long[] values = Arrays.copyOf(current.logValues, records + 1);
+        buckets[records] = bucket;
+        values[records] = value;
+        view = new View(current.segments, buckets, values);
+        if (records + 1 >= logCompactionRecords) {
+            compact();
+        }
+        return true;
+    }
+
+    synchronized void sync() throws IOException {
+        appendLog.sync();
+    }
+
+    /**
+     * Seals the log into a segment and merges small tail segments.
+     */
+    synchronized void compact() throws IOException {
+        View current = view;
+        if (current.logBuckets.length > 0) {
+            appendLog.sync();
+            ColumnSegment[] sealed = seal(current.logBuckets, current.logValues, appendLog.generation());
+            AppendLog previous = appendLog;
+            appendLog = AppendLog.create(directory, nextGeneration++);
+            view = new View(concat(current.segments, sealed), NO_RECORDS, NO_RECORDS);
+            previous.close();
+            delete(previous.path());
+        }
+        mergeTail();
+    }
+
+    /**
+     * One value per {@code step} buckets of {@code [from, to)}. Buckets that were never archived count as zero.
+     */
+    long[] query(long from, long to, int step, KpiAggregation aggregation) {
+        View current = view;
+        int points = (int) ((to - from + step - 1) / step);
+        long[] out = new long[points];
+        int[] covered = new int[points];
+        if (aggregation != KpiAggregation.SUM) {
+            Arrays.fill(out, aggregation == KpiAggregation.MIN ? Long.MAX_VALUE : Long.MIN_VALUE);
+        }
+        for (ColumnSegment segment : current.segments) {
+            if (segment.endBucket() <= from) {
+                continue;
+            }
+            if (segment.firstBucket() >= to) {
+                break;
+            }
+            long lo = Math.max(from, segment.firstBucket());
+            long hi = Math.min(to, segment.endBucket());
+            for (int p = (int) ((lo - from) / step); p < points; p++) {
+                long windowStart = from + (long) p * step;
+                long start = Math.max(windowStart, lo);
+                long end = Math.min(windowStart + step, hi);
+                if (start >= end) {
+                    break;
+                }
+                if (start == segment.firstBucket() && end == segment.endBucket()) {
+                    out[p] = combine(out[p], segment.summary(aggregation), aggregation);
+                } else if (!dominated(segment, out[p], aggregation)) {
+                    out[p] = combine(out[p], segment.aggregate(start, end, aggregation), aggregation);
+                }
+                covered[p] += (int) (end - start);
+            }
+        }
+        long[] logBuckets = current.logBuckets;
+        for (int i = 0; i < logBuckets.length && logBuckets[i] < to; i++) {
+            if (logBuckets[i] >= from) {
+                int p = (int) ((logBuckets[i] - from) / step);
+                out[p] = combine(out[p], current.logValues[i], aggregation);
+                covered[p]++;
+            }
+        }
+        if (aggregation != KpiAggregation.SUM) {
+            for (int p = 0; p < points; p++) {
+                if (covered[p] < Math.min(step, to - from - (long) p * step)) {
+                    out[p] = combine(out[p], 0L, aggregation);
+                }
+            }
+        }
+        return out;
+    }
+
+    int segmentCount() {
+        return view.segments.length;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        appendLog.close();
+    }
+
+    private void recover() throws IOException {
+        List<ColumnSegment> segments = new ArrayList<>();
+        TreeMap<Long, Path> logs = new TreeMap<>();
+        long maxGeneration = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    delete(file);
+                    continue;
+                }
+                long generation = generationOf(name);
+                if (generation < 0) {
+                    continue;
+                }
+                maxGeneration = Math.max(maxGeneration, generation);
+                if (name.endsWith(ColumnSegment.SUFFIX)) {
+                    try {
+                        segments.add(ColumnSegment.open(file, generation));
+                    } catch (IOException e) {
+                        log.error("Setting aside unreadable KPI segment {}: {}", file, e.getMessage());
+                        Files.move(file, file.resolveSibling(name + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } else if (name.endsWith(AppendLog.SUFFIX)) {
+                    logs.put(generation, file);
+                }
+            }
+        }
+        nextGeneration = maxGeneration + 1;
+
+        // Newest first: a segment inside a newer one was an input of a merge that completed.
+        segments.sort(Comparator.comparingLong(ColumnSegment::generation).reversed());
+        List<ColumnSegment> live = new ArrayList<>();
+        long coveredLog = -1;
+        for (ColumnSegment segment : segments) {
+            boolean superseded = live.stream().anyMatch(newer -> newer.firstBucket() <= segment.firstBucket()
+                && segment.endBucket() <= newer.endBucket());
+            if (superseded) {
+                delete(segment.path());
+            } else {
+                live.add(segment);
+                coveredLog = Math.max(coveredLog, segment.coveredLog());
+            }
+        }
+        live.sort(Comparator.comparingLong(ColumnSegment::firstBucket));
+        view = new View(live.toArray(ColumnSegment[]::new), NO_RECORDS, NO_RECORDS);
+
+        long end = view.endBucket();
+        long[] buckets = NO_RECORDS;
+        long[] values = NO_RECORDS;
+        long recoveredLog = -1;
+        for (var entry : logs.entrySet()) {
+            if (entry.getKey() <= coveredLog) {
+                continue;
+            }
+            long[][] records = AppendLog.read(entry.getValue());
+            for (int i = 0; i < records[0].length; i++) {
+                if (records[0][i] >= end) {
+                    buckets = append(buckets, records[0][i]);
+                    values = append(values, records[1][i]);
+                    end = records[0][i] + 1;
+                }
+            }
+            recoveredLog = entry.getKey();
+        }
+        if (buckets.length > 0) {
+            view = new View(concat(view.segments, seal(buckets, values, recoveredLog)), NO_RECORDS, NO_RECORDS);
+        }
+        for (Path file : logs.values()) {
+            delete(file);
+        }
+        appendLog = AppendLog.create(directory, nextGeneration++);
+        mergeTail();
+    }
+
+    /**
+     * Writes log records as segments, starting a new segment at gaps of {@code segmentBuckets} or more. Only the last
+     * segment claims the log, so a crash half way leaves the log to be replayed.
+     */
+    private ColumnSegment[] seal(long[] buckets, long[] values, long logGeneration) throws IOException {
+        List<ColumnSegment> sealed = new ArrayList<>();
+        int runStart = 0;
+        for (int i = 1; i <= buckets.length; i++) {
+            if (i < buckets.length && buckets[i] - buckets[i - 1] < segmentBuckets) {
+                continue;
+            }
+            long first = buckets[runStart];
+            long[] column = new long[(int) (buckets[i - 1] - first + 1)];
+            for (int r = runStart; r < i; r++) {
+                column[(int) (buckets[r] - first)] = values[r];
+            }
+            sealed.add(ColumnSegment.write(directory, nextGeneration++, i == buckets.length ? logGeneration : -1,
+                first, column));
+            runStart = i;
+        }
+        return sealed.toArray(ColumnSegment[]::new);
+    }
+
+    private void mergeTail() throws IOException {
+        ColumnSegment[] segments = view.segments;
+        int start = segments.length;
+        while (start > 0 && segments[start - 1].count() < segmentBuckets
+            && (start == segments.length
+            || segments[start].firstBucket() - segments[start - 1].endBucket() < segmentBuckets)) {
+            start--;
+        }
+        if (segments.length - start < MERGE_FACTOR) {
+            return;
+        }
+        long first = segments[start].firstBucket();
+        long[] column = new long[(int) (segments[segments.length - 1].endBucket() - first)];
+        long coveredLog = -1;
+        for (int i = start; i < segments.length; i++) {
+            segments[i].copyTo(column, first);
+            coveredLog = Math.max(coveredLog, segments[i].coveredLog());
+        }
+        ColumnSegment merged = ColumnSegment.write(directory, nextGeneration++, coveredLog, first, column);
+        View current = view;
+        view = new View(concat(Arrays.copyOf(segments, start), merged), current.logBuckets, current.logValues);
+        for (int i = start; i < segments.length; i++) {
+            delete(segments[i].path());
+        }
+    }
+
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Not every platform can force a directory; the rename is still atomic.
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still mapped on some platforms; recovery deletes it on the next open.
+            log.debug("Could not delete {} yet: {}", file, e.getMessage());
+        }
+    }
+
+    private static long generationOf(String name) {
+        int dash = name.indexOf('-');
+        int dot = name.indexOf('.');
+        if (dash < 0 || dot < dash || !(name.endsWith(ColumnSegment.SUFFIX) || name.endsWith(AppendLog.SUFFIX))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name, dash + 1, dot, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long combine(long current, long value, KpiAggregation aggregation) {
+        return switch (aggregation) {
+            case SUM -> current + value;
+            case MIN -> Math.min(current, value);
+            case MAX -> Math.max(current, value);
+        };
+    }
+
+    /**
+     * Whether the segment's summary proves it cannot change {@code current}, so its buckets need not be scanned.
+     */
+    private static boolean dominated(ColumnSegment segment, long current, KpiAggregation aggregation) {
+        return switch (aggregation) {
+            case SUM -> false;
+            case MIN -> segment.min() >= current;
+            case MAX -> segment.max() <= current;
+        };
+    }
+
+    private static ColumnSegment[] concat(ColumnSegment[] segments, ColumnSegment... more) {
+        ColumnSegment[] all = Arrays.copyOf(segments, segments.length + more.length);
+        System.arraycopy(more, 0, all, segments.length, more.length);
+        return all;
+    }
+
+    private static long[] append(long[] array, long value) {
+        long[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = value;
+        return grown;
+    }
+
+    /**
+     * Segments sorted by bucket, then the log records past the last segment.
+     */
+    private record View(ColumnSegment[] segments, long[] logBuckets, long[] logValues) {
+
+        long endBucket() {
+            if (logBuckets.length > 0) {
+                return logBuckets[logBuckets.length - 1] + 1;
+            }
+            return segments.length > 0 ? segments[segments.length - 1].endBucket() : Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.ClosedBuckets;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistory;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPoint;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPort;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiMetric;
+
+/**
+ * {@link KpiHistoryPort} kept in local append-only column files, one {@link ColumnSeries} directory per tenant,
+ * granularity and metric ({@code <directory>/<tenant>/<granularity>/<metric>/}).
+ * <p>
+ * A series is a dense column of longs, one per bucket, so "daily GMV for two years" is a scan of 730 consecutive
+ * longs in a memory-mapped file and never touches PostgreSQL. Segment summaries let downsampling skip whole segments.
+ * Series are opened on first use and stay open; each segment is one mapping.
+ */
+public class ColumnarKpiHistoryStore implements KpiHistoryPort, AutoCloseable {
+
+    static final int MAX_POINTS = 10_000;
+    private static final KpiMetric[] METRICS = KpiMetric.values();
+
+    private final Path directory;
+    private final int logCompactionRecords;
+    private final int segmentBuckets;
+    private final ConcurrentHashMap<SeriesKey, ColumnSeries> series = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param logCompactionRecords appended buckets after which a series log is sealed into a segment
+     * @param segmentBuckets       segments smaller than this are merged together
+     */
+    public ColumnarKpiHistoryStore(Path directory, int logCompactionRecords, int segmentBuckets) {
+        if (logCompactionRecords < 1 || segmentBuckets < 1) {
+            throw new IllegalArgumentException("logCompactionRecords and segmentBuckets must be positive");
+        }
+        this.directory = directory;
+        this.logCompactionRecords = logCompactionRecords;
+        this.segmentBuckets = segmentBuckets;
+    }
+
+    @Override
+    public Optional<LocalDateTime> archivedUntil(UUID tenantId, Granularity granularity) {
+        long until = Long.MAX_VALUE;
+        for (KpiMetric metric : METRICS) {
+            ColumnSeries column = series(tenantId, granularity, metric, false);
+            long end = column != null ? column.endBucket() : Long.MIN_VALUE;
+            if (end == Long.MIN_VALUE) {
+                return Optional.empty();
+            }
+            until = Math.min(until, end);
+        }
+        return Optional.of(granularity.startOf(until));
+    }
+
+    @Override
+    public void append(UUID tenantId, ClosedBuckets buckets) {
+        if (buckets.size() == 0) {
+            return;
+        }
+        Granularity granularity = buckets.granularity();
+        long first = granularity.bucketOf(buckets.from());
+        long[][] counters = buckets.counters();
+        try {
+            for (KpiMetric metric : METRICS) {
+                ColumnSeries column = series(tenantId, granularity, metric, true);
+                for (int i = 0; i < counters.length; i++) {
+                    column.append(first + i, counters[i][metric.ordinal()]);
+                }
+                column.sync();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive KPIs of tenant " + tenantId, e);
+        }
+    }
+
+    @Override
+    public KpiHistory query(UUID tenantId, KpiMetric metric, Granularity granularity, LocalDateTime from,
+                            LocalDateTime to, int step, KpiAggregation aggregation) {
+        long fromBucket = granularity.bucketOf(from);
+        long toBucket = granularity.bucketOf(to);
+        if (!granularity.startOf(toBucket).equals(to)) {
+            toBucket++;
+        }
+        if (step < 1 || fromBucket >= toBucket) {
+            throw new IllegalArgumentException("The window must not be empty and step must be positive.");
+        }
+        if ((toBucket - fromBucket + step - 1) / step > MAX_POINTS) {
+            throw new IllegalArgumentException("A history query returns at most %d points.".formatted(MAX_POINTS));
+        }
+        ColumnSeries column = series(tenantId, granularity, metric, false);
+        long[] values = column != null
+            ? column.query(fromBucket, toBucket, step, aggregation)
+            : new long[(int) ((toBucket - fromBucket + step - 1) / step)];
+        List<KpiHistoryPoint> points = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            points.add(new KpiHistoryPoint(granularity.startOf(fromBucket + (long) i * step), values[i]));
+        }
+        return new KpiHistory(tenantId, metric, granularity, step, aggregation, granularity.startOf(fromBucket),
+            granularity.startOf(toBucket), points);
+    }
+
+    /**
+     * Seals the logs of every open series and merges small segments; otherwise that happens as buckets are appended.
+     */
+    public void compact() {
+        try {
+            for (ColumnSeries column : series.values()) {
+                column.compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact the KPI history", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        for (ColumnSeries column : series.values()) {
+            column.close();
+        }
+        series.clear();
+    }
+
+    private ColumnSeries series(UUID tenantId, Granularity granularity, KpiMetric metric, boolean create) {
+        if (closed) {
+            throw new IllegalStateException("The KPI history store is closed.");
+        }
+        SeriesKey key = new SeriesKey(tenantId, granularity, metric);
+        ColumnSeries column = series.get(key);
+        if (column != null) {
+            return column;
+        }
+        Path path = directory.resolve(tenantId.toString())
+            .resolve(granularity.name().toLowerCase(Locale.ROOT))
+            .resolve(metric.name().toLowerCase(Locale.ROOT));
+        if (!create && !Files.isDirectory(path)) {
+            return null;
+        }
+        return series.computeIfAbsent(key, k -> {
+            try {
+                return ColumnSeries.open(path, logCompactionRecords, segmentBuckets);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open KPI history " + path, e);
+            }
+        });
+    }
+
+    private record SeriesKey(UUID tenantId, Granularity granularity, KpiMetric metric) {
+    }
+}
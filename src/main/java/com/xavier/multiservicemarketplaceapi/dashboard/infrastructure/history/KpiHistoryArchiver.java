@@ -0,0 +1,94 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.ClosedBuckets;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPort;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiRollups;
+
+/**
+ * Periodically copies finished buckets from the {@link KpiRollups} into the {@link KpiHistoryPort}, picking up each
+ * tenant where its archive ends. The first run waits one interval so a startup rebuild of the rollups comes first.
+ */
+public class KpiHistoryArchiver implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(KpiHistoryArchiver.class);
+
+    private final KpiRollups rollups;
+    private final KpiHistoryPort history;
+    private final List<Granularity> granularities;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public KpiHistoryArchiver(KpiRollups rollups, KpiHistoryPort history, List<Granularity> granularities,
+                              Duration interval) {
+        this.rollups = rollups;
+        this.history = history;
+        this.granularities = List.copyOf(granularities);
+        this.interval = interval;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null || granularities.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("kpi-archiver").daemon(true).factory());
+        long millis = Math.max(1, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::archiveQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Archives every finished bucket not archived yet.
+     *
+     * @return number of buckets archived, over all tenants and granularities
+     */
+    public long archive() {
+        long archived = 0;
+        for (UUID tenantId : rollups.tenantIds()) {
+            for (Granularity granularity : granularities) {
+                LocalDateTime until = history.archivedUntil(tenantId, granularity).orElse(null);
+                ClosedBuckets buckets = rollups.closedBuckets(tenantId, granularity, until);
+                history.append(tenantId, buckets);
+                archived += buckets.size();
+            }
+        }
+        return archived;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler == null) {
+            return;
+        }
+        // No interrupt: an interrupted FileChannel closes itself, so let a running archive finish.
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+    }
+
+    private void archiveQuietly() {
+        try {
+            long archived = archive();
+            if (archived > 0) {
+                log.debug("Archived {} KPI buckets.", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("KPI archiving failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.web;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistory;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPort;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiMetric;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiRollups;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiSnapshot;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * KPI dashboards of the current tenant, read from the precomputed rollups and, for long ranges, from the archive.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class KpiController {
+
+    private final KpiRollups rollups;
+    private final KpiHistoryPort history;
+
+    public KpiController(KpiRollups rollups, KpiHistoryPort history) {
+        this.rollups = rollups;
+        this.history = history;
+    }
+
+    /**
+     * @param from inclusive, on the tenant's wall clock; defaults to 24 buckets before {@code to}
+     * @param to   exclusive, on the tenant's wall clock; defaults to the end of the current bucket
+     */
+    @GetMapping("/kpis")
+    public KpiSnapshot kpis(@RequestParam(defaultValue = "HOUR") Granularity granularity,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                            LocalDateTime from,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                            LocalDateTime to) {
+        try {
+            return rollups.snapshot(TenantContextHolder.requireTenantId(), granularity, from, to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * One archived metric over {@code [from, to)}, e.g. weekly GMV with {@code granularity=DAY&step=7}. Buckets not
+     * archived yet (the current one, at least) read as zero.
+     */
+    @GetMapping("/kpis/history")
+    public KpiHistory history(@RequestParam KpiMetric metric,
+                              @RequestParam(defaultValue = "DAY") Granularity granularity,
+                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                              @RequestParam(defaultValue = "1") int step,
+                              @RequestParam(defaultValue = "SUM") KpiAggregation aggregation) {
+        try {
+            return history.query(TenantContextHolder.requireTenantId(), metric, granularity, from, to, step,
+                aggregation);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
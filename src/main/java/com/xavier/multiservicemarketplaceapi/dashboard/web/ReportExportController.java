@@ -0,0 +1,108 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.web;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.JdbcReportExporter;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.ReportExport;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.ReportExportLimiter;
+import com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export.ReportQuery;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Report exports of the current tenant, streamed from the database as they are written.
+ */
+@RestController
+@RequestMapping("/api/dashboard/exports")
+public class ReportExportController {
+
+    static final String EXPORT_ID_HEADER = "X-Export-Id";
+
+    private final JdbcReportExporter exporter;
+    private final ReportExportLimiter limiter;
+
+    public ReportExportController(JdbcReportExporter exporter, ReportExportLimiter limiter) {
+        this.exporter = exporter;
+        this.limiter = limiter;
+    }
+
+    /**
+     * Streams {@code pedidos} or {@code itens-pedido} created in {@code [from, to)}. The export id comes back in
+     * {@value #EXPORT_ID_HEADER}; a cancelled or failed export ends the response early instead of completing it.
+     */
+    @GetMapping("/{report}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String report,
+                                                        @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                                        @RequestParam(defaultValue = "false") boolean gzip,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        Instant from,
+                                                        @RequestParam(required = false)
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        Instant to) {
+        // The body is written on an async thread, where the tenant context is no longer bound.
+        TenantContext tenant = TenantContextHolder.require();
+        ReportType type;
+        ReportQuery query;
+        try {
+            type = ReportType.fromPath(report);
+            query = ReportQuery.of(type, tenant.tenantId(), from, to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        ReportExport export = limiter.start(tenant, type, format);
+        StreamingResponseBody body = out -> {
+            try (export) {
+                exporter.export(export, query, gzip, out);
+            }
+        };
+        String filename = type.path() + "." + format.extension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.contentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build()
+                .toString())
+            .header(EXPORT_ID_HEADER, export.id().toString())
+            .body(body);
+    }
+
+    @GetMapping
+    public List<RunningExport> running() {
+        return limiter.running(TenantContextHolder.requireTenantId()).stream()
+            .map(RunningExport::of)
+            .toList();
+    }
+
+    @DeleteMapping("/{exportId}")
+    public ResponseEntity<Void> cancel(@PathVariable UUID exportId) {
+        return limiter.cancel(TenantContextHolder.requireTenantId(), exportId)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+
+    public record RunningExport(UUID id, ReportType report, ExportFormat format, Instant startedAt, long rows) {
+
+        static RunningExport of(ReportExport export) {
+            return new RunningExport(export.id(), export.report(), export.format(), export.startedAt(),
+                export.rows());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.xavier.multiservicemarketplaceapi.iam.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserAccountRepository;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.BoundedPasswordHasher;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.JwtCodec;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.LoginService;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.TokenAuthenticator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires token issuing and verification, the verified-token cache and the password-hashing pool.
+ */
+@Configuration
+public class IamConfiguration {
+
+    @Bean
+    JwtCodec jwtCodec(IamProperties properties, ObjectMapper objectMapper) {
+        IamProperties.Token token = properties.getToken();
+        if (token.getSecret() == null) {
+            throw new IllegalStateException("iam.token.secret must be set");
+        }
+        return new JwtCodec(token.getSecret().getBytes(StandardCharsets.UTF_8), token.getIssuer(), objectMapper);
+    }
+
+    @Bean
+    TokenAuthenticator tokenAuthenticator(JwtCodec jwtCodec, UserAccountRepository userAccountRepository,
+                                          IamProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        IamProperties.TokenCache cache = properties.getTokenCache();
+        return new TokenAuthenticator(jwtCodec, userAccountRepository::findMembershipById, cache.getMaximumSize(),
+            cache.getMaxTtl(), Clock.systemUTC(), meterRegistry.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    BoundedPasswordHasher passwordHasher(IamProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        IamProperties.PasswordHashing hashing = properties.getPasswordHashing();
+        return new BoundedPasswordHasher(hashing.getThreads(), hashing.getQueueCapacity(), hashing.getStrength(),
+            meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    LoginService loginService(UserAccountRepository userAccountRepository, BoundedPasswordHasher passwordHasher,
+                              JwtCodec jwtCodec, IamProperties properties,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LoginService(userAccountRepository, passwordHasher, jwtCodec, properties.getToken().getTtl(),
+            Clock.systemUTC(), meterRegistry.getIfAvailable());
+    }
+}
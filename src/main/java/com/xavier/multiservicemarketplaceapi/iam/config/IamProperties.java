@@ -0,0 +1,149 @@
+package com.xavier.multiservicemarketplaceapi.iam.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "iam")
+public class IamProperties {
+
+    private boolean requireAuthentication = true;
+    private List<String> publicPaths = new ArrayList<>(List.of("/actuator/health/**", "/actuator/info",
+        "/api/auth/**"));
+    private Token token = new Token();
+    private TokenCache tokenCache = new TokenCache();
+    private PasswordHashing passwordHashing = new PasswordHashing();
+
+    public boolean isRequireAuthentication() {
+        return requireAuthentication;
+    }
+
+    public void setRequireAuthentication(boolean requireAuthentication) {
+        this.requireAuthentication = requireAuthentication;
+    }
+
+    public List<String> getPublicPaths() {
+        return publicPaths;
+    }
+
+    public void setPublicPaths(List<String> publicPaths) {
+        this.publicPaths = publicPaths != null ? List.copyOf(publicPaths) : List.of();
+    }
+
+    public Token getToken() {
+        return token;
+    }
+
+    public void setToken(Token token) {
+        this.token = token;
+    }
+
+    public TokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    public void setTokenCache(TokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public void setPasswordHashing(PasswordHashing passwordHashing) {
+        this.passwordHashing = passwordHashing;
+    }
+
+    /**
+     * Access tokens: HS256 under {@code secret} (at least 32 bytes), valid for {@code ttl}.
+     */
+    public static class Token {
+        private String secret;
+        private String issuer = "multiservicemarketplace-api";
+        private Duration ttl = Duration.ofHours(1);
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public String getIssuer() {
+            return issuer;
+        }
+
+        public void setIssuer(String issuer) {
+            this.issuer = issuer;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * Verified tokens kept in memory; {@code maxTtl} bounds how stale a cached membership decision may get.
+     */
+    public static class TokenCache {
+        private long maximumSize = 100_000;
+        private Duration maxTtl = Duration.ofMinutes(5);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getMaxTtl() {
+            return maxTtl;
+        }
+
+        public void setMaxTtl(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+    }
+
+    /**
+     * The bounded pool BCrypt runs on; logins beyond {@code threads} running plus {@code queueCapacity} waiting are
+     * turned away with 503.
+     */
+    public static class PasswordHashing {
+        private int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueCapacity = 256;
+        private int strength = 10;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+    }
+}
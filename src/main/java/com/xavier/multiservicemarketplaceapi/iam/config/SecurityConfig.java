@@ -0,0 +1,61 @@
+package com.xavier.multiservicemarketplaceapi.iam.config;
+
+import jakarta.servlet.DispatcherType;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserRole;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.TokenAuthenticator;
+import com.xavier.multiservicemarketplaceapi.iam.web.BearerTokenAuthenticationFilter;
+
+/**
+ * Stateless bearer-token security: no session, no CSRF (no cookies are issued), 401 for an unauthenticated request
+ * to anything but {@code iam.public-paths}. With {@code iam.require-authentication=false} tokens are still honoured
+ * but not required.
+ * <p>
+ * Actuator endpoints outside the public paths (tenant traffic, metrics tagged by tenant) always need a
+ * {@code PLATFORM_ADMIN} token, whatever {@code iam.require-authentication} says.
+ */
+@Configuration
+@EnableMethodSecurity
+public class SecurityConfig {
+
+    @Bean
+    SecurityFilterChain securityFilterChain(HttpSecurity http, TokenAuthenticator tokenAuthenticator,
+                                            IamProperties properties) throws Exception {
+        String[] publicPaths = properties.getPublicPaths().toArray(String[]::new);
+        http
+            .csrf(csrf -> csrf.disable())
+            .httpBasic(basic -> basic.disable())
+            .formLogin(form -> form.disable())
+            .logout(logout -> logout.disable())
+            .requestCache(cache -> cache.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .addFilterBefore(new BearerTokenAuthenticationFilter(tokenAuthenticator),
+                UsernamePasswordAuthenticationFilter.class)
+            .authorizeHttpRequests(auth -> {
+                auth.dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.ASYNC).permitAll();
+                if (publicPaths.length > 0) {
+                    auth.requestMatchers(publicPaths).permitAll();
+                }
+                auth.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole(UserRole.PLATFORM_ADMIN.name());
+                if (properties.isRequireAuthentication()) {
+                    auth.anyRequest().authenticated();
+                } else {
+                    auth.anyRequest().permitAll();
+                }
+            });
+        return http.build();
+    }
+}
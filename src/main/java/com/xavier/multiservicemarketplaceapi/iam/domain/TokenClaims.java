@@ -0,0 +1,17 @@
+package com.xavier.multiservicemarketplaceapi.iam.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What a verified access token says about its bearer.
+ *
+ * @param userId   {@code sub}
+ * @param tenantId {@code tid}, the tenant the user logged in to
+ */
+public record TokenClaims(UUID userId, UUID tenantId, UserRole role, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
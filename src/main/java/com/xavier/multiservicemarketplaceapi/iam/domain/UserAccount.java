@@ -0,0 +1,84 @@
+package com.xavier.multiservicemarketplaceapi.iam.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantScopedEntity;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TimeOrderedUuid;
+
+/**
+ * A login of one tenant. Emails are stored lower-case and are unique within the tenant; {@code passwordHash} is a
+ * BCrypt hash.
+ */
+@Entity
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = "uk_users_tenant_email",
+    columnNames = {"tenant_id", "email"}))
+public class UserAccount extends TenantScopedEntity {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(name = "password_hash", nullable = false, length = 100)
+    private String passwordHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private UserRole role;
+
+    @Column(nullable = false)
+    private boolean ativo;
+
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    protected UserAccount() {
+    }
+
+    public UserAccount(UUID id, UUID tenantId, String email, String passwordHash, UserRole role, boolean ativo,
+                       Instant criadoEm) {
+        super(tenantId);
+        this.id = id;
+        this.email = email.toLowerCase();
+        this.passwordHash = passwordHash;
+        this.role = role;
+        this.ativo = ativo;
+        this.criadoEm = criadoEm;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
@@ -0,0 +1,25 @@
+package com.xavier.multiservicemarketplaceapi.iam.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface UserAccountRepository extends Repository<UserAccount, UUID> {
+
+    UserAccount save(UserAccount userAccount);
+
+    Optional<UserAccount> findByTenantIdAndEmail(UUID tenantId, String email);
+
+    /**
+     * Native on purpose: the tenant filter must not hide a platform admin who belongs to another tenant. The id is
+     * read as text because drivers disagree on how a native uuid column comes back.
+     */
+    @Query(value = """
+        SELECT CAST(tenant_id AS VARCHAR(36)) AS tenantId, role AS role, ativo AS ativo
+        FROM users
+        WHERE id = :id""", nativeQuery = true)
+    Optional<UserMembership> findMembershipById(@Param("id") UUID id);
+}
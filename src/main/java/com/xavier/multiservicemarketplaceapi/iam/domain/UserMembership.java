@@ -0,0 +1,19 @@
+package com.xavier.multiservicemarketplaceapi.iam.domain;
+
+import java.util.UUID;
+
+/**
+ * The parts of a user that decide which tenants they may act on.
+ */
+public interface UserMembership {
+
+    UUID getTenantId();
+
+    String getRole();
+
+    boolean isAtivo();
+
+    default boolean allows(UUID tenantId) {
+        return isAtivo() && (getTenantId().equals(tenantId) || UserRole.PLATFORM_ADMIN.name().equals(getRole()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.iam.domain;
+
+public enum UserRole {
+    CLIENTE,
+    MERCHANT,
+    PRESTADOR,
+    TENANT_ADMIN,
+
+    /**
+     * Operates the platform; may act on any tenant.
+     */
+    PLATFORM_ADMIN
+}
@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.iam.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base of the IAM errors returned to clients; each carries the HTTP status it maps to. Built without a stack trace:
+ * bad tokens and passwords arrive in bulk from clients, and the message says all there is to say.
+ */
+public abstract class AuthenticationFailedException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected AuthenticationFailedException(String message, HttpStatus status) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
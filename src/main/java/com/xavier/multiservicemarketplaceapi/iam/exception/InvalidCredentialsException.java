@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.iam.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised for a login with an unknown email, a wrong password or an inactive user; the message does not say which.
+ */
+public class InvalidCredentialsException extends AuthenticationFailedException {
+
+    public InvalidCredentialsException() {
+        super("Invalid email or password.", HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.iam.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised for a bearer token that is malformed, signed with another key, issued by someone else or expired.
+ */
+public class InvalidTokenException extends AuthenticationFailedException {
+
+    public InvalidTokenException(String message) {
+        super(message, HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.iam.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when every password-hashing thread is busy and the wait queue is full; the client should retry shortly.
+ */
+public class LoginCapacityExceededException extends AuthenticationFailedException {
+
+    public LoginCapacityExceededException() {
+        super("Too many logins in progress; retry shortly.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.xavier.multiservicemarketplaceapi.iam.exception;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when an authenticated user calls a tenant route of a tenant they do not belong to.
+ */
+public class TenantAccessDeniedException extends AuthenticationFailedException {
+
+    public TenantAccessDeniedException(UUID userId, String tenantSlug) {
+        super("User %s does not belong to tenant '%s'.".formatted(userId, tenantSlug), HttpStatus.FORBIDDEN);
+    }
+}
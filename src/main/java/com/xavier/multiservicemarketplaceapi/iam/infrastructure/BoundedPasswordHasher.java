@@ -0,0 +1,77 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs BCrypt on a small fixed pool with a bounded queue. A hash costs tens of milliseconds of CPU by design, so a
+ * login burst on the request threads would starve every other request; here it queues behind at most
+ * {@code threads} hashes and is turned away ({@link RejectedExecutionException}) once {@code queueCapacity} logins
+ * wait.
+ */
+public class BoundedPasswordHasher implements AutoCloseable {
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final String dummyHash;
+
+    public BoundedPasswordHasher(int threads, int queueCapacity, int strength, MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = encoder.encode("not-a-password");
+        if (meterRegistry != null) {
+            Gauge.builder("iam.password_hashing.queued", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+            Gauge.builder("iam.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @throws RejectedExecutionException when the pool is saturated
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Spends the same time as a real check against nothing, so an unknown email cannot be told apart by latency.
+     *
+     * @throws RejectedExecutionException when the pool is saturated
+     */
+    public CompletableFuture<Boolean> mismatch(CharSequence rawPassword) {
+        return submit(() -> {
+            encoder.matches(rawPassword, dummyHash);
+            return false;
+        });
+    }
+
+    /**
+     * @throws RejectedExecutionException when the pool is saturated
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserRole;
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidTokenException;
+
+/**
+ * Issues and verifies compact JWS access tokens signed with HMAC-SHA256 ({@code HS256}) under one shared secret.
+ * Only the header this codec writes is accepted, so a token cannot pick its own algorithm ({@code none}, RS/HS
+ * confusion).
+ */
+public class JwtCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+        "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JwtCodec(byte[] secret, String issuer, ObjectMapper objectMapper) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("The token secret must have at least %d bytes".formatted(
+                MIN_SECRET_BYTES));
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.issuer = issuer;
+        this.reader = objectMapper.readerFor(JsonNode.class);
+        this.writer = objectMapper.writerFor(Map.class);
+    }
+
+    public String issue(TokenClaims claims) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("iss", issuer);
+        payload.put("sub", claims.userId().toString());
+        payload.put("tid", claims.tenantId().toString());
+        payload.put("role", claims.role().name());
+        payload.put("iat", claims.issuedAt().getEpochSecond());
+        payload.put("exp", claims.expiresAt().getEpochSecond());
+        try {
+            String signingInput = HEADER + '.' + ENCODER.encodeToString(writer.writeValueAsBytes(payload));
+            return signingInput + '.' + ENCODER.encodeToString(sign(signingInput));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * @throws InvalidTokenException unless {@code token} was issued by this codec, untampered, and is not expired at
+     *                               {@code now}
+     */
+    public TokenClaims verify(String token, Instant now) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot < 0 || firstDot == lastDot || !HEADER.equals(token.substring(0, firstDot))) {
+            throw new InvalidTokenException("Malformed or unsupported token.");
+        }
+        byte[] signature;
+        try {
+            signature = DECODER.decode(token.substring(lastDot + 1));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTokenException("Malformed token signature.");
+        }
+        if (!MessageDigest.isEqual(signature, sign(token.substring(0, lastDot)))) {
+            throw new InvalidTokenException("Invalid token signature.");
+        }
+        TokenClaims claims = claims(token.substring(firstDot + 1, lastDot));
+        if (claims.isExpired(now)) {
+            throw new InvalidTokenException("Token expired.");
+        }
+        return claims;
+    }
+
+    private TokenClaims claims(String encodedPayload) {
+        try {
+            JsonNode payload = reader.readValue(DECODER.decode(encodedPayload));
+            if (!issuer.equals(payload.path("iss").asText())) {
+                throw new InvalidTokenException("Token issued by someone else.");
+            }
+            return new TokenClaims(UUID.fromString(payload.path("sub").asText()),
+                UUID.fromString(payload.path("tid").asText()), UserRole.valueOf(payload.path("role").asText()),
+                Instant.ofEpochSecond(payload.path("iat").asLong()),
+                Instant.ofEpochSecond(payload.path("exp").asLong()));
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new InvalidTokenException("Malformed token claims.");
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            // Mac instances are not thread-safe; creating one is cheap next to a cache miss.
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserAccount;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserAccountRepository;
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidCredentialsException;
+import com.xavier.multiservicemarketplaceapi.iam.exception.LoginCapacityExceededException;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Exchanges a tenant user's email and password for an access token. The password check runs on the
+ * {@link BoundedPasswordHasher}, so the returned future completes off the request thread.
+ */
+public class LoginService {
+
+    private final UserAccountRepository users;
+    private final BoundedPasswordHasher hasher;
+    private final JwtCodec codec;
+    private final Duration tokenTtl;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public LoginService(UserAccountRepository users, BoundedPasswordHasher hasher, JwtCodec codec, Duration tokenTtl,
+                        Clock clock, MeterRegistry meterRegistry) {
+        this.users = users;
+        this.hasher = hasher;
+        this.codec = codec;
+        this.tokenTtl = tokenTtl;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return completes with the token, or exceptionally with {@link InvalidCredentialsException}
+     * @throws LoginCapacityExceededException when too many logins are already waiting for a hash
+     */
+    public CompletableFuture<TokenResponse> login(TenantContext tenant, String email, String password) {
+        long start = System.nanoTime();
+        Optional<UserAccount> user = users
+            .findByTenantIdAndEmail(tenant.tenantId(), email.trim().toLowerCase(Locale.ROOT))
+            .filter(UserAccount::isAtivo);
+        CompletableFuture<Boolean> matches;
+        try {
+            matches = user.isPresent()
+                ? hasher.matches(password, user.get().getPasswordHash())
+                : hasher.mismatch(password);
+        } catch (RejectedExecutionException ex) {
+            record(start, "rejected");
+            throw new LoginCapacityExceededException();
+        }
+        return matches.thenApply(matched -> {
+            if (!matched) {
+                record(start, "invalid");
+                throw new InvalidCredentialsException();
+            }
+            Instant now = clock.instant();
+            UserAccount account = user.get();
+            String token = codec.issue(new TokenClaims(account.getId(), account.getTenantId(), account.getRole(), now,
+                now.plus(tokenTtl)));
+            record(start, "success");
+            return new TokenResponse(token, "Bearer", tokenTtl.toSeconds());
+        });
+    }
+
+    private void record(long start, String outcome) {
+        if (meterRegistry != null) {
+            Timer.builder("iam.auth.login").tag("outcome", outcome).register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public record TokenResponse(String accessToken, String tokenType, long expiresIn) {
+    }
+}
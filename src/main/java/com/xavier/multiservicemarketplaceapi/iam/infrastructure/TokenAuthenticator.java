@@ -0,0 +1,154 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserMembership;
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidTokenException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+/**
+ * Authenticates bearer tokens on the request path. A token is verified (signature, issuer, expiry, claims) the first
+ * time it is seen; the result is cached under the SHA-256 of the token, never the token itself, until the token
+ * expires or {@code maxTtl} passes, whichever is first. The tenant-membership decision, which needs a database
+ * lookup, is cached in the same entry, so a repeat request costs one hash and one map lookup.
+ * <p>
+ * {@code maxTtl} bounds how long a deactivated user or a revoked membership keeps working on a cached token;
+ * {@link #invalidateUser(UUID)} drops a user's entries right away. Invalid tokens are not cached, so garbage tokens
+ * cannot evict valid ones.
+ */
+public class TokenAuthenticator {
+
+    static final String CACHE_NAME = "verified-tokens";
+
+    private final JwtCodec codec;
+    private final Function<UUID, Optional<UserMembership>> memberships;
+    private final Clock clock;
+    private final Cache<TokenHash, VerifiedToken> cache;
+    private final Timer tokenHits;
+    private final Timer tokenMisses;
+    private final Timer tokenRejections;
+    private final Timer membershipHits;
+    private final Timer membershipMisses;
+
+    /**
+     * @param memberships looks a user's membership up by id, whatever tenant is current
+     */
+    public TokenAuthenticator(JwtCodec codec, Function<UUID, Optional<UserMembership>> memberships,
+                              long maximumSize, Duration maxTtl, Clock clock, MeterRegistry meterRegistry) {
+        this.codec = codec;
+        this.memberships = memberships;
+        this.clock = clock;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize);
+        Caffeine<TokenHash, VerifiedToken> expiring = builder.expireAfter(Expiry.creating(
+            (TokenHash key, VerifiedToken token) -> timeToLive(token, maxTtl)));
+        if (meterRegistry != null) {
+            CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+            this.cache = expiring.recordStats(() -> statsCounter).build();
+            statsCounter.registerSizeMetric(cache);
+        } else {
+            this.cache = expiring.build();
+        }
+        this.tokenHits = timer(meterRegistry, "iam.auth.token", "hit");
+        this.tokenMisses = timer(meterRegistry, "iam.auth.token", "miss");
+        this.tokenRejections = timer(meterRegistry, "iam.auth.token", "invalid");
+        this.membershipHits = timer(meterRegistry, "iam.auth.membership", "hit");
+        this.membershipMisses = timer(meterRegistry, "iam.auth.membership", "miss");
+    }
+
+    /**
+     * @throws InvalidTokenException when the token does not verify or has expired
+     */
+    public VerifiedToken authenticate(String token) {
+        long start = System.nanoTime();
+        TokenHash key = TokenHash.of(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        Instant now = clock.instant();
+        if (cached != null) {
+            if (!cached.claims().isExpired(now)) {
+                record(tokenHits, start);
+                return cached;
+            }
+            cache.invalidate(key);
+        }
+        try {
+            VerifiedToken verified = new VerifiedToken(codec.verify(token, now));
+            cache.put(key, verified);
+            record(tokenMisses, start);
+            return verified;
+        } catch (InvalidTokenException ex) {
+            record(tokenRejections, start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Whether the token's user may act on {@code tenantId}: an active user of that tenant or an active platform admin.
+     */
+    public boolean isMember(VerifiedToken token, UUID tenantId) {
+        long start = System.nanoTime();
+        Boolean cached = token.membership(tenantId);
+        if (cached != null) {
+            record(membershipHits, start);
+            return cached;
+        }
+        boolean member = memberships.apply(token.claims().userId())
+            .filter(membership -> membership.allows(tenantId))
+            .isPresent();
+        token.rememberMembership(tenantId, member);
+        record(membershipMisses, start);
+        return member;
+    }
+
+    public void invalidateUser(UUID userId) {
+        cache.asMap().values().removeIf(token -> token.claims().userId().equals(userId));
+    }
+
+    private Duration timeToLive(VerifiedToken token, Duration maxTtl) {
+        Duration untilExpiry = Duration.between(clock.instant(), token.claims().expiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String result) {
+        return meterRegistry != null
+            ? Timer.builder(name).tag("result", result).register(meterRegistry)
+            : null;
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record TokenHash(long first, long second, long third, long fourth) {
+
+        static TokenHash of(String token) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+                return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+
+/**
+ * A token whose signature and expiry were checked once, cached with the last tenant-membership decision taken for
+ * it. A token is almost always presented with the tenant it was issued for, so one decision is all that is kept.
+ */
+public final class VerifiedToken {
+
+    private final TokenClaims claims;
+    private volatile Membership membership;
+
+    VerifiedToken(TokenClaims claims) {
+        this.claims = claims;
+    }
+
+    public TokenClaims claims() {
+        return claims;
+    }
+
+    /**
+     * @return the cached decision for {@code tenantId}, or {@code null} when none was taken yet
+     */
+    Boolean membership(UUID tenantId) {
+        Membership decided = membership;
+        return decided != null && decided.tenantId().equals(tenantId) ? decided.member() : null;
+    }
+
+    void rememberMembership(UUID tenantId, boolean member) {
+        membership = new Membership(tenantId, member);
+    }
+
+    private record Membership(UUID tenantId, boolean member) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidCredentialsException;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.LoginService;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.LoginService.TokenResponse;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Login for the users of the current tenant. The response is asynchronous: the request thread is released while the
+ * password is hashed.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final LoginService loginService;
+
+    public AuthController(LoginService loginService) {
+        this.loginService = loginService;
+    }
+
+    @PostMapping("/login")
+    public CompletableFuture<TokenResponse> login(@RequestBody LoginRequest request) {
+        if (request.email() == null || request.password() == null) {
+            throw new InvalidCredentialsException();
+        }
+        return loginService.login(TenantContextHolder.require(), request.email(), request.password());
+    }
+
+    public record LoginRequest(String email, String password) {
+    }
+}
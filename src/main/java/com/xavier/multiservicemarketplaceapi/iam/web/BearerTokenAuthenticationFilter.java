@@ -0,0 +1,64 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidTokenException;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.TokenAuthenticator;
+
+/**
+ * Authenticates {@code Authorization: Bearer} requests through the {@link TokenAuthenticator}. Requests without a
+ * bearer token pass through unauthenticated; a token that does not verify is answered with 401 right away.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "Bearer ";
+
+    private final TokenAuthenticator authenticator;
+
+    public BearerTokenAuthenticationFilter(TokenAuthenticator authenticator) {
+        this.authenticator = authenticator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        TokenAuthentication authentication;
+        try {
+            authentication = new TokenAuthentication(
+                authenticator.authenticate(authorization.substring(PREFIX.length()).trim()));
+        } catch (InvalidTokenException ex) {
+            SecurityContextHolder.clearContext();
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, ex.getMessage());
+            return;
+        }
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Async re-dispatches are authenticated again: the context is not kept between dispatches, and a second look-up
+     * is a cache hit.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.xavier.multiservicemarketplaceapi.iam.exception.AuthenticationFailedException;
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidTokenException;
+import com.xavier.multiservicemarketplaceapi.iam.exception.LoginCapacityExceededException;
+
+@ControllerAdvice
+public class IamErrorHandler {
+
+    private static final String LOGIN_RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<IamErrorResponse> handleAuthenticationErrors(AuthenticationFailedException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getStatus());
+        if (ex instanceof LoginCapacityExceededException) {
+            response.header(HttpHeaders.RETRY_AFTER, LOGIN_RETRY_AFTER_SECONDS);
+        } else if (ex instanceof InvalidTokenException) {
+            response.header(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        }
+        return response.body(new IamErrorResponse(ex.getClass().getSimpleName(), ex.getMessage(), Instant.now()));
+    }
+
+    public record IamErrorResponse(String code, String message, Instant timestamp) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class IamWebMvcConfig implements WebMvcConfigurer {
+
+    private final TenantAwareAuthenticationValidator tenantAwareAuthenticationValidator;
+
+    public IamWebMvcConfig(TenantAwareAuthenticationValidator tenantAwareAuthenticationValidator) {
+        this.tenantAwareAuthenticationValidator = tenantAwareAuthenticationValidator;
+    }
+
+    /**
+     * Right after the tenant resolver, which runs at the highest precedence.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(tenantAwareAuthenticationValidator).order(Ordered.HIGHEST_PRECEDENCE + 1);
+    }
+}
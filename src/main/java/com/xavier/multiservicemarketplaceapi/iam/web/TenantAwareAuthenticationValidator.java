@@ -0,0 +1,40 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.xavier.multiservicemarketplaceapi.iam.exception.TenantAccessDeniedException;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.TokenAuthenticator;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Rejects a token-authenticated request for a tenant its user does not belong to. Runs right after the tenant is
+ * resolved; the decision is cached with the verified token, so only a token's first request on a tenant queries
+ * {@code users}.
+ */
+@Component
+public class TenantAwareAuthenticationValidator implements HandlerInterceptor {
+
+    private final TokenAuthenticator authenticator;
+
+    public TenantAwareAuthenticationValidator(TokenAuthenticator authenticator) {
+        this.authenticator = authenticator;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(SecurityContextHolder.getContext().getAuthentication() instanceof TokenAuthentication authentication)) {
+            return true;
+        }
+        TenantContext tenant = TenantContextHolder.get().orElse(null);
+        if (tenant != null && !authenticator.isMember(authentication.getToken(), tenant.tenantId())) {
+            throw new TenantAccessDeniedException(authentication.getClaims().userId(), tenant.slug());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import java.util.List;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.VerifiedToken;
+
+/**
+ * An authenticated bearer token; the principal is the user id and the single authority is {@code ROLE_<role>}.
+ */
+public class TokenAuthentication extends AbstractAuthenticationToken {
+
+    private final VerifiedToken token;
+
+    public TokenAuthentication(VerifiedToken token) {
+        super(List.of(new SimpleGrantedAuthority("ROLE_" + token.claims().role().name())));
+        this.token = token;
+        setAuthenticated(true);
+    }
+
+    public VerifiedToken getToken() {
+        return token;
+    }
+
+    public TokenClaims getClaims() {
+        return token.claims();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return token.claims().userId();
+    }
+}
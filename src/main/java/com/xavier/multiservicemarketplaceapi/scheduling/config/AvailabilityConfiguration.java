@@ -0,0 +1,24 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.availability.AvailabilityEngine;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+/**
+ * Exposes the {@link AvailabilityEngine} shared by booking confirmation and provider search; tenants' timezone comes
+ * from the {@link TenantProvider}.
+ */
+@Configuration
+public class AvailabilityConfiguration {
+
+    @Bean
+    AvailabilityEngine availabilityEngine(SchedulingProperties properties, TenantProvider tenantProvider) {
+        SchedulingProperties.Availability availability = properties.getAvailability();
+        return new AvailabilityEngine(availability.getSlotMinutes(), availability.getHorizonDays(),
+            tenantId -> tenantProvider.loadTenant(tenantId.toString()), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,74 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "scheduling")
+public class SchedulingProperties {
+
+    private Availability availability = new Availability();
+    private Coverage coverage = new Coverage();
+
+    public Availability getAvailability() {
+        return availability;
+    }
+
+    public void setAvailability(Availability availability) {
+        this.availability = availability;
+    }
+
+    public Coverage getCoverage() {
+        return coverage;
+    }
+
+    public void setCoverage(Coverage coverage) {
+        this.coverage = coverage;
+    }
+
+    /**
+     * Slot bitsets kept by the availability engine.
+     */
+    public static class Availability {
+        private int slotMinutes = 15;
+        private int horizonDays = 90;
+
+        public int getSlotMinutes() {
+            return slotMinutes;
+        }
+
+        public void setSlotMinutes(int slotMinutes) {
+            this.slotMinutes = slotMinutes;
+        }
+
+        public int getHorizonDays() {
+            return horizonDays;
+        }
+
+        public void setHorizonDays(int horizonDays) {
+            this.horizonDays = horizonDays;
+        }
+    }
+
+    /**
+     * Geohash buckets of the service-area index.
+     */
+    public static class Coverage {
+        private int maxPrecision = 6;
+        private int maxCellsPerArea = 256;
+
+        public int getMaxPrecision() {
+            return maxPrecision;
+        }
+
+        public void setMaxPrecision(int maxPrecision) {
+            this.maxPrecision = maxPrecision;
+        }
+
+        public int getMaxCellsPerArea() {
+            return maxCellsPerArea;
+        }
+
+        public void setMaxCellsPerArea(int maxCellsPerArea) {
+            this.maxCellsPerArea = maxCellsPerArea;
+        }
+    }
+}
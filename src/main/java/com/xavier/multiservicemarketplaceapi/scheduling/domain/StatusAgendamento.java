@@ -0,0 +1,12 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain;
+
+/**
+ * Lifecycle of an agendamento ({@code agendamentos.status}).
+ */
+public enum StatusAgendamento {
+    PENDENTE,
+    CONFIRMADO,
+    CONCLUIDO,
+    CANCELADO,
+    NAO_COMPARECEU
+}
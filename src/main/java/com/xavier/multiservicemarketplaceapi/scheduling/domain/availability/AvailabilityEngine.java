@@ -0,0 +1,284 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+/**
+ * In-memory availability of prestadores as per-day slot bitsets.
+ * <p>
+ * A prestador's calendar combines weekly {@link BusinessHours} with bookings and blocks. A slot is free when it is
+ * open and neither booked nor blocked; searches reduce a day to its free bits and find runs of the requested length
+ * with a few shifts and ANDs. Confirming a booking is an atomic check-and-reserve on the prestador's own bits, so
+ * concurrent bookings of the same slot are rejected without a shared lock.
+ * <p>
+ * Times are wall-clock times of the prestador, i.e. in the tenant's timezone, and "today" is the tenant's current
+ * date. Only days from today up to {@code horizonDays} ahead are held; anything outside that window is reported as
+ * unavailable. Durations are rounded up to whole slots and a booking cannot cross midnight.
+ */
+public class AvailabilityEngine {
+
+    private final SlotGrid grid;
+    private final int horizonDays;
+    private final Function<UUID, TenantContext> tenants;
+    private final Clock clock;
+    private final ConcurrentHashMap<UUID, ConcurrentHashMap<UUID, ProviderCalendar>> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * @param tenants resolves a tenant's timezone on every call; may throw for unknown tenants, which then use UTC
+     */
+    public AvailabilityEngine(int slotMinutes, int horizonDays, Function<UUID, TenantContext> tenants, Clock clock) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day, got " + horizonDays);
+        }
+        this.grid = new SlotGrid(slotMinutes);
+        this.horizonDays = horizonDays;
+        this.tenants = tenants;
+        this.clock = clock;
+    }
+
+    /**
+     * Registers a prestador or replaces its business hours; existing bookings and blocks are kept.
+     */
+    public void registerProvider(UUID tenantId, UUID prestadorId, List<BusinessHours> hours) {
+        tenantCalendars(tenantId).compute(prestadorId, (id, calendar) -> {
+            if (calendar == null) {
+                return new ProviderCalendar(grid, horizonDays, hours);
+            }
+            calendar.setHours(hours);
+            return calendar;
+        });
+    }
+
+    public void removeProvider(UUID tenantId, UUID prestadorId) {
+        Map<UUID, ProviderCalendar> tenant = calendars.get(tenantId);
+        if (tenant != null) {
+            tenant.remove(prestadorId);
+        }
+    }
+
+    /**
+     * Atomically books {@code [start, start + durationMinutes)} if the whole interval is open and free.
+     *
+     * @return {@code false} when any slot is closed, booked or blocked, or outside the horizon
+     */
+    public boolean tryReserve(UUID tenantId, UUID prestadorId, LocalDateTime start, int durationMinutes) {
+        ProviderCalendar calendar = calendar(tenantId, prestadorId);
+        Span span = span(tenantId, start, durationMinutes);
+        return calendar != null && span != null && calendar.tryReserve(span.epochDay, span.from, span.to);
+    }
+
+    /**
+     * Frees a booking previously taken with {@link #tryReserve}.
+     */
+    public void release(UUID tenantId, UUID prestadorId, LocalDateTime start, int durationMinutes) {
+        ProviderCalendar calendar = calendar(tenantId, prestadorId);
+        Span span = span(tenantId, start, durationMinutes);
+        if (calendar != null && span != null) {
+            calendar.release(span.epochDay, span.from, span.to);
+        }
+    }
+
+    /**
+     * Whether a booking at {@code start} would conflict with business hours, bookings or blocks.
+     */
+    public boolean isFree(UUID tenantId, UUID prestadorId, LocalDateTime start, int durationMinutes) {
+        ProviderCalendar calendar = calendar(tenantId, prestadorId);
+        Span span = span(tenantId, start, durationMinutes);
+        return calendar != null && span != null && calendar.isFree(span.epochDay, span.from, span.to);
+    }
+
+    /**
+     * Marks {@code [start, end)} as unavailable (time off, maintenance). Blocks may span several days and may
+     * overlap existing bookings.
+     */
+    public void block(UUID tenantId, UUID prestadorId, LocalDateTime start, LocalDateTime end) {
+        forEachDay(tenantId, prestadorId, start, end, true);
+    }
+
+    public void unblock(UUID tenantId, UUID prestadorId, LocalDateTime start, LocalDateTime end) {
+        forEachDay(tenantId, prestadorId, start, end, false);
+    }
+
+    /**
+     * Prestadores among {@code prestadorIds} (all of the tenant when {@code null}) free for the whole interval.
+     */
+    public List<UUID> availableAt(UUID tenantId, Collection<UUID> prestadorIds, LocalDateTime start,
+                                  int durationMinutes) {
+        Span span = span(tenantId, start, durationMinutes);
+        if (span == null) {
+            return List.of();
+        }
+        List<UUID> available = new ArrayList<>();
+        forEachCalendar(tenantId, prestadorIds, (prestadorId, calendar) -> {
+            if (calendar.isFree(span.epochDay, span.from, span.to)) {
+                available.add(prestadorId);
+            }
+        });
+        return available;
+    }
+
+    /**
+     * Earliest free start of each prestador within {@code days} days from {@code from}, soonest first, at most
+     * {@code limit} results. Days are scanned in order across all prestadores, so the search stops as soon as the
+     * limit is reached.
+     */
+    public List<FreeSlot> earliestFreeSlots(UUID tenantId, Collection<UUID> prestadorIds, LocalDate from, int days,
+                                            int durationMinutes, int limit) {
+        int length = grid.slotsFor(durationMinutes);
+        List<UUID> ids = new ArrayList<>();
+        List<ProviderCalendar> candidates = new ArrayList<>();
+        forEachCalendar(tenantId, prestadorIds, (prestadorId, calendar) -> {
+            ids.add(prestadorId);
+            candidates.add(calendar);
+        });
+        if (length > grid.slotsPerDay || limit <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = now(tenantId);
+        long today = now.toLocalDate().toEpochDay();
+        long firstDay = Math.max(from.toEpochDay(), today);
+        long lastDay = Math.min(from.toEpochDay() + days, today + horizonDays);
+        long[] free = new long[grid.wordsPerDay];
+        boolean[] found = new boolean[candidates.size()];
+        // (slot << 32 | candidate) of the prestadores first free on the current day, sorted to order them by start
+        long[] dayStarts = new long[candidates.size()];
+        List<FreeSlot> slots = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (long epochDay = firstDay; epochDay < lastDay && slots.size() < limit; epochDay++) {
+            int firstSlot = epochDay == today ? grid.slotAtOrAfter(now.toLocalTime()) : 0;
+            int count = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                if (found[i] || !candidates.get(i).freeSlots(epochDay, free)) {
+                    continue;
+                }
+                SlotGrid.runStarts(free, grid.wordsPerDay, length);
+                int slot = SlotGrid.nextSetBit(free, grid.wordsPerDay, firstSlot);
+                if (slot >= 0) {
+                    found[i] = true;
+                    dayStarts[count++] = (long) slot << 32 | i;
+                }
+            }
+            Arrays.sort(dayStarts, 0, count);
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            for (int j = 0; j < count && slots.size() < limit; j++) {
+                int slot = (int) (dayStarts[j] >>> 32);
+                UUID prestadorId = ids.get((int) dayStarts[j]);
+                slots.add(new FreeSlot(prestadorId, LocalDateTime.of(date, grid.timeOf(slot))));
+            }
+        }
+        return slots;
+    }
+
+    public int slotMinutes() {
+        return grid.slotMinutes;
+    }
+
+    private void forEachDay(UUID tenantId, UUID prestadorId, LocalDateTime start, LocalDateTime end, boolean block) {
+        ProviderCalendar calendar = calendar(tenantId, prestadorId);
+        if (calendar == null || !end.isAfter(start)) {
+            return;
+        }
+        long today = now(tenantId).toLocalDate().toEpochDay();
+        long firstDay = start.toLocalDate().toEpochDay();
+        long lastDay = end.toLocalDate().toEpochDay();
+        for (long epochDay = firstDay; epochDay <= lastDay; epochDay++) {
+            if (!inHorizon(epochDay, today)) {
+                continue;
+            }
+            int from = epochDay == firstDay ? grid.slotOf(start.toLocalTime()) : 0;
+            int to = epochDay == lastDay ? grid.slotAtOrAfter(end.toLocalTime()) : grid.slotsPerDay;
+            if (from >= to) {
+                continue;
+            }
+            if (block) {
+                calendar.block(epochDay, from, to);
+            } else {
+                calendar.unblock(epochDay, from, to);
+            }
+        }
+    }
+
+    private void forEachCalendar(UUID tenantId, Collection<UUID> prestadorIds, CalendarVisitor visitor) {
+        Map<UUID, ProviderCalendar> tenant = calendars.get(tenantId);
+        if (tenant == null) {
+            return;
+        }
+        if (prestadorIds == null) {
+            tenant.forEach(visitor::visit);
+            return;
+        }
+        for (UUID prestadorId : prestadorIds) {
+            ProviderCalendar calendar = tenant.get(prestadorId);
+            if (calendar != null) {
+                visitor.visit(prestadorId, calendar);
+            }
+        }
+    }
+
+    private ConcurrentHashMap<UUID, ProviderCalendar> tenantCalendars(UUID tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId");
+        return calendars.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>());
+    }
+
+    private ProviderCalendar calendar(UUID tenantId, UUID prestadorId) {
+        Map<UUID, ProviderCalendar> tenant = calendars.get(tenantId);
+        return tenant != null ? tenant.get(prestadorId) : null;
+    }
+
+    /**
+     * Slot span of a booking, or {@code null} when it is outside the horizon, off the slot grid or crosses midnight.
+     */
+    private Span span(UUID tenantId, LocalDateTime start, int durationMinutes) {
+        long epochDay = start.toLocalDate().toEpochDay();
+        LocalTime time = start.toLocalTime();
+        if (!grid.isBoundary(time) || !inHorizon(epochDay, now(tenantId).toLocalDate().toEpochDay())) {
+            return null;
+        }
+        int from = grid.slotOf(time);
+        int to = from + grid.slotsFor(durationMinutes);
+        return to <= grid.slotsPerDay ? new Span(epochDay, from, to) : null;
+    }
+
+    private boolean inHorizon(long epochDay, long today) {
+        return epochDay >= today && epochDay < today + horizonDays;
+    }
+
+    /**
+     * Current wall-clock time of the tenant.
+     */
+    private LocalDateTime now(UUID tenantId) {
+        return LocalDateTime.now(clock.withZone(zoneOf(tenantId)));
+    }
+
+    private ZoneId zoneOf(UUID tenantId) {
+        try {
+            TenantContext tenant = tenants.apply(tenantId);
+            return tenant != null ? ZoneId.of(tenant.timezone()) : ZoneOffset.UTC;
+        } catch (RuntimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private record Span(long epochDay, int from, int to) {
+    }
+
+    @FunctionalInterface
+    private interface CalendarVisitor {
+        void visit(UUID prestadorId, ProviderCalendar calendar);
+    }
+}
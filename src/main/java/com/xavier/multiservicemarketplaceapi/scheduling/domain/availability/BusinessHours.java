@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * One weekly opening interval of a prestador, {@code [opens, closes)} in wall-clock time. {@link LocalTime#MIDNIGHT}
+ * as {@code closes} means the end of the day.
+ */
+public record BusinessHours(DayOfWeek day, LocalTime opens, LocalTime closes) {
+
+    public BusinessHours {
+        Objects.requireNonNull(day, "day");
+        Objects.requireNonNull(opens, "opens");
+        Objects.requireNonNull(closes, "closes");
+        if (!closes.equals(LocalTime.MIDNIGHT) && !closes.isAfter(opens)) {
+            throw new IllegalArgumentException("Business hours must close after they open: " + opens + "-" + closes);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Earliest start at which a prestador can take a booking of the requested duration.
+ */
+public record FreeSlot(UUID prestadorId, LocalDateTime start) {
+}
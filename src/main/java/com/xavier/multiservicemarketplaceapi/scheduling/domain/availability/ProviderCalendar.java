@@ -0,0 +1,179 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Slot bitsets of one prestador over a rolling horizon of days.
+ * <p>
+ * Days live in a ring of {@code horizonDays} entries indexed by epoch day; each entry records which day it currently
+ * holds and is cleared lazily the first time a later day lands on it. Bookings and blocks are kept apart so that
+ * releasing a booking never reopens a blocked slot. Bookings are taken word by word with compare-and-set, in ascending
+ * order, undoing the words already taken when a later one conflicts: two overlapping bookings can never both succeed,
+ * and bookings of different slots or prestadores never wait on each other.
+ */
+final class ProviderCalendar {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final SlotGrid grid;
+    private final int horizonDays;
+    private final AtomicLongArray days;
+    private final AtomicLongArray booked;
+    private final AtomicLongArray blocked;
+    private volatile long[] open;
+
+    ProviderCalendar(SlotGrid grid, int horizonDays, List<BusinessHours> hours) {
+        this.grid = grid;
+        this.horizonDays = horizonDays;
+        this.days = new AtomicLongArray(horizonDays);
+        for (int i = 0; i < horizonDays; i++) {
+            days.set(i, EMPTY);
+        }
+        this.booked = new AtomicLongArray(horizonDays * grid.wordsPerDay);
+        this.blocked = new AtomicLongArray(horizonDays * grid.wordsPerDay);
+        this.open = grid.openMask(hours);
+    }
+
+    void setHours(List<BusinessHours> hours) {
+        this.open = grid.openMask(hours);
+    }
+
+    /**
+     * Copies the free slots of {@code epochDay} into {@code out}.
+     *
+     * @return {@code false} when the day is no longer held by this calendar
+     */
+    boolean freeSlots(long epochDay, long[] out) {
+        int base = base(epochDay);
+        if (base < 0) {
+            return false;
+        }
+        long[] openMask = open;
+        int openBase = weekdayIndex(epochDay) * grid.wordsPerDay;
+        for (int word = 0; word < grid.wordsPerDay; word++) {
+            out[word] = openMask[openBase + word] & ~booked.get(base + word) & ~blocked.get(base + word);
+        }
+        return true;
+    }
+
+    boolean isFree(long epochDay, int from, int to) {
+        int base = base(epochDay);
+        if (base < 0) {
+            return false;
+        }
+        long[] openMask = open;
+        int openBase = weekdayIndex(epochDay) * grid.wordsPerDay;
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long mask = SlotGrid.wordMask(word, from, to);
+            long taken = booked.get(base + word) | blocked.get(base + word);
+            if ((openMask[openBase + word] & mask) != mask || (taken & mask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Books slots {@code [from, to)} of {@code epochDay} if all of them are open and free.
+     */
+    boolean tryReserve(long epochDay, int from, int to) {
+        if (!isFree(epochDay, from, to)) {
+            return false;
+        }
+        int base = base(epochDay);
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int word = first; word <= last; word++) {
+            long mask = SlotGrid.wordMask(word, from, to);
+            boolean taken = casSet(booked, base + word, mask);
+            if (taken && (blocked.get(base + word) & mask) != 0) {
+                clear(booked, base + word, mask);
+                taken = false;
+            }
+            if (!taken) {
+                for (int undo = first; undo < word; undo++) {
+                    clear(booked, base + undo, SlotGrid.wordMask(undo, from, to));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void release(long epochDay, int from, int to) {
+        update(booked, epochDay, from, to, false);
+    }
+
+    void block(long epochDay, int from, int to) {
+        update(blocked, epochDay, from, to, true);
+    }
+
+    void unblock(long epochDay, int from, int to) {
+        update(blocked, epochDay, from, to, false);
+    }
+
+    private void update(AtomicLongArray bits, long epochDay, int from, int to, boolean set) {
+        int base = base(epochDay);
+        if (base < 0) {
+            return;
+        }
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            long mask = SlotGrid.wordMask(word, from, to);
+            if (set) {
+                bits.getAndAccumulate(base + word, mask, (current, m) -> current | m);
+            } else {
+                clear(bits, base + word, mask);
+            }
+        }
+    }
+
+    /**
+     * Word offset of {@code epochDay}, claiming (and clearing) its ring entry when it still holds an older day, or
+     * {@code -1} when the entry has already moved on to a later day.
+     */
+    private int base(long epochDay) {
+        int index = (int) Math.floorMod(epochDay, (long) horizonDays);
+        long held = days.get(index);
+        if (held != epochDay) {
+            if (held != EMPTY && held > epochDay) {
+                return -1;
+            }
+            synchronized (this) {
+                held = days.get(index);
+                if (held != EMPTY && held > epochDay) {
+                    return -1;
+                }
+                if (held != epochDay) {
+                    for (int word = 0; word < grid.wordsPerDay; word++) {
+                        booked.set(index * grid.wordsPerDay + word, 0L);
+                        blocked.set(index * grid.wordsPerDay + word, 0L);
+                    }
+                    days.set(index, epochDay);
+                }
+            }
+        }
+        return index * grid.wordsPerDay;
+    }
+
+    private static int weekdayIndex(long epochDay) {
+        // 1970-01-01 was a Thursday (index 3 with Monday = 0)
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    private static boolean casSet(AtomicLongArray bits, int index, long mask) {
+        while (true) {
+            long current = bits.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (bits.compareAndSet(index, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private static void clear(AtomicLongArray bits, int index, long mask) {
+        bits.getAndAccumulate(index, mask, (current, m) -> current & ~m);
+    }
+}
@@ -0,0 +1,128 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Fixed division of a day into slots and the bit layout used for one day: slot {@code i} is bit {@code i & 63} of word
+ * {@code i >>> 6}. Bits past the last slot of the day are always clear.
+ */
+final class SlotGrid {
+
+    final int slotMinutes;
+    final int slotsPerDay;
+    final int wordsPerDay;
+
+    SlotGrid(int slotMinutes) {
+        if (slotMinutes <= 0 || 1440 % slotMinutes != 0) {
+            throw new IllegalArgumentException("Slot length must divide a day, got " + slotMinutes + " minutes");
+        }
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = 1440 / slotMinutes;
+        this.wordsPerDay = (slotsPerDay + 63) >>> 6;
+    }
+
+    /**
+     * Slot containing {@code time}.
+     */
+    int slotOf(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / slotMinutes;
+    }
+
+    /**
+     * First slot starting at or after {@code time}.
+     */
+    int slotAtOrAfter(LocalTime time) {
+        int minute = time.getHour() * 60 + time.getMinute();
+        boolean partial = minute % slotMinutes != 0 || time.getSecond() != 0 || time.getNano() != 0;
+        return minute / slotMinutes + (partial ? 1 : 0);
+    }
+
+    boolean isBoundary(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && (time.getHour() * 60 + time.getMinute()) % slotMinutes == 0;
+    }
+
+    /**
+     * Slots needed to cover {@code minutes}.
+     */
+    int slotsFor(int minutes) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive, got " + minutes + " minutes");
+        }
+        return (minutes + slotMinutes - 1) / slotMinutes;
+    }
+
+    LocalTime timeOf(int slot) {
+        return LocalTime.MIN.plusMinutes((long) slot * slotMinutes);
+    }
+
+    /**
+     * Open slots of each weekday, {@code wordsPerDay} words per day starting with Monday.
+     */
+    long[] openMask(List<BusinessHours> hours) {
+        long[] open = new long[7 * wordsPerDay];
+        for (BusinessHours interval : hours) {
+            int from = slotAtOrAfter(interval.opens());
+            int to = interval.closes().equals(LocalTime.MIDNIGHT) ? slotsPerDay : slotOf(interval.closes());
+            setRange(open, (interval.day().getValue() - 1) * wordsPerDay, from, to);
+        }
+        return open;
+    }
+
+    /**
+     * Bits of slots {@code [from, to)} that fall in {@code word}.
+     */
+    static long wordMask(int word, int from, int to) {
+        int lo = Math.max(from, word << 6) - (word << 6);
+        int hi = Math.min(to, (word + 1) << 6) - (word << 6);
+        if (hi <= lo) {
+            return 0L;
+        }
+        long upTo = hi == 64 ? -1L : (1L << hi) - 1;
+        return upTo & (-1L << lo);
+    }
+
+    static void setRange(long[] words, int offset, int from, int to) {
+        for (int word = from >>> 6; from < to && word <= (to - 1) >>> 6; word++) {
+            words[offset + word] |= wordMask(word, from, to);
+        }
+    }
+
+    /**
+     * Turns a day's free bits into the set of slots that start {@code length} consecutive free slots, in place.
+     * Each step doubles the run length proven free, so a run of {@code n} slots takes {@code log2(n)} passes.
+     */
+    static void runStarts(long[] free, int words, int length) {
+        int covered = 1;
+        while (covered < length) {
+            int shift = Math.min(covered, length - covered);
+            int wordShift = shift >>> 6;
+            int bitShift = shift & 63;
+            for (int word = 0; word < words; word++) {
+                int source = word + wordShift;
+                long low = source < words ? free[source] : 0L;
+                long high = source + 1 < words ? free[source + 1] : 0L;
+                long shifted = bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift));
+                free[word] &= shifted;
+            }
+            covered += shift;
+        }
+    }
+
+    static int nextSetBit(long[] words, int count, int from) {
+        int word = from >>> 6;
+        if (word >= count) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << (from & 63));
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word >= count) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Where a prestador works and what it offers there: the categorias and servicos used to filter coverage queries.
+ */
+public record ProviderCoverage(UUID tenantId, UUID prestadorId, List<ServiceArea> areas, Set<UUID> categoriaIds,
+                               Set<UUID> servicoIds) {
+
+    public ProviderCoverage {
+        Objects.requireNonNull(tenantId, "tenantId");
+        Objects.requireNonNull(prestadorId, "prestadorId");
+        areas = areas != null ? List.copyOf(areas) : List.of();
+        categoriaIds = categoriaIds != null ? Set.copyOf(categoriaIds) : Set.of();
+        servicoIds = servicoIds != null ? Set.copyOf(servicoIds) : Set.of();
+    }
+
+    public boolean offers(UUID categoriaId, UUID servicoId) {
+        return (categoriaId == null || categoriaIds.contains(categoriaId))
+            && (servicoId == null || servicoIds.contains(servicoId));
+    }
+}
@@ -0,0 +1,137 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Area a prestador serves ({@code prestadores.zona_atendimento}): a radius around a point or a polygon. Polygons are
+ * treated as planar in latitude/longitude, which is accurate enough at city scale; areas crossing the antimeridian are
+ * not supported.
+ */
+public sealed interface ServiceArea {
+
+    boolean contains(double latitude, double longitude);
+
+    /**
+     * {@code [minLatitude, maxLatitude, minLongitude, maxLongitude]}.
+     */
+    double[] boundingBox();
+
+    /**
+     * Whether the whole rectangle lies inside the area, so points in it need no exact test.
+     */
+    boolean containsBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude);
+
+    record Radius(GeoPoint center, double radiusKm) implements ServiceArea {
+
+        private static final double KM_PER_DEGREE = 111.32;
+
+        public Radius {
+            Objects.requireNonNull(center, "center");
+            if (!(radiusKm > 0)) {
+                throw new IllegalArgumentException("Radius must be positive, got " + radiusKm);
+            }
+        }
+
+        @Override
+        public boolean contains(double latitude, double longitude) {
+            return center.distanceKm(latitude, longitude) <= radiusKm;
+        }
+
+        @Override
+        public double[] boundingBox() {
+            double dLat = radiusKm / KM_PER_DEGREE;
+            double cos = Math.cos(Math.toRadians(center.latitude()));
+            double dLon = cos > 1e-9 ? Math.min(180, radiusKm / (KM_PER_DEGREE * cos)) : 180;
+            return new double[] {Math.max(-90, center.latitude() - dLat), Math.min(90, center.latitude() + dLat),
+                Math.max(-180, center.longitude() - dLon), Math.min(180, center.longitude() + dLon)};
+        }
+
+        @Override
+        public boolean containsBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+            return contains(minLatitude, minLongitude) && contains(minLatitude, maxLongitude)
+                && contains(maxLatitude, minLongitude) && contains(maxLatitude, maxLongitude);
+        }
+    }
+
+    record Polygon(List<GeoPoint> vertices) implements ServiceArea {
+
+        public Polygon {
+            vertices = List.copyOf(vertices);
+            if (vertices.size() < 3) {
+                throw new IllegalArgumentException("A polygon needs at least 3 vertices, got " + vertices.size());
+            }
+        }
+
+        @Override
+        public boolean contains(double latitude, double longitude) {
+            boolean inside = false;
+            for (int i = 0, j = vertices.size() - 1; i < vertices.size(); j = i++) {
+                GeoPoint a = vertices.get(i);
+                GeoPoint b = vertices.get(j);
+                if ((a.latitude() > latitude) != (b.latitude() > latitude)
+                    && longitude < (b.longitude() - a.longitude()) * (latitude - a.latitude())
+                    / (b.latitude() - a.latitude()) + a.longitude()) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+
+        @Override
+        public double[] boundingBox() {
+            double[] box = {90, -90, 180, -180};
+            for (GeoPoint vertex : vertices) {
+                box[0] = Math.min(box[0], vertex.latitude());
+                box[1] = Math.max(box[1], vertex.latitude());
+                box[2] = Math.min(box[2], vertex.longitude());
+                box[3] = Math.max(box[3], vertex.longitude());
+            }
+            return box;
+        }
+
+        @Override
+        public boolean containsBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+            if (!contains(minLatitude, minLongitude) || !contains(minLatitude, maxLongitude)
+                || !contains(maxLatitude, minLongitude) || !contains(maxLatitude, maxLongitude)) {
+                return false;
+            }
+            // All corners inside is not enough for a concave polygon: an edge may still cut through the box
+            for (int i = 0, j = vertices.size() - 1; i < vertices.size(); j = i++) {
+                if (segmentCrossesBox(vertices.get(j), vertices.get(i), minLatitude, maxLatitude, minLongitude,
+                    maxLongitude)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean segmentCrossesBox(GeoPoint a, GeoPoint b, double minLat, double maxLat, double minLon,
+                                                 double maxLon) {
+            // Liang-Barsky clipping with x = longitude, y = latitude
+            double x0 = a.longitude();
+            double y0 = a.latitude();
+            double dx = b.longitude() - x0;
+            double dy = b.latitude() - y0;
+            double[] p = {-dx, dx, -dy, dy};
+            double[] q = {x0 - minLon, maxLon - x0, y0 - minLat, maxLat - y0};
+            double t0 = 0;
+            double t1 = 1;
+            for (int i = 0; i < 4; i++) {
+                if (p[i] == 0) {
+                    if (q[i] < 0) {
+                        return false;
+                    }
+                } else {
+                    double t = q[i] / p[i];
+                    if (p[i] < 0) {
+                        t0 = Math.max(t0, t);
+                    } else {
+                        t1 = Math.min(t1, t);
+                    }
+                }
+            }
+            return t0 <= t1;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spatial index of prestador service areas, one per tenant, kept current as prestadores change.
+ */
+public interface ServiceAreaIndexPort {
+
+    /**
+     * Adds a prestador or replaces all of its areas and offerings.
+     */
+    void upsert(ProviderCoverage coverage);
+
+    void remove(UUID tenantId, UUID prestadorId);
+
+    /**
+     * Prestadores of {@code tenantId} whose service area contains {@code point}, optionally restricted to those
+     * offering {@code categoriaId} and/or {@code servicoId} ({@code null} means no restriction).
+     */
+    List<UUID> providersCovering(UUID tenantId, GeoPoint point, UUID categoriaId, UUID servicoId);
+}
@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxEvent;
+
+/**
+ * Domain events published by the Scheduling module over the lifecycle of an agendamento.
+ */
+public sealed interface BookingEvent extends OutboxEvent permits BookingRequestedEvent, BookingStatusChangedEvent {
+
+    UUID tenantId();
+
+    UUID agendamentoId();
+
+    Instant occurredAt();
+
+    @Override
+    default String orderingKey() {
+        return agendamentoId().toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A cliente requested an agendamento; it starts in
+ * {@link com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento#PENDENTE}.
+ */
+public record BookingRequestedEvent(UUID tenantId, UUID agendamentoId, UUID prestadorId, UUID servicoId,
+                                    Instant occurredAt) implements BookingEvent {
+}
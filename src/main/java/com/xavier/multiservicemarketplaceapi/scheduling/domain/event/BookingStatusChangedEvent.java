@@ -0,0 +1,10 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+
+public record BookingStatusChangedEvent(UUID tenantId, UUID agendamentoId, StatusAgendamento previousStatus,
+                                        StatusAgendamento status, Instant occurredAt) implements BookingEvent {
+}
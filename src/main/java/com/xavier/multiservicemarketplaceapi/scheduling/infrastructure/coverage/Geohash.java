@@ -0,0 +1,69 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.infrastructure.coverage;
+
+/**
+ * Geohash cells as {@code long}s: {@code 5 * precision} bits interleaving longitude and latitude halvings, longitude
+ * first. Cells of one precision form a regular grid, so a bounding box is covered by a range of column and row
+ * indices.
+ */
+final class Geohash {
+
+    static final int MAX_PRECISION = 12;
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {
+    }
+
+    static long encode(double latitude, double longitude, int precision) {
+        return interleave(column(longitude, precision), row(latitude, precision), precision);
+    }
+
+    static int lonBits(int precision) {
+        return (5 * precision + 1) / 2;
+    }
+
+    static int latBits(int precision) {
+        return 5 * precision / 2;
+    }
+
+    static long column(double longitude, int precision) {
+        return index((longitude + 180) / 360, lonBits(precision));
+    }
+
+    static long row(double latitude, int precision) {
+        return index((latitude + 90) / 180, latBits(precision));
+    }
+
+    static double cellWidth(int precision) {
+        return 360.0 / (1L << lonBits(precision));
+    }
+
+    static double cellHeight(int precision) {
+        return 180.0 / (1L << latBits(precision));
+    }
+
+    static long interleave(long column, long row, int precision) {
+        int columnBit = lonBits(precision);
+        int rowBit = latBits(precision);
+        long hash = 0;
+        for (int bit = 0; bit < 5 * precision; bit++) {
+            hash = bit % 2 == 0
+                ? (hash << 1) | ((column >>> --columnBit) & 1)
+                : (hash << 1) | ((row >>> --rowBit) & 1);
+        }
+        return hash;
+    }
+
+    static String toBase32(long hash, int precision) {
+        char[] chars = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            chars[i] = BASE32[(int) (hash & 31)];
+            hash >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static long index(double fraction, int bits) {
+        long cells = 1L << bits;
+        return Math.min(cells - 1, Math.max(0, (long) Math.floor(fraction * cells)));
+    }
+}
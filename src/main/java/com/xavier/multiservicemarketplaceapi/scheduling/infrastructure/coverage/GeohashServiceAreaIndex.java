@@ -0,0 +1,56 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.infrastructure.coverage;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.config.SchedulingProperties;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.GeoPoint;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ProviderCoverage;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ServiceAreaIndexPort;
+
+/**
+ * In-memory {@link ServiceAreaIndexPort} with one geohash-bucket index per tenant. Updates lock only the tenant being
+ * changed; queries of different tenants never contend.
+ */
+@Component
+public class GeohashServiceAreaIndex implements ServiceAreaIndexPort {
+
+    private final int maxPrecision;
+    private final int maxCellsPerArea;
+    private final ConcurrentHashMap<UUID, TenantCoverageIndex> tenants = new ConcurrentHashMap<>();
+
+    public GeohashServiceAreaIndex(SchedulingProperties properties) {
+        this.maxPrecision = properties.getCoverage().getMaxPrecision();
+        this.maxCellsPerArea = properties.getCoverage().getMaxCellsPerArea();
+    }
+
+    @Override
+    public void upsert(ProviderCoverage coverage) {
+        tenants.computeIfAbsent(coverage.tenantId(), id -> new TenantCoverageIndex(maxPrecision, maxCellsPerArea))
+            .upsert(coverage);
+    }
+
+    @Override
+    public void remove(UUID tenantId, UUID prestadorId) {
+        TenantCoverageIndex index = tenants.get(tenantId);
+        if (index != null) {
+            index.remove(prestadorId);
+        }
+    }
+
+    @Override
+    public List<UUID> providersCovering(UUID tenantId, GeoPoint point, UUID categoriaId, UUID servicoId) {
+        TenantCoverageIndex index = tenants.get(tenantId);
+        return index != null
+            ? index.covering(point.latitude(), point.longitude(), categoriaId, servicoId)
+            : List.of();
+    }
+
+    public int size(UUID tenantId) {
+        TenantCoverageIndex index = tenants.get(tenantId);
+        return index != null ? index.size() : 0;
+    }
+}
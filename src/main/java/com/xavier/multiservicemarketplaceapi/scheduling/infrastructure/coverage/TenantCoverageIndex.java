@@ -0,0 +1,219 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.infrastructure.coverage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ProviderCoverage;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ServiceArea;
+
+/**
+ * Geohash buckets of one tenant's service areas.
+ * <p>
+ * Each area is covered by the cells of the finest precision (up to {@code maxPrecision}) that needs no more than
+ * {@code maxCellsPerArea} cells, so small areas get fine cells and a country-wide radius a few coarse ones. A cell
+ * records whether the area contains it entirely; a query looks up the point's cell at every precision in use and only
+ * runs the exact containment test for areas whose boundary crosses that cell.
+ */
+final class TenantCoverageIndex {
+
+    private static final int INTERIOR = -1;
+
+    private final int maxPrecision;
+    private final int maxCellsPerArea;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<IndexedProvider> providers = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<Long, CellPostings> cells = new HashMap<>();
+    private final int[] cellsPerPrecision = new int[Geohash.MAX_PRECISION + 1];
+
+    TenantCoverageIndex(int maxPrecision, int maxCellsPerArea) {
+        this.maxPrecision = Math.max(1, Math.min(Geohash.MAX_PRECISION, maxPrecision));
+        this.maxCellsPerArea = Math.max(1, maxCellsPerArea);
+    }
+
+    void upsert(ProviderCoverage coverage) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(coverage.prestadorId());
+            if (existing != null) {
+                unindex(existing);
+            }
+            int ordinal = existing != null ? existing : nextOrdinal();
+            ordinals.put(coverage.prestadorId(), ordinal);
+            List<Long> keys = new ArrayList<>();
+            for (int area = 0; area < coverage.areas().size(); area++) {
+                index(ordinal, area, coverage.areas().get(area), keys);
+            }
+            IndexedProvider provider = new IndexedProvider(coverage, keys);
+            if (ordinal == providers.size()) {
+                providers.add(provider);
+            } else {
+                providers.set(ordinal, provider);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID prestadorId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(prestadorId);
+            if (ordinal != null) {
+                unindex(ordinal);
+                providers.set(ordinal, null);
+                freeOrdinals.push(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<UUID> covering(double latitude, double longitude, UUID categoriaId, UUID servicoId) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = null;
+            for (int precision = 1; precision <= maxPrecision; precision++) {
+                if (cellsPerPrecision[precision] == 0) {
+                    continue;
+                }
+                CellPostings postings = cells.get(key(Geohash.encode(latitude, longitude, precision), precision));
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    int ordinal = postings.ordinals[i];
+                    if (matched != null && matched.get(ordinal)) {
+                        continue;
+                    }
+                    ProviderCoverage coverage = providers.get(ordinal).coverage;
+                    int area = postings.areas[i];
+                    if ((area == INTERIOR || coverage.areas().get(area).contains(latitude, longitude))
+                        && coverage.offers(categoriaId, servicoId)) {
+                        if (matched == null) {
+                            matched = new BitSet(providers.size());
+                        }
+                        matched.set(ordinal);
+                    }
+                }
+            }
+            if (matched == null) {
+                return List.of();
+            }
+            List<UUID> result = new ArrayList<>(matched.cardinality());
+            for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+                result.add(providers.get(ordinal).coverage.prestadorId());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(int ordinal, int area, ServiceArea serviceArea, List<Long> keys) {
+        double[] box = serviceArea.boundingBox();
+        int precision = maxPrecision;
+        while (precision > 1 && cellCount(box, precision) > maxCellsPerArea) {
+            precision--;
+        }
+        double width = Geohash.cellWidth(precision);
+        double height = Geohash.cellHeight(precision);
+        long firstColumn = Geohash.column(box[2], precision);
+        long lastColumn = Geohash.column(box[3], precision);
+        long firstRow = Geohash.row(box[0], precision);
+        long lastRow = Geohash.row(box[1], precision);
+        for (long row = firstRow; row <= lastRow; row++) {
+            double minLat = row * height - 90;
+            for (long column = firstColumn; column <= lastColumn; column++) {
+                double minLon = column * width - 180;
+                boolean interior = serviceArea.containsBox(minLat, minLat + height, minLon, minLon + width);
+                long key = key(Geohash.interleave(column, row, precision), precision);
+                CellPostings postings = cells.get(key);
+                if (postings == null) {
+                    postings = new CellPostings();
+                    cells.put(key, postings);
+                    cellsPerPrecision[precision]++;
+                }
+                postings.add(ordinal, interior ? INTERIOR : area);
+                keys.add(key);
+            }
+        }
+    }
+
+    private void unindex(int ordinal) {
+        for (long key : providers.get(ordinal).cellKeys) {
+            CellPostings postings = cells.get(key);
+            if (postings != null && postings.removeAll(ordinal) && postings.size == 0) {
+                cells.remove(key);
+                cellsPerPrecision[(int) (key >>> 60)]--;
+            }
+        }
+    }
+
+    private int nextOrdinal() {
+        Integer free = freeOrdinals.poll();
+        return free != null ? free : providers.size();
+    }
+
+    private static long cellCount(double[] box, int precision) {
+        long columns = Geohash.column(box[3], precision) - Geohash.column(box[2], precision) + 1;
+        long rows = Geohash.row(box[1], precision) - Geohash.row(box[0], precision) + 1;
+        return columns * rows;
+    }
+
+    private static long key(long hash, int precision) {
+        return (long) precision << 60 | hash;
+    }
+
+    private record IndexedProvider(ProviderCoverage coverage, List<Long> cellKeys) {
+    }
+
+    private static final class CellPostings {
+
+        private int[] ordinals = new int[4];
+        private int[] areas = new int[4];
+        private int size;
+
+        private void add(int ordinal, int area) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                areas = Arrays.copyOf(areas, size * 2);
+            }
+            ordinals[size] = ordinal;
+            areas[size] = area;
+            size++;
+        }
+
+        private boolean removeAll(int ordinal) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] != ordinal) {
+                    ordinals[kept] = ordinals[i];
+                    areas[kept] = areas[i];
+                    kept++;
+                }
+            }
+            boolean removed = kept != size;
+            size = kept;
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.JdbcResourceVersions;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.ResourceVersions;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.TenantResponseCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Version counters bumped by the modules that own each aggregate, and the response cache read endpoints answer
+ * through.
+ */
+@Configuration
+public class HttpCacheConfiguration {
+
+    @Bean
+    ResourceVersions resourceVersions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      HttpCacheProperties properties) {
+        return new JdbcResourceVersions(jdbcTemplate, transactionManager, properties.getVersionRefresh());
+    }
+
+    @Bean
+    TenantResponseCache tenantResponseCache(ResourceVersions resourceVersions, ObjectMapper objectMapper,
+                                            HttpCacheProperties properties,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TenantResponseCache(resourceVersions, objectMapper, properties.getMaximumSize().toBytes(),
+            Math.toIntExact(properties.getMaxEntrySize().toBytes()), properties.getTimeToLive(),
+            meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,66 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * ETags and cached response bytes of tenant read endpoints.
+ */
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Serialised responses kept in memory, across tenants.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    /**
+     * Larger responses are still tagged and revalidated, but not kept.
+     */
+    private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+
+    /**
+     * Cached responses are dropped this long after they were written, whatever their version.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /**
+     * How long an instance reuses a version read from {@code resource_versions}, i.e. how late it may notice a write
+     * made through another instance.
+     */
+    private Duration versionRefresh = Duration.ofSeconds(1);
+
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Duration getVersionRefresh() {
+        return versionRefresh;
+    }
+
+    public void setVersionRefresh(Duration versionRefresh) {
+        this.versionRefresh = versionRefresh;
+    }
+}
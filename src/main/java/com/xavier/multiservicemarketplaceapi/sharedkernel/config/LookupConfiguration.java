@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.lookup.BatchLookups;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One {@link BatchLookups} per HTTP request, injected into singletons through a scoped proxy.
+ */
+@Configuration
+public class LookupConfiguration {
+
+    @Bean
+    @RequestScope
+    BatchLookups batchLookups(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BatchLookups(BatchLookups.DEFAULT_MAX_BATCH_SIZE, meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,56 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.JdbcOutboxStore;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxDispatcher;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxListenerRegistry;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxRecorder;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxRetryPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires the transactional outbox: {@code @OutboxListener} methods are collected as beans initialize, published
+ * {@code OutboxEvent}s are recorded in the publishing transaction and delivered by the dispatcher after commit.
+ */
+@Configuration
+public class OutboxConfiguration {
+
+    /**
+     * Static, so the registry post-processes every other bean, this configuration's included.
+     */
+    @Bean
+    static OutboxListenerRegistry outboxListenerRegistry() {
+        return new OutboxListenerRegistry();
+    }
+
+    @Bean
+    JdbcOutboxStore outboxStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        return new JdbcOutboxStore(jdbcTemplate, transactionManager);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    OutboxDispatcher outboxDispatcher(JdbcOutboxStore store, OutboxListenerRegistry registry,
+                                      ObjectMapper objectMapper, OutboxProperties properties,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        OutboxProperties.Retry retry = properties.getRetry();
+        return new OutboxDispatcher(store, registry, objectMapper, properties.getBatchSize(),
+            properties.getParallelism(), properties.getPollInterval(), properties.getLease(),
+            new OutboxRetryPolicy(retry.getInitialBackoff(), retry.getMaxBackoff(), retry.getMaxAttempts()),
+            properties.getRetention(), Clock.systemUTC(), meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    OutboxRecorder outboxRecorder(OutboxListenerRegistry registry, JdbcOutboxStore store, ObjectMapper objectMapper,
+                                  OutboxDispatcher dispatcher) {
+        return new OutboxRecorder(registry, store, objectMapper, dispatcher, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.pagination.CursorCodec;
+
+/**
+ * Signs and verifies the page cursors of keyset-paginated lists.
+ */
+@Configuration
+public class PaginationConfiguration {
+
+    @Bean
+    CursorCodec cursorCodec(PaginationProperties properties) {
+        if (properties.getCursorSecret() == null) {
+            throw new IllegalStateException("pagination.cursor-secret must be set");
+        }
+        return new CursorCodec(properties.getCursorSecret().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Keyset pagination of list endpoints.
+ */
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+
+    /**
+     * Signs page cursors; at least 32 bytes. Rotating it invalidates the cursors clients hold.
+     */
+    private String cursorSecret;
+
+    public String getCursorSecret() {
+        return cursorSecret;
+    }
+
+    public void setCursorSecret(String cursorSecret) {
+        this.cursorSecret = cursorSecret;
+    }
+}
@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.persistence.TenantFilterEnabler;
+
+/**
+ * Turns on the tenant filter of {@code TenantScopedEntity} for the application's entity managers.
+ */
+@Configuration
+public class PersistenceConfiguration {
+
+    /**
+     * Static, so it is in place before the entity manager factory initializes.
+     */
+    @Bean
+    static TenantFilterEnabler tenantFilterEnabler() {
+        return new TenantFilterEnabler();
+    }
+}
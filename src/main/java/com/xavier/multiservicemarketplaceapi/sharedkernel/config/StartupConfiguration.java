@@ -0,0 +1,104 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.startup.LazyPackagesPostProcessor;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.startup.ModuleStartupReport;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.startup.ModuleStartupReport.ModuleTime;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Deferred beans, the Flyway startup mode and the per-module startup report.
+ */
+@Configuration
+public class StartupConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfiguration.class);
+
+    /**
+     * Static and bound by hand: it runs before configuration properties beans exist.
+     */
+    @Bean
+    static LazyPackagesPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        return new LazyPackagesPostProcessor(Binder.get(environment)
+            .bind("startup.lazy-packages", Bindable.listOf(String.class))
+            .orElse(List.of()));
+    }
+
+    @Bean
+    @ConditionalOnClass(Flyway.class)
+    FlywayMigrationStrategy flywayMigrationStrategy(StartupProperties properties) {
+        return flyway -> {
+            switch (properties.getFlyway()) {
+                case MIGRATE -> flyway.migrate();
+                case VALIDATE -> flyway.validate();
+                case SKIP -> log.info("Flyway skipped at startup (startup.flyway=skip).");
+            }
+        };
+    }
+
+    /**
+     * Publishes {@code application.startup.module} (own bean creation time) and
+     * {@code application.startup.module.beans} per module, when the application was started with a
+     * {@link BufferingApplicationStartup}.
+     */
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> moduleStartupReporter(ObjectProvider<MeterRegistry> meterRegistry) {
+        return event -> {
+            ConfigurableApplicationContext context = event.getApplicationContext();
+            if (!(context.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+                return;
+            }
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            ModuleStartupReport report = ModuleStartupReport.of(startup.getBufferedTimeline(),
+                AutoConfigurationPackages.get(beanFactory).get(0), name -> beanType(beanFactory, name));
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                for (ModuleTime module : report.modules()) {
+                    TimeGauge.builder("application.startup.module", module, TimeUnit.MILLISECONDS,
+                            time -> time.time().toMillis())
+                        .tag("module", module.module())
+                        .register(registry);
+                    Gauge.builder("application.startup.module.beans", module, ModuleTime::beans)
+                        .tag("module", module.module())
+                        .register(registry);
+                }
+            }
+            log.info("Bean creation by module: {}", report.modules().stream()
+                .map(module -> "%s %d ms (%d beans)".formatted(module.module(), module.time().toMillis(),
+                    module.beans()))
+                .collect(Collectors.joining(", ")));
+        };
+    }
+
+    private static Class<?> beanType(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        try {
+            return beanFactory.getType(beanName, false);
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * What the application does, and leaves for later, while it starts.
+ */
+@ConfigurationProperties(prefix = "startup")
+public class StartupProperties {
+
+    /**
+     * Packages whose request-only beans are created on first use; see {@code LazyPackagesPostProcessor}.
+     */
+    private List<String> lazyPackages = new ArrayList<>();
+
+    /**
+     * What Flyway does at startup; replicas that trust the node running migrations use {@code skip}.
+     */
+    private FlywayMode flyway = FlywayMode.MIGRATE;
+
+    public List<String> getLazyPackages() {
+        return lazyPackages;
+    }
+
+    public void setLazyPackages(List<String> lazyPackages) {
+        this.lazyPackages = lazyPackages;
+    }
+
+    public FlywayMode getFlyway() {
+        return flyway;
+    }
+
+    public void setFlyway(FlywayMode flyway) {
+        this.flyway = flyway;
+    }
+
+    public enum FlywayMode {
+        /**
+         * Validate applied migrations and apply pending ones.
+         */
+        MIGRATE,
+        /**
+         * Fail unless the schema matches the migrations, without changing it.
+         */
+        VALIDATE,
+        /**
+         * Touch neither the schema nor its history table.
+         */
+        SKIP
+    }
+}
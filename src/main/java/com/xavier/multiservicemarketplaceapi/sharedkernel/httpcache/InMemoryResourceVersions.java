@@ -0,0 +1,38 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ResourceVersions} of a single instance, for tests and benchmarks. Counters live in memory and start at zero,
+ * so the {@linkplain #epoch() epoch} is drawn at random: a version seen before a restart never compares equal. Writes
+ * made through another instance are not seen at all.
+ */
+public class InMemoryResourceVersions implements ResourceVersions {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final Map<VersionKey, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public String epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long current(UUID tenantId, String aggregate) {
+        AtomicLong version = versions.get(new VersionKey(tenantId, aggregate));
+        return version != null ? version.get() : 0;
+    }
+
+    @Override
+    public long bump(UUID tenantId, String aggregate) {
+        return versions.computeIfAbsent(new VersionKey(tenantId, aggregate), key -> new AtomicLong())
+            .incrementAndGet();
+    }
+
+    private record VersionKey(UUID tenantId, String aggregate) {
+    }
+}
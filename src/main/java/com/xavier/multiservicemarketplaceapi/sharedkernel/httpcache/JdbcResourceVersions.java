@@ -0,0 +1,94 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link ResourceVersions} kept in the {@code resource_versions} table, so every instance tags a response with the
+ * same version and a write made through any of them retires the ETags and cached bodies of all.
+ * <p>
+ * Reads are cached per instance for {@code refresh}: after a write through another instance, this one keeps
+ * answering with the old version for at most that long. A bump is a short transaction of its own, since it runs from
+ * after-commit listeners, and updates this instance's cached value at once. A bump lost to a crash right after the
+ * data commit leaves the old version in place until the aggregate's next change.
+ */
+public class JdbcResourceVersions implements ResourceVersions {
+
+    /** Versions survive restarts and are shared by all instances, so they need no per-instance epoch. */
+    private static final String EPOCH = "db";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate bumpTransaction;
+    private final Cache<VersionKey, Long> cached;
+
+    public JdbcResourceVersions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                Duration refresh) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cached = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(refresh)
+            .build();
+    }
+
+    @Override
+    public String epoch() {
+        return EPOCH;
+    }
+
+    @Override
+    public long current(UUID tenantId, String aggregate) {
+        return cached.get(new VersionKey(tenantId, aggregate), key -> read(key).orElse(0L));
+    }
+
+    @Override
+    public long bump(UUID tenantId, String aggregate) {
+        VersionKey key = new VersionKey(tenantId, aggregate);
+        long version;
+        try {
+            version = bumpTransaction.execute(status -> bumpRow(key));
+        } catch (DuplicateKeyException ex) {
+            // Another instance inserted the row first; the retry updates it.
+            version = bumpTransaction.execute(status -> bumpRow(key));
+        }
+        cached.asMap().merge(key, version, Math::max);
+        return version;
+    }
+
+    private long bumpRow(VersionKey key) {
+        if (increment(key) > 0) {
+            return read(key).orElseThrow();
+        }
+        jdbcTemplate.update("INSERT INTO resource_versions (tenant_id, aggregate, version) VALUES (?, ?, 1)",
+            key.tenantId(), key.aggregate());
+        return 1;
+    }
+
+    private int increment(VersionKey key) {
+        return jdbcTemplate.update(
+            "UPDATE resource_versions SET version = version + 1 WHERE tenant_id = ? AND aggregate = ?",
+            key.tenantId(), key.aggregate());
+    }
+
+    private Optional<Long> read(VersionKey key) {
+        List<Long> version = jdbcTemplate.queryForList(
+            "SELECT version FROM resource_versions WHERE tenant_id = ? AND aggregate = ?", Long.class,
+            key.tenantId(), key.aggregate());
+        return version.stream().findFirst();
+    }
+
+    private record VersionKey(UUID tenantId, String aggregate) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * The current version of one tenant aggregate. Rows are read and bumped through {@link JdbcResourceVersions}; the
+ * mapping only describes the table.
+ */
+@Entity
+@Table(name = "resource_versions")
+@IdClass(ResourceVersion.Key.class)
+public class ResourceVersion {
+
+    @Id
+    @Column(name = "tenant_id")
+    private UUID tenantId;
+
+    @Id
+    @Column(length = 50)
+    private String aggregate;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected ResourceVersion() {
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getAggregate() {
+        return aggregate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID tenantId;
+        private String aggregate;
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && Objects.equals(tenantId, key.tenantId)
+                && Objects.equals(aggregate, key.aggregate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenantId, aggregate);
+        }
+    }
+}
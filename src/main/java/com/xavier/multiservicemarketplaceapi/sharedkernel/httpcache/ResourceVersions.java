@@ -0,0 +1,22 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.util.UUID;
+
+/**
+ * One version counter per tenant and aggregate ({@code catalog}, {@code tenant-config}, ...), bumped by the module
+ * that owns the aggregate every time its data changes. Reads tagged with a version stay valid until the next bump.
+ */
+public interface ResourceVersions {
+
+    /**
+     * Identifies the sequence the counters belong to; versions of different epochs never compare equal.
+     */
+    String epoch();
+
+    long current(UUID tenantId, String aggregate);
+
+    /**
+     * @return the new version
+     */
+    long bump(UUID tenantId, String aggregate);
+}
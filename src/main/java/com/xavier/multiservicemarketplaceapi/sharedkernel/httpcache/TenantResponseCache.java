@@ -0,0 +1,176 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+/**
+ * Conditional GETs and a bounded cache of serialised JSON for read endpoints of the current tenant.
+ * <p>
+ * A response carries a strong ETag made of the tenant, the aggregate it reads and that aggregate's
+ * {@linkplain ResourceVersions version}. A request whose {@code If-None-Match} holds the current tag is answered
+ * {@code 304} before the body supplier runs, so nothing is loaded or serialised. Otherwise the bytes are served from
+ * the cache, keyed by tenant, aggregate, version, request URI and parameters, or produced, serialised and kept
+ * when they fit {@code maxEntryBytes}. Bumping a version makes every entry of that tenant and aggregate unreachable;
+ * they age out of the cache by size, and every entry is dropped {@code timeToLive} after it was written, so no body
+ * outlives a version change it missed by longer than that.
+ * <p>
+ * The version is read before the body is produced, so a write that lands meanwhile tags the new data with the old
+ * version: the next request misses, it is never served stale data under the new tag.
+ */
+public class TenantResponseCache {
+
+    static final String CACHE_NAME = "http-responses";
+
+    private static final String NOT_MODIFIED = "not-modified";
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ResourceVersions versions;
+    private final ObjectWriter writer;
+    private final int maxEntryBytes;
+    private final Cache<ResponseKey, byte[]> cache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> requests = new ConcurrentHashMap<>();
+
+    public TenantResponseCache(ResourceVersions versions, ObjectMapper objectMapper, long maximumBytes,
+                               int maxEntryBytes, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.versions = versions;
+        this.writer = objectMapper.writer();
+        this.maxEntryBytes = maxEntryBytes;
+        this.meterRegistry = meterRegistry;
+        Caffeine<ResponseKey, byte[]> builder = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .expireAfterWrite(timeToLive)
+            .weigher((ResponseKey key, byte[] body) -> body.length + key.requestKey().length());
+        if (meterRegistry != null) {
+            CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+            this.cache = builder.recordStats(() -> statsCounter).build();
+            statsCounter.registerSizeMetric(cache);
+        } else {
+            this.cache = builder.build();
+        }
+    }
+
+    /**
+     * Answers a GET of the current tenant that reads {@code aggregate}.
+     *
+     * @param body produces the response object; only called when neither the client nor the cache has the current
+     *             version
+     */
+    public ResponseEntity<byte[]> get(HttpServletRequest request, String aggregate, Supplier<?> body) {
+        UUID tenantId = TenantContextHolder.requireTenantId();
+        long version = versions.current(tenantId, aggregate);
+        String etag = etag(tenantId, aggregate, version);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            count(aggregate, NOT_MODIFIED);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        ResponseKey key = new ResponseKey(tenantId, aggregate, version, requestKey(request));
+        byte[] bytes = cache.getIfPresent(key);
+        if (bytes != null) {
+            count(aggregate, HIT);
+        } else {
+            bytes = serialize(body.get());
+            if (bytes.length <= maxEntryBytes) {
+                cache.put(key, bytes);
+            }
+            count(aggregate, MISS);
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(bytes);
+    }
+
+    private String etag(UUID tenantId, String aggregate, long version) {
+        return "\"" + tenantId + '-' + aggregate + '-' + versions.epoch() + '-' + version + '"';
+    }
+
+    /**
+     * Weak comparison, as {@code If-None-Match} asks for: a {@code W/} prefix on a listed tag is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The URI plus the parameters, re-encoded in name order, so {@code ?a=1&b=2} and {@code ?b=2&a=1} share an entry
+     * and no value can pass for another parameter.
+     */
+    private static String requestKey(HttpServletRequest request) {
+        Map<String, String[]> parameters = request.getParameterMap();
+        if (parameters.isEmpty()) {
+            return request.getRequestURI();
+        }
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        new TreeMap<>(parameters).forEach((name, values) -> {
+            for (String value : values) {
+                key.append(encode(name)).append('=').append(encode(value)).append('&');
+            }
+        });
+        return key.toString();
+    }
+
+    private static String encode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return writer.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void count(String aggregate, String result) {
+        if (meterRegistry != null) {
+            requests.computeIfAbsent(aggregate + '/' + result, name -> Counter.builder("http.cache.requests")
+                .tag("aggregate", aggregate)
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+        }
+    }
+
+    private record ResponseKey(UUID tenantId, String aggregate, long version, String requestKey) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads and writes one JSON column shape. The {@link ObjectReader}/{@link ObjectWriter} pair is resolved once per
+ * codec, so decoding a value never looks the type up again; codecs are shared constants.
+ */
+public final class JsonCodec<T> {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    /** JSON arrays of strings, e.g. {@code imagens} and {@code tags}. */
+    public static final JsonCodec<List<String>> STRING_LIST = of(new TypeReference<>() {
+    });
+
+    /** Free-form JSON objects, e.g. {@code atributos_extras} and {@code config_checkout}. */
+    public static final JsonCodec<Map<String, Object>> OBJECT_MAP = of(new TypeReference<>() {
+    });
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    private JsonCodec(ObjectReader reader, ObjectWriter writer) {
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    public static <T> JsonCodec<T> of(TypeReference<T> type) {
+        return new JsonCodec<>(MAPPER.readerFor(type), MAPPER.writerFor(type));
+    }
+
+    public static <T> JsonCodec<T> of(Class<T> type) {
+        return new JsonCodec<>(MAPPER.readerFor(type), MAPPER.writerFor(type));
+    }
+
+    /**
+     * @throws UncheckedIOException when {@code json} is malformed or does not fit the codec's type
+     */
+    public T decode(String json) {
+        try {
+            // Some drivers hand back a JSON column written from a String as a JSON string literal; unwrap it once.
+            if (!json.isEmpty() && json.charAt(0) == '"') {
+                JsonNode node = MAPPER.readTree(json);
+                if (node.isTextual()) {
+                    return reader.readValue(node.textValue());
+                }
+            }
+            return reader.readValue(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public String encode(T value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
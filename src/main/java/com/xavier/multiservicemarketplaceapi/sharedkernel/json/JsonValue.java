@@ -0,0 +1,79 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.json;
+
+import java.io.UncheckedIOException;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A JSON column value kept as the text the database returned and decoded on first {@link #get()}. Entities loaded
+ * for a list page that never look at the document pay nothing for it.
+ * <p>
+ * Instances are immutable and compare by their JSON text, so Hibernate snapshots them by reference and an
+ * unchanged value is neither copied on load nor re-serialised on flush. To change a document, assign a new
+ * {@link #of(Object, JsonCodec) value}; the decoded object must be treated as read-only, mutations are never
+ * written back.
+ */
+@Immutable
+public final class JsonValue<T> {
+
+    private final String json;
+    private final JsonCodec<T> codec;
+    private volatile T value;
+
+    private JsonValue(String json, JsonCodec<T> codec, T value) {
+        this.json = json;
+        this.codec = codec;
+        this.value = value;
+    }
+
+    /**
+     * Wraps JSON text as read from the database; nothing is parsed until {@link #get()}.
+     */
+    public static <T> JsonValue<T> ofJson(String json, JsonCodec<T> codec) {
+        return json != null ? new JsonValue<>(json, codec, null) : null;
+    }
+
+    /**
+     * Encodes {@code value} once, now; later flushes reuse the text.
+     */
+    public static <T> JsonValue<T> of(T value, JsonCodec<T> codec) {
+        return value != null ? new JsonValue<>(codec.encode(value), codec, value) : null;
+    }
+
+    /**
+     * The decoded document. Concurrent first calls may both decode; either result is kept.
+     *
+     * @throws UncheckedIOException when the stored text does not decode; the next call tries again
+     */
+    public T get() {
+        T decoded = value;
+        if (decoded == null) {
+            decoded = codec.decode(json);
+            value = decoded;
+        }
+        return decoded;
+    }
+
+    public String json() {
+        return json;
+    }
+
+    public boolean isDecoded() {
+        return value != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof JsonValue<?> that && json.equals(that.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
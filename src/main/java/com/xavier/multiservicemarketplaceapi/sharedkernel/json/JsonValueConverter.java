@@ -0,0 +1,45 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.json;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps a JSON column onto a {@link JsonValue}: loading only wraps the text and flushing writes it back as is, so
+ * neither direction runs Jackson. Keep {@code @JdbcTypeCode(SqlTypes.JSON)} on the attribute so the column stays
+ * {@code jsonb}. Columns of a new shape get a nested subclass with their own {@link JsonCodec}.
+ */
+public abstract class JsonValueConverter<T> implements AttributeConverter<JsonValue<T>, String> {
+
+    private final JsonCodec<T> codec;
+
+    protected JsonValueConverter(JsonCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(JsonValue<T> attribute) {
+        return attribute != null ? attribute.json() : null;
+    }
+
+    @Override
+    public JsonValue<T> convertToEntityAttribute(String dbData) {
+        return JsonValue.ofJson(dbData, codec);
+    }
+
+    @Converter
+    public static class StringList extends JsonValueConverter<List<String>> {
+        public StringList() {
+            super(JsonCodec.STRING_LIST);
+        }
+    }
+
+    @Converter
+    public static class ObjectMap extends JsonValueConverter<Map<String, Object>> {
+        public ObjectMap() {
+            super(JsonCodec.OBJECT_MAP);
+        }
+    }
+}
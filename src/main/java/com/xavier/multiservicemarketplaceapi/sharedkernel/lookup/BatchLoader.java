@@ -0,0 +1,45 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.lookup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Loads values of one kind by id in one round trip, typically one {@code IN (...)} query, on behalf of
+ * {@link BatchLookups}. Ids with no row are left out of the result. {@link BatchLookups} memoizes per loader
+ * instance, so a module keeps its loaders in fields rather than creating one per call.
+ *
+ * @param <V> the value looked up, usually a small read model of another module's entity
+ */
+public interface BatchLoader<V> {
+
+    /**
+     * Identifies the loader in metrics, e.g. {@code catalog.produtos}.
+     */
+    String name();
+
+    /**
+     * @param ids at most the {@link BatchLookups} batch size, never empty
+     */
+    Map<UUID, V> loadAll(UUID tenantId, Set<UUID> ids);
+
+    static <V> BatchLoader<V> of(String name, BiFunction<UUID, Set<UUID>, Map<UUID, V>> loader) {
+        return new BatchLoader<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Map<UUID, V> loadAll(UUID tenantId, Set<UUID> ids) {
+                return loader.apply(tenantId, ids);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+}
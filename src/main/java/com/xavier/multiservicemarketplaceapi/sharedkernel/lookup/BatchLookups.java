@@ -0,0 +1,172 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.lookup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collects id lookups against other modules and answers them with one {@link BatchLoader} call per loader, instead of
+ * one query per row.
+ * <p>
+ * {@link #defer} registers an id and returns a {@link Deferred} handle; nothing is queried until {@link #dispatch()}
+ * runs, or until the first handle is read, which dispatches everything registered so far. Each loader then receives
+ * the distinct pending ids of the current tenant, in chunks of at most {@code maxBatchSize}. Results, misses
+ * included, are memoized under tenant, loader and id, so an id asked for twice is loaded once and a value never
+ * crosses tenants, even when the tenant bound to the thread changes.
+ * <p>
+ * An instance lives for one request (see {@code LookupConfiguration}) and is not thread-safe; work outside a request
+ * creates its own.
+ */
+public class BatchLookups {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    private final int maxBatchSize;
+    private final MeterRegistry meterRegistry;
+    private final Map<MemoKey, Deferred<?>> memo = new HashMap<>();
+    private final Map<BatchKey, List<Deferred<?>>> pending = new LinkedHashMap<>();
+    private int dispatches;
+
+    public BatchLookups(int maxBatchSize, MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registers {@code id} for the next dispatch, for the tenant bound to the current thread.
+     */
+    public <V> Deferred<V> defer(BatchLoader<V> loader, UUID id) {
+        UUID tenantId = TenantContextHolder.requireTenantId();
+        MemoKey key = new MemoKey(tenantId, loader, id);
+        @SuppressWarnings("unchecked")
+        Deferred<V> deferred = (Deferred<V>) memo.get(key);
+        if (deferred == null) {
+            deferred = new Deferred<>(this, key);
+            memo.put(key, deferred);
+            pending.computeIfAbsent(new BatchKey(tenantId, loader), batch -> new ArrayList<>()).add(deferred);
+        }
+        return deferred;
+    }
+
+    /**
+     * Defers every id and dispatches right away.
+     *
+     * @return the values found, in the order of {@code ids}
+     */
+    public <V> Map<UUID, V> loadAll(BatchLoader<V> loader, Collection<UUID> ids) {
+        List<Deferred<V>> deferred = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            deferred.add(defer(loader, id));
+        }
+        dispatch();
+        Map<UUID, V> values = new LinkedHashMap<>();
+        for (Deferred<V> lookup : deferred) {
+            lookup.get().ifPresent(value -> values.put(lookup.key.id(), value));
+        }
+        return values;
+    }
+
+    /**
+     * Loads every pending id. When a loader fails, the ids not loaded yet are forgotten, so asking again queries
+     * again.
+     */
+    public void dispatch() {
+        while (!pending.isEmpty()) {
+            Map<BatchKey, List<Deferred<?>>> batches = new LinkedHashMap<>(pending);
+            pending.clear();
+            try {
+                batches.forEach(this::load);
+            } catch (RuntimeException ex) {
+                batches.values().forEach(lookups -> lookups.stream()
+                    .filter(lookup -> !lookup.resolved)
+                    .forEach(lookup -> memo.remove(lookup.key)));
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Loader calls made so far.
+     */
+    public int dispatchCount() {
+        return dispatches;
+    }
+
+    private void load(BatchKey batch, List<Deferred<?>> lookups) {
+        for (int from = 0; from < lookups.size(); from += maxBatchSize) {
+            List<Deferred<?>> chunk = lookups.subList(from, Math.min(lookups.size(), from + maxBatchSize));
+            Set<UUID> ids = LinkedHashSet.newLinkedHashSet(chunk.size());
+            chunk.forEach(lookup -> ids.add(lookup.key.id()));
+            dispatches++;
+            Map<UUID, ?> values = batch.loader().loadAll(batch.tenantId(), ids);
+            for (Deferred<?> lookup : chunk) {
+                lookup.resolve(values.get(lookup.key.id()));
+            }
+            if (meterRegistry != null) {
+                DistributionSummary.builder("lookup.batch.size")
+                    .tag("loader", batch.loader().name())
+                    .register(meterRegistry)
+                    .record(ids.size());
+            }
+        }
+    }
+
+    private record MemoKey(UUID tenantId, BatchLoader<?> loader, UUID id) {
+    }
+
+    private record BatchKey(UUID tenantId, BatchLoader<?> loader) {
+    }
+
+    /**
+     * A value that is loaded with the rest of its batch.
+     */
+    public static final class Deferred<V> {
+
+        private final BatchLookups lookups;
+        private final MemoKey key;
+        private boolean resolved;
+        private V value;
+
+        private Deferred(BatchLookups lookups, MemoKey key) {
+            this.lookups = lookups;
+            this.key = key;
+        }
+
+        /**
+         * Dispatches every pending lookup first when this one has not been loaded yet.
+         *
+         * @return the value, or empty when the loader found no row for the id
+         */
+        public Optional<V> get() {
+            if (!resolved) {
+                lookups.dispatch();
+                if (!resolved) {
+                    throw new IllegalStateException("Lookup of %s in %s was not dispatched".formatted(key.id(),
+                        key.loader().name()));
+                }
+            }
+            return Optional.ofNullable(value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void resolve(Object loaded) {
+            value = (V) loaded;
+            resolved = true;
+        }
+    }
+}
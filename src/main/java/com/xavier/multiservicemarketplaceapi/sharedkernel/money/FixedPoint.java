@@ -0,0 +1,74 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Integer arithmetic on scaled amounts with the rounding semantics of {@link BigDecimal}. Results are identical to
+ * the equivalent {@code BigDecimal} expression; the slow path is only taken when an intermediate product overflows a
+ * {@code long}.
+ */
+public final class FixedPoint {
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private FixedPoint() {
+    }
+
+    public static long pow10(int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("10^" + exponent + " does not fit in a long");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * {@code a * b / c} rounded with {@code mode}, without intermediate overflow.
+     */
+    public static long mulDiv(long a, long b, long c, RoundingMode mode) {
+        if (c <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive, got " + c);
+        }
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return divide(low, c, mode);
+        }
+        return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+            .divide(BigDecimal.valueOf(c), 0, mode)
+            .longValueExact();
+    }
+
+    /**
+     * {@code numerator / denominator} rounded with {@code mode}.
+     */
+    public static long divide(long numerator, long denominator, RoundingMode mode) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Divisor must be positive, got " + denominator);
+        }
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = numerator < 0 ? -1 : 1;
+        long discarded = Math.abs(remainder);
+        int half = Long.compare(discarded, denominator - discarded);
+        boolean awayFromZero = switch (mode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
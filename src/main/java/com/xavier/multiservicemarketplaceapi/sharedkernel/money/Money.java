@@ -0,0 +1,99 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Amount of money as a {@code long} count of the currency's minor units (cents for EUR and BRL, units for JPY).
+ * <p>
+ * Arithmetic is exact integer arithmetic and fails with {@link ArithmeticException} on overflow instead of wrapping;
+ * converting from a {@link BigDecimal} with more decimals than the currency allows requires an explicit rounding mode.
+ */
+public record Money(long amount, Currency currency) implements Comparable<Money> {
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency without minor units: " + currency);
+        }
+    }
+
+    public static Money ofMinor(long amount, Currency currency) {
+        return new Money(amount, currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    /**
+     * @throws ArithmeticException when {@code value} has more decimals than the currency
+     */
+    public static Money of(BigDecimal value, Currency currency) {
+        return of(value, currency, RoundingMode.UNNECESSARY);
+    }
+
+    public static Money of(BigDecimal value, Currency currency, RoundingMode mode) {
+        int scale = currency.getDefaultFractionDigits();
+        return new Money(value.setScale(scale, mode).unscaledValue().longValueExact(), currency);
+    }
+
+    public static Money of(String value, String currencyCode) {
+        return of(new BigDecimal(value), Currency.getInstance(currencyCode));
+    }
+
+    public int scale() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(amount, checked(other).amount), currency);
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(amount, checked(other).amount), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(amount, factor), currency);
+    }
+
+    public Money times(Rate rate, RoundingMode mode) {
+        return new Money(rate.applyTo(amount, mode), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(amount), currency);
+    }
+
+    public boolean isZero() {
+        return amount == 0;
+    }
+
+    public boolean isNegative() {
+        return amount < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount, scale());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, checked(other).amount);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private Money checked(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+        return other;
+    }
+}
@@ -0,0 +1,67 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Non-negative decimal factor (tax rate, fee, discount) stored as {@code unscaled / 10^scale}, so applying it to an
+ * amount in minor units is a single multiply and divide.
+ */
+public record Rate(long unscaled, int scale) {
+
+    public static final Rate ZERO = new Rate(0, 0);
+
+    public Rate {
+        if (unscaled < 0) {
+            throw new IllegalArgumentException("Rate must not be negative, got " + unscaled + "e-" + scale);
+        }
+        FixedPoint.pow10(scale);
+    }
+
+    public static Rate of(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() < 0) {
+            stripped = stripped.setScale(0);
+        }
+        return new Rate(stripped.unscaledValue().longValueExact(), stripped.scale());
+    }
+
+    public static Rate of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    /**
+     * {@code percent / 100}, e.g. {@code percent(10)} is a rate of 0.1.
+     */
+    public static Rate percent(BigDecimal percent) {
+        return of(percent.movePointLeft(2));
+    }
+
+    /**
+     * {@code amount * rate}, rounded to whole minor units.
+     */
+    public long applyTo(long amount, RoundingMode mode) {
+        return FixedPoint.mulDiv(amount, unscaled, FixedPoint.pow10(scale), mode);
+    }
+
+    /**
+     * The part of {@code gross} that is this rate on top of a base, i.e. {@code gross * rate / (1 + rate)}: the tax
+     * contained in a tax-inclusive price.
+     */
+    public long includedIn(long gross, RoundingMode mode) {
+        return FixedPoint.mulDiv(gross, unscaled, Math.addExact(FixedPoint.pow10(scale), unscaled), mode);
+    }
+
+    public boolean isZero() {
+        return unscaled == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
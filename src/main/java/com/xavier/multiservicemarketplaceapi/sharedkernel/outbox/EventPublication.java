@@ -0,0 +1,134 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One event pending for, or delivered to, one {@link OutboxListener}. Rows are written and claimed through
+ * {@link JdbcOutboxStore}; the mapping only describes the table.
+ */
+@Entity
+@Table(name = "event_publications",
+    indexes = {
+        @Index(name = "idx_event_publications_ordering", columnList = "listener_id, ordering_key, id"),
+        @Index(name = "idx_event_publications_completed", columnList = "completed_at")
+    })
+public class EventPublication {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "listener_id", nullable = false)
+    private String listenerId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "tenant_context", columnDefinition = "text")
+    private String tenantContext;
+
+    @Column(name = "tenant_id")
+    private UUID tenantId;
+
+    @Column(name = "ordering_key", nullable = false)
+    private String orderingKey;
+
+    @Column(name = "published_at", nullable = false)
+    private Instant publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "failed_at")
+    private Instant failedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected EventPublication() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public String getListenerId() {
+        return listenerId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public String getTenantContext() {
+        return tenantContext;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getOrderingKey() {
+        return orderingKey;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public Instant getFailedAt() {
+        return failedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,184 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The outbox table, {@code event_publications}: one row per event and listener, in publication order.
+ * <p>
+ * A row is claimable once it is due, not leased by a live dispatcher, and no earlier row of the same listener and
+ * ordering key is leased or waiting for a retry, so a key is never delivered out of order. Claims are serialized
+ * (per JVM, and on PostgreSQL across nodes with a transaction-scoped advisory lock), which keeps that check
+ * consistent with the leases it hands out; the claim itself is one short transaction.
+ */
+public class JdbcOutboxStore {
+
+    /** Arbitrary advisory lock key, the same on every node. */
+    private static final long CLAIM_LOCK_KEY = 0x6f7574626f78L;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate claimTransaction;
+    private final ReentrantLock claimLock = new ReentrantLock();
+    private volatile Boolean postgres;
+
+    public JdbcOutboxStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Inserts in the caller's transaction, if any.
+     */
+    public void insert(List<NewPublication> publications) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO event_publications (event_id, listener_id, event_type, payload, tenant_context, tenant_id,
+                                                ordering_key, published_at, attempts, next_attempt_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?)""",
+            publications, publications.size(), (ps, publication) -> {
+                OffsetDateTime publishedAt = timestamp(publication.publishedAt());
+                ps.setObject(1, publication.eventId());
+                ps.setString(2, publication.listenerId());
+                ps.setString(3, publication.eventType());
+                ps.setString(4, publication.payload());
+                ps.setString(5, publication.tenantContext());
+                ps.setObject(6, publication.tenantId());
+                ps.setString(7, publication.orderingKey());
+                ps.setObject(8, publishedAt);
+                ps.setObject(9, publishedAt);
+            });
+    }
+
+    /**
+     * Leases up to {@code limit} claimable rows until {@code now + lease}.
+     *
+     * @return the claimed rows in publication order
+     */
+    public List<PendingPublication> claim(Instant now, Duration lease, int limit) {
+        claimLock.lock();
+        try {
+            return claimTransaction.execute(status -> {
+                if (isPostgres()) {
+                    jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", CLAIM_LOCK_KEY);
+                }
+                OffsetDateTime at = timestamp(now);
+                List<PendingPublication> claimed = jdbcTemplate.query("""
+                        SELECT e.id, e.event_id, e.listener_id, e.event_type, e.payload, e.tenant_context,
+                               e.ordering_key, e.published_at, e.attempts
+                        FROM event_publications e
+                        WHERE e.completed_at IS NULL AND e.failed_at IS NULL AND e.next_attempt_at <= ?
+                          AND (e.lease_until IS NULL OR e.lease_until <= ?)
+                          AND NOT EXISTS (
+                              SELECT 1 FROM event_publications b
+                              WHERE b.listener_id = e.listener_id AND b.ordering_key = e.ordering_key AND b.id < e.id
+                                AND b.completed_at IS NULL AND b.failed_at IS NULL
+                                AND (b.next_attempt_at > ? OR b.lease_until > ?))
+                        ORDER BY e.id
+                        LIMIT ?""",
+                    (rs, row) -> new PendingPublication(rs.getLong("id"), rs.getObject("event_id", UUID.class),
+                        rs.getString("listener_id"), rs.getString("event_type"), rs.getString("payload"),
+                        rs.getString("tenant_context"), rs.getString("ordering_key"),
+                        rs.getObject("published_at", OffsetDateTime.class).toInstant(), rs.getInt("attempts")),
+                    at, at, at, at, limit);
+                OffsetDateTime leaseUntil = timestamp(now.plus(lease));
+                jdbcTemplate.batchUpdate("UPDATE event_publications SET lease_until = ? WHERE id = ?", claimed,
+                    claimed.size(), (ps, publication) -> {
+                        ps.setObject(1, leaseUntil);
+                        ps.setLong(2, publication.id());
+                    });
+                return claimed;
+            });
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    public void complete(List<Long> ids, Instant now) {
+        OffsetDateTime at = timestamp(now);
+        jdbcTemplate.batchUpdate("UPDATE event_publications SET completed_at = ?, lease_until = NULL WHERE id = ?",
+            ids, ids.size(), (ps, id) -> {
+                ps.setObject(1, at);
+                ps.setLong(2, id);
+            });
+    }
+
+    /**
+     * Gives claimed rows back untouched, e.g. the ones queued behind a failed row of the same key.
+     */
+    public void release(List<Long> ids) {
+        jdbcTemplate.batchUpdate("UPDATE event_publications SET lease_until = NULL WHERE id = ?", ids, ids.size(),
+            (ps, id) -> ps.setLong(1, id));
+    }
+
+    public void retry(long id, int attempts, Instant nextAttemptAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE event_publications SET attempts = ?, next_attempt_at = ?, lease_until = NULL, last_error = ?
+                WHERE id = ?""",
+            attempts, timestamp(nextAttemptAt), truncate(error), id);
+    }
+
+    /**
+     * Gives up on a row; later rows of its key are delivered without it.
+     */
+    public void fail(long id, int attempts, Instant now, String error) {
+        jdbcTemplate.update("""
+                UPDATE event_publications SET attempts = ?, failed_at = ?, lease_until = NULL, last_error = ?
+                WHERE id = ?""",
+            attempts, timestamp(now), truncate(error), id);
+    }
+
+    /**
+     * @return number of completed rows deleted
+     */
+    public int purge(Instant completedBefore) {
+        return jdbcTemplate.update("DELETE FROM event_publications WHERE completed_at < ?",
+            timestamp(completedBefore));
+    }
+
+    /**
+     * Rows neither delivered nor given up on.
+     */
+    public long countPending() {
+        Long pending = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM event_publications WHERE completed_at IS NULL AND failed_at IS NULL", Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    public record NewPublication(UUID eventId, String listenerId, String eventType, String payload,
+                                 String tenantContext, UUID tenantId, String orderingKey, Instant publishedAt) {
+    }
+
+    public record PendingPublication(long id, UUID eventId, String listenerId, String eventType, String payload,
+                                     String tenantContext, String orderingKey, Instant publishedAt, int attempts) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Delivers outbox rows to their {@link OutboxListener}s off the publishing thread.
+ * <p>
+ * One dispatcher thread claims a batch of rows, splits it into lanes by listener and ordering key, and runs the lanes
+ * on {@code parallelism} workers; a lane is delivered in publication order and stops at its first failure, so the
+ * rows behind it wait for the retry. Each listener call runs with the publisher's {@link TenantContext} bound.
+ * Completions are then written back in one batch and the next batch is claimed right away if this one was full,
+ * otherwise after {@code pollInterval} or as soon as a new event is committed.
+ * <p>
+ * With a {@link MeterRegistry}, publishes {@code outbox.events.delivered}, {@code outbox.events.retried} and
+ * {@code outbox.events.failed} counters, the {@code outbox.events.lag} timer (publication to delivery) and the
+ * {@code outbox.events.pending} gauge.
+ */
+public class OutboxDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final Duration HOUSEKEEPING_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcOutboxStore store;
+    private final OutboxListenerRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final OutboxRetryPolicy retryPolicy;
+    private final Duration retention;
+    private final Clock clock;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final Map<String, Class<?>> eventTypes = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer lag;
+    private ExecutorService workers;
+    private Thread loop;
+    private volatile boolean running;
+    private Instant nextHousekeeping = Instant.MIN;
+
+    public OutboxDispatcher(JdbcOutboxStore store, OutboxListenerRegistry registry, ObjectMapper objectMapper,
+                            int batchSize, int parallelism, Duration pollInterval, Duration lease,
+                            OutboxRetryPolicy retryPolicy, Duration retention, Clock clock,
+                            MeterRegistry meterRegistry) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("batchSize and parallelism must be positive");
+        }
+        this.store = store;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.retryPolicy = retryPolicy;
+        this.retention = retention;
+        this.clock = clock;
+        if (meterRegistry != null) {
+            delivered = Counter.builder("outbox.events.delivered").description("Outbox events delivered to a listener")
+                .register(meterRegistry);
+            retried = Counter.builder("outbox.events.retried").description("Failed deliveries scheduled for retry")
+                .register(meterRegistry);
+            failed = Counter.builder("outbox.events.failed").description("Outbox events given up on")
+                .register(meterRegistry);
+            lag = Timer.builder("outbox.events.lag").description("Time from publication to delivery")
+                .register(meterRegistry);
+            Gauge.builder("outbox.events.pending", pending, AtomicLong::get)
+                .description("Outbox events not delivered yet").register(meterRegistry);
+        } else {
+            delivered = null;
+            retried = null;
+            failed = null;
+            lag = null;
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(parallelism,
+            Thread.ofPlatform().name("outbox-worker-", 0).daemon(true).factory());
+        loop = Thread.ofPlatform().name("outbox-dispatcher").daemon(true).start(this::dispatchLoop);
+    }
+
+    /**
+     * Claims the next batch without waiting for the poll interval.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch on the calling thread plus the workers.
+     *
+     * @return number of rows claimed
+     */
+    public int dispatch() {
+        List<JdbcOutboxStore.PendingPublication> claimed = store.claim(clock.instant(), lease, batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<JdbcOutboxStore.PendingPublication>> lanes = new LinkedHashMap<>();
+        for (JdbcOutboxStore.PendingPublication publication : claimed) {
+            lanes.computeIfAbsent(publication.listenerId() + '\n' + publication.orderingKey(),
+                key -> new ArrayList<>()).add(publication);
+        }
+        Outcome outcome = new Outcome();
+        ExecutorService executor = workers;
+        CompletableFuture<?>[] deliveries = lanes.values().stream()
+            .map(lane -> executor != null
+                ? CompletableFuture.runAsync(() -> deliver(lane, outcome), executor)
+                : CompletableFuture.runAsync(() -> deliver(lane, outcome), Runnable::run))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(deliveries).join();
+
+        Instant now = clock.instant();
+        store.complete(new ArrayList<>(outcome.completed), now);
+        store.release(new ArrayList<>(outcome.released));
+        for (Failure failure : outcome.failures) {
+            recordFailure(failure, now);
+        }
+        return claimed.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        try {
+            loop.join(TimeUnit.SECONDS.toMillis(10));
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers = null;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                housekeepIfDue();
+                if (dispatch() < batchSize) {
+                    wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Outbox dispatch failed, retrying in {}: {}", pollInterval, e.getMessage());
+                sleepQuietly(pollInterval);
+            }
+        }
+    }
+
+    private void deliver(List<JdbcOutboxStore.PendingPublication> lane, Outcome outcome) {
+        for (int i = 0; i < lane.size(); i++) {
+            JdbcOutboxStore.PendingPublication publication = lane.get(i);
+            try {
+                deliver(publication);
+            } catch (RuntimeException e) {
+                outcome.failures.add(new Failure(publication, e));
+                for (int j = i + 1; j < lane.size(); j++) {
+                    outcome.released.add(lane.get(j).id());
+                }
+                return;
+            }
+            outcome.completed.add(publication.id());
+            if (delivered != null) {
+                delivered.increment();
+                lag.record(Duration.between(publication.publishedAt(), clock.instant()));
+            }
+        }
+    }
+
+    private void deliver(JdbcOutboxStore.PendingPublication publication) {
+        OutboxListenerRegistry.Listener listener = registry.listener(publication.listenerId());
+        if (listener == null) {
+            throw new IllegalStateException("No outbox listener '%s'.".formatted(publication.listenerId()));
+        }
+        OutboxEvent event = (OutboxEvent) read(publication.payload(), eventType(publication.eventType()));
+        if (publication.tenantContext() == null) {
+            TenantContextHolder.clear();
+            listener.target().accept(event);
+            return;
+        }
+        TenantContext tenant = (TenantContext) read(publication.tenantContext(), TenantContext.class);
+        TenantContextHolder.runWithTenant(tenant, () -> listener.target().accept(event));
+    }
+
+    private void recordFailure(Failure failure, Instant now) {
+        JdbcOutboxStore.PendingPublication publication = failure.publication();
+        int attempts = publication.attempts() + 1;
+        String error = failure.error().toString();
+        if (retryPolicy.exhausted(attempts)) {
+            store.fail(publication.id(), attempts, now, error);
+            increment(failed);
+            log.error("Giving up on outbox event {} for {} after {} attempts.", publication.eventId(),
+                publication.listenerId(), attempts, failure.error());
+        } else {
+            Duration backoff = retryPolicy.backoff(attempts);
+            store.retry(publication.id(), attempts, now.plus(backoff), error);
+            increment(retried);
+            log.warn("Outbox event {} for {} failed (attempt {}), retrying in {}: {}", publication.eventId(),
+                publication.listenerId(), attempts, backoff, error);
+        }
+    }
+
+    private void housekeepIfDue() {
+        Instant now = clock.instant();
+        if (now.isBefore(nextHousekeeping)) {
+            return;
+        }
+        nextHousekeeping = now.plus(HOUSEKEEPING_INTERVAL);
+        int purged = store.purge(now.minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} delivered outbox events.", purged);
+        }
+        pending.set(store.countPending());
+    }
+
+    private Class<?> eventType(String name) {
+        return eventTypes.computeIfAbsent(name, type -> {
+            try {
+                return Class.forName(type, false, OutboxDispatcher.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unknown outbox event type " + type, e);
+            }
+        });
+    }
+
+    private Object read(String json, Class<?> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read outbox %s".formatted(type.getSimpleName()), e);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Failure(JdbcOutboxStore.PendingPublication publication, RuntimeException error) {
+    }
+
+    private static final class Outcome {
+        private final ConcurrentLinkedQueue<Long> completed = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Long> released = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Failure> failures = new ConcurrentLinkedQueue<>();
+    }
+}
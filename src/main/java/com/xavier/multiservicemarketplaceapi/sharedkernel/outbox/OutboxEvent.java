@@ -0,0 +1,20 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.util.UUID;
+
+/**
+ * Domain event delivered to {@link OutboxListener}s through the transactional outbox: recorded in the publishing
+ * transaction, delivered after it commits, retried until every listener has handled it.
+ * <p>
+ * Implementations must be JSON-serializable (records are).
+ */
+public interface OutboxEvent {
+
+    UUID tenantId();
+
+    /**
+     * Events with the same key reach each listener in publication order, typically the id of the aggregate they are
+     * about; events with different keys may be delivered in parallel.
+     */
+    String orderingKey();
+}
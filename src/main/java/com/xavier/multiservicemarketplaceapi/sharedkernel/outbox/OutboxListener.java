@@ -0,0 +1,26 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean method with a single {@link OutboxEvent} parameter as a durable listener: each published event it
+ * accepts is stored in the outbox with the publishing transaction and handed to the method asynchronously, with the
+ * publisher's tenant context bound, until it returns normally.
+ * <p>
+ * Delivery is at least once, so the method must tolerate seeing an event again after a crash.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OutboxListener {
+
+    /**
+     * Stable id the listener's pending events are stored under; defaults to {@code <class name>#<method name>}. Set it
+     * before renaming a listener that may still have events pending.
+     */
+    String id() default "";
+}
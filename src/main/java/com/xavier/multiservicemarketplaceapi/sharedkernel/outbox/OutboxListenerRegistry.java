@@ -0,0 +1,100 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Every {@link OutboxListener} in the application, keyed by listener id. Beans are scanned as they are initialized;
+ * listeners can also be registered programmatically.
+ */
+public class OutboxListenerRegistry implements BeanPostProcessor {
+
+    private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Listener>> byEventType = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (!AnnotationUtils.isCandidateClass(targetClass, OutboxListener.class)) {
+            return bean;
+        }
+        Map<Method, OutboxListener> methods = MethodIntrospector.selectMethods(targetClass,
+            (MethodIntrospector.MetadataLookup<OutboxListener>) method ->
+                AnnotatedElementUtils.findMergedAnnotation(method, OutboxListener.class));
+        methods.forEach((method, annotation) -> register(bean, targetClass, method, annotation));
+        return bean;
+    }
+
+    /**
+     * @throws IllegalStateException when {@code id} is already taken
+     */
+    public <E extends OutboxEvent> void register(String id, Class<E> eventType, Consumer<? super E> listener) {
+        Listener registered = new Listener(id, eventType, event -> listener.accept(eventType.cast(event)));
+        if (listeners.putIfAbsent(id, registered) != null) {
+            throw new IllegalStateException("Duplicate outbox listener id '%s'.".formatted(id));
+        }
+        byEventType.clear();
+    }
+
+    /**
+     * Listeners accepting events of {@code eventType}.
+     */
+    public List<Listener> listenersFor(Class<?> eventType) {
+        return byEventType.computeIfAbsent(eventType, type -> listeners.values().stream()
+            .filter(listener -> listener.eventType().isAssignableFrom(type))
+            .toList());
+    }
+
+    /**
+     * @return the listener, or {@code null} if none is registered under {@code id} any more
+     */
+    public Listener listener(String id) {
+        return listeners.get(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void register(Object bean, Class<?> targetClass, Method method, OutboxListener annotation) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length != 1 || !OutboxEvent.class.isAssignableFrom(parameters[0])) {
+            throw new IllegalStateException("@OutboxListener method %s must take exactly one OutboxEvent."
+                .formatted(method));
+        }
+        String id = StringUtils.hasText(annotation.id())
+            ? annotation.id()
+            : targetClass.getName() + "#" + method.getName();
+        Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocable);
+        register(id, (Class<OutboxEvent>) parameters[0], event -> invoke(bean, invocable, event));
+    }
+
+    private static void invoke(Object bean, Method method, OutboxEvent event) {
+        try {
+            method.invoke(bean, event);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Listener(String id, Class<? extends OutboxEvent> eventType, Consumer<OutboxEvent> target) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Writes every published {@link OutboxEvent} to the outbox, one row per accepting {@link OutboxListener}, as the last
+ * step of the publishing transaction, so the event is stored if and only if that transaction commits. Events published
+ * outside a transaction are stored right away. The publisher's {@link TenantContext} is stored alongside.
+ */
+public class OutboxRecorder {
+
+    private final OutboxListenerRegistry registry;
+    private final JdbcOutboxStore store;
+    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher dispatcher;
+    private final Clock clock;
+
+    public OutboxRecorder(OutboxListenerRegistry registry, JdbcOutboxStore store, ObjectMapper objectMapper,
+                          OutboxDispatcher dispatcher, Clock clock) {
+        this.registry = registry;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(OutboxEvent event) {
+        List<OutboxListenerRegistry.Listener> listeners = registry.listenersFor(event.getClass());
+        if (listeners.isEmpty()) {
+            return;
+        }
+        UUID eventId = UUID.randomUUID();
+        Instant now = clock.instant();
+        String payload = json(event);
+        String tenantContext = TenantContextHolder.get().map(this::json).orElse(null);
+        List<JdbcOutboxStore.NewPublication> publications = new ArrayList<>(listeners.size());
+        for (OutboxListenerRegistry.Listener listener : listeners) {
+            publications.add(new JdbcOutboxStore.NewPublication(eventId, listener.id(), event.getClass().getName(),
+                payload, tenantContext, event.tenantId(), event.orderingKey(), now));
+        }
+        store.insert(publications);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            dispatcher.wakeUp();
+        }
+    }
+
+    @TransactionalEventListener
+    public void committed(OutboxEvent event) {
+        dispatcher.wakeUp();
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize %s for the outbox".formatted(value.getClass()), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import java.time.Duration;
+
+/**
+ * Exponential backoff between delivery attempts of one outbox row: {@code initialBackoff}, doubled per failed attempt
+ * up to {@code maxBackoff}; after {@code maxAttempts} failures the row is given up on.
+ */
+public record OutboxRetryPolicy(Duration initialBackoff, Duration maxBackoff, int maxAttempts) {
+
+    public OutboxRetryPolicy {
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Backoffs must be ordered and maxAttempts positive.");
+        }
+    }
+
+    /**
+     * @param failedAttempts attempts made so far, at least 1
+     */
+    public Duration backoff(int failedAttempts) {
+        int doublings = Math.min(failedAttempts - 1, 62);
+        long millis = initialBackoff.toMillis();
+        if (millis > 0 && doublings > Long.numberOfLeadingZeros(millis) - 2) {
+            return maxBackoff;
+        }
+        Duration backoff = Duration.ofMillis(millis << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    public boolean exhausted(int failedAttempts) {
+        return failedAttempts >= maxAttempts;
+    }
+}
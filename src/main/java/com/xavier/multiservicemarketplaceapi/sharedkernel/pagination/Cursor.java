@@ -0,0 +1,28 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page: that row's sort key and id. The next page holds the rows that sort after it.
+ *
+ * @param sortKey the sort column, as text
+ */
+public record Cursor(String sortKey, UUID id) {
+
+    public static Cursor of(Instant sortKey, UUID id) {
+        return new Cursor(sortKey.toString(), id);
+    }
+
+    /**
+     * @throws InvalidCursorException when the key is not an instant, i.e. the cursor belongs to another list
+     */
+    public Instant instantKey() {
+        try {
+            return Instant.parse(sortKey);
+        } catch (DateTimeParseException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Turns {@link Cursor}s into opaque tokens and back. A token carries the sort key and id of the last row, followed by
+ * an HMAC-SHA256 tag (truncated to 128 bits) computed over them, the list's {@code scope} and the tenant. A token
+ * that was altered, or that is replayed on another list or another tenant, fails verification. Tokens do not expire:
+ * they only point into data the caller may read anyway.
+ */
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int TAG_BYTES = 16;
+    private static final int ID_BYTES = 16;
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(byte[] secret) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("The cursor secret must have at least %d bytes".formatted(
+                MIN_SECRET_BYTES));
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * @param scope names the list and its ordering, e.g. {@code pedidos:criado_em-desc}
+     */
+    public String encode(String scope, UUID tenantId, Cursor cursor) {
+        byte[] sortKey = cursor.sortKey().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(ID_BYTES + sortKey.length + TAG_BYTES);
+        body.putLong(cursor.id().getMostSignificantBits()).putLong(cursor.id().getLeastSignificantBits());
+        body.put(sortKey);
+        body.put(tag(scope, tenantId, body.array(), ID_BYTES + sortKey.length));
+        return ENCODER.encodeToString(body.array());
+    }
+
+    /**
+     * @return {@code null} for a {@code null} or blank token, i.e. the first page
+     * @throws InvalidCursorException unless the token was issued by {@link #encode} for the same scope and tenant
+     */
+    public Cursor decode(String scope, UUID tenantId, String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] body;
+        try {
+            body = DECODER.decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+        int signed = body.length - TAG_BYTES;
+        if (signed < ID_BYTES || !MessageDigest.isEqual(tag(scope, tenantId, body, signed),
+            Arrays.copyOfRange(body, signed, body.length))) {
+            throw new InvalidCursorException();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        return new Cursor(new String(body, ID_BYTES, signed - ID_BYTES, StandardCharsets.UTF_8), id);
+    }
+
+    private byte[] tag(String scope, UUID tenantId, byte[] body, int length) {
+        try {
+            // Mac instances are not thread-safe; creating one is cheap next to the query the cursor feeds.
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(ByteBuffer.allocate(16).putLong(tenantId.getMostSignificantBits())
+                .putLong(tenantId.getLeastSignificantBits()).array());
+            mac.update(body, 0, length);
+            return Arrays.copyOf(mac.doFinal(), TAG_BYTES);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
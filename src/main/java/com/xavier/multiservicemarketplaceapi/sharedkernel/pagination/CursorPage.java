@@ -0,0 +1,24 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param nextCursor passed back as {@code cursor} for the following page; {@code null} on the last page
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Builds a page from a query that fetched up to {@code limit + 1} rows; the extra row only tells whether a next
+     * page exists.
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int limit, Function<R, String> cursorOf,
+                                          Function<R, T> mapper) {
+        boolean more = rows.size() > limit;
+        List<R> page = more ? rows.subList(0, limit) : rows;
+        return new CursorPage<>(page.stream().map(mapper).toList(),
+            more ? cursorOf.apply(page.get(page.size() - 1)) : null);
+    }
+}
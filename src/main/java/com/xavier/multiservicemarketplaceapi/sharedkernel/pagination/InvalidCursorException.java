@@ -0,0 +1,15 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Raised for a cursor that was not issued by this application for the same list and tenant, or was altered.
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST, reason = "Invalid page cursor.")
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("Invalid page cursor.");
+    }
+}
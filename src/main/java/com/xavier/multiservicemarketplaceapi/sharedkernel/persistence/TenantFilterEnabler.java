@@ -0,0 +1,34 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Enables the {@value TenantScopedEntity#TENANT_FILTER} on every {@link EntityManager} the application's
+ * entity manager factory creates while a tenant is bound to the thread, with that tenant's id.
+ * <p>
+ * The filter is fixed when the entity manager is created, typically when the transaction begins; binding another
+ * tenant inside a running transaction does not change it. Entity managers created with no tenant bound are not
+ * filtered.
+ */
+public class TenantFilterEnabler implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof AbstractEntityManagerFactoryBean factory) {
+            factory.setEntityManagerInitializer(TenantFilterEnabler::enableFilter);
+        }
+        return bean;
+    }
+
+    public static void enableFilter(EntityManager entityManager) {
+        TenantContextHolder.get().ifPresent(tenant -> entityManager.unwrap(Session.class)
+            .enableFilter(TenantScopedEntity.TENANT_FILTER)
+            .setParameter(TenantScopedEntity.TENANT_PARAMETER, tenant.tenantId()));
+    }
+}
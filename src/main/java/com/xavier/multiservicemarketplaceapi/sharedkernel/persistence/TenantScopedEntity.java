@@ -0,0 +1,84 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.springframework.data.domain.Persistable;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantMismatchException;
+
+/**
+ * Base class of every entity owned by one tenant: maps {@code tenant_id} and the {@value #TENANT_FILTER} that
+ * {@link TenantFilterEnabler} turns on for sessions opened with a tenant bound, so queries and loads by id only ever
+ * see the current tenant's rows.
+ * <p>
+ * On insert a missing {@code tenantId} is taken from the {@link TenantContextHolder}; writing another tenant's entity
+ * while a tenant is bound fails with {@link TenantMismatchException}. With no tenant bound (startup, background
+ * jobs) the entity's own {@code tenantId} is trusted.
+ * <p>
+ * Entities report themselves new until loaded or persisted, so saving one with a preassigned id is a plain
+ * {@code INSERT} instead of a merge that selects the row first.
+ */
+@MappedSuperclass
+@FilterDef(name = TenantScopedEntity.TENANT_FILTER,
+    defaultCondition = "tenant_id = :" + TenantScopedEntity.TENANT_PARAMETER,
+    parameters = @ParamDef(name = TenantScopedEntity.TENANT_PARAMETER, type = UUID.class),
+    applyToLoadByKey = true)
+@Filter(name = TenantScopedEntity.TENANT_FILTER)
+public abstract class TenantScopedEntity implements Persistable<UUID> {
+
+    public static final String TENANT_FILTER = "tenantFilter";
+    public static final String TENANT_PARAMETER = "tenantId";
+
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private UUID tenantId;
+
+    @Transient
+    private boolean persisted;
+
+    protected TenantScopedEntity() {
+    }
+
+    protected TenantScopedEntity(UUID tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void assignTenant() {
+        UUID current = TenantContextHolder.get().map(TenantContext::tenantId).orElse(null);
+        if (tenantId == null) {
+            tenantId = TenantContextHolder.requireTenantId();
+        } else if (current != null && !current.equals(tenantId)) {
+            throw new TenantMismatchException("%s belongs to tenant %s, not to the current tenant %s."
+                .formatted(getClass().getSimpleName(), tenantId, current));
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates a {@link TimeOrderedUuids time-ordered UUID} for a {@code UUID} id left {@code null}; an id assigned by
+ * the caller is kept.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,30 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 7 UUIDs: a millisecond timestamp followed by a 12-bit counter and 62 random bits. Ids made in this JVM
+ * increase strictly, so new rows land at the right edge of primary key indexes instead of on random pages, and no
+ * database round trip is needed to get one.
+ */
+public final class TimeOrderedUuids {
+
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private TimeOrderedUuids() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        // millis << 12 | counter; a counter overflow borrows the next millisecond
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(epochMillis << 12, last + 1));
+        long mostSignificant = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSignificant = ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | Long.MIN_VALUE;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
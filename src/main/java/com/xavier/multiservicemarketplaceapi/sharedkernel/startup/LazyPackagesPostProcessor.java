@@ -0,0 +1,90 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.startup;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxListener;
+
+/**
+ * Creates the beans of some packages on first use instead of at startup: endpoints and services only reached by a
+ * request, like the API docs or dashboard reports.
+ * <p>
+ * A bean is deferred when its class, or the configuration class declaring its {@code @Bean} method, is in one of
+ * {@code packages}. Beans that must exist for the application to behave are left alone even there: beans with an
+ * init method (they start workers), event, outbox and scheduled listeners (nobody would ask for them), and beans
+ * whose laziness was set explicitly.
+ */
+public class LazyPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final List<Class<? extends Annotation>> TRIGGERS =
+        List.of(EventListener.class, OutboxListener.class, Scheduled.class);
+
+    private final List<String> packages;
+
+    public LazyPackagesPostProcessor(List<String> packages) {
+        this.packages = packages.stream().map(name -> name.endsWith(".") ? name : name + '.').toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AbstractBeanDefinition bean && bean.getLazyInit() == null
+                && definition.getRole() == BeanDefinition.ROLE_APPLICATION && definition.isSingleton()
+                && !StringUtils.hasText(bean.getInitMethodName()) && deferrable(definition, beanFactory)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean deferrable(BeanDefinition definition, ConfigurableListableBeanFactory beanFactory) {
+        MethodMetadata factoryMethod = definition instanceof AnnotatedBeanDefinition annotated
+            ? annotated.getFactoryMethodMetadata() : null;
+        String typeName = factoryMethod != null ? factoryMethod.getReturnTypeName() : definition.getBeanClassName();
+        String declaringName = factoryMethod != null ? factoryMethod.getDeclaringClassName() : typeName;
+        if (typeName == null || !(inPackages(typeName) || inPackages(declaringName))) {
+            return false;
+        }
+        if (factoryMethod == null && definition instanceof AnnotatedBeanDefinition annotated) {
+            return TRIGGERS.stream().noneMatch(trigger -> annotated.getMetadata().hasAnnotatedMethods(
+                trigger.getName()));
+        }
+        try {
+            Class<?> type = ClassUtils.forName(typeName, beanFactory.getBeanClassLoader());
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type)) {
+                if (TRIGGERS.stream().anyMatch(trigger -> AnnotatedElementUtils.hasAnnotation(method, trigger))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    private boolean inPackages(String className) {
+        for (String prefix : packages) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
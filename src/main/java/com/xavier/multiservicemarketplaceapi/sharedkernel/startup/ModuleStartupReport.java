@@ -0,0 +1,138 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.startup;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Bean creation time per application module, read from the {@code spring.beans.instantiate} steps a
+ * {@code BufferingApplicationStartup} recorded.
+ * <p>
+ * Steps nest, since creating a bean creates its dependencies first, so each step is charged its own time only: its
+ * duration minus that of the steps recorded inside it. Time spent in other steps inside a bean (repository setup,
+ * for instance) goes to that bean. Beans of this application are grouped by module, the package segment under
+ * {@code basePackage}; anything else by its first two package segments ({@code org.springframework},
+ * {@code org.hibernate}, ...).
+ */
+public final class ModuleStartupReport {
+
+    static final String BEAN_STEP = "spring.beans.instantiate";
+    static final String OTHER = "other";
+
+    private final List<ModuleTime> modules;
+
+    private ModuleStartupReport(List<ModuleTime> modules) {
+        this.modules = modules;
+    }
+
+    /**
+     * @param beanTypes the type of a bean by name, {@code null} when unknown
+     */
+    public static ModuleStartupReport of(StartupTimeline timeline, String basePackage,
+                                         Function<String, Class<?>> beanTypes) {
+        Map<Long, TimelineEvent> events = new HashMap<>();
+        Map<Long, Duration> nested = new HashMap<>();
+        for (TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            events.put(step.getId(), event);
+            if (step.getParentId() != null) {
+                nested.merge(step.getParentId(), event.getDuration(), Duration::plus);
+            }
+        }
+        Map<String, Totals> totals = new LinkedHashMap<>();
+        for (TimelineEvent event : timeline.getEvents()) {
+            TimelineEvent owner = owningBean(event, events);
+            if (owner == null) {
+                continue;
+            }
+            Duration own = event.getDuration().minus(nested.getOrDefault(event.getStartupStep().getId(),
+                Duration.ZERO));
+            Totals module = totals.computeIfAbsent(moduleOf(beanType(owner.getStartupStep(), beanTypes), basePackage),
+                name -> new Totals());
+            module.time = module.time.plus(own.isNegative() ? Duration.ZERO : own);
+            if (owner == event) {
+                module.beans++;
+            }
+        }
+        List<ModuleTime> modules = new ArrayList<>(totals.size());
+        totals.forEach((module, total) -> modules.add(new ModuleTime(module, total.time, total.beans)));
+        modules.sort(Comparator.comparing(ModuleTime::time).reversed());
+        return new ModuleStartupReport(List.copyOf(modules));
+    }
+
+    /**
+     * Slowest module first.
+     */
+    public List<ModuleTime> modules() {
+        return modules;
+    }
+
+    static String moduleOf(String beanType, String basePackage) {
+        if (beanType == null) {
+            return OTHER;
+        }
+        if (beanType.startsWith(basePackage + '.')) {
+            int start = basePackage.length() + 1;
+            int end = beanType.indexOf('.', start);
+            return end > 0 ? beanType.substring(start, end) : OTHER;
+        }
+        int first = beanType.indexOf('.');
+        int second = first > 0 ? beanType.indexOf('.', first + 1) : -1;
+        return second > 0 ? beanType.substring(0, second) : OTHER;
+    }
+
+    /**
+     * The nearest enclosing bean step, the event itself included; {@code null} for steps outside any bean.
+     */
+    private static TimelineEvent owningBean(TimelineEvent event, Map<Long, TimelineEvent> events) {
+        TimelineEvent current = event;
+        while (current != null) {
+            StartupStep step = current.getStartupStep();
+            if (BEAN_STEP.equals(step.getName())) {
+                return current;
+            }
+            current = step.getParentId() != null ? events.get(step.getParentId()) : null;
+        }
+        return null;
+    }
+
+    /**
+     * The class the bean was declared as: the interface a JDK proxy (a repository, say) stands for, the superclass of
+     * a CGLIB proxy.
+     */
+    private static String beanType(StartupStep step, Function<String, Class<?>> beanTypes) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                Class<?> type = beanTypes.apply(tag.getValue());
+                if (type == null) {
+                    return null;
+                }
+                if (Proxy.isProxyClass(type) && type.getInterfaces().length > 0) {
+                    return type.getInterfaces()[0].getName();
+                }
+                return ClassUtils.getUserClass(type).getName();
+            }
+        }
+        return null;
+    }
+
+    public record ModuleTime(String module, Duration time, int beans) {
+    }
+
+    private static final class Totals {
+
+        private Duration time = Duration.ZERO;
+        private int beans;
+    }
+}
@@ -0,0 +1,39 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Parsed view of {@code tenants.config_checkout}. The document is tenant-defined, so values are kept
+ * as an immutable map with typed accessors instead of a fixed schema.
+ */
+public record CheckoutConfig(Map<String, Object> values) {
+
+    private static final CheckoutConfig EMPTY = new CheckoutConfig(Map.of());
+
+    public CheckoutConfig {
+        values = values != null ? Map.copyOf(values) : Map.of();
+    }
+
+    public static CheckoutConfig empty() {
+        return EMPTY;
+    }
+
+    public Optional<Object> value(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    public Optional<String> text(String key) {
+        return value(key).map(Object::toString);
+    }
+
+    public Optional<BigDecimal> decimal(String key) {
+        return value(key).map(value -> value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString()));
+    }
+
+    public boolean flag(String key) {
+        return value(key).map(value -> value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString()))
+            .orElse(false);
+    }
+}
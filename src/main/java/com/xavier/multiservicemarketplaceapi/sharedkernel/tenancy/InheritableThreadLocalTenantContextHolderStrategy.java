@@ -0,0 +1,24 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+/**
+ * Default strategy: the context is copied into every thread created while it is bound.
+ */
+public final class InheritableThreadLocalTenantContextHolderStrategy implements TenantContextHolderStrategy {
+
+    private static final ThreadLocal<TenantContext> CONTEXT = new InheritableThreadLocal<>();
+
+    @Override
+    public TenantContext getContext() {
+        return CONTEXT.get();
+    }
+
+    @Override
+    public void setContext(TenantContext context) {
+        CONTEXT.set(context);
+    }
+
+    @Override
+    public void clearContext() {
+        CONTEXT.remove();
+    }
+}
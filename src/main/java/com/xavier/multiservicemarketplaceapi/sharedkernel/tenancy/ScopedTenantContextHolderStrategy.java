@@ -0,0 +1,32 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+/**
+ * Strategy for virtual-thread serving: the immutable context is bound to the handling thread only for the lifetime
+ * of the request and is never copied into child threads.
+ * <p>
+ * The storage is a plain, non-inheritable {@link ThreadLocal}, not a {@code ScopedValue}: that API is a preview on
+ * Java 21 and would need {@code --enable-preview} on every JVM that runs the application. What it keeps of
+ * {@code ScopedValue} is the visibility: work handed to other threads must capture the context explicitly, e.g.
+ * through {@link TenantContextHolder#runWithTenant(TenantContext, Runnable)}, instead of inheriting it. The binding is
+ * not structural, though; {@code runWithTenant} restores the previous value and the request scope filter clears the
+ * thread, so a thread can never leak a context into its next request.
+ */
+public final class ScopedTenantContextHolderStrategy implements TenantContextHolderStrategy {
+
+    private static final ThreadLocal<TenantContext> CONTEXT = new ThreadLocal<>();
+
+    @Override
+    public TenantContext getContext() {
+        return CONTEXT.get();
+    }
+
+    @Override
+    public void setContext(TenantContext context) {
+        CONTEXT.set(context);
+    }
+
+    @Override
+    public void clearContext() {
+        CONTEXT.remove();
+    }
+}
@@ -4,7 +4,23 @@ import java.util.UUID;
 
 /**
  * Immutable snapshot describing the currently resolved tenant.
+ * <p>
+ * Besides identity it carries the tenant metadata (timezone, currency and checkout configuration)
+ * so downstream modules never have to query the tenants table again during a request.
  */
-public record TenantContext(UUID tenantId, String slug, boolean active) {
-}
+public record TenantContext(UUID tenantId, String slug, boolean active, String timezone, String currency,
+                            CheckoutConfig checkoutConfig) {
+
+    public static final String DEFAULT_TIMEZONE = "UTC";
+    public static final String DEFAULT_CURRENCY = "EUR";
 
+    public TenantContext {
+        timezone = timezone != null ? timezone : DEFAULT_TIMEZONE;
+        currency = currency != null ? currency : DEFAULT_CURRENCY;
+        checkoutConfig = checkoutConfig != null ? checkoutConfig : CheckoutConfig.empty();
+    }
+
+    public TenantContext(UUID tenantId, String slug, boolean active) {
+        this(tenantId, slug, active, DEFAULT_TIMEZONE, DEFAULT_CURRENCY, CheckoutConfig.empty());
+    }
+}
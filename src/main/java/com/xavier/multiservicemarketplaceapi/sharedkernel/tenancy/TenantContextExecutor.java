@@ -0,0 +1,290 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Tenant-aware executor for {@code @Async} methods, schedulers and asynchronous event listeners.
+ * <p>
+ * The submitter's {@link TenantContext} is captured at submission, bound on the worker thread while the task runs and
+ * always cleared afterwards. Each tenant gets its own bounded queue ("lane"); workers take lanes from a shared ready
+ * queue in round-robin order and dispatch one task per turn, so a tenant's bulk job can use idle workers but never
+ * delays another tenant's work by more than one task per active tenant. Tasks submitted without a tenant run in a
+ * shared {@code system} lane. A lane exists only while it holds tasks, so idle tenants cost nothing.
+ * <p>
+ * {@code tenant.executor.queue.depth} and {@code tenant.executor.wait} are published when a {@link MeterRegistry} is
+ * supplied, tagged by {@code meterTags}, which must map tenants onto a bounded set of values (the busiest tenants by
+ * slug, the others as one). Meters of a tag unused for {@code meterIdleTimeout} with nothing queued are removed.
+ */
+public class TenantContextExecutor implements TaskExecutor, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantContextExecutor.class);
+
+    static final String SYSTEM_LANE = "system";
+
+    private final int queueCapacityPerTenant;
+    private final MeterRegistry meterRegistry;
+    private final Function<TenantContext, String> meterTags;
+    private final long meterIdleNanos;
+    private final AtomicLong nextMeterSweep;
+    private final ConcurrentHashMap<String, LaneMeters> meters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, TenantLane> lanes = new ConcurrentHashMap<>();
+    private final BlockingQueue<TenantLane> readyLanes = new LinkedBlockingQueue<>();
+    private final Thread[] workers;
+    private volatile boolean running = true;
+
+    /**
+     * @param meterTags the {@code tenant} tag of a tenant's meters; only used with a {@code meterRegistry}
+     */
+    public TenantContextExecutor(int poolSize, int queueCapacityPerTenant, ThreadFactory threadFactory,
+                                 MeterRegistry meterRegistry, Function<TenantContext, String> meterTags,
+                                 Duration meterIdleTimeout) {
+        if (poolSize < 1 || queueCapacityPerTenant < 1) {
+            throw new IllegalArgumentException("poolSize and queueCapacityPerTenant must be positive");
+        }
+        this.queueCapacityPerTenant = queueCapacityPerTenant;
+        this.meterRegistry = meterRegistry;
+        this.meterTags = meterTags;
+        this.meterIdleNanos = meterIdleTimeout.toNanos();
+        this.nextMeterSweep = new AtomicLong(System.nanoTime() + meterIdleNanos);
+        this.workers = new Thread[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            workers[i] = threadFactory.newThread(this::workLoop);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Wraps {@code task} so it runs with the tenant context bound at the time of this call, for executors that are
+     * not tenant-aware.
+     */
+    public static Runnable wrap(Runnable task) {
+        return TenantContextHolder.get().map(context -> withTenant(context, task)).orElse(task);
+    }
+
+    /**
+     * Wraps {@code task} so it runs with {@code context} bound, restoring the caller's context afterwards.
+     */
+    public static Runnable withTenant(TenantContext context, Runnable task) {
+        return () -> TenantContextHolder.runWithTenant(context, task);
+    }
+
+    /**
+     * Supplier variant of {@link #withTenant(TenantContext, Runnable)}.
+     */
+    public static <T> Supplier<T> withTenant(TenantContext context, Supplier<T> task) {
+        return () -> TenantContextHolder.callWithTenant(context, task);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!running) {
+            throw new TaskRejectedException("TenantContextExecutor has been shut down");
+        }
+        TenantContext context = TenantContextHolder.get().orElse(null);
+        Object key = context != null ? context.tenantId() : SYSTEM_LANE;
+        Submission submission = new Submission(task, context, metersFor(context), System.nanoTime());
+        boolean[] accepted = new boolean[1];
+        // Offered under the map's lock, so a worker cannot drop the lane between lookup and offer.
+        TenantLane lane = lanes.compute(key, (laneKey, existing) -> {
+            TenantLane target = existing != null ? existing : new TenantLane(laneKey, label(context));
+            accepted[0] = target.offer(submission);
+            return target;
+        });
+        if (!accepted[0]) {
+            throw new TaskRejectedException("Async queue for tenant '%s' is full (%d tasks)"
+                .formatted(lane.label, queueCapacityPerTenant));
+        }
+        schedule(lane);
+    }
+
+    /**
+     * @return number of tasks waiting for the given tenant ({@code null} for the system lane)
+     */
+    public int queueDepth(UUID tenantId) {
+        TenantLane lane = lanes.get(tenantId != null ? tenantId : SYSTEM_LANE);
+        return lane != null ? lane.size.get() : 0;
+    }
+
+    int laneCount() {
+        return lanes.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        lanes.values().forEach(lane -> {
+            int dropped = lane.size.get();
+            if (dropped > 0) {
+                log.warn("Tenant executor closed with {} queued tasks of tenant {} not run.", dropped, lane.label);
+            }
+        });
+    }
+
+    private static String label(TenantContext context) {
+        return context != null ? context.slug() : SYSTEM_LANE;
+    }
+
+    private LaneMeters metersFor(TenantContext context) {
+        if (meterRegistry == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        long due = nextMeterSweep.get();
+        if (now - due >= 0 && nextMeterSweep.compareAndSet(due, now + meterIdleNanos)) {
+            sweepMeters(now);
+        }
+        String tag = context != null ? meterTags.apply(context) : SYSTEM_LANE;
+        LaneMeters laneMeters = meters.computeIfAbsent(tag, this::newMeters);
+        laneMeters.lastUsed = now;
+        return laneMeters;
+    }
+
+    private LaneMeters newMeters(String tag) {
+        AtomicInteger depth = new AtomicInteger();
+        Gauge gauge = Gauge.builder("tenant.executor.queue.depth", depth, AtomicInteger::get)
+            .description("Tasks waiting in the tenant's async queue")
+            .tag("tenant", tag)
+            .register(meterRegistry);
+        Timer waitTimer = Timer.builder("tenant.executor.wait")
+            .description("Time tasks spend queued before a worker picks them up")
+            .tag("tenant", tag)
+            .register(meterRegistry);
+        return new LaneMeters(depth, gauge, waitTimer);
+    }
+
+    private void sweepMeters(long now) {
+        meters.forEach((tag, laneMeters) -> {
+            if (laneMeters.depth.get() == 0 && now - laneMeters.lastUsed >= meterIdleNanos
+                && meters.remove(tag, laneMeters)) {
+                meterRegistry.remove(laneMeters.gauge);
+                meterRegistry.remove(laneMeters.waitTimer);
+            }
+        });
+    }
+
+    private void schedule(TenantLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            readyLanes.offer(lane);
+        }
+    }
+
+    private void workLoop() {
+        while (running) {
+            TenantLane lane;
+            try {
+                lane = readyLanes.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Submission submission = lane.poll();
+            // Hand the lane back before running so the tenant's next task queues behind every other ready tenant.
+            lane.scheduled.set(false);
+            if (lane.size.get() > 0) {
+                schedule(lane);
+            } else {
+                lanes.computeIfPresent(lane.key, (key, current) ->
+                    current == lane && lane.size.get() == 0 && !lane.scheduled.get() ? null : current);
+            }
+            if (submission != null) {
+                LaneMeters laneMeters = submission.meters();
+                if (laneMeters != null) {
+                    laneMeters.depth.decrementAndGet();
+                    laneMeters.waitTimer.record(System.nanoTime() - submission.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+                runBound(submission.context(), submission.task());
+            }
+        }
+    }
+
+    private static void runBound(TenantContext context, Runnable task) {
+        if (context != null) {
+            TenantContextHolder.set(context);
+        } else {
+            TenantContextHolder.clear();
+        }
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.error("Async task failed for tenant {}.", context != null ? context.slug() : SYSTEM_LANE, ex);
+        } finally {
+            TenantContextHolder.clear();
+        }
+    }
+
+    private record Submission(Runnable task, TenantContext context, LaneMeters meters, long enqueuedAt) {
+    }
+
+    private static final class LaneMeters {
+
+        private final AtomicInteger depth;
+        private final Gauge gauge;
+        private final Timer waitTimer;
+        private volatile long lastUsed;
+
+        private LaneMeters(AtomicInteger depth, Gauge gauge, Timer waitTimer) {
+            this.depth = depth;
+            this.gauge = gauge;
+            this.waitTimer = waitTimer;
+        }
+    }
+
+    private final class TenantLane {
+
+        private final Object key;
+        private final String label;
+        private final Queue<Submission> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private TenantLane(Object key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        boolean offer(Submission submission) {
+            if (size.incrementAndGet() > queueCapacityPerTenant) {
+                size.decrementAndGet();
+                return false;
+            }
+            if (submission.meters() != null) {
+                submission.meters().depth.incrementAndGet();
+            }
+            queue.offer(submission);
+            return true;
+        }
+
+        Submission poll() {
+            Submission submission = queue.poll();
+            if (submission != null) {
+                size.decrementAndGet();
+            }
+            return submission;
+        }
+    }
+}
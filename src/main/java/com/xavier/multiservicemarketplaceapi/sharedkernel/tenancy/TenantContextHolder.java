@@ -1,28 +1,42 @@
 package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
 
 /**
  * Stores the tenant context for the current request/thread.
+ * <p>
+ * Storage is delegated to a {@link TenantContextHolderStrategy}; the default copies the context into child threads,
+ * {@link ScopedTenantContextHolderStrategy} binds it strictly to the handling thread (virtual-thread serving mode).
+ * The bound tenant id is mirrored into the logging MDC under {@value #MDC_TENANT_ID}.
  */
 public final class TenantContextHolder {
 
-    private static final ThreadLocal<TenantContext> CONTEXT = new InheritableThreadLocal<>();
+    public static final String MDC_TENANT_ID = "tenantId";
+
+    private static volatile TenantContextHolderStrategy strategy = new InheritableThreadLocalTenantContextHolderStrategy();
 
     private TenantContextHolder() {
     }
 
     public static void set(TenantContext tenant) {
-        CONTEXT.set(tenant);
+        bind(strategy, tenant);
     }
 
     public static Optional<TenantContext> get() {
-        return Optional.ofNullable(CONTEXT.get());
+        return Optional.ofNullable(strategy.getContext());
     }
 
     public static TenantContext require() {
-        return get().orElseThrow(() -> new TenantNotResolvedException("Tenant context was not resolved for the current request."));
+        TenantContext context = strategy.getContext();
+        if (context == null) {
+            throw new TenantNotResolvedException("Tenant context was not resolved for the current request.");
+        }
+        return context;
     }
 
     public static UUID requireTenantId() {
@@ -30,7 +44,59 @@ public final class TenantContextHolder {
     }
 
     public static void clear() {
-        CONTEXT.remove();
+        unbind(strategy);
+    }
+
+    /**
+     * Runs {@code action} with {@code tenant} bound, restoring whatever was bound before once it returns.
+     */
+    public static void runWithTenant(TenantContext tenant, Runnable action) {
+        callWithTenant(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls {@code action} with {@code tenant} bound, restoring whatever was bound before once it returns.
+     */
+    public static <T> T callWithTenant(TenantContext tenant, Supplier<T> action) {
+        TenantContextHolderStrategy current = strategy;
+        TenantContext previous = current.getContext();
+        bind(current, tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                bind(current, previous);
+            } else {
+                unbind(current);
+            }
+        }
     }
-}
 
+    private static void bind(TenantContextHolderStrategy target, TenantContext tenant) {
+        if (tenant == null) {
+            unbind(target);
+            return;
+        }
+        target.setContext(tenant);
+        MDC.put(MDC_TENANT_ID, tenant.tenantId().toString());
+    }
+
+    private static void unbind(TenantContextHolderStrategy target) {
+        target.clearContext();
+        MDC.remove(MDC_TENANT_ID);
+    }
+
+    public static TenantContextHolderStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Replaces the storage strategy. Meant to be called once at startup, before requests are served.
+     */
+    public static void setStrategy(TenantContextHolderStrategy newStrategy) {
+        strategy = Objects.requireNonNull(newStrategy, "strategy must not be null");
+    }
+}
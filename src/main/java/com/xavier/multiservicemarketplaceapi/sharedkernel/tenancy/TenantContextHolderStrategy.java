@@ -0,0 +1,16 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+/**
+ * Storage used by {@link TenantContextHolder} to carry the {@link TenantContext} of the current unit of work.
+ */
+public interface TenantContextHolderStrategy {
+
+    /**
+     * @return the bound context, or {@code null} when none is bound
+     */
+    TenantContext getContext();
+
+    void setContext(TenantContext context);
+
+    void clearContext();
+}
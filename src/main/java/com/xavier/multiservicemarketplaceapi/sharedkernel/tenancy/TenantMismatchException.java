@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+/**
+ * Raised when an entity of one tenant is written while another tenant is bound to the current thread.
+ */
+public class TenantMismatchException extends RuntimeException {
+
+    public TenantMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,10 @@
 package com.xavier.multiservicemarketplaceapi.tenancy.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -9,8 +12,31 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "tenancy")
 public class TenancyProperties {
 
+    private ProviderType provider = ProviderType.IN_MEMORY;
+    private ContextMode contextMode = ContextMode.INHERITABLE;
     private List<String> ignoredPaths = new ArrayList<>(List.of("/actuator/**"));
+    private List<String> adminPaths = new ArrayList<>();
     private List<TenantSeed> bootstrapTenants = new ArrayList<>();
+    private Cache cache = new Cache();
+    private Executor executor = new Executor();
+    private RateLimit rateLimit = new RateLimit();
+    private Metrics metrics = new Metrics();
+
+    public ProviderType getProvider() {
+        return provider;
+    }
+
+    public void setProvider(ProviderType provider) {
+        this.provider = provider;
+    }
+
+    public ContextMode getContextMode() {
+        return contextMode;
+    }
+
+    public void setContextMode(ContextMode contextMode) {
+        this.contextMode = contextMode;
+    }
 
     public List<String> getIgnoredPaths() {
         return ignoredPaths;
@@ -20,6 +46,14 @@ public class TenancyProperties {
         this.ignoredPaths = ignoredPaths != null ? List.copyOf(ignoredPaths) : List.of();
     }
 
+    public List<String> getAdminPaths() {
+        return adminPaths;
+    }
+
+    public void setAdminPaths(List<String> adminPaths) {
+        this.adminPaths = adminPaths != null ? List.copyOf(adminPaths) : List.of();
+    }
+
     public List<TenantSeed> getBootstrapTenants() {
         return bootstrapTenants;
     }
@@ -28,10 +62,210 @@ public class TenancyProperties {
         this.bootstrapTenants = bootstrapTenants != null ? List.copyOf(bootstrapTenants) : List.of();
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public enum ProviderType {
+        IN_MEMORY,
+        DATABASE
+    }
+
+    /**
+     * How the tenant context is carried through a request.
+     */
+    public enum ContextMode {
+        /**
+         * Inheritable thread-local, copied into child threads (thread-per-request serving).
+         */
+        INHERITABLE,
+        /**
+         * Bound to the handling thread for the request lifetime only (virtual-thread serving).
+         */
+        SCOPED
+    }
+
+    /**
+     * Sizing of the tenant lookup cache used by the database-backed provider.
+     */
+    public static class Cache {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+        private Duration negativeTtl = Duration.ofSeconds(30);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getNegativeTtl() {
+            return negativeTtl;
+        }
+
+        public void setNegativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+        }
+    }
+
+    /**
+     * Sizing of the tenant-fair async executor.
+     */
+    public static class Executor {
+        private int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+        private int queueCapacityPerTenant = 1_000;
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacityPerTenant() {
+            return queueCapacityPerTenant;
+        }
+
+        public void setQueueCapacityPerTenant(int queueCapacityPerTenant) {
+            this.queueCapacityPerTenant = queueCapacityPerTenant;
+        }
+    }
+
+    /**
+     * Per-tenant request quotas enforced at tenant resolution. {@code tenants} overrides the defaults by slug.
+     */
+    public static class RateLimit {
+        private boolean enabled = true;
+        private Limits defaults = new Limits();
+        private Map<String, Limits> tenants = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Limits getDefaults() {
+            return defaults;
+        }
+
+        public void setDefaults(Limits defaults) {
+            this.defaults = defaults;
+        }
+
+        public Map<String, Limits> getTenants() {
+            return tenants;
+        }
+
+        public void setTenants(Map<String, Limits> tenants) {
+            this.tenants = tenants != null ? new LinkedHashMap<>(tenants) : new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Request limits of one tenant; zero or less disables the limit.
+     */
+    public static class Limits {
+        private long requestsPerSecond = 100;
+        private int burst = 200;
+        private int maxConcurrentRequests = 64;
+
+        public long getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(long requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+    }
+
+    /**
+     * Per-tenant meters: only the {@code topTenants} busiest tenants of each window get their own series.
+     */
+    public static class Metrics {
+        private int topTenants = 20;
+        private Duration window = Duration.ofMinutes(1);
+
+        public int getTopTenants() {
+            return topTenants;
+        }
+
+        public void setTopTenants(int topTenants) {
+            this.topTenants = topTenants;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+    }
+
     public static class TenantSeed {
         private UUID id;
         private String slug;
         private boolean active = true;
+        private String timezone;
+        private String currency;
 
         public UUID getId() {
             return id;
@@ -56,6 +290,22 @@ public class TenancyProperties {
         public void setActive(boolean active) {
             this.active = active;
         }
+
+        public String getTimezone() {
+            return timezone;
+        }
+
+        public void setTimezone(String timezone) {
+            this.timezone = timezone;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
     }
 }
 
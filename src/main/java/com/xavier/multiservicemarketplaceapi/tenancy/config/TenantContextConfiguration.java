@@ -0,0 +1,28 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantContextScopeFilter;
+
+/**
+ * Request scoping of the tenant context. The storage strategy itself is installed earlier, by
+ * {@link TenantContextModeInitializer}.
+ */
+@Configuration
+public class TenantContextConfiguration {
+
+    /**
+     * Registered in every mode: a pooled container thread must not carry a tenant into its next request, whatever
+     * the strategy.
+     */
+    @Bean
+    FilterRegistrationBean<TenantContextScopeFilter> tenantContextScopeFilter() {
+        FilterRegistrationBean<TenantContextScopeFilter> registration =
+            new FilterRegistrationBean<>(new TenantContextScopeFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.InheritableThreadLocalTenantContextHolderStrategy;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.ScopedTenantContextHolderStrategy;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolderStrategy;
+
+/**
+ * Installs the {@link TenantContextHolderStrategy} selected by {@code tenancy.context-mode}, once, before any bean is
+ * created, so nothing can bind a tenant through the default strategy and read it back through another. Registered in
+ * {@code META-INF/spring.factories}.
+ */
+public class TenantContextModeInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantContextModeInitializer.class);
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        TenancyProperties.ContextMode mode = Binder.get(applicationContext.getEnvironment())
+            .bind("tenancy.context-mode", TenancyProperties.ContextMode.class)
+            .orElse(TenancyProperties.ContextMode.INHERITABLE);
+        TenantContextHolder.setStrategy(switch (mode) {
+            case INHERITABLE -> new InheritableThreadLocalTenantContextHolderStrategy();
+            case SCOPED -> new ScopedTenantContextHolderStrategy();
+        });
+        log.info("Tenant context mode: {}.", mode);
+    }
+}
@@ -0,0 +1,50 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextExecutor;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes {@code @Async} methods (and asynchronous event listeners) through the tenant-fair
+ * {@link TenantContextExecutor}.
+ */
+@Configuration
+@EnableAsync
+public class TenantExecutorConfiguration implements AsyncConfigurer {
+
+    private final ObjectProvider<TenantContextExecutor> tenantContextExecutor;
+
+    public TenantExecutorConfiguration(ObjectProvider<TenantContextExecutor> tenantContextExecutor) {
+        this.tenantContextExecutor = tenantContextExecutor;
+    }
+
+    @Bean(destroyMethod = "close")
+    TenantContextExecutor tenantContextExecutor(TenancyProperties properties, ObjectProvider<MeterRegistry> meterRegistry,
+                                                TenantTrafficMetrics trafficMetrics) {
+        TenancyProperties.Executor executor = properties.getExecutor();
+        return new TenantContextExecutor(executor.getPoolSize(), executor.getQueueCapacityPerTenant(),
+            Thread.ofPlatform().name("tenant-async-", 0).daemon(true).factory(), meterRegistry.getIfAvailable(),
+            trafficMetrics::tagFor, properties.getMetrics().getWindow());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return tenantContextExecutor.getObject();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new SimpleAsyncUncaughtExceptionHandler();
+    }
+}
@@ -0,0 +1,39 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantDbTimeSessionListener;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantsEndpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires per-tenant request and DB-time metrics and the {@code tenants} actuator endpoint.
+ */
+@Configuration
+public class TenantMetricsConfiguration {
+
+    @Bean
+    TenantTrafficMetrics tenantTrafficMetrics(MeterRegistry meterRegistry, TenancyProperties properties) {
+        TenancyProperties.Metrics metrics = properties.getMetrics();
+        TenantTrafficMetrics trafficMetrics =
+            new TenantTrafficMetrics(meterRegistry, metrics.getTopTenants(), metrics.getWindow());
+        TenantDbTimeSessionListener.bind(trafficMetrics);
+        return trafficMetrics;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer tenantDbTimeHibernateCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+            TenantDbTimeSessionListener.class.getName());
+    }
+
+    @Bean
+    TenantsEndpoint tenantsEndpoint(TenantTrafficMetrics trafficMetrics) {
+        return new TenantsEndpoint(trafficMetrics);
+    }
+}
@@ -0,0 +1,31 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuotaProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRateLimiter;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.PropertiesTenantQuotaProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exposes the {@link TenantRateLimiter} applied by the tenant resolver to every tenant request. Quotas come from
+ * {@code tenancy.rate-limit} unless another {@link TenantQuotaProvider} bean is defined.
+ */
+@Configuration
+public class TenantRateLimitConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(TenantQuotaProvider.class)
+    TenantQuotaProvider tenantQuotaProvider(TenancyProperties properties) {
+        return new PropertiesTenantQuotaProvider(properties);
+    }
+
+    @Bean
+    TenantRateLimiter tenantRateLimiter(TenantQuotaProvider quotaProvider, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TenantRateLimiter(quotaProvider, meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,98 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonCodec;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValueConverter;
+
+/**
+ * Tenant aggregate root. Slugs are stored lower-case so lookups can use the unique index directly.
+ */
+@Entity
+@Table(name = "tenants")
+public class Tenant {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(nullable = false, unique = true)
+    private String slug;
+
+    @Column(nullable = false)
+    private boolean ativo;
+
+    @Column(nullable = false)
+    private String timezone;
+
+    @Column(name = "moeda_padrao", nullable = false, length = 3)
+    private String moedaPadrao;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.ObjectMap.class)
+    @Column(name = "config_checkout")
+    private JsonValue<Map<String, Object>> configCheckout;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonValueConverter.ObjectMap.class)
+    private JsonValue<Map<String, Object>> branding;
+
+    protected Tenant() {
+    }
+
+    public Tenant(UUID id, String nome, String slug, boolean ativo, String timezone, String moedaPadrao,
+                  String configCheckout) {
+        this.id = id;
+        this.nome = nome;
+        this.slug = slug;
+        this.ativo = ativo;
+        this.timezone = timezone;
+        this.moedaPadrao = moedaPadrao;
+        this.configCheckout = JsonValue.ofJson(configCheckout, JsonCodec.OBJECT_MAP);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    public String getTimezone() {
+        return timezone;
+    }
+
+    public String getMoedaPadrao() {
+        return moedaPadrao;
+    }
+
+    public JsonValue<Map<String, Object>> getConfigCheckout() {
+        return configCheckout;
+    }
+
+    public JsonValue<Map<String, Object>> getBranding() {
+        return branding;
+    }
+}
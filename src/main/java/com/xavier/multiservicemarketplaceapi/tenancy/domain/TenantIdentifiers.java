@@ -0,0 +1,94 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Allocation-light helpers to classify and normalise incoming tenant identifiers.
+ * <p>
+ * {@link UUID#fromString(String)} is only usable behind a try/catch and {@link String#toLowerCase()} always scans and
+ * often copies; both run for every request, so these helpers recognise the canonical UUID form without throwing and
+ * only lower-case slugs that actually contain upper-case characters.
+ */
+public final class TenantIdentifiers {
+
+    private static final int UUID_LENGTH = 36;
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private TenantIdentifiers() {
+    }
+
+    /**
+     * @return {@code true} if the value has the canonical {@code 8-4-4-4-12} hexadecimal UUID form
+     */
+    public static boolean isUuid(String value) {
+        return hasUuidShape(value) && hex(value, 0, 8) >= 0 && hex(value, 9, 13) >= 0 && hex(value, 14, 18) >= 0
+            && hex(value, 19, 23) >= 0 && hex(value, 24, 36) >= 0;
+    }
+
+    /**
+     * Parses a canonical UUID without exception-driven control flow.
+     *
+     * @return the UUID, or {@code null} when the value is not in canonical form
+     */
+    public static UUID parseUuid(String value) {
+        if (!hasUuidShape(value)) {
+            return null;
+        }
+        long timeLow = hex(value, 0, 8);
+        long timeMid = hex(value, 9, 13);
+        long timeHigh = hex(value, 14, 18);
+        long clockSequence = hex(value, 19, 23);
+        long node = hex(value, 24, 36);
+        if ((timeLow | timeMid | timeHigh | clockSequence | node) < 0) {
+            return null;
+        }
+        return new UUID((timeLow << 32) | (timeMid << 16) | timeHigh, (clockSequence << 48) | node);
+    }
+
+    /**
+     * Lower-cases a slug, returning the same instance when it is already lower-case.
+     */
+    public static String normalizeSlug(String slug) {
+        for (int i = 0; i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (Character.isUpperCase(c)) {
+                return slug.toLowerCase(Locale.ROOT);
+            }
+        }
+        return slug;
+    }
+
+    private static boolean hasUuidShape(String value) {
+        return value != null && value.length() == UUID_LENGTH && value.charAt(8) == '-' && value.charAt(13) == '-'
+            && value.charAt(18) == '-' && value.charAt(23) == '-';
+    }
+
+    /**
+     * @return the value of {@code value[from, to)} as hexadecimal (at most 12 digits), or {@code -1} if invalid
+     */
+    private static long hex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            int digit = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+            if (digit < 0) {
+                return -1;
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+}
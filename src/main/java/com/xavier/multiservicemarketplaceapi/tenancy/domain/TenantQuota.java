@@ -0,0 +1,25 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+/**
+ * Request limits applied to a tenant. A non-positive value disables that limit.
+ *
+ * @param requestsPerSecond     sustained request rate
+ * @param burst                 requests admitted at once on top of an idle bucket
+ * @param maxConcurrentRequests requests allowed in flight at the same time
+ */
+public record TenantQuota(long requestsPerSecond, int burst, int maxConcurrentRequests) {
+
+    public static final TenantQuota UNLIMITED = new TenantQuota(0, 0, 0);
+
+    public boolean rateLimited() {
+        return requestsPerSecond > 0;
+    }
+
+    public boolean concurrencyLimited() {
+        return maxConcurrentRequests > 0;
+    }
+
+    public boolean unlimited() {
+        return !rateLimited() && !concurrencyLimited();
+    }
+}
@@ -0,0 +1,13 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+/**
+ * Supplies the request limits of a resolved tenant. Called on every tenant request, so implementations must answer
+ * from memory (plan data cached alongside the tenant, configuration defaults).
+ */
+@FunctionalInterface
+public interface TenantQuotaProvider {
+
+    TenantQuota quotaFor(TenantContext tenant);
+}
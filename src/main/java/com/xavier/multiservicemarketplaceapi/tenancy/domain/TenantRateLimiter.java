@@ -0,0 +1,167 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-tenant request admission: a token bucket for the request rate and a counter for in-flight requests.
+ * <p>
+ * Each tenant owns its own bucket, so admission only contends with requests of the same tenant. The bucket is kept as
+ * a single "theoretical arrival time" (GCRA) updated by compare-and-set, and the in-flight count is a plain atomic;
+ * there is no lock anywhere on the path.
+ */
+public class TenantRateLimiter {
+
+    private static final Duration CONCURRENCY_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final TenantQuotaProvider quotaProvider;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<UUID, TenantBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter rateRejections;
+    private final Counter concurrencyRejections;
+
+    public TenantRateLimiter(TenantQuotaProvider quotaProvider, MeterRegistry meterRegistry) {
+        this(quotaProvider, meterRegistry, System::nanoTime);
+    }
+
+    TenantRateLimiter(TenantQuotaProvider quotaProvider, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.quotaProvider = quotaProvider;
+        this.nanoClock = nanoClock;
+        this.rateRejections = meterRegistry != null ? rejectionCounter(meterRegistry, "rate") : null;
+        this.concurrencyRejections = meterRegistry != null ? rejectionCounter(meterRegistry, "concurrency") : null;
+    }
+
+    /**
+     * Admits one request for {@code tenant}.
+     *
+     * @return permit that must be released once the request completes
+     * @throws TenantRateLimitExceededException when the tenant is over its rate or concurrency quota
+     */
+    public Permit acquire(TenantContext tenant) {
+        TenantQuota quota = quotaProvider.quotaFor(tenant);
+        if (quota == null || quota.unlimited()) {
+            return Permit.NONE;
+        }
+        TenantBucket bucket = bucketFor(tenant.tenantId(), quota);
+        if (!bucket.tryEnter()) {
+            increment(concurrencyRejections);
+            throw new TenantRateLimitExceededException(tenant.slug(), "concurrent request", CONCURRENCY_RETRY_AFTER);
+        }
+        long waitNanos = bucket.tryConsume(nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            bucket.release();
+            increment(rateRejections);
+            throw new TenantRateLimitExceededException(tenant.slug(), "request rate", Duration.ofNanos(waitNanos));
+        }
+        return bucket;
+    }
+
+    /**
+     * Requests currently admitted and not yet released for {@code tenantId}.
+     */
+    public int inFlight(UUID tenantId) {
+        TenantBucket bucket = buckets.get(tenantId);
+        return bucket != null ? bucket.inFlight.get() : 0;
+    }
+
+    private TenantBucket bucketFor(UUID tenantId, TenantQuota quota) {
+        TenantBucket bucket = buckets.get(tenantId);
+        if (bucket != null && bucket.quota.equals(quota)) {
+            return bucket;
+        }
+        // First request or plan change: swap in a fresh bucket. Permits handed out by the old one release into it.
+        return buckets.compute(tenantId, (id, current) -> current != null && current.quota.equals(quota)
+            ? current
+            : new TenantBucket(quota, nanoClock.getAsLong()));
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("tenant.requests.rejected")
+            .description("Tenant requests rejected by rate or concurrency quotas")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Admission handle returned by {@link #acquire(TenantContext)}.
+     */
+    public interface Permit {
+
+        Permit NONE = () -> { };
+
+        void release();
+    }
+
+    static final class TenantBucket implements Permit {
+
+        final TenantQuota quota;
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrival;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        TenantBucket(TenantQuota quota, long now) {
+            this.quota = quota;
+            this.emissionIntervalNanos = quota.rateLimited()
+                ? Math.max(1, TimeUnit.SECONDS.toNanos(1) / quota.requestsPerSecond())
+                : 0;
+            this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, quota.burst());
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean tryEnter() {
+            if (!quota.concurrencyLimited()) {
+                return true;
+            }
+            if (inFlight.incrementAndGet() > quota.maxConcurrentRequests()) {
+                inFlight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return 0 when a token was taken, otherwise the nanoseconds until one is available
+         */
+        long tryConsume(long now) {
+            if (emissionIntervalNanos == 0) {
+                return 0;
+            }
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long next = Math.max(tat, now) + emissionIntervalNanos;
+                long excess = next - now - burstToleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        @Override
+        public void release() {
+            if (quota.concurrencyLimited()) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
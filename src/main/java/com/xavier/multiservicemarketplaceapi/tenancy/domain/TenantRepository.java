@@ -0,0 +1,19 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.repository.Repository;
+
+/**
+ * Read access to {@link Tenant} aggregates used by tenant resolution.
+ */
+public interface TenantRepository extends Repository<Tenant, UUID> {
+
+    Optional<Tenant> findById(UUID id);
+
+    /**
+     * @param slug lower-case tenant slug
+     */
+    Optional<Tenant> findBySlug(String slug);
+}
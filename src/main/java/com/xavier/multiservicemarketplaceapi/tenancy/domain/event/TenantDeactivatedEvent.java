@@ -0,0 +1,6 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain.event;
+
+import java.util.UUID;
+
+public record TenantDeactivatedEvent(UUID tenantId, String slug) implements TenantLifecycleEvent {
+}
@@ -0,0 +1,21 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain.event;
+
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.outbox.OutboxEvent;
+
+/**
+ * Domain events published by the Tenancy module whenever a tenant is created or changes state.
+ */
+public sealed interface TenantLifecycleEvent extends OutboxEvent
+    permits TenantProvisionedEvent, TenantUpdatedEvent, TenantDeactivatedEvent {
+
+    UUID tenantId();
+
+    String slug();
+
+    @Override
+    default String orderingKey() {
+        return tenantId().toString();
+    }
+}
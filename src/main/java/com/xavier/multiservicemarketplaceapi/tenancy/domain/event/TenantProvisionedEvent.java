@@ -0,0 +1,6 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain.event;
+
+import java.util.UUID;
+
+public record TenantProvisionedEvent(UUID tenantId, String slug) implements TenantLifecycleEvent {
+}
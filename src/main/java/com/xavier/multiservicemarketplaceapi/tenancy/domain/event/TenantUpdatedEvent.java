@@ -0,0 +1,11 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Raised when tenant metadata (slug, status, timezone, currency or configuration) changes.
+ *
+ * @param previousSlug slug before the change, {@code null} when unchanged
+ */
+public record TenantUpdatedEvent(UUID tenantId, String slug, String previousSlug) implements TenantLifecycleEvent {
+}
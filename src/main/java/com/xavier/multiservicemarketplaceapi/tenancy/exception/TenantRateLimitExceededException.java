@@ -0,0 +1,31 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Raised when a tenant exceeds its request rate or in-flight request quota. Built without a stack trace: it is thrown
+ * on the hot path precisely when a tenant is flooding the node.
+ */
+public class TenantRateLimitExceededException extends TenantResolutionException {
+
+    private final Duration retryAfter;
+
+    public TenantRateLimitExceededException(String slug, String limit, Duration retryAfter) {
+        super("Tenant '%s' exceeded its %s limit.".formatted(slug, limit), HttpStatus.TOO_MANY_REQUESTS, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Retry delay rounded up to whole seconds, as sent in the {@code Retry-After} header.
+     */
+    public long getRetryAfterSeconds() {
+        long seconds = retryAfter.toSeconds();
+        return retryAfter.toNanosPart() > 0 || seconds == 0 ? seconds + 1 : seconds;
+    }
+}
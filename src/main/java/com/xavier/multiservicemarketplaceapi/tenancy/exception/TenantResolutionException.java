@@ -11,6 +11,11 @@ public abstract class TenantResolutionException extends RuntimeException {
         this.status = status;
     }
 
+    protected TenantResolutionException(String message, HttpStatus status, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+    }
+
     public HttpStatus getStatus() {
         return status;
     }
@@ -0,0 +1,178 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.json.JsonValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.CheckoutConfig;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.Tenant;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantIdentifiers;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRepository;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantLifecycleEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantUpdatedEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantInactiveException;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+/**
+ * Production {@link TenantProvider} backed by the {@code tenants} table.
+ * <p>
+ * Lookups go through a bounded cache keyed by both the lower-case slug and the tenant UUID. Unknown and
+ * inactive identifiers are cached for a shorter period so bad or spoofed headers cannot hammer the database;
+ * Caffeine's frequency-based admission keeps those one-off keys from evicting hot tenants. Entries are evicted
+ * (and active tenants reloaded) when {@link TenantLifecycleEvent}s are published.
+ * <p>
+ * A tenant loaded under one key is also cached under the other. Each load records the invalidation generation it
+ * started in, and the alias is only added, atomically, while that generation is still current: a load that raced
+ * with an invalidation cannot bring the old entry back under its alias.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tenancy", name = "provider", havingValue = "database")
+public class CachingTenantProvider implements TenantProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingTenantProvider.class);
+
+    static final String CACHE_NAME = "tenants";
+
+    private final TenantRepository tenantRepository;
+    private final Cache<Object, CachedTenant> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Function<Object, CachedTenant> loader = this::load;
+
+    public CachingTenantProvider(TenantRepository tenantRepository, TenancyProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.tenantRepository = tenantRepository;
+        TenancyProperties.Cache cacheProperties = properties.getCache();
+        CaffeineStatsCounter statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheProperties.getMaximumSize())
+            .expireAfter(Expiry.writing((Object key, CachedTenant value) ->
+                value.status() == Status.FOUND ? cacheProperties.getTtl() : cacheProperties.getNegativeTtl()))
+            .recordStats(() -> statsCounter)
+            .build();
+        statsCounter.registerSizeMetric(cache);
+    }
+
+    @Override
+    public TenantContext loadTenant(String identifier) {
+        if (!StringUtils.hasText(identifier)) {
+            throw new TenantNotFoundException(identifier);
+        }
+        Object key = cacheKey(identifier);
+        CachedTenant cached = cache.getIfPresent(key);
+        if (cached == null) {
+            cached = cache.get(key, loader);
+            publishAlias(key, cached);
+        }
+        return switch (cached.status()) {
+            case FOUND -> cached.context();
+            case INACTIVE -> throw new TenantInactiveException(identifier);
+            case NOT_FOUND -> throw new TenantNotFoundException(identifier);
+        };
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTenantLifecycleEvent(TenantLifecycleEvent event) {
+        generation.incrementAndGet();
+        cache.invalidate(event.tenantId());
+        if (StringUtils.hasText(event.slug())) {
+            cache.invalidate(normalizeSlug(event.slug()));
+        }
+        if (event instanceof TenantUpdatedEvent updated) {
+            if (StringUtils.hasText(updated.previousSlug())) {
+                cache.invalidate(normalizeSlug(updated.previousSlug()));
+            }
+            CachedTenant refreshed = cache.get(event.tenantId(), loader);
+            publishAlias(event.tenantId(), refreshed);
+        }
+        log.debug("Evicted cached tenant {} after {}.", event.tenantId(), event.getClass().getSimpleName());
+    }
+
+    private CachedTenant load(Object key) {
+        long loadGeneration = generation.get();
+        Optional<Tenant> tenant = key instanceof UUID id
+            ? tenantRepository.findById(id)
+            : tenantRepository.findBySlug((String) key);
+        return tenant.map(found -> toCachedTenant(found, loadGeneration)).orElse(CachedTenant.NOT_FOUND);
+    }
+
+    private CachedTenant toCachedTenant(Tenant tenant, long loadGeneration) {
+        TenantContext context = new TenantContext(tenant.getId(), tenant.getSlug(), tenant.isAtivo(),
+            tenant.getTimezone(), tenant.getMoedaPadrao(), parseCheckoutConfig(tenant));
+        return new CachedTenant(context, tenant.isAtivo() ? Status.FOUND : Status.INACTIVE, loadGeneration);
+    }
+
+    private CheckoutConfig parseCheckoutConfig(Tenant tenant) {
+        JsonValue<Map<String, Object>> configCheckout = tenant.getConfigCheckout();
+        if (configCheckout == null || !StringUtils.hasText(configCheckout.json())) {
+            return CheckoutConfig.empty();
+        }
+        try {
+            Map<String, Object> nonNull = new LinkedHashMap<>();
+            configCheckout.get().forEach((key, value) -> {
+                if (value != null) {
+                    nonNull.put(key, value);
+                }
+            });
+            return new CheckoutConfig(nonNull);
+        } catch (UncheckedIOException ex) {
+            log.warn("Ignoring malformed config_checkout for tenant {}.", tenant.getId(), ex);
+            return CheckoutConfig.empty();
+        }
+    }
+
+    /**
+     * Makes an entry loaded by slug reachable by id (and vice versa) without a second database round trip, unless an
+     * invalidation ran since it was loaded. Invalidations bump the generation before evicting, so an alias added here
+     * either passes the check before the bump, and is then evicted with the rest, or fails it.
+     */
+    private void publishAlias(Object key, CachedTenant cached) {
+        if (cached.context() == null) {
+            return;
+        }
+        Object alias = key instanceof UUID ? normalizeSlug(cached.context().slug()) : cached.context().tenantId();
+        cache.asMap().compute(alias, (aliasKey, existing) ->
+            existing != null || cached.generation() != generation.get() ? existing : cached);
+    }
+
+    private static Object cacheKey(String identifier) {
+        String trimmed = identifier.trim();
+        UUID id = TenantIdentifiers.parseUuid(trimmed);
+        return id != null ? id : normalizeSlug(trimmed);
+    }
+
+    private static String normalizeSlug(String slug) {
+        return TenantIdentifiers.normalizeSlug(slug);
+    }
+
+    private enum Status {
+        FOUND,
+        INACTIVE,
+        NOT_FOUND
+    }
+
+    private record CachedTenant(TenantContext context, Status status, long generation) {
+
+        private static final CachedTenant NOT_FOUND = new CachedTenant(null, Status.NOT_FOUND, 0);
+    }
+}
@@ -10,17 +10,20 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
 import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantIdentifiers;
 import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantInactiveException;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
 
 @Component
 @ConditionalOnMissingBean(TenantProvider.class)
+@ConditionalOnProperty(prefix = "tenancy", name = "provider", havingValue = "in-memory", matchIfMissing = true)
 public class InMemoryTenantProvider implements TenantProvider {
 
     private static final Logger log = LoggerFactory.getLogger(InMemoryTenantProvider.class);
@@ -36,7 +39,8 @@ public class InMemoryTenantProvider implements TenantProvider {
                 return;
             }
             UUID id = seed.getId() != null ? seed.getId() : UUID.nameUUIDFromBytes(seed.getSlug().getBytes(StandardCharsets.UTF_8));
-            TenantContext context = new TenantContext(id, seed.getSlug(), seed.isActive());
+            TenantContext context = new TenantContext(id, seed.getSlug(), seed.isActive(), seed.getTimezone(),
+                seed.getCurrency(), null);
             slugMap.put(seed.getSlug().toLowerCase(Locale.ROOT), context);
             idMap.put(id, context);
         });
@@ -61,16 +65,14 @@ public class InMemoryTenantProvider implements TenantProvider {
         if (!StringUtils.hasText(identifier)) {
             return null;
         }
-        TenantContext context = tenantsBySlug.get(identifier.toLowerCase(Locale.ROOT));
-        if (context != null) {
-            return context;
-        }
-        try {
-            UUID id = UUID.fromString(identifier);
-            return tenantsById.get(id);
-        } catch (IllegalArgumentException ignored) {
-            return null;
+        UUID id = TenantIdentifiers.parseUuid(identifier);
+        if (id != null) {
+            TenantContext context = tenantsById.get(id);
+            if (context != null) {
+                return context;
+            }
         }
+        return tenantsBySlug.get(TenantIdentifiers.normalizeSlug(identifier));
     }
 }
 
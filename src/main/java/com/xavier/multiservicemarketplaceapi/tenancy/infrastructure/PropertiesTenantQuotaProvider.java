@@ -0,0 +1,43 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantIdentifiers;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuota;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuotaProvider;
+
+/**
+ * Quotas from {@code tenancy.rate-limit}: per-slug overrides on top of the defaults. Stands in until tenant plans are
+ * stored with the tenant; a plan-backed {@link TenantQuotaProvider} bean replaces it.
+ */
+public class PropertiesTenantQuotaProvider implements TenantQuotaProvider {
+
+    private final TenantQuota defaultQuota;
+    private final Map<String, TenantQuota> quotasBySlug;
+
+    public PropertiesTenantQuotaProvider(TenancyProperties properties) {
+        TenancyProperties.RateLimit rateLimit = properties.getRateLimit();
+        Map<String, TenantQuota> overrides = new HashMap<>();
+        if (rateLimit.isEnabled()) {
+            rateLimit.getTenants().forEach((slug, limits) ->
+                overrides.put(TenantIdentifiers.normalizeSlug(slug), toQuota(limits)));
+        }
+        this.defaultQuota = rateLimit.isEnabled() ? toQuota(rateLimit.getDefaults()) : TenantQuota.UNLIMITED;
+        this.quotasBySlug = Map.copyOf(overrides);
+    }
+
+    @Override
+    public TenantQuota quotaFor(TenantContext tenant) {
+        if (quotasBySlug.isEmpty()) {
+            return defaultQuota;
+        }
+        return quotasBySlug.getOrDefault(TenantIdentifiers.normalizeSlug(tenant.slug()), defaultQuota);
+    }
+
+    private static TenantQuota toQuota(TenancyProperties.Limits limits) {
+        return new TenantQuota(limits.getRequestsPerSecond(), limits.getBurst(), limits.getMaxConcurrentRequests());
+    }
+}
@@ -0,0 +1,28 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.ResourceVersions;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantLifecycleEvent;
+
+/**
+ * Bumps the tenant's {@value #AGGREGATE} version on every {@link TenantLifecycleEvent}, which retires the ETag and
+ * cached body of its branding and checkout configuration.
+ */
+@Component
+public class TenantConfigVersionUpdater {
+
+    public static final String AGGREGATE = "tenant-config";
+
+    private final ResourceVersions versions;
+
+    public TenantConfigVersionUpdater(ResourceVersions versions) {
+        this.versions = versions;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTenantLifecycleEvent(TenantLifecycleEvent event) {
+        versions.bump(event.tenantId(), AGGREGATE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import org.hibernate.SessionEventListener;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Accumulates JDBC statement execution time for one Hibernate session. When the session ends, the total is charged to
+ * the tenant bound at that moment.
+ * <p>
+ * Hibernate instantiates the listener per session from {@code hibernate.session.events.auto}, so the metrics sink is
+ * bound statically at startup via {@link #bind(TenantTrafficMetrics)}.
+ */
+public class TenantDbTimeSessionListener implements SessionEventListener {
+
+    private static volatile TenantTrafficMetrics metrics;
+
+    private long statementStart;
+    private long batchStart;
+    private long dbNanos;
+
+    public static void bind(TenantTrafficMetrics trafficMetrics) {
+        metrics = trafficMetrics;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        dbNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        dbNanos += System.nanoTime() - batchStart;
+    }
+
+    @Override
+    public void end() {
+        TenantTrafficMetrics sink = metrics;
+        if (sink == null || dbNanos == 0) {
+            return;
+        }
+        TenantContext tenant = TenantContextHolder.get().orElse(null);
+        if (tenant != null) {
+            sink.recordDbTime(tenant, dbNanos);
+        }
+        dbNanos = 0;
+    }
+}
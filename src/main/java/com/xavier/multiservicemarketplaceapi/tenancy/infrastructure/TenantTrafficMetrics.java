@@ -0,0 +1,265 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-tenant request metrics with bounded tag cardinality.
+ * <p>
+ * Live counters are kept for every tenant with recent traffic and are exposed by the {@code tenants} actuator
+ * endpoint. Only the {@code topTenants} busiest tenants get their own meters; all other tenants share the
+ * {@code tenant=other} series. The registry therefore never holds more than {@code topTenants + 1} series per meter,
+ * however many tenants a node serves. The ranking is recomputed once per window, and tenants idle for a whole window
+ * are dropped.
+ */
+public class TenantTrafficMetrics {
+
+    public static final String REQUESTS_METER = "tenant.http.server.requests";
+    public static final String ERRORS_METER = "tenant.http.server.errors";
+    public static final String DB_TIME_METER = "tenant.db.time";
+    public static final String TENANT_TAG = "tenant";
+    /**
+     * Tag value of the tenants outside the busiest; slugs starting with {@code _} are tagged with one more, so no
+     * tenant can take it.
+     */
+    public static final String OTHER_TENANTS = "_other";
+
+    private final MeterRegistry registry;
+    private final int topTenants;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<UUID, TenantStats> stats = new ConcurrentHashMap<>();
+    private final TenantMeters otherMeters;
+    private final AtomicLong nextRefresh;
+    private volatile Map<UUID, TenantMeters> taggedMeters = Map.of();
+    private long windowStart;
+
+    public TenantTrafficMetrics(MeterRegistry registry, int topTenants, Duration window) {
+        this(registry, topTenants, window, System::nanoTime);
+    }
+
+    TenantTrafficMetrics(MeterRegistry registry, int topTenants, Duration window, LongSupplier nanoClock) {
+        this.registry = registry;
+        this.topTenants = Math.max(0, topTenants);
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.otherMeters = new TenantMeters(registry, OTHER_TENANTS);
+        this.windowStart = nanoClock.getAsLong();
+        this.nextRefresh = new AtomicLong(windowStart + windowNanos);
+    }
+
+    /**
+     * Records one completed tenant request.
+     */
+    public void recordRequest(TenantContext tenant, long durationNanos, boolean error) {
+        refreshIfDue();
+        TenantStats tenantStats = statsFor(tenant);
+        tenantStats.requests.increment();
+        tenantStats.windowRequests.increment();
+        tenantStats.latencyNanos.add(durationNanos);
+        if (error) {
+            tenantStats.errors.increment();
+        }
+        metersFor(tenant).record(durationNanos, error);
+    }
+
+    /**
+     * Records time spent executing JDBC statements on behalf of {@code tenant}.
+     */
+    public void recordDbTime(TenantContext tenant, long nanos) {
+        statsFor(tenant).dbNanos.add(nanos);
+        metersFor(tenant).dbTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The {@value #TENANT_TAG} tag value for {@code tenant} in other per-tenant meters: its slug while it is among the
+     * busiest tenants, {@value #OTHER_TENANTS} otherwise, so those meters stay within the same bound.
+     */
+    public String tagFor(TenantContext tenant) {
+        return taggedMeters.containsKey(tenant.tenantId()) ? tagOf(tenant.slug()) : OTHER_TENANTS;
+    }
+
+    /**
+     * Live per-tenant counters, busiest tenant (last window) first.
+     */
+    public List<TenantTraffic> snapshot() {
+        Map<UUID, TenantMeters> tagged = taggedMeters;
+        List<TenantTraffic> traffic = new ArrayList<>(stats.size());
+        stats.values().forEach(tenantStats ->
+            traffic.add(tenantStats.toTraffic(tagged.containsKey(tenantStats.tenantId))));
+        traffic.sort(Comparator.comparingDouble(TenantTraffic::requestsPerSecond).reversed()
+            .thenComparing(Comparator.comparingLong(TenantTraffic::requests).reversed()));
+        return traffic;
+    }
+
+    public int taggedTenants() {
+        return taggedMeters.size();
+    }
+
+    private TenantStats statsFor(TenantContext tenant) {
+        TenantStats tenantStats = stats.get(tenant.tenantId());
+        if (tenantStats == null) {
+            tenantStats = stats.computeIfAbsent(tenant.tenantId(), id -> new TenantStats(id, tenant.slug()));
+        }
+        return tenantStats;
+    }
+
+    private TenantMeters metersFor(TenantContext tenant) {
+        Map<UUID, TenantMeters> tagged = taggedMeters;
+        TenantMeters meters = tagged.get(tenant.tenantId());
+        if (meters != null) {
+            return meters;
+        }
+        if (tagged.size() < topTenants) {
+            return promote(tenant);
+        }
+        return otherMeters;
+    }
+
+    /**
+     * Gives a tenant its own series while there are free slots, so the first tenants are visible before the first
+     * ranking.
+     */
+    private synchronized TenantMeters promote(TenantContext tenant) {
+        Map<UUID, TenantMeters> tagged = taggedMeters;
+        TenantMeters meters = tagged.get(tenant.tenantId());
+        if (meters != null || tagged.size() >= topTenants) {
+            return meters != null ? meters : otherMeters;
+        }
+        meters = new TenantMeters(registry, tagOf(tenant.slug()));
+        Map<UUID, TenantMeters> next = new HashMap<>(tagged);
+        next.put(tenant.tenantId(), meters);
+        taggedMeters = Map.copyOf(next);
+        return meters;
+    }
+
+    private void refreshIfDue() {
+        long now = nanoClock.getAsLong();
+        long due = nextRefresh.get();
+        if (now - due >= 0 && nextRefresh.compareAndSet(due, now + windowNanos)) {
+            refresh(now);
+        }
+    }
+
+    synchronized void refresh(long now) {
+        long elapsed = Math.max(1, now - windowStart);
+        windowStart = now;
+        List<TenantStats> active = new ArrayList<>(stats.size());
+        for (TenantStats tenantStats : stats.values()) {
+            long windowCount = tenantStats.windowRequests.sumThenReset();
+            tenantStats.lastWindowRequests = windowCount;
+            tenantStats.lastWindowRate = windowCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            if (windowCount == 0) {
+                stats.remove(tenantStats.tenantId, tenantStats);
+            } else {
+                active.add(tenantStats);
+            }
+        }
+        active.sort(Comparator.comparingLong((TenantStats s) -> s.lastWindowRequests).reversed());
+
+        Map<UUID, TenantMeters> current = taggedMeters;
+        Map<UUID, TenantMeters> next = new HashMap<>();
+        for (int i = 0; i < Math.min(topTenants, active.size()); i++) {
+            TenantStats tenantStats = active.get(i);
+            TenantMeters meters = current.get(tenantStats.tenantId);
+            next.put(tenantStats.tenantId,
+                meters != null ? meters : new TenantMeters(registry, tagOf(tenantStats.slug)));
+        }
+        current.forEach((tenantId, meters) -> {
+            if (!next.containsKey(tenantId)) {
+                meters.remove(registry);
+            }
+        });
+        taggedMeters = Map.copyOf(next);
+    }
+
+    private static String tagOf(String slug) {
+        return slug.startsWith("_") ? "_" + slug : slug;
+    }
+
+    /**
+     * Live traffic of one tenant as reported by the {@code tenants} actuator endpoint.
+     */
+    public record TenantTraffic(UUID tenantId, String slug, boolean tagged, long requests, long errors,
+                                double requestsPerSecond, double meanLatencyMs, double dbTimeMs) {
+    }
+
+    private static final class TenantStats {
+
+        private final UUID tenantId;
+        private final String slug;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder windowRequests = new LongAdder();
+        private volatile long lastWindowRequests;
+        private volatile double lastWindowRate;
+
+        private TenantStats(UUID tenantId, String slug) {
+            this.tenantId = tenantId;
+            this.slug = slug;
+        }
+
+        private TenantTraffic toTraffic(boolean tagged) {
+            long count = requests.sum();
+            double meanLatencyMs = count > 0 ? latencyNanos.sum() / 1_000_000.0 / count : 0.0;
+            return new TenantTraffic(tenantId, slug, tagged, count, errors.sum(), lastWindowRate, meanLatencyMs,
+                dbNanos.sum() / 1_000_000.0);
+        }
+    }
+
+    private static final class TenantMeters {
+
+        private final Timer requests;
+        private final Counter errors;
+        private final Timer dbTime;
+
+        private TenantMeters(MeterRegistry registry, String tenant) {
+            this.requests = Timer.builder(REQUESTS_METER)
+                .description("Tenant HTTP request latency")
+                .tag(TENANT_TAG, tenant)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+            this.errors = Counter.builder(ERRORS_METER)
+                .description("Tenant HTTP requests that failed with a server error")
+                .tag(TENANT_TAG, tenant)
+                .register(registry);
+            this.dbTime = Timer.builder(DB_TIME_METER)
+                .description("Time spent in JDBC statements per Hibernate session")
+                .tag(TENANT_TAG, tenant)
+                .register(registry);
+        }
+
+        private void record(long durationNanos, boolean error) {
+            requests.record(durationNanos, TimeUnit.NANOSECONDS);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        private void remove(MeterRegistry registry) {
+            registry.remove(requests);
+            registry.remove(errors);
+            registry.remove(dbTime);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+/**
+ * Tenant requirements of a route, as resolved by {@link TenantRouteClassifier}.
+ */
+public enum RouteAccess {
+
+    /**
+     * No tenant is resolved (health checks, login, provisioning).
+     */
+    PUBLIC,
+
+    /**
+     * Platform administration; the tenant header is optional and resolved only when present.
+     */
+    ADMIN,
+
+    /**
+     * Default for every route not configured otherwise: {@code X-Tenant-ID} is mandatory.
+     */
+    TENANT_REQUIRED
+}
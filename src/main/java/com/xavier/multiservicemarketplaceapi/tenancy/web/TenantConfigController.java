@@ -0,0 +1,58 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.util.UUID;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache.TenantResponseCache;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.Tenant;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRepository;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantConfigVersionUpdater;
+
+/**
+ * Branding and checkout configuration of the current tenant, as front-ends load them on every page. Tagged with the
+ * tenant's config version and revalidated with {@code If-None-Match}; the JSON columns are copied out as stored,
+ * never decoded.
+ */
+@RestController
+@RequestMapping("/api/tenant/config")
+public class TenantConfigController {
+
+    private final TenantRepository tenantRepository;
+    private final TenantResponseCache responseCache;
+
+    public TenantConfigController(TenantRepository tenantRepository, TenantResponseCache responseCache) {
+        this.tenantRepository = tenantRepository;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @return a {@link TenantConfigResponse}
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> get(HttpServletRequest request) {
+        UUID tenantId = TenantContextHolder.requireTenantId();
+        return responseCache.get(request, TenantConfigVersionUpdater.AGGREGATE,
+            () -> tenantRepository.findById(tenantId)
+                .map(TenantConfigResponse::of)
+                .orElseThrow(() -> new TenantNotFoundException(tenantId.toString())));
+    }
+
+    public record TenantConfigResponse(UUID id, String slug, String nome, String timezone, String moedaPadrao,
+                                       @JsonRawValue String branding, @JsonRawValue String configCheckout) {
+
+        static TenantConfigResponse of(Tenant tenant) {
+            return new TenantConfigResponse(tenant.getId(), tenant.getSlug(), tenant.getNome(), tenant.getTimezone(),
+                tenant.getMoedaPadrao(), tenant.getBranding() != null ? tenant.getBranding().json() : null,
+                tenant.getConfigCheckout() != null ? tenant.getConfigCheckout().json() : null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+/**
+ * Delimits the tenant context scope: whatever the interceptor binds is unbound when the request leaves the filter
+ * chain, even if the handler chain fails before {@code afterCompletion} runs or the request went async.
+ */
+public class TenantContextScopeFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        TenantContextHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContextHolder.clear();
+        }
+    }
+
+    /**
+     * The completing dispatch of an async request runs on another container thread, which needs the same guard.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -2,10 +2,12 @@ package com.xavier.multiservicemarketplaceapi.tenancy.web;
 
 import java.time.Instant;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantResolutionException;
 
 @ControllerAdvice
@@ -13,8 +15,18 @@ public class TenantErrorHandler {
 
     @ExceptionHandler(TenantResolutionException.class)
     public ResponseEntity<TenantErrorResponse> handleTenantErrors(TenantResolutionException ex) {
-        TenantErrorResponse body = new TenantErrorResponse(ex.getClass().getSimpleName(), ex.getMessage(), Instant.now());
-        return ResponseEntity.status(ex.getStatus()).body(body);
+        return ResponseEntity.status(ex.getStatus()).body(body(ex));
+    }
+
+    @ExceptionHandler(TenantRateLimitExceededException.class)
+    public ResponseEntity<TenantErrorResponse> handleRateLimit(TenantRateLimitExceededException ex) {
+        return ResponseEntity.status(ex.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(body(ex));
+    }
+
+    private static TenantErrorResponse body(TenantResolutionException ex) {
+        return new TenantErrorResponse(ex.getClass().getSimpleName(), ex.getMessage(), Instant.now());
     }
 
     public record TenantErrorResponse(String code, String message, Instant timestamp) {
@@ -1,58 +1,88 @@
 package com.xavier.multiservicemarketplaceapi.tenancy.web;
 
-import java.util.List;
+import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
 import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
 import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRateLimiter;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.MissingTenantHeaderException;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
 
 @Component
-public class TenantResolverInterceptor implements HandlerInterceptor {
+public class TenantResolverInterceptor implements AsyncHandlerInterceptor {
 
     public static final String TENANT_HEADER = "X-Tenant-ID";
 
+    private static final String REQUEST_ATTRIBUTE = TenantResolverInterceptor.class.getName() + ".request";
+
     private final TenantProvider tenantProvider;
-    private final List<String> ignoredPaths;
-    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final TenantRateLimiter rateLimiter;
+    private final TenantTrafficMetrics trafficMetrics;
+    private final TenantRouteClassifier routeClassifier;
 
-    public TenantResolverInterceptor(TenantProvider tenantProvider, TenancyProperties properties) {
+    public TenantResolverInterceptor(TenantProvider tenantProvider, TenantRateLimiter rateLimiter,
+                                     TenantTrafficMetrics trafficMetrics, TenancyProperties properties) {
         this.tenantProvider = tenantProvider;
-        this.ignoredPaths = properties.getIgnoredPaths();
+        this.rateLimiter = rateLimiter;
+        this.trafficMetrics = trafficMetrics;
+        this.routeClassifier = TenantRouteClassifier.compile(Map.of(
+            RouteAccess.PUBLIC, properties.getIgnoredPaths(),
+            RouteAccess.ADMIN, properties.getAdminPaths()));
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (shouldSkip(request)) {
+        RouteAccess access = routeClassifier.classify(request.getRequestURI());
+        if (access == RouteAccess.PUBLIC) {
             return true;
         }
         String tenantHeader = request.getHeader(TENANT_HEADER);
         if (!StringUtils.hasText(tenantHeader)) {
+            if (access == RouteAccess.ADMIN) {
+                return true;
+            }
             throw new MissingTenantHeaderException();
         }
         TenantContext context = tenantProvider.loadTenant(tenantHeader.trim());
+        // Async re-dispatches keep the permit and start time of the original dispatch.
+        if (request.getAttribute(REQUEST_ATTRIBUTE) == null) {
+            request.setAttribute(REQUEST_ATTRIBUTE,
+                new AdmittedRequest(context, rateLimiter.acquire(context), System.nanoTime()));
+        }
         TenantContextHolder.set(context);
         return true;
     }
 
+    /**
+     * The first dispatch of an async request ends here instead of in {@link #afterCompletion}, so the container
+     * thread is unbound now; the permit and the traffic record wait for the completing dispatch.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        TenantContextHolder.clear();
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof AdmittedRequest admitted) {
+            request.removeAttribute(REQUEST_ATTRIBUTE);
+            admitted.permit().release();
+            trafficMetrics.recordRequest(admitted.tenant(), System.nanoTime() - admitted.startNanos(),
+                ex != null || response.getStatus() >= 500);
+        }
         TenantContextHolder.clear();
     }
 
-    private boolean shouldSkip(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return ignoredPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    private record AdmittedRequest(TenantContext tenant, TenantRateLimiter.Permit permit, long startNanos) {
     }
 }
-
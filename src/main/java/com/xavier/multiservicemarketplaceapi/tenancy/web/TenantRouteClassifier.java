@@ -0,0 +1,174 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Classifies request paths into {@link RouteAccess} categories using a segment trie compiled once at startup.
+ * <p>
+ * Leading literal segments of every pattern become trie nodes, so the common {@code /prefix/**} and exact-path
+ * patterns are answered by walking the request path in place, without splitting it or allocating. Only patterns
+ * with wildcards before their last segment keep a {@link PathPattern} that is evaluated at the node where their
+ * literal prefix ends. The most specific (deepest) match wins; when one pattern is listed under several categories
+ * the most restrictive category wins.
+ */
+public final class TenantRouteClassifier {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final Node root;
+
+    private TenantRouteClassifier(Node root) {
+        this.root = root;
+    }
+
+    public static TenantRouteClassifier compile(Map<RouteAccess, List<String>> patternsByAccess) {
+        NodeBuilder root = new NodeBuilder();
+        patternsByAccess.forEach((access, patterns) -> patterns.forEach(pattern -> root.add(pattern, access)));
+        return new TenantRouteClassifier(root.build());
+    }
+
+    public RouteAccess classify(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return RouteAccess.TENANT_REQUIRED;
+        }
+        RouteAccess access = lookup(root, path, path.length() == 1 ? 1 : 0);
+        return access != null ? access : RouteAccess.TENANT_REQUIRED;
+    }
+
+    private static RouteAccess lookup(Node node, String path, int position) {
+        if (position == path.length()) {
+            if (node.exact != null) {
+                return node.exact;
+            }
+        } else {
+            int start = position + 1;
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            Node child = node.child(path, start, end);
+            if (child != null) {
+                RouteAccess access = lookup(child, path, end);
+                if (access != null) {
+                    return access;
+                }
+            }
+        }
+        if (node.patterns.length > 0) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (CompiledPattern pattern : node.patterns) {
+                if (pattern.pattern.matches(container)) {
+                    return pattern.access;
+                }
+            }
+        }
+        return node.subtree;
+    }
+
+    private static RouteAccess mostRestrictive(RouteAccess current, RouteAccess candidate) {
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+
+    private static boolean isLiteral(String segment) {
+        return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+    }
+
+    private record CompiledPattern(PathPattern pattern, RouteAccess access) {
+    }
+
+    private static final class Node {
+
+        private final String[] segments;
+        private final Node[] children;
+        private final RouteAccess exact;
+        private final RouteAccess subtree;
+        private final CompiledPattern[] patterns;
+
+        private Node(String[] segments, Node[] children, RouteAccess exact, RouteAccess subtree,
+                     CompiledPattern[] patterns) {
+            this.segments = segments;
+            this.children = children;
+            this.exact = exact;
+            this.subtree = subtree;
+            this.patterns = patterns;
+        }
+
+        /**
+         * Binary search over the sorted child segments, comparing against {@code path[start, end)} in place.
+         */
+        private Node child(String path, int start, int end) {
+            int low = 0;
+            int high = segments.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(segments[middle], path, start, end);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return children[middle];
+                }
+            }
+            return null;
+        }
+
+        private static int compare(String segment, String path, int start, int end) {
+            int length = end - start;
+            int limit = Math.min(segment.length(), length);
+            for (int i = 0; i < limit; i++) {
+                int difference = segment.charAt(i) - path.charAt(start + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return segment.length() - length;
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final Map<String, NodeBuilder> children = new TreeMap<>();
+        private final List<CompiledPattern> patterns = new ArrayList<>();
+        private RouteAccess exact;
+        private RouteAccess subtree;
+
+        void add(String rawPattern, RouteAccess access) {
+            String pattern = PARSER.initFullPathPattern(rawPattern);
+            PathPattern compiled = PARSER.parse(pattern);
+            String[] segments = pattern.substring(1).split("/", -1);
+            NodeBuilder node = this;
+            int index = 0;
+            while (index < segments.length && !segments[index].isEmpty() && isLiteral(segments[index])) {
+                node = node.children.computeIfAbsent(segments[index], ignored -> new NodeBuilder());
+                index++;
+            }
+            int remaining = segments.length - index;
+            if (remaining == 0 || (remaining == 1 && segments[index].isEmpty() && index == 0)) {
+                node.exact = mostRestrictive(node.exact, access);
+            } else if (remaining == 1 && "**".equals(segments[index])) {
+                node.subtree = mostRestrictive(node.subtree, access);
+            } else {
+                node.patterns.add(new CompiledPattern(compiled, access));
+            }
+        }
+
+        Node build() {
+            String[] segments = children.keySet().toArray(String[]::new);
+            Node[] builtChildren = children.values().stream().map(NodeBuilder::build).toArray(Node[]::new);
+            CompiledPattern[] sortedPatterns = patterns.stream()
+                .sorted(Comparator.comparing(CompiledPattern::pattern, PathPattern.SPECIFICITY_COMPARATOR)
+                    .thenComparing(CompiledPattern::access, Comparator.reverseOrder()))
+                .toArray(CompiledPattern[]::new);
+            return new Node(segments, builtChildren, exact, subtree, sortedPatterns);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics.TenantTraffic;
+
+/**
+ * {@code /actuator/tenants}: live traffic and latency of every tenant with recent requests.
+ */
+@Endpoint(id = "tenants")
+public class TenantsEndpoint {
+
+    private final TenantTrafficMetrics trafficMetrics;
+
+    public TenantsEndpoint(TenantTrafficMetrics trafficMetrics) {
+        this.trafficMetrics = trafficMetrics;
+    }
+
+    @ReadOperation
+    public TenantsReport tenants() {
+        List<TenantTraffic> tenants = trafficMetrics.snapshot();
+        return new TenantsReport(tenants.size(), trafficMetrics.taggedTenants(), tenants);
+    }
+
+    public record TenantsReport(int activeTenants, int taggedTenants, List<TenantTraffic> tenants) {
+    }
+}
@@ -0,0 +1,6 @@
+-- Keyset pagination seeks on (tenant_id, sort key, id) and reads the page in index order, so the id tie-breaker is
+-- part of the index. The pedidos index replaces the one it extends.
+DROP INDEX idx_pedidos_tenant_criado;
+CREATE INDEX idx_pedidos_tenant_criado ON pedidos (tenant_id, criado_em, id);
+
+CREATE INDEX idx_produtos_tenant_nome ON produtos (tenant_id, nome, id);
@@ -0,0 +1,6 @@
+CREATE TABLE resource_versions (
+    tenant_id UUID        NOT NULL,
+    aggregate VARCHAR(50) NOT NULL,
+    version   BIGINT      NOT NULL,
+    PRIMARY KEY (tenant_id, aggregate)
+);
@@ -0,0 +1,12 @@
+CREATE TABLE tenants (
+    id              UUID PRIMARY KEY,
+    nome            VARCHAR(255) NOT NULL,
+    slug            VARCHAR(100) NOT NULL,
+    ativo           BOOLEAN      NOT NULL DEFAULT TRUE,
+    timezone        VARCHAR(64)  NOT NULL DEFAULT 'UTC',
+    moeda_padrao    VARCHAR(3)   NOT NULL DEFAULT 'EUR',
+    config_checkout JSONB,
+    branding        JSONB,
+    CONSTRAINT uk_tenants_slug UNIQUE (slug),
+    CONSTRAINT ck_tenants_slug_lowercase CHECK (slug = LOWER(slug))
+);
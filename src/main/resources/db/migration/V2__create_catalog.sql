@@ -0,0 +1,30 @@
+CREATE TABLE produtos (
+    id               UUID PRIMARY KEY,
+    tenant_id        UUID          NOT NULL REFERENCES tenants (id),
+    merchant_id      UUID          NOT NULL,
+    categoria_id     UUID,
+    nome             VARCHAR(255)  NOT NULL,
+    preco            NUMERIC(14, 2) NOT NULL,
+    disponivel       BOOLEAN       NOT NULL DEFAULT TRUE,
+    stock_atual      INTEGER       NOT NULL DEFAULT 0,
+    imagens          JSONB,
+    atributos_extras JSONB
+);
+
+CREATE INDEX idx_produtos_tenant ON produtos (tenant_id);
+
+CREATE TABLE servicos (
+    id               UUID PRIMARY KEY,
+    tenant_id        UUID          NOT NULL REFERENCES tenants (id),
+    prestador_id     UUID          NOT NULL,
+    categoria_id     UUID,
+    nome             VARCHAR(255)  NOT NULL,
+    preco            NUMERIC(14, 2) NOT NULL,
+    duracao_minutos  INTEGER       NOT NULL,
+    tipo_atendimento VARCHAR(20)   NOT NULL,
+    disponivel       BOOLEAN       NOT NULL DEFAULT TRUE,
+    imagens          JSONB,
+    tags             JSONB
+);
+
+CREATE INDEX idx_servicos_tenant ON servicos (tenant_id);
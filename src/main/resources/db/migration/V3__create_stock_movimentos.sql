@@ -0,0 +1,11 @@
+CREATE TABLE stock_movimentos (
+    id              UUID PRIMARY KEY,
+    tenant_id       UUID                     NOT NULL REFERENCES tenants (id),
+    idempotency_key VARCHAR(100)             NOT NULL,
+    produto_id      UUID                     NOT NULL REFERENCES produtos (id),
+    quantidade      INTEGER                  NOT NULL,
+    confirmado_em   TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_stock_movimentos_pedido UNIQUE (tenant_id, idempotency_key, produto_id)
+);
+
+CREATE INDEX idx_stock_movimentos_confirmado ON stock_movimentos (tenant_id, confirmado_em);
@@ -0,0 +1,31 @@
+CREATE TABLE pedidos (
+    id                        UUID PRIMARY KEY,
+    tenant_id                 UUID                     NOT NULL REFERENCES tenants (id),
+    cliente_id                UUID                     NOT NULL,
+    subtotal                  NUMERIC(14, 2)           NOT NULL,
+    total                     NUMERIC(14, 2)           NOT NULL,
+    status                    VARCHAR(20)              NOT NULL,
+    origem                    VARCHAR(20)              NOT NULL,
+    endereco_entrega_snapshot JSONB,
+    metodo_pagamento          VARCHAR(50),
+    estado_pagamento          VARCHAR(30),
+    criado_em                 TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_pedidos_tenant_criado ON pedidos (tenant_id, criado_em);
+
+CREATE TABLE itens_pedido (
+    id             UUID PRIMARY KEY,
+    tenant_id      UUID           NOT NULL REFERENCES tenants (id),
+    pedido_id      UUID           NOT NULL REFERENCES pedidos (id),
+    tipo           VARCHAR(20)    NOT NULL,
+    ref_id         UUID           NOT NULL,
+    quantidade     INTEGER        NOT NULL,
+    preco_unitario NUMERIC(14, 2) NOT NULL,
+    nome_snapshot  VARCHAR(255)   NOT NULL,
+    merchant_id    UUID,
+    prestador_id   UUID,
+    total_linha    NUMERIC(14, 2) NOT NULL
+);
+
+CREATE INDEX idx_itens_pedido_pedido ON itens_pedido (tenant_id, pedido_id);
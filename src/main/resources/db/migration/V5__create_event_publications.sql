@@ -0,0 +1,23 @@
+CREATE TABLE event_publications (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id        UUID                     NOT NULL,
+    listener_id     VARCHAR(255)             NOT NULL,
+    event_type      VARCHAR(255)             NOT NULL,
+    payload         TEXT                     NOT NULL,
+    tenant_context  TEXT,
+    tenant_id       UUID,
+    ordering_key    VARCHAR(255)             NOT NULL,
+    published_at    TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts        INTEGER                  NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    lease_until     TIMESTAMP WITH TIME ZONE,
+    completed_at    TIMESTAMP WITH TIME ZONE,
+    failed_at       TIMESTAMP WITH TIME ZONE,
+    last_error      VARCHAR(1000)
+);
+
+-- claim scan: only the rows still to deliver, in publication order
+CREATE INDEX idx_event_publications_pending ON event_publications (id)
+    WHERE completed_at IS NULL AND failed_at IS NULL;
+CREATE INDEX idx_event_publications_ordering ON event_publications (listener_id, ordering_key, id);
+CREATE INDEX idx_event_publications_completed ON event_publications (completed_at);
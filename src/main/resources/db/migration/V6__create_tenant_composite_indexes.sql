@@ -0,0 +1,14 @@
+-- Every tenant-scoped query starts with tenant_id = ?, so the indexes lead with it; the single-column tenant
+-- indexes are prefixes of the new ones.
+DROP INDEX idx_produtos_tenant;
+CREATE INDEX idx_produtos_tenant_merchant ON produtos (tenant_id, merchant_id);
+CREATE INDEX idx_produtos_tenant_categoria ON produtos (tenant_id, categoria_id);
+
+DROP INDEX idx_servicos_tenant;
+CREATE INDEX idx_servicos_tenant_prestador ON servicos (tenant_id, prestador_id);
+CREATE INDEX idx_servicos_tenant_categoria ON servicos (tenant_id, categoria_id);
+
+CREATE INDEX idx_pedidos_tenant_cliente ON pedidos (tenant_id, cliente_id, criado_em);
+CREATE INDEX idx_pedidos_tenant_status ON pedidos (tenant_id, status, criado_em);
+
+CREATE INDEX idx_stock_movimentos_produto ON stock_movimentos (tenant_id, produto_id);
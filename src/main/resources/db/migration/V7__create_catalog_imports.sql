@@ -0,0 +1,59 @@
+CREATE TABLE catalog_imports (
+    id            UUID PRIMARY KEY,
+    tenant_id     UUID                     NOT NULL REFERENCES tenants (id),
+    tipo          VARCHAR(20)              NOT NULL,
+    formato       VARCHAR(10)              NOT NULL,
+    status        VARCHAR(20)              NOT NULL,
+    rows_read     BIGINT                   NOT NULL DEFAULT 0,
+    rows_staged   BIGINT                   NOT NULL DEFAULT 0,
+    rows_rejected BIGINT                   NOT NULL DEFAULT 0,
+    rows_merged   BIGINT                   NOT NULL DEFAULT 0,
+    criado_em     TIMESTAMP WITH TIME ZONE NOT NULL,
+    concluido_em  TIMESTAMP WITH TIME ZONE,
+    erro          VARCHAR(1000)
+);
+
+CREATE INDEX idx_catalog_imports_tenant ON catalog_imports (tenant_id, criado_em);
+CREATE INDEX idx_catalog_imports_status ON catalog_imports (status);
+
+CREATE TABLE catalog_import_errors (
+    import_id UUID         NOT NULL REFERENCES catalog_imports (id) ON DELETE CASCADE,
+    linha     BIGINT       NOT NULL,
+    mensagem  VARCHAR(500) NOT NULL,
+    PRIMARY KEY (import_id, linha)
+);
+
+-- Validated rows wait here until the whole upload is read, then one MERGE moves them into the catalog. Logged
+-- tables on purpose: an UNLOGGED table is emptied by crash recovery, and a resumed import counts on its rows.
+CREATE TABLE produtos_staging (
+    import_id        UUID           NOT NULL,
+    linha            BIGINT         NOT NULL,
+    id               UUID           NOT NULL,
+    tenant_id        UUID           NOT NULL,
+    merchant_id      UUID           NOT NULL,
+    categoria_id     UUID,
+    nome             VARCHAR(255)   NOT NULL,
+    preco            NUMERIC(14, 2) NOT NULL,
+    disponivel       BOOLEAN        NOT NULL,
+    stock_atual      INTEGER        NOT NULL,
+    imagens          TEXT,
+    atributos_extras TEXT,
+    PRIMARY KEY (import_id, linha)
+);
+
+CREATE TABLE servicos_staging (
+    import_id        UUID           NOT NULL,
+    linha            BIGINT         NOT NULL,
+    id               UUID           NOT NULL,
+    tenant_id        UUID           NOT NULL,
+    prestador_id     UUID           NOT NULL,
+    categoria_id     UUID,
+    nome             VARCHAR(255)   NOT NULL,
+    preco            NUMERIC(14, 2) NOT NULL,
+    duracao_minutos  INTEGER        NOT NULL,
+    tipo_atendimento VARCHAR(20)    NOT NULL,
+    disponivel       BOOLEAN        NOT NULL,
+    imagens          TEXT,
+    tags             TEXT,
+    PRIMARY KEY (import_id, linha)
+);
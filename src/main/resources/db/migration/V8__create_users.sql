@@ -0,0 +1,10 @@
+CREATE TABLE users (
+    id            UUID PRIMARY KEY,
+    tenant_id     UUID                     NOT NULL REFERENCES tenants (id),
+    email         VARCHAR(255)             NOT NULL,
+    password_hash VARCHAR(100)             NOT NULL,
+    role          VARCHAR(30)              NOT NULL,
+    ativo         BOOLEAN                  NOT NULL DEFAULT TRUE,
+    criado_em     TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_users_tenant_email UNIQUE (tenant_id, email)
+);
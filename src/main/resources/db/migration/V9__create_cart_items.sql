@@ -0,0 +1,10 @@
+CREATE TABLE cart_items (
+    id             UUID PRIMARY KEY,
+    tenant_id      UUID           NOT NULL REFERENCES tenants (id),
+    cliente_id     UUID           NOT NULL,
+    tipo           VARCHAR(20)    NOT NULL,
+    ref_id         UUID           NOT NULL,
+    quantidade     INTEGER        NOT NULL,
+    preco_unitario NUMERIC(14, 2) NOT NULL,
+    CONSTRAINT uk_cart_items_linha UNIQUE (tenant_id, cliente_id, tipo, ref_id)
+);
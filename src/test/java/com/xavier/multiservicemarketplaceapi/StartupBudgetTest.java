@@ -0,0 +1,62 @@
+package com.xavier.multiservicemarketplaceapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Starts the whole application on the H2 {@code test} profile in fast-startup mode, the way a scaled-out replica
+ * would start, and fails when it takes longer than {@code -Dstartup.budget} (an ISO-8601 duration).
+ * <p>
+ * Its own database keeps the {@code create-drop} of this context away from the shared test database.
+ */
+class StartupBudgetTest {
+
+    private static final Duration BUDGET = Duration.parse(System.getProperty("startup.budget", "PT45S"));
+
+    @Test
+    void shouldStartWithinBudgetAndReportModules() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(
+                MultiservicemarketplaceApiApplication.class, TenantProviderTestConfig.class)
+            .profiles("test", "fast-startup")
+            .applicationStartup(new BufferingApplicationStartup(MultiservicemarketplaceApiApplication.STARTUP_STEPS));
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = application.run("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:startup_budget;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            assertThat(elapsed).isLessThan(BUDGET);
+            assertThat(context.getBeanFactory().containsSingleton("reportExportController")).isFalse();
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertThat(registry.find("application.startup.module").tag("module", "catalog").timeGauge())
+                .isNotNull();
+            assertThat(registry.find("application.startup.module").tag("module", "org.springdoc").timeGauge())
+                .isNull();
+            assertThat(registry.find("application.startup.module.beans").tag("module", "checkout").gauge()
+                .value()).isPositive();
+        }
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(UUID.randomUUID(), identifier, true);
+        }
+    }
+}
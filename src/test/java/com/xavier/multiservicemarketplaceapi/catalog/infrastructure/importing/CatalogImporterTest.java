@@ -0,0 +1,270 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.importing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogImportedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.CatalogImport;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportFormat;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportRowError;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.importing.ImportStatus;
+import com.xavier.multiservicemarketplaceapi.catalog.exception.CatalogImportException;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+class CatalogImporterTest {
+
+    private static final TenantContext TENANT = new TenantContext(UUID.randomUUID(), "loja", true);
+    private static final TenantContext OTHER = new TenantContext(UUID.randomUUID(), "outra", true);
+    private static final UUID MERCHANT = UUID.randomUUID();
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final List<Object> events = new ArrayList<>();
+    private final List<UUID> tenantsSeenByListener = new ArrayList<>();
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+    private CatalogImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+            CREATE TABLE produtos (
+                id UUID PRIMARY KEY, tenant_id UUID NOT NULL, merchant_id UUID NOT NULL, categoria_id UUID,
+                nome VARCHAR(255) NOT NULL, preco NUMERIC(14, 2) NOT NULL, disponivel BOOLEAN NOT NULL,
+                stock_atual INTEGER NOT NULL, imagens JSON, atributos_extras JSON)""");
+        jdbc.execute("""
+            CREATE TABLE servicos (
+                id UUID PRIMARY KEY, tenant_id UUID NOT NULL, prestador_id UUID NOT NULL, categoria_id UUID,
+                nome VARCHAR(255) NOT NULL, preco NUMERIC(14, 2) NOT NULL, duracao_minutos INTEGER NOT NULL,
+                tipo_atendimento VARCHAR(20) NOT NULL, disponivel BOOLEAN NOT NULL, imagens JSON, tags JSON)""");
+        jdbc.execute("""
+            CREATE TABLE catalog_imports (
+                id UUID PRIMARY KEY, tenant_id UUID NOT NULL, tipo VARCHAR(20) NOT NULL, formato VARCHAR(10) NOT NULL,
+                status VARCHAR(20) NOT NULL, rows_read BIGINT NOT NULL, rows_staged BIGINT NOT NULL,
+                rows_rejected BIGINT NOT NULL, rows_merged BIGINT NOT NULL,
+                criado_em TIMESTAMP WITH TIME ZONE NOT NULL, concluido_em TIMESTAMP WITH TIME ZONE,
+                erro VARCHAR(1000))""");
+        jdbc.execute("""
+            CREATE TABLE catalog_import_errors (
+                import_id UUID NOT NULL, linha BIGINT NOT NULL, mensagem VARCHAR(500) NOT NULL,
+                PRIMARY KEY (import_id, linha))""");
+        jdbc.execute("""
+            CREATE TABLE produtos_staging (
+                import_id UUID NOT NULL, linha BIGINT NOT NULL, id UUID NOT NULL, tenant_id UUID NOT NULL,
+                merchant_id UUID NOT NULL, categoria_id UUID, nome VARCHAR(255) NOT NULL,
+                preco NUMERIC(14, 2) NOT NULL, disponivel BOOLEAN NOT NULL, stock_atual INTEGER NOT NULL,
+                imagens TEXT, atributos_extras TEXT, PRIMARY KEY (import_id, linha))""");
+        jdbc.execute("""
+            CREATE TABLE servicos_staging (
+                import_id UUID NOT NULL, linha BIGINT NOT NULL, id UUID NOT NULL, tenant_id UUID NOT NULL,
+                prestador_id UUID NOT NULL, categoria_id UUID, nome VARCHAR(255) NOT NULL,
+                preco NUMERIC(14, 2) NOT NULL, duracao_minutos INTEGER NOT NULL,
+                tipo_atendimento VARCHAR(20) NOT NULL, disponivel BOOLEAN NOT NULL, imagens TEXT, tags TEXT,
+                PRIMARY KEY (import_id, linha))""");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (importer != null) {
+            importer.close();
+        }
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void shouldStageValidRowsReportTheRestAndMergeOnce() throws IOException {
+        importer = importer(new JdbcCatalogImportStore(jdbc, transactionManager), 2);
+        String csv = """
+            ﻿id,merchant_id,nome,preco,stock_atual,atributos_extras
+            ,%1$s,"Café, torrado",7.90,10,"{""origem"": ""Brasil""}"
+            ,%1$s,Chá,abc,-1,
+            ,not-a-uuid,Mate,5,,[1]
+            ,%1$s,"Açúcar
+            mascavo",4.5,3,
+            """.formatted(MERCHANT);
+
+        CatalogImport done = submit(CatalogItemType.PRODUTO, ImportFormat.CSV, csv);
+
+        assertThat(done.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(done.rowsRead()).isEqualTo(4);
+        assertThat(done.rowsMerged()).isEqualTo(2);
+        assertThat(done.rowsRejected()).isEqualTo(2);
+        assertThat(jdbc.queryForList("SELECT nome FROM produtos WHERE tenant_id = ? ORDER BY nome", String.class,
+            TENANT.tenantId())).containsExactly("Açúcar\nmascavo", "Café, torrado");
+        assertThat(jdbc.queryForObject("SELECT CAST(atributos_extras AS VARCHAR) FROM produtos WHERE stock_atual = 10",
+            String.class)).isEqualTo("{\"origem\":\"Brasil\"}");
+        assertThat(importer.errors(TENANT.tenantId(), done.id(), 0, 10)).extracting(ImportRowError::rowNumber)
+            .containsExactly(2L, 3L);
+        assertThat(importer.errors(TENANT.tenantId(), done.id(), 0, 10)).extracting(ImportRowError::message)
+            .containsExactly("preco is not a number; stock_atual must be at least 0.",
+                "merchant_id is not a UUID; atributos_extras must be a JSON object.");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM produtos_staging", Integer.class)).isZero();
+        assertThat(events).containsExactly(new CatalogImportedEvent(TENANT.tenantId(), done.id(),
+            CatalogItemType.PRODUTO, 2));
+        assertThat(tenantsSeenByListener).containsExactly(TENANT.tenantId());
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldUpdateOwnItemsAndRejectForeignOrRepeatedIds() throws IOException {
+        importer = importer(new JdbcCatalogImportStore(jdbc, transactionManager), 100);
+        UUID own = UUID.randomUUID();
+        UUID foreign = UUID.randomUUID();
+        insertProduto(own, TENANT.tenantId(), "Antigo", 1);
+        insertProduto(foreign, OTHER.tenantId(), "Alheio", 1);
+        String ndjson = """
+            {"id": "%1$s", "merchantId": "%3$s", "nome": "Primeira versão", "preco": 1}
+            {"id": "%2$s", "merchantId": "%3$s", "nome": "Invasão", "preco": 1}
+            not json
+
+            {"id": "%1$s", "merchantId": "%3$s", "nome": "Renovado", "preco": 19.90, "stockAtual": 8,
+            """.formatted(own, foreign, MERCHANT).stripTrailing() + " \"imagens\": [\"a.png\"]}\n";
+
+        CatalogImport done = submit(CatalogItemType.PRODUTO, ImportFormat.NDJSON, ndjson);
+
+        assertThat(done.rowsMerged()).isEqualTo(1);
+        assertThat(importer.errors(TENANT.tenantId(), done.id(), 0, 10))
+            .extracting(ImportRowError::rowNumber, ImportRowError::message)
+            .containsExactly(
+                tuple(1L, JdbcCatalogImportStore.REPEATED_ID),
+                tuple(2L, JdbcCatalogImportStore.FOREIGN_ID),
+                tuple(3L, "Invalid JSON: Unrecognized token 'not': was expecting "
+                    + "(JSON String, Number, Array, Object or token 'null', 'true' or 'false')"));
+        Map<String, Object> renovado = jdbc.queryForMap("SELECT * FROM produtos WHERE id = ?", own);
+        assertThat(renovado).containsEntry("NOME", "Renovado").containsEntry("STOCK_ATUAL", 8)
+            .containsEntry("PRECO", new BigDecimal("19.90"));
+        assertThat(jdbc.queryForObject("SELECT nome FROM produtos WHERE id = ?", String.class, foreign))
+            .isEqualTo("Alheio");
+    }
+
+    @Test
+    void shouldResumeAFailedImportAfterItsLastCheckpoint() throws IOException {
+        AtomicInteger stagedChunks = new AtomicInteger();
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        JdbcCatalogImportStore store = new JdbcCatalogImportStore(jdbc, transactionManager) {
+            @Override
+            public void stage(CatalogImport catalogImport, List<ValidatedRow> rows, long previousRowsRead,
+                              long rowsRead) {
+                if (previousRowsRead == 4 && failuresLeft.getAndDecrement() > 0) {
+                    throw new IllegalStateException("connection reset");
+                }
+                stagedChunks.incrementAndGet();
+                super.stage(catalogImport, rows, previousRowsRead, rowsRead);
+            }
+        };
+        importer = importer(store, 4);
+        StringBuilder csv = new StringBuilder("prestador_id,nome,preco,duracao_minutos,tipo_atendimento,tags\n");
+        for (int i = 1; i <= 10; i++) {
+            csv.append(MERCHANT).append(",Serviço ").append(i).append(",10.00,30,")
+                .append(i == 7 ? "TELEPATIA" : "remoto").append(",\"[\"\"t").append(i).append("\"\"]\"\n");
+        }
+
+        CatalogImport failed = submit(CatalogItemType.SERVICO, ImportFormat.CSV, csv.toString());
+        assertThat(failed.status()).isEqualTo(ImportStatus.FAILED);
+        assertThat(failed.error()).isEqualTo("connection reset");
+        assertThat(failed.rowsRead()).isEqualTo(4);
+        assertThat(count("servicos")).isZero();
+
+        CatalogImport resumed = TenantContextHolder.callWithTenant(TENANT,
+            () -> importer.resume(TENANT, failed.id()));
+
+        assertThat(resumed.status()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(resumed.rowsRead()).isEqualTo(10);
+        assertThat(resumed.rowsMerged()).isEqualTo(9);
+        assertThat(resumed.rowsRejected()).isEqualTo(1);
+        assertThat(stagedChunks.get()).isEqualTo(3);
+        assertThat(count("servicos")).isEqualTo(9);
+        assertThat(events).hasSize(1);
+        assertThatThrownBy(() -> importer.resume(TENANT, failed.id()))
+            .isInstanceOf(CatalogImportException.class)
+            .hasMessageContaining("COMPLETED");
+    }
+
+    @Test
+    void shouldAdmitOneImportPerTenantAndCapTheUpload() throws IOException {
+        JdbcCatalogImportStore store = new JdbcCatalogImportStore(jdbc, transactionManager);
+        CatalogImporter[] self = new CatalogImporter[1];
+        List<Throwable> nested = new ArrayList<>();
+        importer = new CatalogImporter(store, objectMapper, id -> TENANT, event -> {
+            try {
+                self[0].submit(TENANT, CatalogItemType.PRODUTO, ImportFormat.CSV, stream("nome\n"));
+            } catch (RuntimeException | IOException e) {
+                nested.add(e);
+            }
+        }, directory, 10, 2, 1, 256, 100, Clock.systemUTC(), null);
+        self[0] = importer;
+
+        submit(CatalogItemType.PRODUTO, ImportFormat.CSV, "merchant_id,nome,preco\n%s,Pão,1\n".formatted(MERCHANT));
+        assertThat(nested).singleElement().isInstanceOf(TenantRateLimitExceededException.class);
+
+        assertThatThrownBy(() -> importer.submit(TENANT, CatalogItemType.PRODUTO, ImportFormat.CSV,
+            stream("x".repeat(257))))
+            .isInstanceOf(CatalogImportException.class)
+            .hasMessageContaining("larger than 256 bytes");
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private CatalogImporter importer(JdbcCatalogImportStore store, int chunkSize) {
+        return new CatalogImporter(store, objectMapper, id -> TENANT, event -> {
+            events.add(event);
+            tenantsSeenByListener.add(TenantContextHolder.requireTenantId());
+        }, directory, chunkSize, 2, 1, 1 << 20, 100, Clock.systemUTC(), null);
+    }
+
+    private CatalogImport submit(CatalogItemType type, ImportFormat format, String upload) throws IOException {
+        // not started: the import runs on this thread
+        CatalogImport submitted = importer.submit(TENANT, type, format, stream(upload));
+        return importer.find(TENANT.tenantId(), submitted.id()).orElseThrow();
+    }
+
+    private void insertProduto(UUID id, UUID tenantId, String nome, int stock) {
+        jdbc.update("INSERT INTO produtos (id, tenant_id, merchant_id, nome, preco, disponivel, stock_atual) "
+            + "VALUES (?, ?, ?, ?, 1, TRUE, ?)", id, tenantId, MERCHANT, nome, stock);
+    }
+
+    private int count(String table) {
+        Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.catalog.config.CatalogProperties;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogDocument;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogQuery;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.search.CatalogSearchResult;
+
+class InMemoryCatalogSearchIndexTest {
+
+    private static final UUID TENANT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_TENANT = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID BEBIDAS = UUID.randomUUID();
+    private static final UUID PADARIA = UUID.randomUUID();
+    private static final UUID MERCHANT = UUID.randomUUID();
+    private static final UUID PRESTADOR = UUID.randomUUID();
+
+    private final InMemoryCatalogSearchIndex index = new InMemoryCatalogSearchIndex(new CatalogProperties());
+
+    private final CatalogDocument cafe = produto("Café Expresso", BEBIDAS, "3.50", true, Map.of("origem", "Brasil"));
+    private final CatalogDocument cha = produto("Chá Verde", BEBIDAS, "12.00", false, Map.of("origem", "Japão"));
+    private final CatalogDocument pao = produto("Pão de Açúcar", PADARIA, "1.20", true, Map.of());
+    private final CatalogDocument limpeza = servico("Limpeza Doméstica", "45.00", List.of("Casa", "limpeza"));
+
+    @Test
+    void shouldMatchAccentFoldedTokensWithPrefixOnLastToken() {
+        index.rebuild(Stream.of(cafe, cha, pao, limpeza));
+
+        assertThat(ids(index.search(TENANT, CatalogQuery.text("pao acu")))).containsExactly(pao.id());
+        assertThat(ids(index.search(TENANT, CatalogQuery.text("CAF")))).containsExactly(cafe.id());
+        assertThat(index.search(TENANT, CatalogQuery.text("cafe verde")).total()).isZero();
+        assertThat(index.search(TENANT, CatalogQuery.text(null)).total()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCombineFiltersAndReturnFacetsOverMatches() {
+        index.rebuild(Stream.of(cafe, cha, pao, limpeza));
+
+        CatalogSearchResult bebidas = index.search(TENANT, query(CatalogItemType.PRODUTO, BEBIDAS, null, null, false));
+        assertThat(ids(bebidas)).containsExactlyInAnyOrder(cafe.id(), cha.id());
+        assertThat(bebidas.facets().get("preco")).containsExactly(Map.entry("0-10", 1), Map.entry("10-25", 1));
+        assertThat(bebidas.facets().get("disponivel")).containsEntry("true", 1).containsEntry("false", 1);
+        assertThat(bebidas.facets().get("atributos.origem")).containsOnlyKeys("brasil", "japao");
+
+        CatalogSearchResult cheapAvailable = index.search(TENANT, query(null, null, null, new BigDecimal("5"), true));
+        assertThat(ids(cheapAvailable)).containsExactlyInAnyOrder(cafe.id(), pao.id());
+        assertThat(cheapAvailable.facets().get("categoria"))
+            .containsEntry(BEBIDAS.toString(), 1).containsEntry(PADARIA.toString(), 1);
+
+        CatalogQuery byTag = new CatalogQuery(null, null, null, PRESTADOR, List.of("casa"), Map.of(), null, null, false,
+            null, 0, 10);
+        assertThat(ids(index.search(TENANT, byTag))).containsExactly(limpeza.id());
+        CatalogQuery byAttribute = new CatalogQuery(null, null, null, null, List.of(), Map.of("Origem", "japão"), null,
+            null, false, null, 0, 10);
+        assertThat(ids(index.search(TENANT, byAttribute))).containsExactly(cha.id());
+    }
+
+    @Test
+    void shouldReplaceAndRemoveDocumentsWithoutLeavingStaleFacets() {
+        index.rebuild(Stream.of(cafe, cha, pao));
+
+        index.upsert(new CatalogDocument(cha.id(), TENANT, CatalogItemType.PRODUTO, "Chá Preto", PADARIA, MERCHANT,
+            List.of(), Map.of(), new BigDecimal("2.00"), true));
+        assertThat(index.search(TENANT, CatalogQuery.text("verde")).total()).isZero();
+        assertThat(ids(index.search(TENANT, CatalogQuery.text("preto")))).containsExactly(cha.id());
+
+        index.remove(TENANT, CatalogItemType.PRODUTO, pao.id());
+        CatalogSearchResult all = index.search(TENANT, CatalogQuery.text(null));
+        assertThat(all.total()).isEqualTo(2);
+        assertThat(all.facets()).doesNotContainKey("atributos.japao");
+        assertThat(all.facets().get("atributos.origem")).containsOnlyKeys("brasil");
+
+        index.upsert(limpeza);
+        assertThat(index.size(TENANT)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReplayWritesMadeDuringARebuildBeforeTheSwap() {
+        index.rebuild(Stream.of(cafe, cha));
+        CatalogDocument chaPreto = new CatalogDocument(cha.id(), TENANT, CatalogItemType.PRODUTO, "Chá Preto", PADARIA,
+            MERCHANT, List.of(), Map.of(), new BigDecimal("2.00"), true);
+
+        // The rebuild read its documents before these writes landed.
+        index.rebuild(Stream.of(cafe, cha, pao).peek(document -> {
+            if (document == pao) {
+                index.upsert(limpeza);
+                index.upsert(chaPreto);
+                index.remove(TENANT, CatalogItemType.PRODUTO, cafe.id());
+            }
+        }));
+        index.rebuild(TENANT, Stream.of(cha, pao, limpeza).peek(document -> {
+            if (document == limpeza) {
+                index.upsert(chaPreto);
+            }
+        }));
+
+        assertThat(ids(index.search(TENANT, CatalogQuery.text("preto")))).containsExactly(cha.id());
+        assertThat(index.search(TENANT, CatalogQuery.text("cafe")).total()).isZero();
+        assertThat(index.size(TENANT)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldIsolateTenantsAndPageSortedResults() {
+        CatalogDocument foreign = new CatalogDocument(UUID.randomUUID(), OTHER_TENANT, CatalogItemType.PRODUTO,
+            "Café Importado", BEBIDAS, MERCHANT, List.of(), Map.of(), BigDecimal.ONE, true);
+        index.rebuild(Stream.of(cafe, cha, pao, limpeza, foreign));
+
+        assertThat(ids(index.search(TENANT, CatalogQuery.text("cafe")))).containsExactly(cafe.id());
+        assertThat(index.search(UUID.randomUUID(), CatalogQuery.text("cafe")).total()).isZero();
+
+        CatalogQuery cheapestFirst = new CatalogQuery(null, null, null, null, null, null, null, null, false,
+            CatalogQuery.Sort.PRECO_ASC, 1, 2);
+        assertThat(ids(index.search(TENANT, cheapestFirst))).containsExactly(cafe.id(), cha.id());
+        CatalogQuery byName = new CatalogQuery(null, null, null, null, null, null, null, null, false,
+            CatalogQuery.Sort.NOME, 0, 10);
+        assertThat(ids(index.search(TENANT, byName))).containsExactly(cafe.id(), cha.id(), limpeza.id(), pao.id());
+    }
+
+    private static CatalogQuery query(CatalogItemType type, UUID categoria, BigDecimal min, BigDecimal max,
+                                      boolean onlyAvailable) {
+        return new CatalogQuery(null, type, categoria, null, null, null, min, max, onlyAvailable, null, 0, 10);
+    }
+
+    private static List<UUID> ids(CatalogSearchResult result) {
+        return result.items().stream().map(CatalogDocument::id).toList();
+    }
+
+    private static CatalogDocument produto(String nome, UUID categoria, String preco, boolean disponivel,
+                                           Map<String, String> attributes) {
+        return new CatalogDocument(UUID.randomUUID(), TENANT, CatalogItemType.PRODUTO, nome, categoria, MERCHANT,
+            List.of(), attributes, new BigDecimal(preco), disponivel);
+    }
+
+    private static CatalogDocument servico(String nome, String preco, List<String> tags) {
+        return new CatalogDocument(UUID.randomUUID(), TENANT, CatalogItemType.SERVICO, nome, null, PRESTADOR, tags,
+            Map.of(), new BigDecimal(preco), true);
+    }
+}
@@ -0,0 +1,347 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation.Status;
+import com.xavier.multiservicemarketplaceapi.catalog.exception.StockReservationException;
+
+class InMemoryStockLedgerTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final UUID CAFE = UUID.randomUUID();
+    private static final UUID CHA = UUID.randomUUID();
+
+    private final FakeStockStore store = new FakeStockStore();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T10:00:00Z"));
+
+    @Test
+    void shouldReserveAllLinesOrNone() {
+        store.stock.put(CAFE, 5);
+        store.stock.put(CHA, 1);
+        InMemoryStockLedger ledger = ledger();
+
+        StockReservation rejected = ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 3), line(CHA, 2)));
+        assertThat(rejected.status()).isEqualTo(Status.REJECTED);
+        assertThat(rejected.insufficientProduto()).isEqualTo(CHA);
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(5);
+
+        StockReservation reserved = ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 3), line(CHA, 1)));
+        assertThat(reserved.status()).isEqualTo(Status.RESERVED);
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(2);
+        assertThat(ledger.available(TENANT, CHA)).hasValue(0);
+        assertThat(ledger.reserve(TENANT, "pedido-2", List.of(line(UUID.randomUUID(), 1))).status())
+            .isEqualTo(Status.REJECTED);
+
+        assertThat(ledger.release(TENANT, "pedido-1")).isTrue();
+        assertThat(ledger.release(TENANT, "pedido-1")).isFalse();
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(5);
+        assertThat(store.stock).containsEntry(CAFE, 5);
+    }
+
+    @Test
+    void shouldPlaceEachOrderOncePerIdempotencyKey() {
+        store.stock.put(CAFE, 10);
+        InMemoryStockLedger ledger = ledger();
+
+        ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 2), line(CAFE, 1)));
+        assertThat(ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 3))).status()).isEqualTo(Status.RESERVED);
+        assertThatThrownBy(() -> ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 4))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(7);
+
+        CompletableFuture<StockReservation> placed = ledger.confirm(TENANT, "pedido-1");
+        assertThat(ledger.confirm(TENANT, "pedido-1")).isSameAs(placed);
+        assertThat(placed).isNotDone();
+        assertThat(ledger.release(TENANT, "pedido-1")).isFalse();
+
+        assertThat(ledger.flush()).isEqualTo(1);
+        assertThat(placed).isCompletedWithValueMatching(reservation -> reservation.status() == Status.CONFIRMED);
+        assertThat(ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 3))).status()).isEqualTo(Status.CONFIRMED);
+        assertThat(ledger.flush()).isZero();
+        assertThat(store.stock).containsEntry(CAFE, 7);
+        assertThat(store.movements).hasSize(1);
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(7);
+    }
+
+    @Test
+    void shouldGiveExpiredReservationsBack() {
+        store.stock.put(CAFE, 4);
+        InMemoryStockLedger ledger = ledger();
+
+        ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 3)));
+        ledger.reserve(TENANT, "pedido-2", List.of(line(CAFE, 1)));
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThatThrownBy(() -> ledger.confirm(TENANT, "pedido-1"))
+            .isInstanceOf(StockReservationException.class)
+            .hasMessageContaining("expired");
+        ledger.expireReservations();
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(4);
+        assertThat(ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 4))).status()).isEqualTo(Status.RESERVED);
+    }
+
+    @Test
+    void shouldReconcileFromDatabaseAfterRestartAndRestock() {
+        store.stock.put(CAFE, 10);
+        InMemoryStockLedger ledger = ledger();
+        ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 4)));
+        ledger.confirm(TENANT, "pedido-1");
+        ledger.reserve(TENANT, "pedido-2", List.of(line(CAFE, 5)));
+        ledger.close();
+
+        InMemoryStockLedger restarted = ledger();
+        assertThat(restarted.available(TENANT, CAFE)).hasValue(6);
+        StockReservation replay = restarted.reserve(TENANT, "pedido-1", List.of(line(CAFE, 4)));
+        assertThat(replay.status()).isEqualTo(Status.CONFIRMED);
+        assertThat(restarted.confirm(TENANT, "pedido-1")).isCompleted();
+        assertThat(restarted.available(TENANT, CAFE)).hasValue(6);
+
+        restarted.reserve(TENANT, "pedido-3", List.of(line(CAFE, 2)));
+        store.stock.put(CAFE, 20);
+        restarted.reconcile(TENANT, CAFE);
+        assertThat(restarted.available(TENANT, CAFE)).hasValue(18);
+    }
+
+    @Test
+    void shouldRetryFailedWriteBack() {
+        store.stock.put(CAFE, 3);
+        InMemoryStockLedger ledger = ledger();
+        ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 1)));
+        CompletableFuture<StockReservation> placed = ledger.confirm(TENANT, "pedido-1");
+
+        store.failures.set(1);
+        assertThatThrownBy(ledger::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(placed).isNotDone();
+        assertThat(ledger.flush()).isEqualTo(1);
+        assertThat(placed).isCompleted();
+        assertThat(store.stock).containsEntry(CAFE, 2);
+    }
+
+    @Test
+    void shouldDropAConfirmationTheDatabaseRejectsWithoutBlockingTheOthers() {
+        store.stock.put(CAFE, 5);
+        store.stock.put(CHA, 5);
+        InMemoryStockLedger ledger = ledger();
+        ledger.reserve(TENANT, "pedido-1", List.of(line(CAFE, 1)));
+        ledger.reserve(TENANT, "pedido-2", List.of(line(CHA, 2)));
+        ledger.reserve(TENANT, "pedido-3", List.of(line(CAFE, 1)));
+        CompletableFuture<StockReservation> first = ledger.confirm(TENANT, "pedido-1");
+        CompletableFuture<StockReservation> poisoned = ledger.confirm(TENANT, "pedido-2");
+        CompletableFuture<StockReservation> third = ledger.confirm(TENANT, "pedido-3");
+        store.stock.remove(CHA);
+
+        assertThat(ledger.flush()).isEqualTo(2);
+
+        assertThat(first).isCompleted();
+        assertThat(third).isCompleted();
+        assertThat(poisoned).isCompletedExceptionally();
+        assertThatThrownBy(poisoned::join).hasCauseInstanceOf(StockReservationException.class);
+        assertThat(store.stock).containsEntry(CAFE, 3);
+        assertThat(ledger.available(TENANT, CAFE)).hasValue(3);
+
+        ledger.reserve(TENANT, "pedido-4", List.of(line(CAFE, 1)));
+        CompletableFuture<StockReservation> later = ledger.confirm(TENANT, "pedido-4");
+        assertThat(ledger.flush()).isEqualTo(1);
+        assertThat(later).isCompleted();
+        assertThat(store.stock).containsEntry(CAFE, 2);
+    }
+
+    @Test
+    void shouldNeverOversellUnderConcurrentCheckouts() throws Exception {
+        List<UUID> produtos = List.of(CAFE, CHA, UUID.randomUUID());
+        int initialStock = 500;
+        produtos.forEach(produto -> store.stock.put(produto, initialStock));
+        InMemoryStockLedger ledger = new InMemoryStockLedger(store, Duration.ofMinutes(10), Duration.ofHours(1),
+            Duration.ofMillis(1), 64, Clock.systemUTC());
+        ledger.start();
+
+        int threads = 16;
+        int ordersPerThread = 2_000;
+        AtomicLongArray confirmed = new AtomicLongArray(produtos.size());
+        AtomicInteger orders = new AtomicInteger();
+        List<CompletableFuture<StockReservation>> placed = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<CompletableFuture<StockReservation>>>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                List<CompletableFuture<StockReservation>> mine = new ArrayList<>();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < ordersPerThread; i++) {
+                    // Keys repeat across threads, so the same order is also placed concurrently.
+                    String key = "pedido-" + random.nextInt(ordersPerThread * threads / 2);
+                    List<StockLine> lines = List.of(line(produtos.get(random.nextInt(3)), 1 + random.nextInt(4)));
+                    StockReservation reservation;
+                    try {
+                        reservation = ledger.reserve(TENANT, key, lines);
+                    } catch (IllegalArgumentException differentOrder) {
+                        continue;
+                    }
+                    if (reservation.status() != Status.RESERVED || !reservation.lines().equals(lines)) {
+                        continue;
+                    }
+                    if (random.nextInt(10) < 3) {
+                        ledger.release(TENANT, key);
+                        continue;
+                    }
+                    try {
+                        CompletableFuture<StockReservation> future = ledger.confirm(TENANT, key);
+                        mine.add(future);
+                    } catch (StockReservationException released) {
+                        // another thread released the same order first
+                    }
+                }
+                return mine;
+            }));
+        }
+        start.countDown();
+        for (var worker : workers) {
+            placed.addAll(worker.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        CompletableFuture.allOf(placed.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        ledger.close();
+
+        Map<String, List<StockLine>> placedOrders = new HashMap<>();
+        for (CompletableFuture<StockReservation> future : placed) {
+            StockReservation reservation = future.join();
+            placedOrders.put(reservation.idempotencyKey(), reservation.lines());
+        }
+        placedOrders.values().forEach(lines -> lines.forEach(line -> {
+            confirmed.addAndGet(produtos.indexOf(line.produtoId()), line.quantity());
+            orders.incrementAndGet();
+        }));
+
+        assertThat(store.movements).hasSize(placedOrders.size());
+        for (int i = 0; i < produtos.size(); i++) {
+            UUID produto = produtos.get(i);
+            assertThat(confirmed.get(i)).isLessThanOrEqualTo(initialStock);
+            assertThat(store.stock.get(produto)).isEqualTo(initialStock - (int) confirmed.get(i)).isNotNegative();
+            assertThat(ledger.available(TENANT, produto)).hasValue(store.stock.get(produto));
+        }
+        assertThat(orders.get()).isPositive();
+    }
+
+    private InMemoryStockLedger ledger() {
+        return new InMemoryStockLedger(store, Duration.ofMinutes(10), Duration.ofHours(24), Duration.ofMillis(50), 500,
+            clock);
+    }
+
+    private static StockLine line(UUID produtoId, int quantity) {
+        return new StockLine(produtoId, quantity);
+    }
+
+    /**
+     * {@code produtos.stock_atual} and {@code stock_movimentos} of a single tenant.
+     */
+    private static final class FakeStockStore implements StockStore {
+
+        private final Map<UUID, Integer> stock = new ConcurrentHashMap<>();
+        private final Map<String, Movement> movements = new ConcurrentHashMap<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public Map<UUID, Integer> loadStock(UUID tenantId) {
+            return new HashMap<>(stock);
+        }
+
+        @Override
+        public OptionalInt loadStock(UUID tenantId, UUID produtoId) {
+            Integer value = stock.get(produtoId);
+            return value != null ? OptionalInt.of(value) : OptionalInt.empty();
+        }
+
+        @Override
+        public Map<String, List<StockLine>> loadConfirmed(UUID tenantId, Instant since) {
+            Map<String, List<StockLine>> confirmed = new LinkedHashMap<>();
+            movements.values().stream()
+                .filter(movement -> !movement.confirmedAt().isBefore(since))
+                .forEach(movement -> confirmed.computeIfAbsent(movement.idempotencyKey(), key -> new ArrayList<>())
+                    .add(new StockLine(movement.produtoId(), movement.quantity())));
+            return confirmed;
+        }
+
+        @Override
+        public synchronized void writeBack(List<Movement> batch) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            // all or nothing, like the one transaction of the JDBC store
+            for (Movement movement : batch) {
+                if (!stock.containsKey(movement.produtoId())) {
+                    throw new DataIntegrityViolationException("no product " + movement.produtoId());
+                }
+                if (movements.containsKey(id(movement))) {
+                    throw new DuplicateKeyException("duplicate movement " + id(movement));
+                }
+            }
+            for (Movement movement : batch) {
+                movements.put(id(movement), movement);
+                stock.merge(movement.produtoId(), -movement.quantity(), Integer::sum);
+            }
+        }
+
+        private static String id(Movement movement) {
+            return movement.idempotencyKey() + "/" + movement.produtoId();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.xavier.multiservicemarketplaceapi.catalog.infrastructure.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockLine;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservation;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.stock.StockReservationPort;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockLedgerIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    ProdutoRepository produtoRepository;
+
+    @Autowired
+    StockReservationPort stockReservations;
+
+    @Autowired
+    StockStore stockStore;
+
+    @Test
+    void shouldWriteConfirmedOrdersBackToProdutos() throws Exception {
+        Produto cafe = produto(10);
+        Produto cha = produto(3);
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        StockReservation reserved = stockReservations.reserve(TENANT_DEV, "pedido-" + UUID.randomUUID(),
+            List.of(new StockLine(cafe.getId(), 4), new StockLine(cha.getId(), 3)));
+        StockReservation placed = stockReservations.confirm(TENANT_DEV, reserved.idempotencyKey())
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(placed.status()).isEqualTo(StockReservation.Status.CONFIRMED);
+        assertThat(produtoRepository.findById(cafe.getId())).get().extracting(Produto::getStockAtual).isEqualTo(6);
+        assertThat(stockStore.loadStock(TENANT_DEV, cha.getId())).hasValue(0);
+        assertThat(stockStore.loadConfirmed(TENANT_DEV, before))
+            .containsEntry(placed.idempotencyKey(), placed.lines());
+        assertThat(stockReservations.available(TENANT_DEV, cafe.getId())).hasValue(6);
+    }
+
+    private Produto produto(int stock) {
+        return produtoRepository.save(new Produto(UUID.randomUUID(), TENANT_DEV, UUID.randomUUID(), null, "Produto",
+            new BigDecimal("1.00"), true, stock, null));
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT_DEV, identifier, true);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogImportIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldImportGzippedCsvAndMakeItSearchable() throws Exception {
+        UUID merchant = UUID.randomUUID();
+        String csv = """
+            merchant_id,nome,preco,stock_atual
+            %1$s,Granola Importada,12.50,40
+            %1$s,Mel Importado,,5
+            """.formatted(merchant);
+
+        String location = mockMvc.perform(post("/api/catalog/imports").param("tipo", "PRODUTO")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev")
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .content(gzip(csv)))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.tenantId").value(TENANT_DEV.toString()))
+            .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+
+        JsonNode done = awaitFinished(location);
+        assertThat(done.path("status").asText()).isEqualTo("COMPLETED");
+        assertThat(done.path("rowsMerged").asLong()).isEqualTo(1);
+        assertThat(done.path("rowsRejected").asLong()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT stock_atual FROM produtos WHERE merchant_id = ?",
+            Integer.class, merchant)).isEqualTo(40);
+
+        mockMvc.perform(get(location + "/errors").header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].rowNumber").value(2))
+            .andExpect(jsonPath("$[0].message").value("preco is required."));
+        mockMvc.perform(get("/api/catalog/search").param("q", "granola importada")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(1));
+        mockMvc.perform(post(location + "/resume").header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/catalog/imports/" + UUID.randomUUID())
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitFinished(String location) throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            String body = mockMvc.perform(get(location).header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            JsonNode catalogImport = objectMapper.readTree(body);
+            String status = catalogImport.path("status").asText();
+            if ("COMPLETED".equals(status) || "FAILED".equals(status) || System.nanoTime() > deadline) {
+                return catalogImport;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static byte[] gzip(String text) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT_DEV, identifier, true);
+        }
+    }
+}
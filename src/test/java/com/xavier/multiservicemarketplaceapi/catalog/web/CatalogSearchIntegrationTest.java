@@ -0,0 +1,106 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Servico;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ServicoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.TipoAtendimento;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemChangedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemRemovedEvent;
+import com.xavier.multiservicemarketplaceapi.catalog.infrastructure.search.CatalogSearchIndexUpdater;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CatalogSearchIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProdutoRepository produtoRepository;
+
+    @Autowired
+    ServicoRepository servicoRepository;
+
+    @Autowired
+    CatalogSearchIndexUpdater indexUpdater;
+
+    @Autowired
+    ApplicationEventPublisher events;
+
+    @Test
+    void shouldServeSearchFromIndexRebuiltFromDatabaseAndKeptCurrentByEvents() throws Exception {
+        Produto cafe = produtoRepository.save(new Produto(UUID.randomUUID(), TENANT_DEV, UUID.randomUUID(), null,
+            "Café Torrado", new BigDecimal("7.90"), true, 10, "{\"origem\": \"Brasil\", \"peso\": 250}"));
+        indexUpdater.rebuild();
+
+        mockMvc.perform(get("/api/catalog/search").param("q", "cafe")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(1))
+            .andExpect(jsonPath("$.items[0].nome").value("Café Torrado"))
+            .andExpect(jsonPath("$.facets['atributos.peso']['250']").value(1));
+
+        Servico corte = servicoRepository.save(new Servico(UUID.randomUUID(), TENANT_DEV, UUID.randomUUID(), null,
+            "Corte de Cabelo", new BigDecimal("15.00"), 30, TipoAtendimento.PRESENCIAL, true, "[\"barbearia\"]"));
+        events.publishEvent(new CatalogItemChangedEvent(TENANT_DEV, CatalogItemType.SERVICO, corte.getId()));
+        events.publishEvent(new CatalogItemRemovedEvent(TENANT_DEV, CatalogItemType.PRODUTO, cafe.getId()));
+
+        mockMvc.perform(get("/api/catalog/search").param("tag", "barbearia")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].type").value("SERVICO"));
+        mockMvc.perform(get("/api/catalog/search").param("q", "cafe")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void shouldRejectMalformedAttributeFilter() throws Exception {
+        mockMvc.perform(get("/api/catalog/search").param("atributo", "origem")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> {
+                if ("tenant-dev".equals(identifier)) {
+                    return new TenantContext(TENANT_DEV, identifier, true);
+                }
+                throw new TenantNotFoundException(identifier);
+            };
+        }
+    }
+}
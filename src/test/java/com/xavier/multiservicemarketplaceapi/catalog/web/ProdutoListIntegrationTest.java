@@ -0,0 +1,114 @@
+package com.xavier.multiservicemarketplaceapi.catalog.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.CatalogItemType;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.event.CatalogItemChangedEvent;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProdutoListIntegrationTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ProdutoRepository produtoRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ApplicationEventPublisher events;
+
+    @Test
+    void shouldPageProductsByNameWithoutSkippingEqualNames() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            produtoRepository.save(new Produto(null, TENANT, UUID.randomUUID(), null, "Produto " + (i % 3),
+                new BigDecimal("2.50"), true, i, "{\"cor\": \"azul\"}"));
+        }
+
+        List<String> names = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/catalog/produtos").param("limit", "5")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-produtos");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+            page.path("items").forEach(item -> {
+                names.add(item.path("nome").asText());
+                ids.add(item.path("id").asText());
+            });
+            cursor = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+        } while (cursor != null);
+
+        assertThat(ids).hasSize(12).doesNotHaveDuplicates();
+        assertThat(names).isSorted().containsOnly("Produto 0", "Produto 1", "Produto 2");
+    }
+
+    @Test
+    void shouldAnswerNotModifiedUntilTheCatalogChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/catalog/produtos")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-produtos"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/catalog/produtos")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-produtos")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        events.publishEvent(new CatalogItemChangedEvent(TENANT, CatalogItemType.PRODUTO, UUID.randomUUID()));
+
+        mockMvc.perform(get("/api/catalog/produtos")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-produtos")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT, identifier, true);
+        }
+    }
+}
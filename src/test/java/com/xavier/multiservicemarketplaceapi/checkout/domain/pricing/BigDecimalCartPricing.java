@@ -0,0 +1,110 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+
+/**
+ * Reference pricing written as plain {@link BigDecimal} arithmetic, following the steps documented on
+ * {@link CartPricingEngine}. Golden tests and the benchmark compare the fixed-point engine against it.
+ */
+final class BigDecimalCartPricing {
+
+    private BigDecimalCartPricing() {
+    }
+
+    static CartPricing price(PricingRules rules, Cart cart) {
+        int scale = rules.currency().getDefaultFractionDigits();
+        RoundingMode mode = rules.roundingMode();
+
+        List<BigDecimal> totals = new ArrayList<>();
+        BigDecimal subtotal = BigDecimal.ZERO.setScale(scale);
+        for (CartLine line : cart.lines()) {
+            BigDecimal total = line.unitPrice().toBigDecimal().multiply(BigDecimal.valueOf(line.quantity()));
+            totals.add(total);
+            subtotal = subtotal.add(total);
+        }
+
+        BigDecimal discount = BigDecimal.ZERO.setScale(scale);
+        CouponRule coupon = rules.coupon(cart.couponCode());
+        if (coupon != null && subtotal.compareTo(BigDecimal.valueOf(coupon.minSubtotal(), scale)) >= 0) {
+            discount = coupon.percentage() != null
+                ? subtotal.multiply(coupon.percentage().toBigDecimal()).setScale(scale, mode)
+                : BigDecimal.valueOf(coupon.fixedAmount(), scale);
+            discount = discount.min(subtotal);
+        }
+
+        List<BigDecimal> discounts = apportion(discount, totals, subtotal, scale);
+
+        BigDecimal net = subtotal.subtract(discount);
+        BigDecimal rate = rules.taxRate().toBigDecimal();
+        BigDecimal tax = rules.taxIncluded()
+            ? net.multiply(rate).divide(BigDecimal.ONE.add(rate), scale, mode)
+            : net.multiply(rate).setScale(scale, mode);
+        BigDecimal total = rules.taxIncluded() ? net : net.add(tax);
+
+        List<LinePricing> lines = new ArrayList<>();
+        Map<UUID, BigDecimal> sellers = new LinkedHashMap<>();
+        for (int i = 0; i < cart.lines().size(); i++) {
+            CartLine line = cart.lines().get(i);
+            BigDecimal lineNet = totals.get(i).subtract(discounts.get(i));
+            lines.add(new LinePricing(line, money(totals.get(i), rules), money(discounts.get(i), rules),
+                money(lineNet, rules)));
+            sellers.merge(line.sellerId(), lineNet, BigDecimal::add);
+        }
+        List<SellerShare> split = new ArrayList<>();
+        sellers.forEach((sellerId, gross) -> {
+            BigDecimal fee = gross.multiply(rules.platformFeeRate().toBigDecimal()).setScale(scale, mode);
+            split.add(new SellerShare(sellerId, money(gross, rules), money(fee, rules),
+                money(gross.subtract(fee), rules)));
+        });
+
+        return new CartPricing(cart.clienteId(), money(subtotal, rules), money(discount, rules), money(tax, rules),
+            money(total, rules), discount.signum() > 0 ? coupon.code() : null, lines, split);
+    }
+
+    private static List<BigDecimal> apportion(BigDecimal discount, List<BigDecimal> totals, BigDecimal subtotal,
+                                              int scale) {
+        List<BigDecimal> shares = new ArrayList<>();
+        if (discount.signum() == 0) {
+            totals.forEach(total -> shares.add(BigDecimal.ZERO.setScale(scale)));
+            return shares;
+        }
+        BigInteger discountUnits = discount.movePointRight(scale).toBigIntegerExact();
+        BigInteger subtotalUnits = subtotal.movePointRight(scale).toBigIntegerExact();
+        List<BigInteger> units = new ArrayList<>();
+        List<BigInteger> remainders = new ArrayList<>();
+        BigInteger allocated = BigInteger.ZERO;
+        for (BigDecimal total : totals) {
+            BigInteger[] quotient = discountUnits.multiply(total.movePointRight(scale).toBigIntegerExact())
+                .divideAndRemainder(subtotalUnits);
+            units.add(quotient[0]);
+            remainders.add(quotient[1]);
+            allocated = allocated.add(quotient[0]);
+        }
+        for (BigInteger leftover = discountUnits.subtract(allocated); leftover.signum() > 0;
+             leftover = leftover.subtract(BigInteger.ONE)) {
+            int largest = 0;
+            for (int i = 1; i < remainders.size(); i++) {
+                if (remainders.get(i).compareTo(remainders.get(largest)) > 0) {
+                    largest = i;
+                }
+            }
+            units.set(largest, units.get(largest).add(BigInteger.ONE));
+            remainders.set(largest, BigInteger.valueOf(-1));
+        }
+        units.forEach(share -> shares.add(new BigDecimal(share, scale)));
+        return shares;
+    }
+
+    private static Money money(BigDecimal value, PricingRules rules) {
+        return Money.of(value, rules.currency());
+    }
+}
@@ -0,0 +1,161 @@
+package com.xavier.multiservicemarketplaceapi.checkout.domain.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.CheckoutConfig;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+class CartPricingEngineTest {
+
+    private static final UUID MERCHANT = UUID.randomUUID();
+    private static final UUID PRESTADOR = UUID.randomUUID();
+
+    private final CartPricingEngine engine = new CartPricingEngine();
+
+    @Test
+    void shouldPriceCartWithCouponTaxAndSplit() {
+        TenantContext tenant = tenant("EUR", Map.of(
+            "taxRate", 0.23,
+            "platformFeeRate", 0.1,
+            "coupons", Map.of("bemvindo10", Map.of("percent", 10))));
+        Cart cart = new Cart(UUID.randomUUID(), List.of(
+            line(MERCHANT, 3, "4.99"),
+            line(PRESTADOR, 1, "35.00")), "BemVindo10");
+
+        CartPricing pricing = engine.price(tenant, cart);
+
+        // subtotal 49.97, discount 5.00 (4.997), tax 23% of 44.97 = 10.3431
+        assertThat(pricing.subtotal()).isEqualTo(Money.of("49.97", "EUR"));
+        assertThat(pricing.discount()).isEqualTo(Money.of("5.00", "EUR"));
+        assertThat(pricing.tax()).isEqualTo(Money.of("10.34", "EUR"));
+        assertThat(pricing.total()).isEqualTo(Money.of("55.31", "EUR"));
+        assertThat(pricing.appliedCoupon()).isEqualTo("BEMVINDO10");
+        // 5.00 pro rata over 14.97 / 35.00: 1.4979 -> 1.50 and 3.5021 -> 3.50
+        assertThat(pricing.lines()).extracting(LinePricing::discount)
+            .containsExactly(Money.of("1.50", "EUR"), Money.of("3.50", "EUR"));
+        assertThat(pricing.split()).containsExactly(
+            new SellerShare(MERCHANT, Money.of("13.47", "EUR"), Money.of("1.35", "EUR"), Money.of("12.12", "EUR")),
+            new SellerShare(PRESTADOR, Money.of("31.50", "EUR"), Money.of("3.15", "EUR"), Money.of("28.35", "EUR")));
+    }
+
+    @Test
+    void shouldExtractIncludedTaxAndHonourCouponMinimum() {
+        TenantContext tenant = tenant("BRL", Map.of(
+            "taxRate", "0.16",
+            "taxIncluded", true,
+            "roundingMode", "half_even",
+            "coupons", Map.of("FRETE5", Map.of("amount", "5.00", "minSubtotal", 30))));
+
+        CartPricing small = engine.price(tenant, new Cart(null, List.of(line(MERCHANT, 2, "11.60", "BRL")), "frete5"));
+        assertThat(small.discount().isZero()).isTrue();
+        assertThat(small.appliedCoupon()).isNull();
+        assertThat(small.tax()).isEqualTo(Money.of("3.20", "BRL"));
+        assertThat(small.total()).isEqualTo(Money.of("23.20", "BRL"));
+
+        CartPricing large = engine.price(tenant, new Cart(null, List.of(line(MERCHANT, 3, "11.60", "BRL")), "FRETE5"));
+        assertThat(large.discount()).isEqualTo(Money.of("5.00", "BRL"));
+        assertThat(large.total()).isEqualTo(Money.of("29.80", "BRL"));
+        assertThat(large.tax()).isEqualTo(Money.of("4.11", "BRL"));
+    }
+
+    @Test
+    void shouldMatchBigDecimalArithmeticExactly() {
+        Random random = new Random(2024);
+        String[] currencies = {"EUR", "JPY", "BHD", "BRL"};
+        String[] rates = {"0", "0.16", "0.23", "0.075", "0.0325", "0.123456", "1.5"};
+        RoundingMode[] modes = {RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.HALF_DOWN,
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR};
+        List<UUID> sellers = List.of(MERCHANT, PRESTADOR, UUID.randomUUID(), UUID.randomUUID());
+
+        for (int round = 0; round < 300; round++) {
+            String currency = currencies[random.nextInt(currencies.length)];
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("taxRate", rates[random.nextInt(rates.length)]);
+            config.put("platformFeeRate", rates[random.nextInt(rates.length)]);
+            config.put("taxIncluded", random.nextBoolean());
+            config.put("roundingMode", modes[random.nextInt(modes.length)].name());
+            config.put("coupons", Map.of(
+                "PCT", Map.of("percent", random.nextInt(1000) / 10.0),
+                "FIX", Map.of("amount", random.nextInt(5000), "minSubtotal", random.nextInt(2000))));
+            TenantContext tenant = tenant(currency, config);
+            PricingRules rules = engine.rulesFor(tenant);
+
+            List<Cart> carts = new ArrayList<>();
+            for (int c = 0; c < 20; c++) {
+                List<CartLine> lines = new ArrayList<>();
+                for (int l = 0, count = 1 + random.nextInt(30); l < count; l++) {
+                    long minor = 1 + random.nextInt(2_000_000);
+                    lines.add(new CartLine(UUID.randomUUID(), sellers.get(random.nextInt(sellers.size())),
+                        1 + random.nextInt(20), Money.ofMinor(minor, Currency.getInstance(currency))));
+                }
+                String coupon = switch (random.nextInt(3)) {
+                    case 0 -> "pct";
+                    case 1 -> "FIX";
+                    default -> null;
+                };
+                carts.add(new Cart(UUID.randomUUID(), lines, coupon));
+            }
+
+            List<CartPricing> batch = engine.priceAll(tenant, carts);
+            for (int c = 0; c < carts.size(); c++) {
+                CartPricing expected = BigDecimalCartPricing.price(rules, carts.get(c));
+                assertThat(batch.get(c)).as("config %s, cart %d", config, c).isEqualTo(expected);
+                assertThat(engine.price(tenant, carts.get(c))).isEqualTo(expected);
+                assertThat(batch.get(c).lines().stream().map(LinePricing::discount).reduce(Money::plus).orElseThrow())
+                    .isEqualTo(expected.discount());
+            }
+        }
+    }
+
+    @Test
+    void shouldCompileRulesOncePerConfiguration() {
+        TenantContext tenant = tenant("EUR", Map.of("taxRate", 0.23));
+        PricingRules rules = engine.rulesFor(tenant);
+
+        assertThat(engine.rulesFor(tenant)).isSameAs(rules);
+        TenantContext reloaded = tenant(tenant.tenantId(), "EUR", Map.of("taxRate", 0.06));
+        assertThat(engine.rulesFor(reloaded).taxRate().toBigDecimal()).isEqualByComparingTo("0.06");
+    }
+
+    @Test
+    void shouldRejectInvalidConfigurationAndForeignCurrency() {
+        assertThatThrownBy(() -> engine.rulesFor(tenant("EUR", Map.of("taxRate", "abc"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("config_checkout");
+        assertThatThrownBy(() -> engine.rulesFor(tenant("EUR", Map.of("coupons", Map.of("X", Map.of())))))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        TenantContext tenant = tenant("EUR", Map.of());
+        Cart cart = new Cart(null, List.of(line(MERCHANT, 1, "10.00", "BRL")), null);
+        assertThatThrownBy(() -> engine.price(tenant, cart)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TenantContext tenant(String currency, Map<String, Object> config) {
+        return tenant(UUID.randomUUID(), currency, config);
+    }
+
+    private static TenantContext tenant(UUID tenantId, String currency, Map<String, Object> config) {
+        return new TenantContext(tenantId, "tenant", true, "UTC", currency, new CheckoutConfig(config));
+    }
+
+    private static CartLine line(UUID seller, int quantity, String unitPrice) {
+        return line(seller, quantity, unitPrice, "EUR");
+    }
+
+    private static CartLine line(UUID seller, int quantity, String unitPrice, String currency) {
+        return new CartLine(UUID.randomUUID(), seller, quantity, Money.of(unitPrice, currency));
+    }
+}
@@ -0,0 +1,74 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartStore;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CartStoreIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired
+    CartStore cartStore;
+
+    @Autowired
+    CartItemStore cartItemStore;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldWriteTheCartToCartItemsAtCheckoutAndReloadIt() {
+        UUID cliente = UUID.randomUUID();
+        UUID cafe = UUID.randomUUID();
+        UUID corte = UUID.randomUUID();
+        cartStore.add(TENANT_DEV, cliente, "PRODUTO", cafe, 2, new BigDecimal("4.50"));
+        cartStore.add(TENANT_DEV, cliente, "SERVICO", corte, 1, new BigDecimal("25.00"));
+        cartStore.add(TENANT_DEV, cliente, "PRODUTO", cafe, 1, new BigDecimal("4.20"));
+
+        CartSnapshot checkout = cartStore.checkout(TENANT_DEV, cliente);
+
+        assertThat(checkout.items()).containsExactly(
+            new CartItemLine("PRODUTO", cafe, 3, new BigDecimal("4.20")),
+            new CartItemLine("SERVICO", corte, 1, new BigDecimal("25.00")));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE cliente_id = ?",
+            Integer.class, cliente)).isEqualTo(2);
+
+        WriteBehindCartStore restarted = new WriteBehindCartStore(cartItemStore, 100, Duration.ofMinutes(1),
+            Duration.ofSeconds(1), 100, 100, Duration.ofSeconds(1), null);
+        assertThat(restarted.get(TENANT_DEV, cliente).items()).isEqualTo(checkout.items());
+
+        restarted.remove(TENANT_DEV, cliente, "SERVICO", corte);
+        restarted.close();
+        assertThat(cartItemStore.load(TENANT_DEV, cliente))
+            .containsExactly(new CartItemLine("PRODUTO", cafe, 3, new BigDecimal("4.20")));
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT_DEV, identifier, true);
+        }
+    }
+}
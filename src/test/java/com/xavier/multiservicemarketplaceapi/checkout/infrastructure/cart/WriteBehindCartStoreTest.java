@@ -0,0 +1,198 @@
+package com.xavier.multiservicemarketplaceapi.checkout.infrastructure.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartItemLine;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.cart.CartSnapshot;
+import com.xavier.multiservicemarketplaceapi.checkout.exception.CartBacklogFullException;
+
+class WriteBehindCartStoreTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final UUID CAFE = UUID.randomUUID();
+    private static final UUID CHA = UUID.randomUUID();
+    private static final BigDecimal PRECO = new BigDecimal("4.50");
+
+    private final FakeCartItemStore store = new FakeCartItemStore();
+
+    @Test
+    void shouldCoalesceEditsIntoOneWritePerCart() {
+        WriteBehindCartStore carts = carts(1_000, 1_000);
+        UUID ana = UUID.randomUUID();
+        UUID rui = UUID.randomUUID();
+
+        for (int i = 0; i < 10; i++) {
+            carts.add(TENANT, ana, "PRODUTO", CAFE, 1, PRECO);
+        }
+        carts.add(TENANT, ana, "PRODUTO", CHA, 2, PRECO);
+        carts.remove(TENANT, ana, "PRODUTO", CHA);
+        carts.add(TENANT, rui, "SERVICO", CHA, 1, PRECO);
+        carts.updateQuantity(TENANT, rui, "SERVICO", CHA, 3);
+        assertThat(store.writes).hasValue(0);
+        assertThat(carts.dirtyCount()).isEqualTo(2);
+
+        assertThat(carts.flush()).isEqualTo(2);
+
+        assertThat(store.writes).hasValue(1);
+        assertThat(store.load(TENANT, ana)).containsExactly(new CartItemLine("PRODUTO", CAFE, 10, PRECO));
+        assertThat(store.load(TENANT, rui)).containsExactly(new CartItemLine("SERVICO", CHA, 3, PRECO));
+        assertThat(carts.dirtyCount()).isZero();
+        assertThat(carts.flush()).isZero();
+    }
+
+    @Test
+    void shouldWriteTheCartBeforeCheckoutSeesIt() {
+        WriteBehindCartStore carts = carts(1_000, 1_000);
+        UUID ana = UUID.randomUUID();
+        UUID rui = UUID.randomUUID();
+        carts.add(TENANT, ana, "PRODUTO", CAFE, 2, PRECO);
+        carts.add(TENANT, rui, "PRODUTO", CHA, 1, PRECO);
+
+        CartSnapshot checkout = carts.checkout(TENANT, ana);
+
+        assertThat(checkout.items()).containsExactly(new CartItemLine("PRODUTO", CAFE, 2, PRECO));
+        assertThat(store.load(TENANT, ana)).isEqualTo(checkout.items());
+        assertThat(store.load(TENANT, rui)).isEmpty();
+        assertThat(carts.checkout(TENANT, ana)).isEqualTo(checkout);
+        assertThat(store.writes).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepUnwrittenCartsThroughEvictionAndReloadThemAfterARestart() {
+        WriteBehindCartStore carts = carts(1, 1_000);
+        List<UUID> clientes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UUID cliente = UUID.randomUUID();
+            clientes.add(cliente);
+            carts.add(TENANT, cliente, "PRODUTO", CAFE, i + 1, PRECO);
+        }
+        for (int i = 0; i < 50; i++) {
+            carts.add(TENANT, clientes.get(i), "PRODUTO", CHA, 1, PRECO);
+        }
+        assertThat(store.writes).hasValue(0);
+
+        carts.close();
+
+        WriteBehindCartStore restarted = carts(1_000, 1_000);
+        for (int i = 0; i < 50; i++) {
+            assertThat(restarted.get(TENANT, clientes.get(i)).items()).containsExactly(
+                new CartItemLine("PRODUTO", CAFE, i + 1, PRECO), new CartItemLine("PRODUTO", CHA, 1, PRECO));
+        }
+        assertThat(restarted.dirtyCount()).isZero();
+    }
+
+    @Test
+    void shouldFlushOnTheCallerWhenTooManyCartsWaitAndNoFlusherRuns() {
+        WriteBehindCartStore carts = carts(1_000, 3);
+
+        for (int i = 0; i < 10; i++) {
+            carts.add(TENANT, UUID.randomUUID(), "PRODUTO", CAFE, 1, PRECO);
+            assertThat(carts.dirtyCount()).isLessThanOrEqualTo(3);
+        }
+        assertThat(store.rows()).isGreaterThanOrEqualTo(7);
+    }
+
+    @Test
+    void shouldKeepCartsDirtyWhenAWriteFails() {
+        WriteBehindCartStore carts = carts(1_000, 1_000);
+        UUID ana = UUID.randomUUID();
+        carts.add(TENANT, ana, "PRODUTO", CAFE, 1, PRECO);
+        store.failures.set(1);
+
+        assertThatThrownBy(carts::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(carts.dirtyCount()).isEqualTo(1);
+
+        assertThat(carts.flush()).isEqualTo(1);
+        assertThat(store.load(TENANT, ana)).hasSize(1);
+    }
+
+    @Test
+    void shouldAnswerBacklogFullInsteadOfTheWriteFailure() {
+        WriteBehindCartStore carts = carts(1_000, 1);
+        UUID ana = UUID.randomUUID();
+        carts.add(TENANT, ana, "PRODUTO", CAFE, 1, PRECO);
+        store.failures.set(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> carts.add(TENANT, UUID.randomUUID(), "PRODUTO", CAFE, 1, PRECO))
+            .isInstanceOf(CartBacklogFullException.class);
+        carts.add(TENANT, ana, "PRODUTO", CHA, 1, PRECO);
+
+        assertThat(carts.get(TENANT, ana).items()).hasSize(2);
+        assertThat(carts.dirtyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteTheRestOfABatchAndHoldBackACartTheDatabaseRejects() {
+        WriteBehindCartStore carts = carts(1_000, 1_000);
+        UUID ana = UUID.randomUUID();
+        UUID rui = UUID.randomUUID();
+        UUID eva = UUID.randomUUID();
+        carts.add(TENANT, ana, "PRODUTO", CAFE, 1, PRECO);
+        carts.add(TENANT, rui, "PRODUTO", CAFE, 1, PRECO);
+        carts.add(TENANT, eva, "PRODUTO", CAFE, 1, PRECO);
+        store.rejected.add(rui);
+
+        assertThat(carts.flush()).isEqualTo(3);
+        assertThat(store.load(TENANT, ana)).hasSize(1);
+        assertThat(store.load(TENANT, eva)).hasSize(1);
+        assertThat(store.load(TENANT, rui)).isEmpty();
+        assertThat(carts.dirtyCount()).isEqualTo(1);
+
+        int writes = store.writes.get();
+        assertThat(carts.flush()).isZero();
+        assertThat(store.writes).hasValue(writes);
+        assertThat(carts.get(TENANT, rui).items()).hasSize(1);
+    }
+
+    private WriteBehindCartStore carts(long maximumSize, int maxDirty) {
+        return new WriteBehindCartStore(store, maximumSize, Duration.ofMinutes(30), Duration.ofMillis(50), 500,
+            maxDirty, Duration.ofMillis(100), null);
+    }
+
+    private static final class FakeCartItemStore implements CartItemStore {
+
+        private final Map<List<UUID>, List<CartItemLine>> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final Set<UUID> rejected = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public List<CartItemLine> load(UUID tenantId, UUID clienteId) {
+            return rows.getOrDefault(List.of(tenantId, clienteId), List.of());
+        }
+
+        @Override
+        public synchronized void replace(List<CartSnapshot> carts) {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("database unavailable");
+            }
+            for (CartSnapshot cart : carts) {
+                if (rejected.contains(cart.clienteId())) {
+                    throw new DataIntegrityViolationException("cart of " + cart.clienteId() + " rejected");
+                }
+            }
+            writes.incrementAndGet();
+            for (CartSnapshot cart : carts) {
+                rows.put(List.of(cart.tenantId(), cart.clienteId()), cart.items());
+            }
+        }
+
+        private int rows() {
+            return rows.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
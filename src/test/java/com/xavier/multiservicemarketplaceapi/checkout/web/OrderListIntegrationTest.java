@@ -0,0 +1,176 @@
+package com.xavier.multiservicemarketplaceapi.checkout.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Servico;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ServicoRepository;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.TipoAtendimento;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.ItemPedido;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.ItemPedidoRepository;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.Pedido;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.PedidoRepository;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderListIntegrationTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final UUID OTHER_TENANT = UUID.randomUUID();
+    private static final UUID PAGED_TENANT = UUID.randomUUID();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    PedidoRepository pedidoRepository;
+
+    @Autowired
+    ItemPedidoRepository itemPedidoRepository;
+
+    @Autowired
+    ProdutoRepository produtoRepository;
+
+    @Autowired
+    ServicoRepository servicoRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void shouldListOneHundredOrdersWithAFixedNumberOfStatements() throws Exception {
+        List<Produto> produtos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            produtos.add(produtoRepository.save(new Produto(null, TENANT, UUID.randomUUID(), null, "Produto " + i,
+                new BigDecimal("5.00"), i != 0, 10, null)));
+        }
+        List<Servico> servicos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            servicos.add(servicoRepository.save(new Servico(null, TENANT, UUID.randomUUID(), null, "Servico " + i,
+                new BigDecimal("30.00"), 60, TipoAtendimento.PRESENCIAL, true, null)));
+        }
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            Pedido pedido = pedidoRepository.save(new Pedido(null, TENANT, UUID.randomUUID(), new BigDecimal("35.00"),
+                new BigDecimal("35.00"), StatusPedido.PAGO, "WEB", null, null, null, start.plusSeconds(i)));
+            Produto produto = produtos.get(i % produtos.size());
+            Servico servico = servicos.get(i % servicos.size());
+            itemPedidoRepository.save(new ItemPedido(null, TENANT, pedido.getId(), "PRODUTO", produto.getId(), 1,
+                produto.getPreco(), produto.getNome(), produto.getMerchantId(), null, produto.getPreco()));
+            itemPedidoRepository.save(new ItemPedido(null, TENANT, pedido.getId(), "SERVICO", servico.getId(), 1,
+                servico.getPreco(), servico.getNome(), null, servico.getPrestadorId(), servico.getPreco()));
+        }
+        pedidoRepository.save(new Pedido(null, OTHER_TENANT, UUID.randomUUID(), BigDecimal.ONE, BigDecimal.ONE,
+            StatusPedido.PAGO, "WEB", null, null, null, start.plusSeconds(1000)));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/checkout/orders").param("limit", "100")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "orders-tenant"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(100)))
+            .andExpect(jsonPath("$.items[0].criadoEm").value("2026-01-01T00:01:39Z"))
+            .andExpect(jsonPath("$.items[0].itens", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].itens[0].nome").value("Produto 19"))
+            .andExpect(jsonPath("$.items[0].itens[0].disponivel").value(true))
+            .andExpect(jsonPath("$.items[99].itens[0].nome").value("Produto 0"))
+            .andExpect(jsonPath("$.items[99].itens[0].disponivel").value(false))
+            .andExpect(jsonPath("$.items[99].itens[1].nome").value("Servico 0"))
+            .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+
+        // pedidos, their lines, produtos, servicos: 4 statements instead of 1 + 100 + 200
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldWalkPagesWithSignedCursors() throws Exception {
+        Instant sameInstant = Instant.parse("2025-06-01T12:00:00Z");
+        Set<UUID> created = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            created.add(pedidoRepository.save(new Pedido(null, PAGED_TENANT, UUID.randomUUID(), BigDecimal.ONE,
+                BigDecimal.ONE, StatusPedido.PAGO, "WEB", null, null, null, sameInstant.plusSeconds(i % 5)))
+                .getId());
+        }
+
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/api/checkout/orders").param("limit", "10")
+                    .param("cursor", cursor != null ? cursor : "")
+                    .header(TenantResolverInterceptor.TENANT_HEADER, "paged-tenant"))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            page.path("items").forEach(item -> assertThat(seen.add(UUID.fromString(item.path("id").asText())))
+                .isTrue());
+            cursor = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).isEqualTo(created);
+
+        String firstCursor = objectMapper.readTree(mockMvc.perform(get("/api/checkout/orders").param("limit", "10")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "paged-tenant"))
+            .andReturn().getResponse().getContentAsString()).path("nextCursor").asText();
+        mockMvc.perform(get("/api/checkout/orders").param("cursor", firstCursor)
+                .header(TenantResolverInterceptor.TENANT_HEADER, "orders-tenant"))
+            .andExpect(status().isBadRequest());
+        char flipped = firstCursor.charAt(20) == 'A' ? 'B' : 'A';
+        String tampered = firstCursor.substring(0, 20) + flipped + firstCursor.substring(21);
+        mockMvc.perform(get("/api/checkout/orders").param("cursor", tampered)
+                .header(TenantResolverInterceptor.TENANT_HEADER, "paged-tenant"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext("paged-tenant".equals(identifier) ? PAGED_TENANT : TENANT,
+                identifier, true);
+        }
+    }
+}
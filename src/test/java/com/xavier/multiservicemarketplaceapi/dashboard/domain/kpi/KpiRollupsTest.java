@@ -0,0 +1,158 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.StatusPedido;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderPlacedEvent;
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderStatusChangedEvent;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.StatusAgendamento;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingRequestedEvent;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.event.BookingStatusChangedEvent;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantDeactivatedEvent;
+
+class KpiRollupsTest {
+
+    private static final UUID SAO_PAULO = UUID.randomUUID();
+    private static final UUID KOLKATA = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2025-03-04T12:00:00Z");
+
+    private final Map<UUID, TenantContext> tenants = Map.of(
+        SAO_PAULO, new TenantContext(SAO_PAULO, "sp", true, "America/Sao_Paulo", "BRL", null),
+        KOLKATA, new TenantContext(KOLKATA, "in", true, "Asia/Kolkata", "INR", null));
+    private final KpiRollups rollups = new KpiRollups(tenants::get, 1440, 24 * 90, 730, Duration.ofMinutes(10),
+        Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldBucketOnTheTenantsWallClock() {
+        // 02:30 UTC on the 4th is still 23:30 on the 3rd in São Paulo
+        rollups.record(placed(SAO_PAULO, "2025-03-04T02:30:00Z", "100.00", "BRL"));
+        rollups.record(placed(SAO_PAULO, "2025-03-04T03:10:00Z", "40.50", "BRL"));
+
+        KpiSnapshot days = rollups.snapshot(SAO_PAULO, Granularity.DAY, LocalDateTime.parse("2025-03-03T00:00"),
+            LocalDateTime.parse("2025-03-05T00:00"));
+        assertThat(days.timezone()).isEqualTo("America/Sao_Paulo");
+        assertThat(days.series()).extracting(point -> point.values().gmv())
+            .containsExactly(Money.of("100.00", "BRL"), Money.of("40.50", "BRL"));
+        assertThat(days.totals().orders()).containsEntry(StatusPedido.PENDENTE, 2L);
+
+        // Kolkata is UTC+05:30: local hours start at :30 UTC
+        rollups.record(placed(KOLKATA, "2025-03-04T06:29:00Z", "10", "INR"));
+        rollups.record(placed(KOLKATA, "2025-03-04T06:31:00Z", "10", "INR"));
+        KpiSnapshot hours = rollups.snapshot(KOLKATA, Granularity.HOUR, LocalDateTime.parse("2025-03-04T11:00"),
+            LocalDateTime.parse("2025-03-04T13:00"));
+        assertThat(hours.series()).extracting(point -> point.values().orders().get(StatusPedido.PENDENTE))
+            .containsExactly(1L, 1L);
+    }
+
+    @Test
+    void shouldCountStatusesGmvAndBookingConversion() {
+        UUID pedido = UUID.randomUUID();
+        rollups.record(placed(SAO_PAULO, "2025-03-04T10:00:00Z", "80.00", "BRL"));
+        rollups.record(placed(SAO_PAULO, "2025-03-04T10:05:00Z", "9.99", "EUR"));
+        rollups.record(new OrderStatusChangedEvent(SAO_PAULO, pedido, StatusPedido.PENDENTE, StatusPedido.PAGO,
+            Money.of("80.00", "BRL"), Instant.parse("2025-03-04T10:06:00Z")));
+        rollups.record(new OrderStatusChangedEvent(SAO_PAULO, pedido, StatusPedido.PAGO, StatusPedido.CANCELADO,
+            Money.of("80.00", "BRL"), Instant.parse("2025-03-04T10:07:00Z")));
+        for (int i = 0; i < 4; i++) {
+            UUID agendamento = UUID.randomUUID();
+            Instant at = Instant.parse("2025-03-04T10:30:00Z").plusSeconds(i);
+            rollups.record(new BookingRequestedEvent(SAO_PAULO, agendamento, UUID.randomUUID(), UUID.randomUUID(), at));
+            StatusAgendamento outcome = i < 3 ? StatusAgendamento.CONFIRMADO : StatusAgendamento.CANCELADO;
+            rollups.record(new BookingStatusChangedEvent(SAO_PAULO, agendamento, StatusAgendamento.PENDENTE, outcome,
+                at));
+        }
+
+        KpiValues totals = rollups.snapshot(SAO_PAULO, Granularity.HOUR, null, null).totals();
+        assertThat(totals.gmv()).isEqualTo(Money.of("80.00", "BRL"));
+        assertThat(totals.orders()).containsEntry(StatusPedido.PENDENTE, 2L)
+            .containsEntry(StatusPedido.PAGO, 1L)
+            .containsEntry(StatusPedido.CANCELADO, 1L)
+            .containsEntry(StatusPedido.ENVIADO, 0L);
+        assertThat(totals.bookingConversion()).isEqualTo(0.75);
+        assertThat(totals.bookingCancellations()).isEqualTo(1);
+        assertThat(rollups.snapshot(SAO_PAULO, Granularity.MINUTE, LocalDateTime.parse("2025-03-04T07:00"),
+            LocalDateTime.parse("2025-03-04T08:00")).totals()).isEqualTo(totals);
+        assertThat(rollups.snapshot(SAO_PAULO, Granularity.DAY, null, null).totals()).isEqualTo(totals);
+    }
+
+    @Test
+    void shouldLimitWindowsToTheRetention() {
+        assertThatThrownBy(() -> rollups.snapshot(SAO_PAULO, Granularity.MINUTE,
+            LocalDateTime.parse("2025-03-01T00:00"), LocalDateTime.parse("2025-03-04T00:00")))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        rollups.record(placed(SAO_PAULO, "2025-03-04T10:00:00Z", "1.00", "BRL"));
+        rollups.record(placed(SAO_PAULO, "2025-02-01T10:00:00Z", "1.00", "BRL"));
+        assertThat(rollups.expiredEvents(SAO_PAULO)).isEqualTo(1);
+        assertThat(rollups.snapshot(SAO_PAULO, Granularity.DAY, LocalDateTime.parse("2025-02-01T00:00"),
+            LocalDateTime.parse("2025-02-02T00:00")).totals().gmv()).isEqualTo(Money.of("1.00", "BRL"));
+    }
+
+    @Test
+    void shouldRebuildFromReplayedEventsWithoutLosingLiveOnes() {
+        rollups.record(placed(SAO_PAULO, "2025-03-04T09:00:00Z", "999.00", "BRL"));
+        List<Object> history = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            history.add(placed(SAO_PAULO, "2025-03-04T09:00:00Z", "10.00", "BRL"));
+        }
+        history.add(placed(SAO_PAULO, "2025-03-04T12:00:00Z", "5.00", "BRL"));
+        KpiEventSource source = upTo -> history.stream().peek(event -> {
+            if (event == history.get(0)) {
+                // arrives while replaying; must survive the swap
+                rollups.record(placed(SAO_PAULO, "2025-03-04T12:00:01Z", "1.00", "BRL"));
+            }
+        });
+
+        assertThat(rollups.rebuild(List.of(source))).isEqualTo(10);
+        KpiValues totals = rollups.snapshot(SAO_PAULO, Granularity.DAY, null, null).totals();
+        assertThat(totals.gmv()).isEqualTo(Money.of("101.00", "BRL"));
+        assertThat(totals.orders()).containsEntry(StatusPedido.PENDENTE, 11L);
+
+        // redelivered by the outbox after the rebuild already replayed it
+        rollups.record(history.get(1));
+        assertThat(rollups.snapshot(SAO_PAULO, Granularity.DAY, null, null).totals().gmv())
+            .isEqualTo(Money.of("101.00", "BRL"));
+
+        rollups.record(new TenantDeactivatedEvent(SAO_PAULO, "sp"));
+        assertThat(rollups.snapshot(SAO_PAULO, Granularity.DAY, null, null).totals().orders())
+            .containsEntry(StatusPedido.PENDENTE, 0L);
+    }
+
+    @Test
+    void shouldCountEventsThatCommittedAfterTheReplay() {
+        OrderPlacedEvent replayed = placed(SAO_PAULO, "2025-03-04T11:58:00Z", "10.00", "BRL");
+        // stamped before the rebuild started but committed after the replay read the history
+        OrderPlacedEvent duringReplay = placed(SAO_PAULO, "2025-03-04T11:59:00Z", "20.00", "BRL");
+        OrderPlacedEvent afterSwap = placed(SAO_PAULO, "2025-03-04T11:59:30Z", "40.00", "BRL");
+        KpiEventSource source = upTo -> Stream.of(replayed).peek(event -> rollups.record(duringReplay));
+
+        assertThat(rollups.rebuild(List.of(source))).isEqualTo(1);
+        rollups.record(afterSwap);
+        rollups.record(replayed);
+
+        KpiValues totals = rollups.snapshot(SAO_PAULO, Granularity.DAY, null, null).totals();
+        assertThat(totals.gmv()).isEqualTo(Money.of("70.00", "BRL"));
+        assertThat(totals.orders()).containsEntry(StatusPedido.PENDENTE, 3L);
+    }
+
+    private static OrderPlacedEvent placed(UUID tenantId, String at, String total, String currency) {
+        return new OrderPlacedEvent(tenantId, UUID.randomUUID(), UUID.randomUUID(), Money.of(total, currency),
+            Instant.parse(at));
+    }
+}
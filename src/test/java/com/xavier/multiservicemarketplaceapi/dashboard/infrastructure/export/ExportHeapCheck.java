@@ -0,0 +1,63 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import java.io.OutputStream;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+/**
+ * Child JVM of {@link JdbcReportExporterTest}: exports {@code args[0]} synthetic rows in format {@code args[1]}
+ * (gzipped if {@code args[2]}) into a counting sink and prints {@code <rows> <bytes>}. Run with a small heap, it fails
+ * with an {@link OutOfMemoryError} if the export keeps anything per row.
+ */
+final class ExportHeapCheck {
+
+    static final String SYNTHETIC_ROWS = """
+        SELECT X AS id,
+               CASE MOD(X, 3) WHEN 0 THEN 'PAGO' WHEN 1 THEN 'Loja "Centro", 2' ELSE NULL END AS origem,
+               X * 0.01 AS total,
+               DATEADD(SECOND, X, TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00') AS criado_em
+        FROM SYSTEM_RANGE(1, ?)""";
+
+    private ExportHeapCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.parseLong(args[0]);
+        JdbcDataSource dataSource = new JdbcDataSource();
+        // without lazy execution an embedded H2 materializes the whole result before the first row
+        dataSource.setURL("jdbc:h2:mem:export-heap-check;LAZY_QUERY_EXECUTION=TRUE");
+        JdbcReportExporter exporter = new JdbcReportExporter(dataSource, new DataSourceTransactionManager(dataSource),
+            1000);
+        ReportExportLimiter limiter = new ReportExportLimiter(1, 1, 0, Clock.systemUTC());
+        CountingSink sink = new CountingSink();
+        TenantContext tenant = new TenantContext(UUID.randomUUID(), "heap-check", true);
+        try (ReportExport export = limiter.start(tenant, ReportType.PEDIDOS, ExportFormat.valueOf(args[1]))) {
+            long written = exporter.export(export, new ReportQuery(SYNTHETIC_ROWS, List.of(rows)),
+                Boolean.parseBoolean(args[2]), sink);
+            System.out.println(written + " " + sink.bytes);
+        }
+    }
+
+    private static final class CountingSink extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+class JdbcReportExporterTest {
+
+    private static final TenantContext TENANT = new TenantContext(UUID.randomUUID(), "sp", true);
+    private static final ReportQuery ROWS = new ReportQuery(
+        "SELECT id, nome, total, pago, criado_em FROM linhas ORDER BY id", List.of());
+
+    private final ReportExportLimiter limiter = new ReportExportLimiter(4, 4, 0, Clock.systemUTC());
+    private JdbcReportExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";LAZY_QUERY_EXECUTION=TRUE;DB_CLOSE_DELAY=-1");
+        exporter = new JdbcReportExporter(dataSource, new DataSourceTransactionManager(dataSource), 2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+            CREATE TABLE linhas (id INTEGER PRIMARY KEY, nome VARCHAR(100), total NUMERIC(14, 2), pago BOOLEAN,
+                                 criado_em TIMESTAMP WITH TIME ZONE)""");
+        jdbc.execute("""
+            INSERT INTO linhas VALUES
+                (1, 'Café', 7.90, TRUE, TIMESTAMP WITH TIME ZONE '2025-03-01 12:00:00-03'),
+                (2, 'Loja "Centro", 2' || CHAR(10) || 'andar', -1.50, FALSE, NULL),
+                (3, '=HYPERLINK("x")', NULL, NULL, TIMESTAMP WITH TIME ZONE '2025-03-02 00:00:00+00')""");
+    }
+
+    @Test
+    void shouldWriteCsvWithQuotingAndNeutralizedFormulas() throws IOException {
+        assertThat(export(ExportFormat.CSV, false)).isEqualTo("""
+            id,nome,total,pago,criado_em\r
+            1,Café,7.90,true,2025-03-01T15:00:00Z\r
+            2,"Loja ""Centro"", 2
+            andar",-1.50,false,\r
+            3,"'=HYPERLINK(""x"")",,,2025-03-02T00:00:00Z\r
+            """);
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        assertThat(export(ExportFormat.NDJSON, false)).isEqualTo("""
+            {"id":1,"nome":"Café","total":7.90,"pago":true,"criado_em":"2025-03-01T15:00:00Z"}
+            {"id":2,"nome":"Loja \\"Centro\\", 2\\nandar","total":-1.50,"pago":false,"criado_em":null}
+            {"id":3,"nome":"=HYPERLINK(\\"x\\")","total":null,"pago":null,"criado_em":"2025-03-02T00:00:00Z"}
+            """);
+    }
+
+    @Test
+    void shouldGzipTheSameRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportExport export = limiter.start(TENANT, ReportType.PEDIDOS, ExportFormat.NDJSON)) {
+            assertThat(exporter.export(export, ROWS, true, out)).isEqualTo(3);
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(export(ExportFormat.NDJSON, false));
+        }
+    }
+
+    @Test
+    void shouldStopACancelledExportAndGiveItsSlotBack() throws Exception {
+        ReportQuery endless = new ReportQuery("SELECT X FROM SYSTEM_RANGE(1, 1000000000000)", List.of());
+        ReportExport export = limiter.start(TENANT, ReportType.PEDIDOS, ExportFormat.CSV);
+        CompletableFuture<Long> running = CompletableFuture.supplyAsync(() -> {
+            try (export) {
+                return exporter.export(export, endless, false, OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (export.rows() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(limiter.running(TENANT.tenantId())).containsExactly(export);
+        assertThat(limiter.cancel(UUID.randomUUID(), export.id())).isFalse();
+        assertThat(limiter.cancel(TENANT.tenantId(), export.id())).isTrue();
+        assertThatThrownBy(() -> running.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(CancellationException.class);
+        assertThat(limiter.running(TENANT.tenantId())).isEmpty();
+    }
+
+    @Test
+    void shouldExportTenMillionRowsInASmallHeap() throws Exception {
+        // A separate JVM, so the heap limit applies to the export alone; it dies of OutOfMemoryError if rows pile up.
+        Process child = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-Xmx24m", "-XX:+UseSerialGC",
+            "-cp", System.getProperty("java.class.path"),
+            ExportHeapCheck.class.getName(), "10000000", "CSV", "false")
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(child.getInputStream().readAllBytes(), StandardCharsets.UTF_8).strip();
+
+        assertThat(child.waitFor(5, TimeUnit.MINUTES)).isTrue();
+        assertThat(child.exitValue()).as(output).isZero();
+        assertThat(output).startsWith("10000000 ");
+        assertThat(Long.parseLong(output.substring(output.indexOf(' ') + 1))).isGreaterThan(400_000_000L);
+    }
+
+    private String export(ExportFormat format, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportExport export = limiter.start(TENANT, ReportType.PEDIDOS, format)) {
+            exporter.export(export, ROWS, gzip, out);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
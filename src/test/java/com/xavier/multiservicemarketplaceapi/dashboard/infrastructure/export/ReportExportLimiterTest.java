@@ -0,0 +1,62 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ExportFormat;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.export.ReportType;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+class ReportExportLimiterTest {
+
+    private static final TenantContext SP = new TenantContext(UUID.randomUUID(), "sp", true);
+    private static final TenantContext RJ = new TenantContext(UUID.randomUUID(), "rj", true);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void shouldCapConcurrentExportsPerTenantAndPerNode() {
+        ReportExportLimiter limiter = new ReportExportLimiter(2, 1, 0, Clock.systemUTC(), nanos::get);
+        ReportExport sp = limiter.start(SP, ReportType.PEDIDOS, ExportFormat.CSV);
+
+        assertThatThrownBy(() -> limiter.start(SP, ReportType.ITENS_PEDIDO, ExportFormat.CSV))
+            .isInstanceOf(TenantRateLimitExceededException.class)
+            .hasMessageContaining("concurrent export");
+        ReportExport rj = limiter.start(RJ, ReportType.PEDIDOS, ExportFormat.CSV);
+        TenantContext third = new TenantContext(UUID.randomUUID(), "bh", true);
+        assertThatThrownBy(() -> limiter.start(third, ReportType.PEDIDOS, ExportFormat.CSV))
+            .isInstanceOf(TenantRateLimitExceededException.class)
+            .hasMessageContaining("node export");
+
+        sp.close();
+        sp.close();
+        limiter.start(third, ReportType.PEDIDOS, ExportFormat.CSV);
+        assertThat(limiter.running(RJ.tenantId())).containsExactly(rj);
+        assertThatThrownBy(() -> limiter.start(SP, ReportType.PEDIDOS, ExportFormat.CSV))
+            .hasMessageContaining("node export");
+    }
+
+    @Test
+    void shouldPaceRowsWithOneSecondOfBurstSharedByATenantsExports() {
+        ReportExportLimiter limiter = new ReportExportLimiter(4, 2, 1000, Clock.systemUTC(), nanos::get);
+        ReportExport first = limiter.start(SP, ReportType.PEDIDOS, ExportFormat.CSV);
+        ReportExport second = limiter.start(SP, ReportType.ITENS_PEDIDO, ExportFormat.CSV);
+        ReportExport other = limiter.start(RJ, ReportType.PEDIDOS, ExportFormat.CSV);
+
+        assertThat(limiter.pace(first.tenantExports(), 600)).isZero();
+        assertThat(limiter.pace(second.tenantExports(), 400)).isZero();
+        assertThat(limiter.pace(second.tenantExports(), 250)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(limiter.pace(other.tenantExports(), 1000)).isZero();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(limiter.pace(first.tenantExports(), 1000)).isZero();
+    }
+}
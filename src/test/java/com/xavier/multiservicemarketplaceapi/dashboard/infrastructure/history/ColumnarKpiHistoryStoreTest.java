@@ -0,0 +1,203 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.ClosedBuckets;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistory;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPoint;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiMetric;
+
+class ColumnarKpiHistoryStoreTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final LocalDateTime DAY_ZERO = LocalDateTime.parse("2024-01-01T00:00");
+    private static final int WIDTH = KpiMetric.values().length;
+
+    @TempDir
+    Path directory;
+
+    private ColumnarKpiHistoryStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldMatchANaiveScanAcrossSegmentsLogAndRestarts() throws IOException {
+        store = new ColumnarKpiHistoryStore(directory, 16, 64);
+        Random random = new Random(7);
+        long[] gmv = new long[1000];
+        for (int day = 0; day < gmv.length; day += 1 + random.nextInt(40)) {
+            int days = Math.min(gmv.length - day, 1 + random.nextInt(40));
+            long[][] counters = new long[days][WIDTH];
+            for (int i = 0; i < days; i++) {
+                gmv[day + i] = random.nextInt(2_000_000) - 100_000;
+                counters[i][KpiMetric.GMV.ordinal()] = gmv[day + i];
+            }
+            store.append(TENANT, new ClosedBuckets(Granularity.DAY, DAY_ZERO.plusDays(day), counters));
+            day += days - 1;
+        }
+        assertMatches(gmv, random);
+
+        store.close();
+        store = new ColumnarKpiHistoryStore(directory, 16, 64);
+        assertMatches(gmv, random);
+        assertThat(store.archivedUntil(TENANT, Granularity.DAY)).contains(DAY_ZERO.plusDays(gmv.length));
+        assertThat(segments(KpiMetric.GMV)).hasSizeLessThanOrEqualTo(1000 / 64 + ColumnSeries.MERGE_FACTOR + 1);
+    }
+
+    @Test
+    void shouldSkipBucketsAlreadyArchived() {
+        store = new ColumnarKpiHistoryStore(directory, 16, 64);
+        store.append(TENANT, buckets(DAY_ZERO, 10, 20, 30));
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(1), 999, 999, 40));
+
+        KpiHistory history = store.query(TENANT, KpiMetric.GMV, Granularity.DAY, DAY_ZERO, DAY_ZERO.plusDays(5), 1,
+            KpiAggregation.SUM);
+        assertThat(history.points()).extracting(KpiHistoryPoint::value).containsExactly(10L, 20L, 30L, 40L, 0L);
+        assertThat(store.archivedUntil(TENANT, Granularity.DAY)).contains(DAY_ZERO.plusDays(4));
+        assertThat(store.archivedUntil(TENANT, Granularity.HOUR)).isEmpty();
+    }
+
+    @Test
+    void shouldDownsampleWithSummariesAndZeroForMissingBuckets() {
+        store = new ColumnarKpiHistoryStore(directory, 4, 1000);
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(2), 5, 7, 3, 9, 4, 6, 8, 2));
+        store.compact();
+
+        LocalDateTime to = DAY_ZERO.plusDays(14);
+        assertThat(points(DAY_ZERO, to, 7, KpiAggregation.SUM)).containsExactly(28L, 16L);
+        assertThat(points(DAY_ZERO, to, 7, KpiAggregation.MAX)).containsExactly(9L, 8L);
+        // days 0, 1 and 10 to 13 were never archived
+        assertThat(points(DAY_ZERO, to, 7, KpiAggregation.MIN)).containsExactly(0L, 0L);
+        assertThat(points(DAY_ZERO.plusDays(2), DAY_ZERO.plusDays(10), 4, KpiAggregation.MIN))
+            .containsExactly(3L, 2L);
+
+        assertThatThrownBy(() -> points(DAY_ZERO, DAY_ZERO, 1, KpiAggregation.SUM))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> points(DAY_ZERO, DAY_ZERO.plusYears(100), 1, KpiAggregation.SUM))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDropATornLogTail() throws IOException {
+        store = new ColumnarKpiHistoryStore(directory, 100, 64);
+        store.append(TENANT, buckets(DAY_ZERO, 1, 2, 3));
+        store.close();
+        Path log = files(KpiMetric.GMV, AppendLog.SUFFIX).get(0);
+        Files.write(log, new byte[25], StandardOpenOption.APPEND);
+
+        store = new ColumnarKpiHistoryStore(directory, 100, 64);
+        assertThat(points(DAY_ZERO, DAY_ZERO.plusDays(4), 1, KpiAggregation.SUM)).containsExactly(1L, 2L, 3L, 0L);
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(3), 4));
+        assertThat(points(DAY_ZERO, DAY_ZERO.plusDays(4), 1, KpiAggregation.SUM)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void shouldIgnoreLeftoversOfAnInterruptedCompactionOrMerge() throws IOException {
+        store = new ColumnarKpiHistoryStore(directory, 2, 64);
+        store.append(TENANT, buckets(DAY_ZERO, 1, 2, 3, 4, 5, 6));
+        List<Path> small = files(KpiMetric.GMV, ColumnSegment.SUFFIX);
+        byte[][] copies = read(small);
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(6), 7, 8));
+        Path log = files(KpiMetric.GMV, AppendLog.SUFFIX).get(0);
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(8), 9));
+        byte[] logCopy = Files.readAllBytes(log);
+        store.append(TENANT, buckets(DAY_ZERO.plusDays(9), 10));
+        store.close();
+
+        // crash after the merge was renamed in, before its inputs were deleted
+        for (int i = 0; i < small.size(); i++) {
+            Files.write(small.get(i), copies[i]);
+        }
+        // crash after a log was sealed, before it was deleted
+        Files.write(log, logCopy);
+        Files.write(log.resolveSibling("seg-0000000000009999.kpc.tmp"), new byte[] {1, 2, 3});
+
+        store = new ColumnarKpiHistoryStore(directory, 2, 64);
+        assertThat(points(DAY_ZERO, DAY_ZERO.plusDays(10), 10, KpiAggregation.SUM)).containsExactly(55L);
+        assertThat(files(KpiMetric.GMV, ".tmp")).isEmpty();
+    }
+
+    private void assertMatches(long[] gmv, Random random) {
+        for (int q = 0; q < 200; q++) {
+            int from = random.nextInt(gmv.length + 50) - 25;
+            int to = from + 1 + random.nextInt(gmv.length);
+            int step = 1 + random.nextInt(q % 2 == 0 ? 7 : 120);
+            KpiAggregation aggregation = KpiAggregation.values()[q % 3];
+            long[] expected = new long[(to - from + step - 1) / step];
+            for (int p = 0; p < expected.length; p++) {
+                long value = aggregation == KpiAggregation.SUM ? 0
+                    : aggregation == KpiAggregation.MIN ? Long.MAX_VALUE : Long.MIN_VALUE;
+                for (int day = from + p * step; day < Math.min(to, from + (p + 1) * step); day++) {
+                    long bucket = day >= 0 && day < gmv.length ? gmv[day] : 0;
+                    value = switch (aggregation) {
+                        case SUM -> value + bucket;
+                        case MIN -> Math.min(value, bucket);
+                        case MAX -> Math.max(value, bucket);
+                    };
+                }
+                expected[p] = value;
+            }
+            assertThat(points(DAY_ZERO.plusDays(from), DAY_ZERO.plusDays(to), step, aggregation))
+                .as("%s of [%d, %d) by %d", aggregation, from, to, step)
+                .containsExactly(expected);
+        }
+    }
+
+    private long[] points(LocalDateTime from, LocalDateTime to, int step, KpiAggregation aggregation) {
+        return store.query(TENANT, KpiMetric.GMV, Granularity.DAY, from, to, step, aggregation).points().stream()
+            .mapToLong(KpiHistoryPoint::value)
+            .toArray();
+    }
+
+    private static ClosedBuckets buckets(LocalDateTime from, long... gmv) {
+        long[][] counters = new long[gmv.length][WIDTH];
+        for (int i = 0; i < gmv.length; i++) {
+            counters[i][KpiMetric.GMV.ordinal()] = gmv[i];
+            counters[i][KpiMetric.ORDERS_PENDENTE.ordinal()] = 1;
+        }
+        return new ClosedBuckets(Granularity.DAY, from, counters);
+    }
+
+    private List<Path> segments(KpiMetric metric) throws IOException {
+        return files(metric, ColumnSegment.SUFFIX);
+    }
+
+    private List<Path> files(KpiMetric metric, String suffix) throws IOException {
+        Path series = directory.resolve(TENANT.toString()).resolve("day")
+            .resolve(metric.name().toLowerCase(Locale.ROOT));
+        try (Stream<Path> files = Files.list(series)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private static byte[][] read(List<Path> files) throws IOException {
+        byte[][] contents = new byte[files.size()][];
+        for (int i = 0; i < files.size(); i++) {
+            contents[i] = Files.readAllBytes(files.get(i));
+        }
+        return contents;
+    }
+}
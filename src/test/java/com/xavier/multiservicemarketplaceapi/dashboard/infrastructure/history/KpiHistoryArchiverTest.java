@@ -0,0 +1,130 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.infrastructure.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.xavier.multiservicemarketplaceapi.checkout.domain.event.OrderPlacedEvent;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.Granularity;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiAggregation;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiEventSource;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiHistoryPoint;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiMetric;
+import com.xavier.multiservicemarketplaceapi.dashboard.domain.kpi.KpiRollups;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.money.Money;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+class KpiHistoryArchiverTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final LocalDateTime MARCH_1 = LocalDateTime.parse("2025-03-01T00:00");
+
+    @TempDir
+    Path directory;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-04T12:00:00Z"));
+    private final Map<UUID, TenantContext> tenants = Map.of(
+        TENANT, new TenantContext(TENANT, "sp", true, "America/Sao_Paulo", "BRL", null));
+    private final KpiRollups rollups = new KpiRollups(tenants::get, 1440, 24 * 90, 730, Duration.ofMinutes(10),
+        clock);
+    private ColumnarKpiHistoryStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void shouldArchiveEachFinishedDayOnce() {
+        store = new ColumnarKpiHistoryStore(directory, 64, 4096);
+        KpiHistoryArchiver archiver = new KpiHistoryArchiver(rollups, store, List.of(Granularity.DAY),
+            Duration.ofHours(1));
+        KpiEventSource source = upTo -> Stream.of(
+            placed("2025-03-01T15:00:00Z", "100.00"),
+            placed("2025-03-02T15:00:00Z", "20.00"),
+            // 01:00 UTC on the 3rd is still the 2nd in São Paulo
+            placed("2025-03-03T01:00:00Z", "3.00"));
+        rollups.rebuild(List.of(source));
+        rollups.record(placed("2025-03-04T13:00:00Z", "7.00"));
+
+        assertThat(archiver.archive()).isGreaterThanOrEqualTo(730 - 1);
+        assertThat(gmv(MARCH_1, 4)).containsExactly(10_000L, 2_300L, 0L, 0L);
+        assertThat(archiver.archive()).isZero();
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(archiver.archive()).isEqualTo(1);
+        assertThat(gmv(MARCH_1, 4)).containsExactly(10_000L, 2_300L, 0L, 700L);
+        assertThat(store.archivedUntil(TENANT, Granularity.DAY)).contains(LocalDateTime.parse("2025-03-05T00:00"));
+    }
+
+    @Test
+    void shouldNotArchiveDaysTheRollupsOnlyPartlySaw() {
+        store = new ColumnarKpiHistoryStore(directory, 64, 4096);
+        KpiHistoryArchiver archiver = new KpiHistoryArchiver(rollups, store, List.of(Granularity.DAY),
+            Duration.ofHours(1));
+        rollups.record(placed("2025-03-04T13:00:00Z", "7.00"));
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(archiver.archive()).isZero();
+        rollups.record(placed("2025-03-05T13:00:00Z", "5.00"));
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(archiver.archive()).isEqualTo(1);
+        assertThat(gmv(MARCH_1.plusDays(3), 3)).containsExactly(0L, 500L, 0L);
+    }
+
+    private long[] gmv(LocalDateTime from, int days) {
+        return store.query(TENANT, KpiMetric.GMV, Granularity.DAY, from, from.plusDays(days), 1, KpiAggregation.SUM)
+            .points().stream()
+            .mapToLong(KpiHistoryPoint::value)
+            .toArray();
+    }
+
+    private static OrderPlacedEvent placed(String at, String total) {
+        return new OrderPlacedEvent(TENANT, UUID.randomUUID(), UUID.randomUUID(), Money.of(total, "BRL"),
+            Instant.parse(at));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.xavier.multiservicemarketplaceapi.dashboard.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReportExportIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_TENANT = UUID.randomUUID();
+    private static final UUID PEDIDO = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM pedidos");
+        insertPedido(PEDIDO, TENANT_DEV, "59.90", "2025-03-01T12:00:00Z");
+        insertPedido(UUID.randomUUID(), TENANT_DEV, "10.00", "2025-04-01T12:00:00Z");
+        insertPedido(UUID.randomUUID(), OTHER_TENANT, "99.00", "2025-03-01T12:00:00Z");
+    }
+
+    @Test
+    void shouldStreamOnlyTheTenantsPedidosInTheWindow() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/dashboard/exports/pedidos")
+                .param("from", "2025-03-01T00:00:00Z").param("to", "2025-04-01T00:00:00Z")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().exists("X-Export-Id"))
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"pedidos.csv\""))
+            .andExpect(content().string("""
+                id,cliente_id,status,origem,subtotal,total,metodo_pagamento,estado_pagamento,criado_em\r
+                %s,%s,PAGO,WEB,59.90,59.90,PIX,,2025-03-01T12:00:00Z\r
+                """.formatted(PEDIDO, PEDIDO)));
+        mockMvc.perform(get("/api/dashboard/exports")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void shouldStreamOnThePooledApplicationTaskExecutor() {
+        assertThat(ReflectionTestUtils.getField(handlerAdapter, "taskExecutor")).isSameAs(applicationTaskExecutor);
+        assertThat(applicationTaskExecutor.getThreadNamePrefix()).isEqualTo("mvc-async-");
+    }
+
+    @Test
+    void shouldRejectUnknownReportsAndEmptyWindows() throws Exception {
+        mockMvc.perform(get("/api/dashboard/exports/clientes")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/dashboard/exports/itens-pedido")
+                .param("from", "2025-03-01T00:00:00Z").param("to", "2025-03-01T00:00:00Z")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/dashboard/exports/{id}", UUID.randomUUID())
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-dev"))
+            .andExpect(status().isNotFound());
+    }
+
+    private void insertPedido(UUID id, UUID tenantId, String total, String criadoEm) {
+        jdbcTemplate.update("""
+                INSERT INTO pedidos (id, tenant_id, cliente_id, subtotal, total, status, origem, metodo_pagamento,
+                                     criado_em)
+                VALUES (?, ?, ?, ?, ?, 'PAGO', 'WEB', 'PIX', ?)""",
+            id, tenantId, id, new BigDecimal(total), new BigDecimal(total), Timestamp.from(Instant.parse(criadoEm)));
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> {
+                if ("tenant-dev".equals(identifier)) {
+                    return new TenantContext(TENANT_DEV, identifier, true);
+                }
+                throw new TenantNotFoundException(identifier);
+            };
+        }
+    }
+}
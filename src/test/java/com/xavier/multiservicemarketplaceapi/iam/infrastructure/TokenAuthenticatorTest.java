@@ -0,0 +1,175 @@
+package com.xavier.multiservicemarketplaceapi.iam.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserMembership;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserRole;
+import com.xavier.multiservicemarketplaceapi.iam.exception.InvalidTokenException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenAuthenticatorTest {
+
+    private static final byte[] SECRET = "test-secret-of-at-least-32-bytes!".getBytes(StandardCharsets.UTF_8);
+    private static final UUID TENANT_A = UUID.randomUUID();
+    private static final UUID TENANT_B = UUID.randomUUID();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-05T09:00:00Z"));
+    private final JwtCodec codec = new JwtCodec(SECRET, "marketplace", new ObjectMapper());
+    private final Map<UUID, UserMembership> memberships = new HashMap<>();
+    private final AtomicInteger membershipLookups = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenAuthenticator authenticator = new TokenAuthenticator(codec, userId -> {
+        membershipLookups.incrementAndGet();
+        return Optional.ofNullable(memberships.get(userId));
+    }, 1_000, Duration.ofMinutes(5), clock, meterRegistry);
+
+    @Test
+    void shouldVerifyOnceAndServeRepeatsFromTheCache() {
+        UUID userId = UUID.randomUUID();
+        String token = issue(userId, TENANT_A, UserRole.CLIENTE, Duration.ofHours(1));
+
+        VerifiedToken first = authenticator.authenticate(token);
+        VerifiedToken second = authenticator.authenticate(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.claims().userId()).isEqualTo(userId);
+        assertThat(first.claims().tenantId()).isEqualTo(TENANT_A);
+        assertThat(meterRegistry.get("iam.auth.token").tag("result", "miss").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("iam.auth.token").tag("result", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectTamperedForeignAndExpiredTokens() {
+        String token = issue(UUID.randomUUID(), TENANT_A, UserRole.CLIENTE, Duration.ofMinutes(10));
+        String[] parts = token.split("\\.");
+        String escalated = codec.issue(new TokenClaims(UUID.randomUUID(), TENANT_A, UserRole.PLATFORM_ADMIN,
+            clock.instant(), clock.instant().plusSeconds(60))).split("\\.")[1];
+        JwtCodec foreign = new JwtCodec("another-secret-of-at-least-32-bytes".getBytes(StandardCharsets.UTF_8),
+            "marketplace", new ObjectMapper());
+
+        assertThatThrownBy(() -> authenticator.authenticate(parts[0] + "." + escalated + "." + parts[2]))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authenticator.authenticate(foreign.issue(new TokenClaims(UUID.randomUUID(),
+            TENANT_A, UserRole.CLIENTE, clock.instant(), clock.instant().plusSeconds(60)))))
+            .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> authenticator.authenticate("eyJhbGciOiJub25lIn0." + parts[1] + "."))
+            .isInstanceOf(InvalidTokenException.class);
+
+        authenticator.authenticate(token);
+        clock.advance(Duration.ofMinutes(10));
+        assertThatThrownBy(() -> authenticator.authenticate(token))
+            .isInstanceOf(InvalidTokenException.class)
+            .hasMessage("Token expired.");
+        assertThat(meterRegistry.get("iam.auth.token").tag("result", "invalid").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCacheTheMembershipDecisionWithTheToken() {
+        UUID userId = UUID.randomUUID();
+        memberships.put(userId, new Membership(TENANT_A, UserRole.MERCHANT, true));
+        VerifiedToken token = authenticator.authenticate(issue(userId, TENANT_A, UserRole.MERCHANT,
+            Duration.ofHours(1)));
+
+        assertThat(authenticator.isMember(token, TENANT_A)).isTrue();
+        assertThat(authenticator.isMember(token, TENANT_A)).isTrue();
+        assertThat(membershipLookups).hasValue(1);
+
+        assertThat(authenticator.isMember(token, TENANT_B)).isFalse();
+        assertThat(membershipLookups).hasValue(2);
+        assertThat(meterRegistry.get("iam.auth.membership").tag("result", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLetPlatformAdminsInAndInactiveUsersOut() {
+        UUID admin = UUID.randomUUID();
+        UUID inactive = UUID.randomUUID();
+        memberships.put(admin, new Membership(TENANT_A, UserRole.PLATFORM_ADMIN, true));
+        memberships.put(inactive, new Membership(TENANT_B, UserRole.CLIENTE, false));
+
+        assertThat(authenticator.isMember(authenticator.authenticate(
+            issue(admin, TENANT_A, UserRole.PLATFORM_ADMIN, Duration.ofHours(1))), TENANT_B)).isTrue();
+        assertThat(authenticator.isMember(authenticator.authenticate(
+            issue(inactive, TENANT_B, UserRole.CLIENTE, Duration.ofHours(1))), TENANT_B)).isFalse();
+    }
+
+    @Test
+    void shouldForgetAnInvalidatedUsersTokens() {
+        UUID userId = UUID.randomUUID();
+        memberships.put(userId, new Membership(TENANT_A, UserRole.CLIENTE, true));
+        String token = issue(userId, TENANT_A, UserRole.CLIENTE, Duration.ofHours(1));
+        assertThat(authenticator.isMember(authenticator.authenticate(token), TENANT_A)).isTrue();
+
+        memberships.put(userId, new Membership(TENANT_A, UserRole.CLIENTE, false));
+        authenticator.invalidateUser(userId);
+
+        assertThat(authenticator.isMember(authenticator.authenticate(token), TENANT_A)).isFalse();
+    }
+
+    private String issue(UUID userId, UUID tenantId, UserRole role, Duration ttl) {
+        return codec.issue(new TokenClaims(userId, tenantId, role, clock.instant(), clock.instant().plus(ttl)));
+    }
+
+    private record Membership(UUID tenantId, UserRole role, boolean ativo) implements UserMembership {
+
+        @Override
+        public UUID getTenantId() {
+            return tenantId;
+        }
+
+        @Override
+        public String getRole() {
+            return role.name();
+        }
+
+        @Override
+        public boolean isAtivo() {
+            return ativo;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.xavier.multiservicemarketplaceapi.iam.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.web.TenantResolverInterceptor;
+
+@SpringBootTest(properties = "iam.require-authentication=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthenticationIntegrationTest {
+
+    private static final UUID TENANT_DEV = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID TENANT_OTHER = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final String PASSWORD = "s3gredo-do-teste";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private String devEmail;
+    private String otherEmail;
+
+    @BeforeEach
+    void seedUsers() {
+        devEmail = "dev-" + UUID.randomUUID() + "@example.com";
+        otherEmail = "other-" + UUID.randomUUID() + "@example.com";
+        String hash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        insertUser(TENANT_DEV, devEmail, hash);
+        insertUser(TENANT_OTHER, otherEmail, hash);
+    }
+
+    @Test
+    void shouldRequireATokenForTenantRoutes() throws Exception {
+        mockMvc.perform(search("tenant-dev"))
+            .andExpect(status().isUnauthorized());
+
+        String token = login("tenant-dev", devEmail.toUpperCase(), PASSWORD)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tokenType").value("Bearer"))
+            .andExpect(jsonPath("$.expiresIn").value(3600))
+            .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(token).path("accessToken").asText();
+
+        mockMvc.perform(search("tenant-dev").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+            .andExpect(status().isOk());
+        mockMvc.perform(search("tenant-dev").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken + "x"))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\""));
+    }
+
+    @Test
+    void shouldRejectATokenOnAnotherTenant() throws Exception {
+        String token = login("tenant-other", otherEmail, PASSWORD)
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String accessToken = objectMapper.readTree(token).path("accessToken").asText();
+
+        mockMvc.perform(search("tenant-dev").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.code").value("TenantAccessDeniedException"));
+    }
+
+    @Test
+    void shouldNotTellAWrongPasswordFromAnUnknownEmail() throws Exception {
+        login("tenant-dev", devEmail, "errada")
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.message").value("Invalid email or password."));
+        login("tenant-dev", otherEmail, PASSWORD)
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.message").value("Invalid email or password."));
+    }
+
+    private ResultActions login(String tenant, String email, String password) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/auth/login")
+                .header(TenantResolverInterceptor.TENANT_HEADER, tenant)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthController.LoginRequest(email, password))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private static MockHttpServletRequestBuilder search(String tenant) {
+        return get("/api/catalog/search").param("q", "granola").header(TenantResolverInterceptor.TENANT_HEADER, tenant);
+    }
+
+    private void insertUser(UUID tenantId, String email, String hash) {
+        int inserted = jdbcTemplate.update("""
+            INSERT INTO users (id, tenant_id, email, password_hash, role, ativo, criado_em)
+            VALUES (?, ?, ?, ?, 'CLIENTE', TRUE, ?)""",
+            UUID.randomUUID(), tenantId, email, hash, Timestamp.from(Instant.now()));
+        assertThat(inserted).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext("tenant-other".equals(identifier) ? TENANT_OTHER : TENANT_DEV,
+                identifier, true);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.domain.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+
+class AvailabilityEngineTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final UUID SAO_PAULO = UUID.randomUUID();
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+    private static final Clock CLOCK = Clock.fixed(MONDAY.atTime(8, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final Map<UUID, TenantContext> tenants = Map.of(
+        SAO_PAULO, new TenantContext(SAO_PAULO, "sp", true, "America/Sao_Paulo", "BRL", null));
+    private final AvailabilityEngine engine = new AvailabilityEngine(15, 30, tenants::get, CLOCK);
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bruno = UUID.randomUUID();
+
+    @Test
+    void shouldOnlyOfferOpenSlotsOnWorkingDays() {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        assertThat(engine.isFree(TENANT, ana, MONDAY.atTime(9, 0), 60)).isTrue();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.atTime(17, 0), 60)).isTrue();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.atTime(17, 15), 60)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.atTime(8, 45), 30)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.plusDays(5).atTime(10, 0), 30)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.atTime(9, 10), 30)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.plusDays(30).atTime(10, 0), 30)).isFalse();
+    }
+
+    @Test
+    void shouldRejectOverlappingReservationsAndAllowAfterRelease() {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        LocalDateTime ten = MONDAY.atTime(10, 0);
+
+        assertThat(engine.tryReserve(TENANT, ana, ten, 90)).isTrue();
+        assertThat(engine.tryReserve(TENANT, ana, ten.plusMinutes(75), 30)).isFalse();
+        assertThat(engine.tryReserve(TENANT, ana, ten.minusMinutes(30), 45)).isFalse();
+        assertThat(engine.tryReserve(TENANT, ana, ten.plusMinutes(90), 30)).isTrue();
+
+        engine.release(TENANT, ana, ten, 90);
+        assertThat(engine.tryReserve(TENANT, ana, ten.plusMinutes(15), 45)).isTrue();
+    }
+
+    @Test
+    void shouldKeepBlocksSeparateFromBookings() {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        LocalDateTime noon = MONDAY.atTime(12, 0);
+        engine.tryReserve(TENANT, ana, noon, 60);
+        engine.block(TENANT, ana, noon, MONDAY.plusDays(1).atTime(10, 0));
+
+        engine.release(TENANT, ana, noon, 60);
+        assertThat(engine.isFree(TENANT, ana, noon, 15)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.plusDays(1).atTime(9, 45), 15)).isFalse();
+        assertThat(engine.isFree(TENANT, ana, MONDAY.plusDays(1).atTime(10, 0), 15)).isTrue();
+
+        engine.unblock(TENANT, ana, noon, MONDAY.plusDays(1).atTime(10, 0));
+        assertThat(engine.tryReserve(TENANT, ana, noon, 60)).isTrue();
+    }
+
+    @Test
+    void shouldFindEarliestSlotPerProviderAcrossDays() {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        engine.registerProvider(TENANT, bruno, List.of(new BusinessHours(DayOfWeek.TUESDAY, LocalTime.of(14, 0),
+            LocalTime.of(20, 0))));
+        engine.tryReserve(TENANT, ana, MONDAY.atTime(9, 0), 60);
+        engine.tryReserve(TENANT, ana, MONDAY.atTime(10, 30), 30);
+
+        List<FreeSlot> twoHours = engine.earliestFreeSlots(TENANT, null, MONDAY, 7, 120, 10);
+        assertThat(twoHours).containsExactly(
+            new FreeSlot(ana, MONDAY.plusDays(1).atTime(9, 0)),
+            new FreeSlot(bruno, MONDAY.plusDays(1).atTime(14, 0)));
+
+        List<FreeSlot> halfHour = engine.earliestFreeSlots(TENANT, List.of(ana, bruno), MONDAY, 7, 30, 1);
+        assertThat(halfHour).containsExactly(new FreeSlot(ana, MONDAY.atTime(10, 0)));
+        assertThat(engine.availableAt(TENANT, null, MONDAY.plusDays(1).atTime(14, 0), 60)).containsExactly(bruno);
+    }
+
+    @Test
+    void shouldNotOfferSlotsThatAlreadyStartedToday() {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(6, 0), LocalTime.of(12, 0)));
+
+        assertThat(engine.earliestFreeSlots(TENANT, null, MONDAY.minusDays(3), 7, 60, 1))
+            .containsExactly(new FreeSlot(ana, MONDAY.atTime(8, 0)));
+    }
+
+    @Test
+    void shouldUseTheTenantsWallClockForTodayAndTheHorizon() {
+        // 08:00 UTC is 05:00 in São Paulo: the morning is still ahead there
+        engine.registerProvider(SAO_PAULO, ana, weekdays(LocalTime.of(6, 0), LocalTime.of(23, 0)));
+        assertThat(engine.earliestFreeSlots(SAO_PAULO, null, MONDAY, 7, 60, 1))
+            .containsExactly(new FreeSlot(ana, MONDAY.atTime(6, 0)));
+
+        // 00:30 UTC on Tuesday is still 21:30 on Monday in São Paulo
+        Clock utcMidnight = Clock.fixed(MONDAY.plusDays(1).atTime(0, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        AvailabilityEngine evening = new AvailabilityEngine(15, 30, tenants::get, utcMidnight);
+        evening.registerProvider(SAO_PAULO, ana, weekdays(LocalTime.of(6, 0), LocalTime.of(23, 0)));
+        evening.registerProvider(TENANT, bruno, weekdays(LocalTime.of(6, 0), LocalTime.of(23, 0)));
+
+        assertThat(evening.earliestFreeSlots(SAO_PAULO, null, MONDAY, 7, 60, 1))
+            .containsExactly(new FreeSlot(ana, MONDAY.atTime(21, 30)));
+        assertThat(evening.availableAt(SAO_PAULO, null, MONDAY.atTime(22, 0), 60)).containsExactly(ana);
+        assertThat(evening.tryReserve(SAO_PAULO, ana, MONDAY.atTime(22, 0), 60)).isTrue();
+        assertThat(evening.isFree(TENANT, bruno, MONDAY.atTime(22, 0), 60)).isFalse();
+    }
+
+    @Test
+    void shouldHandleRunsAcrossWordBoundaries() {
+        AvailabilityEngine fineGrained = new AvailabilityEngine(5, 7, tenants::get, CLOCK);
+        fineGrained.registerProvider(TENANT, ana, weekdays(LocalTime.of(0, 0), LocalTime.MIDNIGHT));
+        // 5-minute slots: 64 per word, so 10:40 starts the third word and 16:00 the fourth
+        fineGrained.tryReserve(TENANT, ana, MONDAY.atTime(8, 0), 5);
+        fineGrained.tryReserve(TENANT, ana, MONDAY.atTime(16, 0), 5);
+
+        assertThat(fineGrained.tryReserve(TENANT, ana, MONDAY.atTime(10, 30), 330)).isTrue();
+        assertThat(fineGrained.isFree(TENANT, ana, MONDAY.atTime(15, 55), 5)).isFalse();
+        assertThat(fineGrained.isFree(TENANT, ana, MONDAY.atTime(16, 5), 5)).isTrue();
+        assertThat(fineGrained.earliestFreeSlots(TENANT, null, MONDAY, 1, 400, 1))
+            .containsExactly(new FreeSlot(ana, MONDAY.atTime(16, 5)));
+        assertThat(fineGrained.tryReserve(TENANT, ana, MONDAY.atTime(9, 0), 200)).isFalse();
+        assertThat(fineGrained.isFree(TENANT, ana, MONDAY.atTime(9, 0), 90)).isTrue();
+    }
+
+    @Test
+    void shouldLetExactlyOneConcurrentBookingOfTheSameSlotSucceed() throws Exception {
+        engine.registerProvider(TENANT, ana, weekdays(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                LocalDateTime start = MONDAY.plusDays(round % 5).atTime(9 + round % 8, 0);
+                CountDownLatch go = new CountDownLatch(1);
+                AtomicInteger winners = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int offset = (t % 4) * 15;
+                    futures.add(executor.submit(() -> {
+                        go.await();
+                        if (engine.tryReserve(TENANT, ana, start.plusMinutes(offset), 60)) {
+                            winners.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                go.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                assertThat(winners).hasValue(1);
+                engine.release(TENANT, ana, start.minusMinutes(60), 180);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<BusinessHours> weekdays(LocalTime opens, LocalTime closes) {
+        List<BusinessHours> hours = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+            DayOfWeek.FRIDAY)) {
+            hours.add(new BusinessHours(day, opens, closes));
+        }
+        return hours;
+    }
+}
@@ -0,0 +1,126 @@
+package com.xavier.multiservicemarketplaceapi.scheduling.infrastructure.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.scheduling.config.SchedulingProperties;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.GeoPoint;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ProviderCoverage;
+import com.xavier.multiservicemarketplaceapi.scheduling.domain.coverage.ServiceArea;
+
+class GeohashServiceAreaIndexTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final UUID LIMPEZA = UUID.randomUUID();
+    private static final UUID CANALIZACAO = UUID.randomUUID();
+    private static final GeoPoint LISBOA = new GeoPoint(38.7223, -9.1393);
+    private static final GeoPoint BAIXA = new GeoPoint(38.7110, -9.1366);
+    private static final GeoPoint CASCAIS = new GeoPoint(38.6979, -9.4215);
+
+    private final GeohashServiceAreaIndex index = new GeohashServiceAreaIndex(new SchedulingProperties());
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bruno = UUID.randomUUID();
+
+    @Test
+    void shouldEncodeStandardGeohash() {
+        assertThat(Geohash.toBase32(Geohash.encode(42.6, -5.6, 5), 5)).isEqualTo("ezs42");
+        assertThat(Geohash.toBase32(Geohash.encode(57.64911, 10.40744, 11), 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    void shouldMatchRadiusAndFilterByOffering() {
+        index.upsert(coverage(ana, List.of(new ServiceArea.Radius(LISBOA, 5)), LIMPEZA));
+        index.upsert(coverage(bruno, List.of(new ServiceArea.Radius(CASCAIS, 3)), CANALIZACAO));
+
+        assertThat(index.providersCovering(TENANT, BAIXA, null, null)).containsExactly(ana);
+        assertThat(index.providersCovering(TENANT, CASCAIS, null, null)).containsExactly(bruno);
+        assertThat(index.providersCovering(TENANT, BAIXA, CANALIZACAO, null)).isEmpty();
+        assertThat(index.providersCovering(TENANT, BAIXA, LIMPEZA, null)).containsExactly(ana);
+        assertThat(index.providersCovering(UUID.randomUUID(), BAIXA, null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldRespectConcavePolygons() {
+        // U shape: two arms joined at the bottom, open notch between them
+        ServiceArea u = new ServiceArea.Polygon(List.of(new GeoPoint(38.70, -9.20), new GeoPoint(38.70, -9.10),
+            new GeoPoint(38.80, -9.10), new GeoPoint(38.80, -9.12), new GeoPoint(38.72, -9.12),
+            new GeoPoint(38.72, -9.18), new GeoPoint(38.80, -9.18), new GeoPoint(38.80, -9.20)));
+        index.upsert(coverage(ana, List.of(u), LIMPEZA));
+
+        assertThat(index.providersCovering(TENANT, new GeoPoint(38.71, -9.15), null, null)).containsExactly(ana);
+        assertThat(index.providersCovering(TENANT, new GeoPoint(38.78, -9.19), null, null)).containsExactly(ana);
+        assertThat(index.providersCovering(TENANT, new GeoPoint(38.78, -9.15), null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldUseCoarseCellsForLargeAreasWithoutLosingPrecision() {
+        GeoPoint center = new GeoPoint(39.5, -8.0);
+        index.upsert(coverage(ana, List.of(new ServiceArea.Radius(center, 300)), LIMPEZA));
+
+        assertThat(index.providersCovering(TENANT, new GeoPoint(39.5 + 290 / 111.195, -8.0), null, null))
+            .containsExactly(ana);
+        assertThat(index.providersCovering(TENANT, new GeoPoint(39.5 + 310 / 111.195, -8.0), null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldReindexProvidersIncrementally() {
+        index.upsert(coverage(ana, List.of(new ServiceArea.Radius(LISBOA, 5)), LIMPEZA));
+        index.upsert(coverage(bruno, List.of(new ServiceArea.Radius(LISBOA, 8)), LIMPEZA));
+
+        GeoPoint porto = new GeoPoint(41.1579, -8.6291);
+        index.upsert(coverage(ana, List.of(new ServiceArea.Radius(porto, 5)), LIMPEZA));
+        assertThat(index.providersCovering(TENANT, BAIXA, null, null)).containsExactly(bruno);
+        assertThat(index.providersCovering(TENANT, porto, null, null)).containsExactly(ana);
+
+        index.remove(TENANT, bruno);
+        assertThat(index.providersCovering(TENANT, BAIXA, null, null)).isEmpty();
+        assertThat(index.size(TENANT)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAgreeWithLinearScan() {
+        Random random = new Random(7);
+        List<ProviderCoverage> coverages = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            GeoPoint center = new GeoPoint(38.5 + random.nextDouble(), -9.5 + random.nextDouble());
+            ServiceArea area = random.nextBoolean()
+                ? new ServiceArea.Radius(center, 0.5 + random.nextDouble() * 40)
+                : triangle(center, 0.01 + random.nextDouble() * 0.3, random);
+            ProviderCoverage coverage = coverage(UUID.randomUUID(), List.of(area), random.nextBoolean() ? LIMPEZA
+                : CANALIZACAO);
+            coverages.add(coverage);
+            index.upsert(coverage);
+        }
+        for (int i = 0; i < 2000; i++) {
+            GeoPoint point = new GeoPoint(38.4 + random.nextDouble() * 1.2, -9.6 + random.nextDouble() * 1.2);
+            List<UUID> expected = coverages.stream()
+                .filter(c -> c.offers(LIMPEZA, null))
+                .filter(c -> c.areas().stream().anyMatch(a -> a.contains(point.latitude(), point.longitude())))
+                .map(ProviderCoverage::prestadorId)
+                .toList();
+            assertThat(index.providersCovering(TENANT, point, LIMPEZA, null))
+                .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static ServiceArea triangle(GeoPoint center, double size, Random random) {
+        List<GeoPoint> vertices = new ArrayList<>();
+        for (int v = 0; v < 3; v++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            vertices.add(new GeoPoint(center.latitude() + Math.sin(angle) * size,
+                center.longitude() + Math.cos(angle) * size));
+        }
+        return new ServiceArea.Polygon(vertices);
+    }
+
+    private static ProviderCoverage coverage(UUID prestadorId, List<ServiceArea> areas, UUID categoriaId) {
+        return new ProviderCoverage(TENANT, prestadorId, areas, Set.of(categoriaId), Set.of());
+    }
+}
@@ -0,0 +1,61 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JdbcResourceVersionsIntegrationTest {
+
+    private static final String CATALOG = "catalog";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldShareVersionsBetweenInstances() {
+        UUID tenantId = UUID.randomUUID();
+        JdbcResourceVersions writer = new JdbcResourceVersions(jdbcTemplate, transactionManager, Duration.ofHours(1));
+        JdbcResourceVersions reader = new JdbcResourceVersions(jdbcTemplate, transactionManager, Duration.ZERO);
+
+        assertThat(writer.current(tenantId, CATALOG)).isZero();
+        assertThat(writer.bump(tenantId, CATALOG)).isEqualTo(1);
+        assertThat(reader.bump(tenantId, CATALOG)).isEqualTo(2);
+
+        assertThat(writer.current(tenantId, CATALOG)).isEqualTo(1);
+        assertThat(reader.current(tenantId, CATALOG)).isEqualTo(2);
+        assertThat(writer.bump(tenantId, CATALOG)).isEqualTo(3);
+        assertThat(writer.current(tenantId, CATALOG)).isEqualTo(3);
+        assertThat(reader.current(tenantId, CATALOG)).isEqualTo(3);
+        assertThat(reader.current(tenantId, "tenant-config")).isZero();
+        assertThat(reader.epoch()).isEqualTo(writer.epoch());
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                identifier, true);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.httpcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+class TenantResponseCacheTest {
+
+    private static final TenantContext TENANT_A = new TenantContext(UUID.randomUUID(), "a", true);
+    private static final TenantContext TENANT_B = new TenantContext(UUID.randomUUID(), "b", true);
+    private static final String CATALOG = "catalog";
+
+    private final ResourceVersions versions = new InMemoryResourceVersions();
+    private final TenantResponseCache cache = new TenantResponseCache(versions, new ObjectMapper(), 1 << 20, 1024,
+        Duration.ofMinutes(10), null);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<Object> body = () -> Map.of("page", loads.incrementAndGet());
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutLoadingWhileTheVersionHolds() {
+        TenantContextHolder.set(TENANT_A);
+        ResponseEntity<byte[]> first = cache.get(request(null), CATALOG, body);
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<byte[]> revalidated = cache.get(request(etag), CATALOG, body);
+        ResponseEntity<byte[]> listed = cache.get(request("\"other\", W/" + etag), CATALOG, body);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).startsWith("\"" + TENANT_A.tenantId());
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(revalidated.getBody()).isNull();
+        assertThat(listed.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldServeCachedBytesUntilTheVersionIsBumped() {
+        TenantContextHolder.set(TENANT_A);
+        ResponseEntity<byte[]> first = cache.get(request(null), CATALOG, body);
+        ResponseEntity<byte[]> cached = cache.get(request(null), CATALOG, body);
+        versions.bump(TENANT_A.tenantId(), CATALOG);
+        ResponseEntity<byte[]> stale = cache.get(request(first.getHeaders().getETag()), CATALOG, body);
+
+        assertThat(cached.getBody()).isSameAs(first.getBody());
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        assertThat(new String(stale.getBody())).isEqualTo("{\"page\":2}");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepTenantsApartOnTheSameUri() {
+        TenantContextHolder.set(TENANT_A);
+        ResponseEntity<byte[]> tenantA = cache.get(request(null), CATALOG, body);
+
+        TenantContextHolder.set(TENANT_B);
+        ResponseEntity<byte[]> tenantB = cache.get(request(tenantA.getHeaders().getETag()), CATALOG, body);
+
+        assertThat(tenantB.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(tenantB.getBody())).isEqualTo("{\"page\":2}");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotKeepResponsesLargerThanAnEntry() {
+        TenantContextHolder.set(TENANT_A);
+        Supplier<Object> large = () -> Map.of("page", loads.incrementAndGet(), "padding", "x".repeat(2048));
+
+        cache.get(request(null), CATALOG, large);
+        ResponseEntity<byte[]> again = cache.get(request(null), CATALOG, large);
+
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(loads).hasValue(2);
+    }
+
+    private static MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/catalog/produtos");
+        request.addParameter("limit", "20");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.SqlTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonValueConverterTest {
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(Documento.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.generate_statistics", "true")
+            .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void shouldLoadWithoutDecodingAndFlushWithoutWritingUnchangedValues() {
+        UUID id = UUID.randomUUID();
+        sessionFactory.inTransaction(session -> session.persist(new Documento(id,
+            JsonValue.of(Map.of("origem", "Brasil", "peso", 250), JsonCodec.OBJECT_MAP),
+            JsonValue.of(List.of("a.png", "b.png"), JsonCodec.STRING_LIST))));
+        statistics.clear();
+
+        Documento loaded = sessionFactory.fromTransaction(session -> {
+            Documento documento = session.find(Documento.class, id);
+            assertThat(documento.dados.isDecoded()).isFalse();
+            assertThat(documento.dados.get()).containsEntry("origem", "Brasil").containsEntry("peso", 250);
+            assertThat(documento.imagens.get()).containsExactly("a.png", "b.png");
+            return documento;
+        });
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(loaded.dados.isDecoded()).isTrue();
+        assertThat(loaded.imagens.isDecoded()).isTrue();
+    }
+
+    @Test
+    void shouldWriteAReplacedValue() {
+        UUID id = UUID.randomUUID();
+        sessionFactory.inTransaction(session -> session.persist(new Documento(id,
+            JsonValue.ofJson("{\"origem\": \"Brasil\"}", JsonCodec.OBJECT_MAP), null)));
+        statistics.clear();
+
+        sessionFactory.inTransaction(session -> {
+            Documento documento = session.find(Documento.class, id);
+            documento.imagens = JsonValue.of(List.of("c.png"), JsonCodec.STRING_LIST);
+        });
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        Documento reloaded = sessionFactory.fromTransaction(session -> session.find(Documento.class, id));
+        assertThat(reloaded.imagens.get()).containsExactly("c.png");
+        assertThat(reloaded.dados.get()).containsEntry("origem", "Brasil");
+    }
+
+    @Test
+    void shouldUnwrapJsonStringLiteralsAndRetryMalformedDocuments() {
+        assertThat(JsonCodec.STRING_LIST.decode("\"[\\\"a\\\"]\"")).containsExactly("a");
+
+        JsonValue<Map<String, Object>> malformed = JsonValue.ofJson("{origem", JsonCodec.OBJECT_MAP);
+        assertThatThrownBy(malformed::get).isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(malformed::get).isInstanceOf(UncheckedIOException.class);
+        assertThat(malformed.isDecoded()).isFalse();
+        assertThat(JsonValue.ofJson("[1]", JsonCodec.STRING_LIST))
+            .isEqualTo(JsonValue.ofJson("[1]", JsonCodec.STRING_LIST));
+    }
+
+    @Entity
+    @Table(name = "documentos")
+    static class Documento {
+
+        @Id
+        UUID id;
+
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Convert(converter = JsonValueConverter.ObjectMap.class)
+        JsonValue<Map<String, Object>> dados;
+
+        @JdbcTypeCode(SqlTypes.JSON)
+        @Convert(converter = JsonValueConverter.StringList.class)
+        JsonValue<List<String>> imagens;
+
+        protected Documento() {
+        }
+
+        Documento(UUID id, JsonValue<Map<String, Object>> dados, JsonValue<List<String>> imagens) {
+            this.id = id;
+            this.dados = dados;
+            this.imagens = imagens;
+        }
+    }
+}
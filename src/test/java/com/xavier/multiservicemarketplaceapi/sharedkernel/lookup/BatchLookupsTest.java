@@ -0,0 +1,107 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+class BatchLookupsTest {
+
+    private static final TenantContext TENANT_A = new TenantContext(UUID.randomUUID(), "a", true);
+    private static final TenantContext TENANT_B = new TenantContext(UUID.randomUUID(), "b", true);
+
+    private final List<Set<UUID>> calls = new ArrayList<>();
+    private final BatchLoader<String> names = BatchLoader.of("names", (tenantId, ids) -> {
+        calls.add(Set.copyOf(ids));
+        return ids.stream().collect(Collectors.toMap(Function.identity(), id -> tenantId + ":" + id));
+    });
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void shouldLoadDistinctIdsInOneCallAndMemoizeThem() {
+        BatchLookups lookups = new BatchLookups(100, null);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        TenantContextHolder.set(TENANT_A);
+
+        BatchLookups.Deferred<String> a = lookups.defer(names, first);
+        BatchLookups.Deferred<String> b = lookups.defer(names, second);
+        BatchLookups.Deferred<String> again = lookups.defer(names, first);
+        assertThat(calls).isEmpty();
+
+        assertThat(a.get()).contains(TENANT_A.tenantId() + ":" + first);
+        assertThat(b.get()).contains(TENANT_A.tenantId() + ":" + second);
+        assertThat(again).isSameAs(a);
+        assertThat(lookups.loadAll(names, List.of(second, first))).containsKeys(second, first);
+        assertThat(calls).containsExactly(Set.of(first, second));
+    }
+
+    @Test
+    void shouldKeepTenantsApart() {
+        BatchLookups lookups = new BatchLookups(100, null);
+        UUID id = UUID.randomUUID();
+
+        TenantContextHolder.set(TENANT_A);
+        BatchLookups.Deferred<String> forA = lookups.defer(names, id);
+        TenantContextHolder.set(TENANT_B);
+        BatchLookups.Deferred<String> forB = lookups.defer(names, id);
+        lookups.dispatch();
+
+        assertThat(forA.get()).contains(TENANT_A.tenantId() + ":" + id);
+        assertThat(forB.get()).contains(TENANT_B.tenantId() + ":" + id);
+        assertThat(lookups.dispatchCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSplitLargeBatchesAndRememberMisses() {
+        BatchLookups lookups = new BatchLookups(2, null);
+        BatchLoader<String> nothing = BatchLoader.of("nothing", (tenantId, ids) -> {
+            calls.add(Set.copyOf(ids));
+            return Map.of();
+        });
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID());
+        TenantContextHolder.set(TENANT_A);
+
+        assertThat(lookups.loadAll(nothing, ids)).isEmpty();
+        assertThat(lookups.loadAll(nothing, ids)).isEmpty();
+
+        assertThat(calls).extracting(Set::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void shouldForgetIdsWhoseLoadFailed() {
+        BatchLookups lookups = new BatchLookups(100, null);
+        boolean[] fail = {true};
+        BatchLoader<String> flaky = BatchLoader.of("flaky", (tenantId, ids) -> {
+            if (fail[0]) {
+                throw new IllegalStateException("database down");
+            }
+            return names.loadAll(tenantId, ids);
+        });
+        UUID id = UUID.randomUUID();
+        TenantContextHolder.set(TENANT_A);
+
+        BatchLookups.Deferred<String> failed = lookups.defer(flaky, id);
+        assertThatThrownBy(failed::get).isInstanceOf(IllegalStateException.class).hasMessage("database down");
+
+        fail[0] = false;
+        assertThat(lookups.defer(flaky, id).get()).contains(TENANT_A.tenantId() + ":" + id);
+    }
+}
@@ -0,0 +1,68 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    void shouldRoundLikeBigDecimalInEveryMode() {
+        Random random = new Random(11);
+        for (RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for (int i = 0; i < 20_000; i++) {
+                long a = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(2_000_001) - 1_000_000;
+                long b = random.nextInt(1_000_000);
+                long c = 1 + random.nextInt(random.nextBoolean() ? 10 : 1_000_000);
+                BigInteger expected = new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                    .divide(BigDecimal.valueOf(c), 0, mode).toBigIntegerExact();
+                if (expected.bitLength() < Long.SIZE) {
+                    assertThat(FixedPoint.mulDiv(a, b, c, mode)).as("%d * %d / %d %s", a, b, c, mode)
+                        .isEqualTo(expected.longValueExact());
+                } else {
+                    assertThatThrownBy(() -> FixedPoint.mulDiv(a, b, c, mode)).isInstanceOf(ArithmeticException.class);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyRatesExactly() {
+        Rate vat = Rate.of("0.23");
+        assertThat(Money.of("10.05", "EUR").times(vat, RoundingMode.HALF_UP)).isEqualTo(Money.of("2.31", "EUR"));
+        assertThat(Money.of("10.05", "EUR").times(vat, RoundingMode.DOWN)).isEqualTo(Money.of("2.31", "EUR"));
+        assertThat(vat.includedIn(12300, RoundingMode.HALF_UP)).isEqualTo(2300);
+        assertThat(Rate.percent(new BigDecimal("12.5"))).isEqualTo(new Rate(125, 3));
+        assertThat(Rate.of("100")).isEqualTo(new Rate(100, 0));
+    }
+
+    @Test
+    void shouldUseCurrencyMinorUnits() {
+        assertThat(Money.of("1234", "JPY").amount()).isEqualTo(1234);
+        assertThat(Money.of("1.234", "BHD").amount()).isEqualTo(1234);
+        assertThat(Money.of("12.3", "EUR").toString()).isEqualTo("12.30 EUR");
+        assertThat(Money.of(new BigDecimal("0.125"), EUR, RoundingMode.HALF_EVEN)).isEqualTo(Money.ofMinor(12, EUR));
+        assertThatThrownBy(() -> Money.of("0.125", "EUR")).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldFailInsteadOfOverflowingOrMixingCurrencies() {
+        Money large = Money.ofMinor(Long.MAX_VALUE - 1, EUR);
+        assertThatThrownBy(() -> large.plus(Money.ofMinor(2, EUR))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of("1.00", "EUR").plus(Money.of("1.00", "BRL")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,272 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+class OutboxDispatcherTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+    private static final OutboxRetryPolicy RETRY = new OutboxRetryPolicy(Duration.ofSeconds(1),
+        Duration.ofSeconds(30), 3);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-04T12:00:00Z"));
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final OutboxListenerRegistry registry = new OutboxListenerRegistry();
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcOutboxStore store;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+            CREATE TABLE event_publications (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, event_id UUID NOT NULL,
+                listener_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, payload TEXT NOT NULL,
+                tenant_context TEXT, tenant_id UUID, ordering_key VARCHAR(255) NOT NULL,
+                published_at TIMESTAMP WITH TIME ZONE NOT NULL, attempts INTEGER NOT NULL DEFAULT 0,
+                next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL, lease_until TIMESTAMP WITH TIME ZONE,
+                completed_at TIMESTAMP WITH TIME ZONE, failed_at TIMESTAMP WITH TIME ZONE,
+                last_error VARCHAR(1000))""");
+        jdbc.execute("CREATE INDEX idx_event_publications_ordering ON event_publications (listener_id, ordering_key, id)");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        store = new JdbcOutboxStore(jdbc, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void shouldDeliverEachKeyInPublicationOrderAcrossParallelWorkers() {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        registry.register("audit", Ping.class, ping -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            received.computeIfAbsent(ping.orderingKey(), key -> new ArrayList<>()).add(ping.sequence());
+            inFlight.decrementAndGet();
+        });
+        dispatcher = dispatcher(50, 8, Clock.systemUTC());
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, Clock.systemUTC());
+        dispatcher.start();
+
+        for (int sequence = 0; sequence < 25; sequence++) {
+            for (int key = 0; key < 20; key++) {
+                recorder.record(new Ping(TENANT, "key-" + key, sequence));
+            }
+        }
+
+        awaitCompleted(500);
+        assertThat(received).hasSize(20);
+        List<Integer> inOrder = IntStream.range(0, 25).boxed().toList();
+        assertThat(received.values()).allSatisfy(sequences -> assertThat(sequences).isEqualTo(inOrder));
+        assertThat(maxInFlight.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldRetryWithBackoffAndHoldBackLaterEventsOfTheSameKey() {
+        Queue<String> received = new ConcurrentLinkedQueue<>();
+        AtomicInteger failuresLeft = new AtomicInteger(2);
+        registry.register("audit", Ping.class, ping -> {
+            if (ping.orderingKey().equals("a") && ping.sequence() == 1 && failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            received.add(ping.orderingKey() + ping.sequence());
+        });
+        dispatcher = dispatcher(10, 1, clock);
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, clock);
+        recorder.record(new Ping(TENANT, "a", 1));
+        recorder.record(new Ping(TENANT, "a", 2));
+        recorder.record(new Ping(TENANT, "b", 1));
+
+        assertThat(dispatcher.dispatch()).isEqualTo(3);
+        assertThat(received).containsExactly("b1");
+        assertThat(dispatcher.dispatch()).isZero();
+
+        // a1 is due again and a2 comes along behind it, only to be released when a1 fails again
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+        assertThat(received).containsExactly("b1");
+        // the second failure backs off twice as long
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(dispatcher.dispatch()).isZero();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+
+        assertThat(received).containsExactly("b1", "a1", "a2");
+        assertThat(store.countPending()).isZero();
+        assertThat(jdbc.queryForObject("SELECT MAX(attempts) FROM event_publications", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttemptsAndUnblockTheKey() {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        registry.register("audit", Ping.class, ping -> {
+            if (ping.sequence() == 1) {
+                throw new IllegalStateException("poison");
+            }
+            received.add(ping.sequence());
+        });
+        dispatcher = dispatcher(10, 1, clock);
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, clock);
+        recorder.record(new Ping(TENANT, "a", 1));
+        recorder.record(new Ping(TENANT, "a", 2));
+
+        for (int attempt = 0; attempt < RETRY.maxAttempts(); attempt++) {
+            dispatcher.dispatch();
+            clock.advance(Duration.ofMinutes(1));
+        }
+        dispatcher.dispatch();
+
+        assertThat(received).containsExactly(2);
+        assertThat(jdbc.queryForObject("SELECT last_error FROM event_publications WHERE failed_at IS NOT NULL",
+            String.class)).contains("poison");
+        assertThat(store.countPending()).isZero();
+    }
+
+    @Test
+    void shouldDeliverWithThePublishersTenantContext() {
+        TenantContext tenant = new TenantContext(TENANT, "sp", true, "America/Sao_Paulo", "BRL", null);
+        Queue<Optional<TenantContext>> seen = new ConcurrentLinkedQueue<>();
+        registry.register("audit", Ping.class, ping -> seen.add(TenantContextHolder.get()));
+        dispatcher = dispatcher(10, 2, clock);
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, clock);
+        TenantContextHolder.runWithTenant(tenant, () -> recorder.record(new Ping(TENANT, "a", 1)));
+        recorder.record(new Ping(TENANT, "b", 1));
+
+        TenantContextHolder.set(new TenantContext(UUID.randomUUID(), "other", true));
+        dispatcher.dispatch();
+
+        assertThat(seen).containsExactly(Optional.of(tenant), Optional.empty());
+    }
+
+    @Test
+    void shouldRecordOnlyWhenThePublishingTransactionCommits() {
+        registry.register("audit", Ping.class, ping -> { });
+        dispatcher = dispatcher(10, 1, clock);
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, clock);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            recorder.record(new Ping(TENANT, "a", 1));
+            status.setRollbackOnly();
+        });
+        assertThat(store.countPending()).isZero();
+
+        transaction.executeWithoutResult(status -> recorder.record(new Ping(TENANT, "a", 2)));
+        assertThat(store.countPending()).isOne();
+    }
+
+    @Test
+    void shouldReclaimRowsOfACrashedDispatcherOnceTheirLeaseExpires() {
+        Queue<Integer> received = new ConcurrentLinkedQueue<>();
+        registry.register("audit", Ping.class, ping -> received.add(ping.sequence()));
+        dispatcher = dispatcher(10, 1, clock);
+        OutboxRecorder recorder = new OutboxRecorder(registry, store, objectMapper, dispatcher, clock);
+        recorder.record(new Ping(TENANT, "a", 1));
+        recorder.record(new Ping(TENANT, "a", 2));
+
+        // a dispatcher that claimed the first row and died
+        assertThat(store.claim(clock.instant(), Duration.ofSeconds(30), 1)).hasSize(1);
+        assertThat(dispatcher.dispatch()).isZero();
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+        assertThat(received).containsExactly(1, 2);
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(store.purge(clock.instant())).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCapTheBackoff() {
+        assertThat(RETRY.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(RETRY.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(RETRY.backoff(6)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(RETRY.backoff(200)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    private OutboxDispatcher dispatcher(int batchSize, int parallelism, Clock clock) {
+        return new OutboxDispatcher(store, registry, objectMapper, batchSize, parallelism, Duration.ofMillis(20),
+            Duration.ofSeconds(30), RETRY, Duration.ofDays(1), clock, null);
+    }
+
+    private void awaitCompleted(int rows) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (jdbc.queryForObject("SELECT COUNT(*) FROM event_publications WHERE completed_at IS NOT NULL",
+            Integer.class) < rows) {
+            assertThat(System.nanoTime()).as("outbox drained in time").isLessThan(deadline);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    record Ping(UUID tenantId, String orderingKey, int sequence) implements OutboxEvent {
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
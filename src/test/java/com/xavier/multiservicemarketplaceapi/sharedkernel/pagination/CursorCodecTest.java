@@ -0,0 +1,57 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    private static final String SCOPE = "pedidos:criado_em-desc";
+    private static final UUID TENANT = UUID.randomUUID();
+
+    private final CursorCodec codec = new CursorCodec(
+        "test-cursor-secret-0123456789-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void shouldRoundTripTheCursor() {
+        Cursor cursor = Cursor.of(Instant.parse("2026-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        Cursor decoded = codec.decode(SCOPE, TENANT, codec.encode(SCOPE, TENANT, cursor));
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.instantKey()).isEqualTo(Instant.parse("2026-03-01T10:15:30.123456Z"));
+        Cursor text = new Cursor("Café ☕", cursor.id());
+        assertThat(codec.decode(SCOPE, TENANT, codec.encode(SCOPE, TENANT, text))).isEqualTo(text);
+        assertThat(codec.decode(SCOPE, TENANT, null)).isNull();
+    }
+
+    @Test
+    void shouldRejectAlteredOrReplayedCursors() {
+        String token = codec.encode(SCOPE, TENANT, new Cursor("Produto 10", UUID.randomUUID()));
+        byte[] altered = Base64.getUrlDecoder().decode(token);
+        altered[20] ^= 1;
+
+        assertThatThrownBy(() -> codec.decode(SCOPE, TENANT, Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(altered))).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode(SCOPE, UUID.randomUUID(), token))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode("produtos:nome-asc", TENANT, token))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode(SCOPE, TENANT, "not a cursor"))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode(SCOPE, TENANT, "c2hvcnQ"))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void shouldRequireALongSecret() {
+        assertThatThrownBy(() -> new CursorCodec("short".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.Produto;
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantMismatchException;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TenantScopedEntityIntegrationTest {
+
+    private static final TenantContext TENANT_DEV = new TenantContext(
+        UUID.fromString("00000000-0000-0000-0000-000000000001"), "tenant-dev", true);
+    private static final TenantContext OTHER = new TenantContext(UUID.randomUUID(), "other", true);
+
+    @Autowired
+    ProdutoRepository produtoRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        TenantContextHolder.clear();
+    }
+
+    @Test
+    void shouldOnlySeeTheBoundTenantsRows() {
+        Produto own = produtoRepository.save(produto(null, TENANT_DEV.tenantId()));
+        Produto foreign = produtoRepository.save(produto(null, OTHER.tenantId()));
+
+        TenantContextHolder.runWithTenant(TENANT_DEV, () -> transactionTemplate.executeWithoutResult(status -> {
+            assertThat(produtoRepository.findById(own.getId())).isPresent();
+            assertThat(produtoRepository.findById(foreign.getId())).isEmpty();
+            assertThat(produtoRepository.streamAllBy()).extracting(Produto::getTenantId)
+                .containsOnly(TENANT_DEV.tenantId());
+        }));
+        // no tenant bound, e.g. startup rebuilds: everything is visible
+        transactionTemplate.executeWithoutResult(status ->
+            assertThat(produtoRepository.findById(foreign.getId())).isPresent());
+    }
+
+    @Test
+    void shouldTakeTheTenantFromTheContextAndRejectAnotherTenantsEntity() {
+        Produto saved = TenantContextHolder.callWithTenant(TENANT_DEV,
+            () -> produtoRepository.save(produto(null, null)));
+        assertThat(saved.getTenantId()).isEqualTo(TENANT_DEV.tenantId());
+
+        assertThatThrownBy(() -> TenantContextHolder.runWithTenant(TENANT_DEV,
+            () -> produtoRepository.save(produto(null, OTHER.tenantId()))))
+            .isInstanceOf(TenantMismatchException.class);
+    }
+
+    @Test
+    void shouldInsertNewEntitiesWithoutSelectingThemFirst() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Produto assigned = produtoRepository.save(produto(UUID.randomUUID(), TENANT_DEV.tenantId()));
+        Produto generated = produtoRepository.save(produto(null, TENANT_DEV.tenantId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(assigned.isNew()).isFalse();
+        assertThat(generated.getId().version()).isEqualTo(7);
+    }
+
+    private static Produto produto(UUID id, UUID tenantId) {
+        return new Produto(id, tenantId, UUID.randomUUID(), null, "Produto", new BigDecimal("1.00"), true, 1, null);
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT_DEV.tenantId(), identifier, true);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void shouldIncreaseStrictlyEvenWithinOneMillisecond() {
+        long now = System.currentTimeMillis() + 60_000;
+        UUID previous = TimeOrderedUuids.next(now);
+        long first = previous.getMostSignificantBits() >>> 16;
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = TimeOrderedUuids.next(now);
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = next;
+        }
+        assertThat(previous.version()).isEqualTo(7);
+        assertThat(previous.variant()).isEqualTo(2);
+        // 10k ids overflow the 12-bit counter into the following milliseconds
+        assertThat(previous.getMostSignificantBits() >>> 16).isBetween(first + 1, first + 3);
+    }
+
+    @Test
+    void shouldNotGoBackwardsWhenTheClockDoes() {
+        UUID later = TimeOrderedUuids.next(System.currentTimeMillis() + 120_000);
+        UUID earlier = TimeOrderedUuids.next(System.currentTimeMillis());
+
+        assertThat(Long.compareUnsigned(earlier.getMostSignificantBits(), later.getMostSignificantBits()))
+            .isPositive();
+    }
+}
@@ -0,0 +1,92 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+class LazyPackagesPostProcessorTest {
+
+    @Test
+    void shouldDeferOnlyBeansNothingAsksForAtStartup() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.addBeanFactoryPostProcessor(new LazyPackagesPostProcessor(List.of(getClass().getPackageName())));
+            context.register(ReportBeans.class, ReportService.class, ReportListener.class, EagerReport.class);
+            context.registerBean("outside", AtomicInteger.class);
+            context.refresh();
+
+            assertThat(created(context, "reportService")).isFalse();
+            assertThat(created(context, "reportExporter")).isFalse();
+            assertThat(created(context, "reportListener")).isTrue();
+            assertThat(created(context, "reportWorker")).isTrue();
+            assertThat(created(context, "eagerReport")).isTrue();
+            assertThat(created(context, "outside")).isTrue();
+            assertThat(context.getBean(ReportExporter.class)).isNotNull();
+            assertThat(created(context, "reportExporter")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldLeaveEverythingEagerWithoutPackages() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.addBeanFactoryPostProcessor(new LazyPackagesPostProcessor(List.of()));
+            context.register(ReportService.class);
+            context.refresh();
+
+            assertThat(created(context, "reportService")).isTrue();
+        }
+    }
+
+    private static boolean created(AnnotationConfigApplicationContext context, String beanName) {
+        return context.getBeanFactory().containsSingleton(beanName);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ReportBeans {
+
+        @Bean
+        ReportExporter reportExporter() {
+            return new ReportExporter();
+        }
+
+        @Bean(initMethod = "start")
+        ReportWorker reportWorker() {
+            return new ReportWorker();
+        }
+    }
+
+    static class ReportExporter {
+    }
+
+    static class ReportWorker {
+
+        void start() {
+        }
+    }
+
+    @Component("reportService")
+    static class ReportService {
+    }
+
+    @Component("reportListener")
+    static class ReportListener {
+
+        @EventListener
+        void on(ContextRefreshedEvent event) {
+        }
+    }
+
+    @Lazy(false)
+    @Component("eagerReport")
+    static class EagerReport {
+    }
+}
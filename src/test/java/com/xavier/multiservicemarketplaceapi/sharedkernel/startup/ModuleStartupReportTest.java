@@ -0,0 +1,70 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import com.xavier.multiservicemarketplaceapi.catalog.domain.ProdutoRepository;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.startup.ModuleStartupReport.ModuleTime;
+
+class ModuleStartupReportTest {
+
+    private static final String BASE_PACKAGE = "com.xavier.multiservicemarketplaceapi";
+
+    @Test
+    void shouldChargeEachBeanItsOwnTimeOnly() throws InterruptedException {
+        Object repository = Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {ProdutoRepository.class}, (proxy, method, args) -> null);
+        Map<String, Class<?>> types = Map.of(
+            "lazyPackagesPostProcessor", LazyPackagesPostProcessor.class,
+            "produtoRepository", repository.getClass(),
+            "applicationStartup", BufferingApplicationStartup.class);
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+
+        StartupStep outer = bean(startup, "lazyPackagesPostProcessor");
+        StartupStep repositoryBean = bean(startup, "produtoRepository");
+        StartupStep repositoryInit = startup.start("spring.data.repository.init");
+        Thread.sleep(60);
+        repositoryInit.end();
+        repositoryBean.end();
+        StartupStep framework = bean(startup, "applicationStartup");
+        Thread.sleep(30);
+        framework.end();
+        Thread.sleep(10);
+        outer.end();
+        StartupStep unknown = bean(startup, "notABean");
+        unknown.end();
+
+        Map<String, ModuleTime> modules = ModuleStartupReport.of(startup.getBufferedTimeline(), BASE_PACKAGE,
+            types::get).modules().stream().collect(Collectors.toMap(ModuleTime::module, m -> m));
+
+        assertThat(modules).containsOnlyKeys("catalog", "org.springframework", "sharedkernel", "other");
+        assertThat(modules.get("catalog").time()).isGreaterThanOrEqualTo(Duration.ofMillis(60));
+        assertThat(modules.get("org.springframework").time()).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+        assertThat(modules.get("sharedkernel").time()).isGreaterThanOrEqualTo(Duration.ofMillis(10))
+            .isLessThan(Duration.ofMillis(30));
+        assertThat(modules.values()).extracting(ModuleTime::beans).containsOnly(1);
+    }
+
+    @Test
+    void shouldNameModulesByPackage() {
+        assertThat(ModuleStartupReport.moduleOf(BASE_PACKAGE + ".checkout.web.CheckoutController", BASE_PACKAGE))
+            .isEqualTo("checkout");
+        assertThat(ModuleStartupReport.moduleOf(BASE_PACKAGE + ".MultiservicemarketplaceApiApplication",
+            BASE_PACKAGE)).isEqualTo("other");
+        assertThat(ModuleStartupReport.moduleOf("org.hibernate.SessionFactory", BASE_PACKAGE))
+            .isEqualTo("org.hibernate");
+        assertThat(ModuleStartupReport.moduleOf(null, BASE_PACKAGE)).isEqualTo("other");
+    }
+
+    private static StartupStep bean(BufferingApplicationStartup startup, String beanName) {
+        return startup.start(ModuleStartupReport.BEAN_STEP).tag("beanName", beanName);
+    }
+}
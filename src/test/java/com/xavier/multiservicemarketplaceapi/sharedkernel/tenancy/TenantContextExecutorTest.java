@@ -0,0 +1,155 @@
+package com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantContextExecutorTest {
+
+    private static final TenantContext TENANT_A = new TenantContext(UUID.randomUUID(), "tenant-a", true);
+    private static final TenantContext TENANT_B = new TenantContext(UUID.randomUUID(), "tenant-b", true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TenantContextExecutor executor;
+
+    @AfterEach
+    void cleanup() {
+        TenantContextHolder.clear();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    void shouldPropagateAndClearTenantContext() throws InterruptedException {
+        executor = newExecutor(1, 10, TenantContext::slug, Duration.ofMinutes(1));
+        AtomicReference<String> seen = new AtomicReference<>();
+        AtomicReference<Optional<TenantContext>> afterTask = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        TenantContextHolder.runWithTenant(TENANT_A, () -> executor.execute(() -> {
+            seen.set(TenantContextHolder.require().slug());
+            done.countDown();
+        }));
+        executor.execute(() -> {
+            afterTask.set(TenantContextHolder.get());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(seen.get()).isEqualTo("tenant-a");
+        assertThat(afterTask.get()).isEmpty();
+    }
+
+    @Test
+    void shouldInterleaveTenantsFairly() throws InterruptedException {
+        executor = newExecutor(1, 100, TenantContext::slug, Duration.ofMinutes(1));
+        CountDownLatch gate = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(12);
+
+        TenantContextHolder.runWithTenant(TENANT_A, () -> {
+            executor.execute(() -> {
+                await(gate);
+                done.countDown();
+            });
+            for (int i = 0; i < 10; i++) {
+                executor.execute(() -> {
+                    order.add("a");
+                    done.countDown();
+                });
+            }
+        });
+        TenantContextHolder.runWithTenant(TENANT_B, () -> executor.execute(() -> {
+            order.add("b");
+            done.countDown();
+        }));
+        gate.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order.indexOf("b")).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenTenantQueueIsFull() throws InterruptedException {
+        executor = newExecutor(1, 2, TenantContext::slug, Duration.ofMinutes(1));
+        CountDownLatch gate = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        TenantContextHolder.runWithTenant(TENANT_A, () -> {
+            executor.execute(() -> {
+                started.countDown();
+                await(gate);
+            });
+            await(started);
+            executor.execute(() -> { });
+            executor.execute(() -> { });
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        });
+        TenantContextHolder.runWithTenant(TENANT_B, () -> executor.execute(() -> { }));
+
+        assertThat(executor.queueDepth(TENANT_A.tenantId())).isEqualTo(2);
+        assertThat(meterRegistry.get("tenant.executor.queue.depth").tag("tenant", "tenant-a").gauge().value())
+            .isEqualTo(2.0);
+        gate.countDown();
+    }
+
+    @Test
+    void shouldDropTheLaneOnceItIsDrained() throws InterruptedException {
+        executor = newExecutor(1, 10, TenantContext::slug, Duration.ofMinutes(1));
+        CountDownLatch done = new CountDownLatch(1);
+
+        TenantContextHolder.runWithTenant(TENANT_A, () -> executor.execute(done::countDown));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.laneCount()).isZero();
+        assertThat(executor.queueDepth(TENANT_A.tenantId())).isZero();
+    }
+
+    @Test
+    void shouldTagUntrackedTenantsAsOtherAndRemoveIdleMeters() throws InterruptedException {
+        executor = newExecutor(1, 10, tenant -> tenant == TENANT_A ? tenant.slug() : "other", Duration.ZERO);
+        CountDownLatch tenantBDone = new CountDownLatch(1);
+        CountDownLatch tenantADone = new CountDownLatch(1);
+
+        TenantContextHolder.runWithTenant(TENANT_B, () -> executor.execute(tenantBDone::countDown));
+        assertThat(tenantBDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.find("tenant.executor.wait").tag("tenant", "other").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("tenant.executor.wait").tag("tenant", "tenant-b").timer()).isNull();
+
+        TenantContextHolder.runWithTenant(TENANT_A, () -> executor.execute(tenantADone::countDown));
+        assertThat(tenantADone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.find("tenant.executor.wait").tag("tenant", "tenant-a").timer()).isNotNull();
+        assertThat(meterRegistry.find("tenant.executor.queue.depth").tag("tenant", "other").gauge()).isNull();
+    }
+
+    private TenantContextExecutor newExecutor(int poolSize, int capacity, Function<TenantContext, String> meterTags,
+                                              Duration meterIdleTimeout) {
+        return new TenantContextExecutor(poolSize, capacity, Executors.defaultThreadFactory(), meterRegistry,
+            meterTags, meterIdleTimeout);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,15 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
 class TenantContextHolderTest {
 
     @AfterEach
     void cleanup() {
         TenantContextHolder.clear();
+        TenantContextHolder.setStrategy(new InheritableThreadLocalTenantContextHolderStrategy());
     }
 
     @Test
@@ -28,6 +31,21 @@ class TenantContextHolderTest {
         assertThat(TenantContextHolder.requireTenantId()).isEqualTo(tenantId);
     }
 
+    @Test
+    void shouldMirrorTenantIdIntoMdc() {
+        TenantContext outer = new TenantContext(UUID.randomUUID(), "tenant-a", true);
+        TenantContext inner = new TenantContext(UUID.randomUUID(), "tenant-b", true);
+        TenantContextHolder.set(outer);
+        assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isEqualTo(outer.tenantId().toString());
+
+        TenantContextHolder.runWithTenant(inner,
+            () -> assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isEqualTo(inner.tenantId().toString()));
+        assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isEqualTo(outer.tenantId().toString());
+
+        TenantContextHolder.clear();
+        assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isNull();
+    }
+
     @Test
     void shouldClearContext() {
         TenantContextHolder.set(new TenantContext(UUID.randomUUID(), "tenant-a", true));
@@ -36,5 +54,33 @@ class TenantContextHolderTest {
         assertThat(TenantContextHolder.get()).isEmpty();
         assertThrows(TenantNotResolvedException.class, TenantContextHolder::requireTenantId);
     }
-}
 
+    @Test
+    void shouldRestorePreviousContextAfterScopedCall() {
+        TenantContext outer = new TenantContext(UUID.randomUUID(), "tenant-a", true);
+        TenantContext inner = new TenantContext(UUID.randomUUID(), "tenant-b", true);
+        TenantContextHolder.set(outer);
+
+        String slug = TenantContextHolder.callWithTenant(inner, () -> TenantContextHolder.require().slug());
+
+        assertThat(slug).isEqualTo("tenant-b");
+        assertThat(TenantContextHolder.require()).isSameAs(outer);
+
+        TenantContextHolder.clear();
+        TenantContextHolder.runWithTenant(inner, () -> assertThat(TenantContextHolder.require()).isSameAs(inner));
+        assertThat(TenantContextHolder.get()).isEmpty();
+    }
+
+    @Test
+    void shouldNotPropagateScopedContextToChildThreads() throws InterruptedException {
+        TenantContextHolder.setStrategy(new ScopedTenantContextHolderStrategy());
+        TenantContextHolder.set(new TenantContext(UUID.randomUUID(), "tenant-a", true));
+        AtomicReference<Boolean> childSawContext = new AtomicReference<>();
+
+        Thread child = Thread.ofVirtual().start(() -> childSawContext.set(TenantContextHolder.get().isPresent()));
+        child.join();
+
+        assertThat(childSawContext.get()).isFalse();
+        assertThat(TenantContextHolder.requireTenantId()).isNotNull();
+    }
+}
@@ -0,0 +1,37 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.InheritableThreadLocalTenantContextHolderStrategy;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.ScopedTenantContextHolderStrategy;
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
+
+class TenantContextModeInitializerTest {
+
+    @AfterEach
+    void restoreDefault() {
+        TenantContextHolder.setStrategy(new InheritableThreadLocalTenantContextHolderStrategy());
+    }
+
+    @Test
+    void shouldInstallTheConfiguredStrategyBeforeRefresh() {
+        initialize(new MockEnvironment().withProperty("tenancy.context-mode", "scoped"));
+        assertThat(TenantContextHolder.getStrategy()).isInstanceOf(ScopedTenantContextHolderStrategy.class);
+
+        initialize(new MockEnvironment());
+        assertThat(TenantContextHolder.getStrategy())
+            .isInstanceOf(InheritableThreadLocalTenantContextHolderStrategy.class);
+    }
+
+    private static void initialize(MockEnvironment environment) {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.setEnvironment(environment);
+            new TenantContextModeInitializer().initialize(context);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TenantIdentifiersTest {
+
+    @Test
+    void shouldParseCanonicalUuids() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(TenantIdentifiers.parseUuid(id.toString())).isEqualTo(id);
+        assertThat(TenantIdentifiers.parseUuid(id.toString().toUpperCase())).isEqualTo(id);
+    }
+
+    @Test
+    void shouldRejectNonUuidsWithoutThrowing() {
+        assertThat(TenantIdentifiers.parseUuid("tenant-dev")).isNull();
+        assertThat(TenantIdentifiers.parseUuid("00000000-0000-0000-0000-00000000000g")).isNull();
+        assertThat(TenantIdentifiers.parseUuid("000000000-000-0000-0000-000000000001")).isNull();
+        assertThat(TenantIdentifiers.parseUuid(null)).isNull();
+    }
+
+    @Test
+    void shouldOnlyCopyMixedCaseSlugs() {
+        String lowerCase = "tenant-dev";
+
+        assertThat(TenantIdentifiers.normalizeSlug(lowerCase)).isSameAs(lowerCase);
+        assertThat(TenantIdentifiers.normalizeSlug("Tenant-Dev")).isEqualTo("tenant-dev");
+    }
+}
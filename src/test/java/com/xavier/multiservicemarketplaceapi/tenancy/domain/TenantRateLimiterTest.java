@@ -0,0 +1,108 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantRateLimiterTest {
+
+    private static final TenantContext TENANT = new TenantContext(UUID.randomUUID(), "tenant-a", true);
+    private static final TenantContext OTHER = new TenantContext(UUID.randomUUID(), "tenant-b", true);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldAdmitBurstThenRejectWithRetryAfter() {
+        TenantRateLimiter limiter = new TenantRateLimiter(tenant -> new TenantQuota(10, 3, 0), meterRegistry, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(TENANT).release();
+        }
+
+        assertThatThrownBy(() -> limiter.acquire(TENANT))
+            .isInstanceOfSatisfying(TenantRateLimitExceededException.class, ex -> {
+                assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(100));
+                assertThat(ex.getRetryAfterSeconds()).isEqualTo(1);
+            });
+        assertThat(meterRegistry.get("tenant.requests.rejected").tag("reason", "rate").counter().count()).isEqualTo(1);
+
+        limiter.acquire(OTHER).release();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        limiter.acquire(TENANT).release();
+    }
+
+    @Test
+    void shouldCapConcurrentRequestsUntilReleased() {
+        TenantRateLimiter limiter = new TenantRateLimiter(tenant -> new TenantQuota(0, 0, 2), meterRegistry, clock::get);
+
+        TenantRateLimiter.Permit first = limiter.acquire(TENANT);
+        limiter.acquire(TENANT);
+        assertThatThrownBy(() -> limiter.acquire(TENANT)).isInstanceOf(TenantRateLimitExceededException.class);
+        assertThat(limiter.inFlight(TENANT.tenantId())).isEqualTo(2);
+
+        first.release();
+        limiter.acquire(TENANT);
+        assertThat(limiter.inFlight(TENANT.tenantId())).isEqualTo(2);
+        assertThat(meterRegistry.get("tenant.requests.rejected").tag("reason", "concurrency").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyQuotaChangesToNewRequests() {
+        AtomicReference<TenantQuota> quota = new AtomicReference<>(new TenantQuota(1, 1, 0));
+        TenantRateLimiter limiter = new TenantRateLimiter(tenant -> quota.get(), null, clock::get);
+
+        limiter.acquire(TENANT);
+        assertThatThrownBy(() -> limiter.acquire(TENANT)).isInstanceOf(TenantRateLimitExceededException.class);
+
+        quota.set(TenantQuota.UNLIMITED);
+        assertThat(limiter.acquire(TENANT)).isSameAs(TenantRateLimiter.Permit.NONE);
+    }
+
+    @Test
+    void shouldNeverAdmitMoreThanBurstUnderContention() throws InterruptedException {
+        TenantRateLimiter limiter = new TenantRateLimiter(tenant -> new TenantQuota(1, 50, 0), null, clock::get);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 100; i++) {
+                    try {
+                        limiter.acquire(TENANT);
+                        admitted.incrementAndGet();
+                    } catch (TenantRateLimitExceededException ignored) {
+                        // expected once the burst is spent
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(admitted.get()).isEqualTo(50);
+    }
+}
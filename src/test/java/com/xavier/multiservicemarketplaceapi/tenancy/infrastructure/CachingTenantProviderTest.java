@@ -0,0 +1,111 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.Tenant;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRepository;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantDeactivatedEvent;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantInactiveException;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingTenantProviderTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
+
+    private final CountingTenantRepository repository = new CountingTenantRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingTenantProvider provider =
+        new CachingTenantProvider(repository, new TenancyProperties(), meterRegistry);
+
+    @Test
+    void shouldCacheTenantUnderSlugAndId() {
+        repository.save(new Tenant(TENANT_ID, "Tenant A", "tenant-a", true, "Africa/Maputo", "MZN",
+            "{\"taxRate\": \"0.16\", \"note\": null}"));
+
+        TenantContext bySlug = provider.loadTenant("Tenant-A");
+        TenantContext byId = provider.loadTenant(TENANT_ID.toString());
+
+        assertThat(byId).isSameAs(bySlug);
+        assertThat(bySlug.timezone()).isEqualTo("Africa/Maputo");
+        assertThat(bySlug.currency()).isEqualTo("MZN");
+        assertThat(bySlug.checkoutConfig().text("taxRate")).contains("0.16");
+        assertThat(repository.queries.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCacheNotFoundAndInactiveResults() {
+        repository.save(new Tenant(TENANT_ID, "Tenant A", "tenant-a", false, "UTC", "EUR", null));
+
+        assertThrows(TenantNotFoundException.class, () -> provider.loadTenant("unknown"));
+        assertThrows(TenantNotFoundException.class, () -> provider.loadTenant("unknown"));
+        assertThrows(TenantInactiveException.class, () -> provider.loadTenant("tenant-a"));
+        assertThrows(TenantInactiveException.class, () -> provider.loadTenant("tenant-a"));
+
+        assertThat(repository.queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictOnLifecycleEvent() {
+        repository.save(new Tenant(TENANT_ID, "Tenant A", "tenant-a", true, "UTC", "EUR", null));
+        provider.loadTenant("tenant-a");
+
+        repository.save(new Tenant(TENANT_ID, "Tenant A", "tenant-a", false, "UTC", "EUR", null));
+        provider.onTenantLifecycleEvent(new TenantDeactivatedEvent(TENANT_ID, "tenant-a"));
+
+        assertThrows(TenantInactiveException.class, () -> provider.loadTenant("tenant-a"));
+        assertThrows(TenantInactiveException.class, () -> provider.loadTenant(TENANT_ID.toString()));
+    }
+
+    @Test
+    void shouldNotAliasAnEntryLoadedAcrossAnInvalidation() {
+        repository.save(new Tenant(TENANT_ID, "Tenant A", "tenant-a", true, "UTC", "EUR", null));
+        repository.duringQuery = () -> provider.onTenantLifecycleEvent(
+            new TenantDeactivatedEvent(UUID.randomUUID(), "tenant-b"));
+
+        provider.loadTenant("tenant-a");
+        repository.duringQuery = () -> { };
+        provider.loadTenant(TENANT_ID.toString());
+        provider.loadTenant("tenant-a");
+
+        assertThat(repository.queries.get()).isEqualTo(2);
+    }
+
+    private static final class CountingTenantRepository implements TenantRepository {
+
+        private final Map<UUID, Tenant> tenants = new HashMap<>();
+        private final AtomicInteger queries = new AtomicInteger();
+        private Runnable duringQuery = () -> { };
+
+        void save(Tenant tenant) {
+            tenants.put(tenant.getId(), tenant);
+        }
+
+        @Override
+        public Optional<Tenant> findById(UUID id) {
+            queries.incrementAndGet();
+            duringQuery.run();
+            return Optional.ofNullable(tenants.get(id));
+        }
+
+        @Override
+        public Optional<Tenant> findBySlug(String slug) {
+            queries.incrementAndGet();
+            duringQuery.run();
+            return tenants.values().stream().filter(tenant -> tenant.getSlug().equals(slug)).findFirst();
+        }
+    }
+}
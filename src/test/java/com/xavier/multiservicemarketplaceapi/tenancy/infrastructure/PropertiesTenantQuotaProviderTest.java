@@ -0,0 +1,36 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuota;
+
+class PropertiesTenantQuotaProviderTest {
+
+    @Test
+    void shouldMatchOverridesRegardlessOfSlugCase() {
+        TenancyProperties.Limits limits = new TenancyProperties.Limits();
+        limits.setRequestsPerSecond(5);
+        limits.setBurst(10);
+        limits.setMaxConcurrentRequests(2);
+        TenancyProperties properties = new TenancyProperties();
+        properties.getRateLimit().setTenants(Map.of("Acme-Store", limits));
+
+        PropertiesTenantQuotaProvider provider = new PropertiesTenantQuotaProvider(properties);
+
+        TenantQuota expected = new TenantQuota(5, 10, 2);
+        assertThat(provider.quotaFor(tenant("acme-store"))).isEqualTo(expected);
+        assertThat(provider.quotaFor(tenant("ACME-STORE"))).isEqualTo(expected);
+        assertThat(provider.quotaFor(tenant("other-store"))).isEqualTo(new TenantQuota(100, 200, 64));
+    }
+
+    private static TenantContext tenant(String slug) {
+        return new TenantContext(UUID.randomUUID(), slug, true);
+    }
+}
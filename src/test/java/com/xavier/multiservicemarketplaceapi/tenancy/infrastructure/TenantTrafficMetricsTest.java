@@ -0,0 +1,105 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics.TenantTraffic;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantTrafficMetricsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TenantTrafficMetrics metrics = new TenantTrafficMetrics(registry, 2, Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void shouldFoldTenantsBeyondTopNIntoOther() {
+        for (int i = 0; i < 50; i++) {
+            metrics.recordRequest(tenant(i), 5 * MILLIS, false);
+        }
+
+        assertThat(registry.find(TenantTrafficMetrics.REQUESTS_METER).timers()).hasSize(3);
+        assertThat(timer(TenantTrafficMetrics.OTHER_TENANTS).count()).isEqualTo(48);
+        assertThat(timer("tenant-0").count()).isEqualTo(1);
+        assertThat(metrics.snapshot()).hasSize(50);
+    }
+
+    @Test
+    void shouldRetagBusiestTenantsEachWindow() {
+        metrics.recordRequest(tenant(0), MILLIS, false);
+        metrics.recordRequest(tenant(1), MILLIS, false);
+        for (int i = 0; i < 5; i++) {
+            metrics.recordRequest(tenant(2), MILLIS, true);
+            metrics.recordRequest(tenant(3), MILLIS, false);
+        }
+        assertThat(timer(TenantTrafficMetrics.OTHER_TENANTS).count()).isEqualTo(10);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        metrics.recordRequest(tenant(2), MILLIS, true);
+
+        assertThat(registry.find(TenantTrafficMetrics.REQUESTS_METER).tag("tenant", "tenant-0").timer()).isNull();
+        assertThat(timer("tenant-2").count()).isEqualTo(1);
+        assertThat(registry.get(TenantTrafficMetrics.ERRORS_METER).tag("tenant", "tenant-2").counter().count())
+            .isEqualTo(1);
+        assertThat(registry.find(TenantTrafficMetrics.REQUESTS_METER).timers()).hasSize(3);
+    }
+
+    @Test
+    void shouldReportLiveTrafficAndDropIdleTenants() {
+        for (int i = 0; i < 20; i++) {
+            metrics.recordRequest(tenant(0), 4 * MILLIS, i % 10 == 0);
+        }
+        metrics.recordDbTime(tenant(0), 3 * MILLIS);
+        metrics.recordRequest(tenant(1), 2 * MILLIS, false);
+        metrics.refresh(Duration.ofSeconds(10).toNanos());
+
+        TenantTraffic busiest = metrics.snapshot().get(0);
+        assertThat(busiest.slug()).isEqualTo("tenant-0");
+        assertThat(busiest.requests()).isEqualTo(20);
+        assertThat(busiest.errors()).isEqualTo(2);
+        assertThat(busiest.requestsPerSecond()).isEqualTo(2.0);
+        assertThat(busiest.meanLatencyMs()).isEqualTo(4.0);
+        assertThat(busiest.dbTimeMs()).isEqualTo(3.0);
+        assertThat(busiest.tagged()).isTrue();
+
+        metrics.recordRequest(tenant(1), 2 * MILLIS, false);
+        metrics.refresh(Duration.ofSeconds(20).toNanos());
+
+        assertThat(metrics.snapshot()).extracting(TenantTraffic::slug).containsExactly("tenant-1");
+        assertThat(metrics.taggedTenants()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotMergeATenantNamedLikeTheOverflowIntoIt() {
+        TenantContext other = new TenantContext(UUID.randomUUID(), "other", true);
+        TenantContext underscored = new TenantContext(UUID.randomUUID(), "_other", true);
+        metrics.recordRequest(other, MILLIS, false);
+        metrics.recordRequest(underscored, MILLIS, false);
+        metrics.recordRequest(tenant(0), MILLIS, false);
+
+        assertThat(timer("other").count()).isEqualTo(1);
+        assertThat(timer("__other").count()).isEqualTo(1);
+        assertThat(timer(TenantTrafficMetrics.OTHER_TENANTS).count()).isEqualTo(1);
+        assertThat(metrics.tagFor(underscored)).isEqualTo("__other");
+        assertThat(metrics.tagFor(tenant(0))).isEqualTo(TenantTrafficMetrics.OTHER_TENANTS);
+    }
+
+    private Timer timer(String tenant) {
+        return registry.get(TenantTrafficMetrics.REQUESTS_METER).tag("tenant", tenant).timer();
+    }
+
+    private static TenantContext tenant(int index) {
+        return new TenantContext(new UUID(0, index), "tenant-" + index, true);
+    }
+}
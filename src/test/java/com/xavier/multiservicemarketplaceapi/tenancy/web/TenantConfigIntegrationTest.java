@@ -0,0 +1,96 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.Tenant;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.event.TenantUpdatedEvent;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TenantConfigIntegrationTest {
+
+    private static final UUID TENANT = UUID.randomUUID();
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ApplicationEventPublisher events;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldRevalidateTheConfigWithoutQueryingUntilTheTenantChanges() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new Tenant(TENANT, "Tenant Config",
+            "tenant-config", true, "Africa/Maputo", "MZN", "{\"taxRate\":\"0.16\"}")));
+
+        String etag = mockMvc.perform(get("/api/tenant/config")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-config"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.moedaPadrao").value("MZN"))
+            .andExpect(jsonPath("$.configCheckout").exists())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/tenant/config")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-config")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        transactionTemplate.executeWithoutResult(status ->
+            events.publishEvent(new TenantUpdatedEvent(TENANT, "tenant-config", null)));
+
+        String changed = mockMvc.perform(get("/api/tenant/config")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-config")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @TestConfiguration
+    static class TenantProviderTestConfig {
+        @Bean
+        @Primary
+        TenantProvider testTenantProvider() {
+            return identifier -> new TenantContext(TENANT, identifier, true);
+        }
+    }
+}
@@ -1,33 +1,49 @@
 package com.xavier.multiservicemarketplaceapi.tenancy.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.xavier.multiservicemarketplaceapi.iam.domain.TokenClaims;
+import com.xavier.multiservicemarketplaceapi.iam.domain.UserRole;
+import com.xavier.multiservicemarketplaceapi.iam.infrastructure.JwtCodec;
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
 import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantInactiveException;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "tenancy.rate-limit.tenants.tenant-limited.requests-per-second=1",
+    "tenancy.rate-limit.tenants.tenant-limited.burst=1"
+})
 @AutoConfigureMockMvc
 @org.springframework.test.context.ActiveProfiles("test")
 class TenantResolverInterceptorIntegrationTest {
@@ -35,6 +51,9 @@ class TenantResolverInterceptorIntegrationTest {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    JwtCodec jwtCodec;
+
     @Test
     void shouldAcceptValidTenantHeader() throws Exception {
         mockMvc.perform(get("/tenants/current")
@@ -57,12 +76,67 @@ class TenantResolverInterceptorIntegrationTest {
             .andExpect(status().isForbidden());
     }
 
+    @Test
+    void shouldRejectTenantOverRateLimitWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/tenants/current")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-limited"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/tenants/current")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-limited"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void shouldExposeTenantTrafficOnActuatorEndpoint() throws Exception {
+        mockMvc.perform(get("/tenants/current")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-green"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/tenants").header(HttpHeaders.AUTHORIZATION, bearer(UserRole.PLATFORM_ADMIN)))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("\"slug\":\"tenant-green\"")));
+    }
+
+    @Test
+    void shouldKeepTenantTrafficFromAnyoneButPlatformAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/tenants"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/tenants").header(HttpHeaders.AUTHORIZATION, bearer(UserRole.TENANT_ADMIN)))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldLeaveTheThreadWithoutTenantAfterAnAsyncDispatch() throws Exception {
+        MvcResult started = mockMvc.perform(get("/tenants/current/async")
+                .header(TenantResolverInterceptor.TENANT_HEADER, "tenant-green"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        assertThat(TenantContextHolder.get()).isEmpty();
+        assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isNull();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("tenant-green")));
+        assertThat(TenantContextHolder.get()).isEmpty();
+        assertThat(MDC.get(TenantContextHolder.MDC_TENANT_ID)).isNull();
+    }
+
     @Test
     void shouldBypassIgnoredPath() throws Exception {
         mockMvc.perform(get("/actuator/health"))
             .andExpect(status().isOk());
     }
 
+    private String bearer(UserRole role) {
+        Instant now = Instant.now();
+        return "Bearer " + jwtCodec.issue(new TokenClaims(UUID.randomUUID(), UUID.randomUUID(), role, now,
+            now.plus(Duration.ofMinutes(5))));
+    }
+
     @TestConfiguration
     static class TenantProviderTestConfig {
         @Bean
@@ -72,6 +146,9 @@ class TenantResolverInterceptorIntegrationTest {
                 if ("tenant-green".equals(identifier)) {
                     return new TenantContext(UUID.fromString("00000000-0000-0000-0000-00000000abcd"), identifier, true);
                 }
+                if ("tenant-limited".equals(identifier)) {
+                    return new TenantContext(UUID.fromString("00000000-0000-0000-0000-00000000abce"), identifier, true);
+                }
                 if ("tenant-disabled".equals(identifier)) {
                     throw new TenantInactiveException(identifier);
                 }
@@ -93,5 +170,10 @@ class TenantResolverInterceptorIntegrationTest {
             TenantContext context = TenantContextHolder.require();
             return Map.of("id", context.tenantId().toString(), "slug", context.slug());
         }
+
+        @GetMapping("/current/async")
+        CompletableFuture<Map<String, Object>> currentTenantAsync() {
+            return CompletableFuture.completedFuture(currentTenant());
+        }
     }
 }
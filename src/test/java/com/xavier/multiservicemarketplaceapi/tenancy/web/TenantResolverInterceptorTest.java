@@ -3,6 +3,7 @@ package com.xavier.multiservicemarketplaceapi.tenancy.web;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,8 +18,14 @@ import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContext;
 import com.xavier.multiservicemarketplaceapi.sharedkernel.tenancy.TenantContextHolder;
 import com.xavier.multiservicemarketplaceapi.tenancy.config.TenancyProperties;
 import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantProvider;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantQuota;
+import com.xavier.multiservicemarketplaceapi.tenancy.domain.TenantRateLimiter;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.MissingTenantHeaderException;
 import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantNotFoundException;
+import com.xavier.multiservicemarketplaceapi.tenancy.exception.TenantRateLimitExceededException;
+import com.xavier.multiservicemarketplaceapi.tenancy.infrastructure.TenantTrafficMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class TenantResolverInterceptorTest {
 
@@ -29,10 +36,14 @@ class TenantResolverInterceptorTest {
         throw new TenantNotFoundException(identifier);
     };
 
+    private final TenantRateLimiter rateLimiter = new TenantRateLimiter(tenant -> new TenantQuota(0, 0, 1), null);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantTrafficMetrics trafficMetrics = new TenantTrafficMetrics(meterRegistry, 10, Duration.ofMinutes(1));
+
     private TenantResolverInterceptor interceptor() {
         TenancyProperties props = new TenancyProperties();
         props.setIgnoredPaths(List.of());
-        return new TenantResolverInterceptor(tenantProvider, props);
+        return new TenantResolverInterceptor(tenantProvider, rateLimiter, trafficMetrics, props);
     }
 
     @AfterEach
@@ -58,6 +69,23 @@ class TenantResolverInterceptorTest {
         assertThat(TenantContextHolder.get()).isEmpty();
     }
 
+    @Test
+    void shouldRecordTenantRequestOnCompletion() throws Exception {
+        TenantResolverInterceptor interceptor = interceptor();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        request.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        response.setStatus(503);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertThat(meterRegistry.get(TenantTrafficMetrics.REQUESTS_METER).tag("tenant", "tenant-a").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(TenantTrafficMetrics.ERRORS_METER).tag("tenant", "tenant-a").counter().count())
+            .isEqualTo(1);
+    }
+
     @Test
     void shouldFailWhenHeaderMissing() {
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
@@ -69,12 +97,65 @@ class TenantResolverInterceptorTest {
     void shouldAllowIgnoredPathWithoutHeader() throws Exception {
         TenancyProperties props = new TenancyProperties();
         props.setIgnoredPaths(List.of("/actuator/**"));
-        TenantResolverInterceptor interceptor = new TenantResolverInterceptor(tenantProvider, props);
+        TenantResolverInterceptor interceptor = new TenantResolverInterceptor(tenantProvider, rateLimiter, trafficMetrics, props);
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
 
         boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
         assertThat(proceed).isTrue();
         assertThat(TenantContextHolder.get()).isEmpty();
     }
-}
 
+    @Test
+    void shouldTreatTenantHeaderAsOptionalOnAdminPaths() throws Exception {
+        TenancyProperties props = new TenancyProperties();
+        props.setIgnoredPaths(List.of());
+        props.setAdminPaths(List.of("/admin/**"));
+        TenantResolverInterceptor interceptor = new TenantResolverInterceptor(tenantProvider, rateLimiter, trafficMetrics, props);
+
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/admin/tenants");
+        assertThat(interceptor.preHandle(anonymous, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(TenantContextHolder.get()).isEmpty();
+
+        MockHttpServletRequest scoped = new MockHttpServletRequest("GET", "/admin/tenants");
+        scoped.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+        assertThat(interceptor.preHandle(scoped, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThat(TenantContextHolder.require().slug()).isEqualTo("tenant-a");
+    }
+
+    @Test
+    void shouldHoldConcurrencyPermitUntilCompletion() throws Exception {
+        TenantResolverInterceptor interceptor = interceptor();
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/test");
+        first.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/test");
+        second.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), new Object())).isTrue();
+        assertThrows(TenantRateLimitExceededException.class,
+            () -> interceptor.preHandle(second, new MockHttpServletResponse(), new Object()));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), new Object(), null);
+        assertThat(interceptor.preHandle(second, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    void shouldUnbindTheTenantButKeepThePermitWhenTheRequestGoesAsync() throws Exception {
+        TenantResolverInterceptor interceptor = interceptor();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        request.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/test");
+        other.addHeader(TenantResolverInterceptor.TENANT_HEADER, "tenant-a");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), new Object());
+
+        assertThat(TenantContextHolder.get()).isEmpty();
+        assertThrows(TenantRateLimitExceededException.class,
+            () -> interceptor.preHandle(other, new MockHttpServletResponse(), new Object()));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), new Object(), null);
+        assertThat(TenantContextHolder.get()).isEmpty();
+        assertThat(interceptor.preHandle(other, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+}
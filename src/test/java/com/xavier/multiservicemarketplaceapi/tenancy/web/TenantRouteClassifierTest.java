@@ -0,0 +1,45 @@
+package com.xavier.multiservicemarketplaceapi.tenancy.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TenantRouteClassifierTest {
+
+    private final TenantRouteClassifier classifier = TenantRouteClassifier.compile(Map.of(
+        RouteAccess.PUBLIC, List.of("/actuator/**", "/auth/login", "/docs/*/index.html", "/"),
+        RouteAccess.ADMIN, List.of("/admin/**", "/actuator/tenants/**")));
+
+    @Test
+    void shouldClassifyPrefixPatterns() {
+        assertThat(classifier.classify("/actuator")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/actuator/health")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/actuator/health/liveness")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/admin/tenants")).isEqualTo(RouteAccess.ADMIN);
+    }
+
+    @Test
+    void shouldPreferDeepestMatch() {
+        assertThat(classifier.classify("/actuator/tenants")).isEqualTo(RouteAccess.ADMIN);
+        assertThat(classifier.classify("/actuator/tenantsx")).isEqualTo(RouteAccess.PUBLIC);
+    }
+
+    @Test
+    void shouldMatchExactAndWildcardPatterns() {
+        assertThat(classifier.classify("/")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/auth/login")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/auth/login/extra")).isEqualTo(RouteAccess.TENANT_REQUIRED);
+        assertThat(classifier.classify("/docs/v1/index.html")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(classifier.classify("/docs/v1/other.html")).isEqualTo(RouteAccess.TENANT_REQUIRED);
+    }
+
+    @Test
+    void shouldDefaultToTenantRequired() {
+        assertThat(classifier.classify("/api/produtos")).isEqualTo(RouteAccess.TENANT_REQUIRED);
+        assertThat(classifier.classify("/auth")).isEqualTo(RouteAccess.TENANT_REQUIRED);
+        assertThat(classifier.classify("")).isEqualTo(RouteAccess.TENANT_REQUIRED);
+    }
+}